@@ -0,0 +1,27 @@
+package com.example.Flicktionary.domain.actor.dto;
+
+import com.example.Flicktionary.domain.actor.entity.Actor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+
+// 배우 정보와 출연 영화, 시리즈를 최신순으로 함께 담은 응답
+@Getter
+@AllArgsConstructor
+public class ActorFilmographyResponse {
+    @NonNull
+    private final Long id;
+    @NonNull
+    private final String name;
+    private final String profilePath;
+    @NonNull
+    private final List<ActorMovieDto> movies;
+    @NonNull
+    private final List<ActorSeriesDto> series;
+
+    public ActorFilmographyResponse(Actor actor, List<ActorMovieDto> movies, List<ActorSeriesDto> series) {
+        this(actor.getId(), actor.getName(), actor.getProfilePath(), movies, series);
+    }
+}
@@ -6,7 +6,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
+
 public interface ActorRepository extends JpaRepository<Actor, Long> {
     @Query("SELECT a FROM Actor a WHERE LOWER(REPLACE(a.name, ' ', '')) LIKE CONCAT('%', :keyword, '%')")
     Page<Actor> findByNameLike(String keyword, Pageable pageable);
+
+    // 검색 색인을 만들 때 ID 순서대로 나누어 읽습니다.
+    List<Actor> findByIdGreaterThanOrderById(Long id, Pageable pageable);
 }
@@ -1,24 +1,24 @@
 package com.example.Flicktionary.domain.actor.service;
 
+import com.example.Flicktionary.domain.actor.dto.ActorFilmographyResponse;
 import com.example.Flicktionary.domain.actor.entity.Actor;
 import com.example.Flicktionary.domain.actor.repository.ActorRepository;
-import com.example.Flicktionary.domain.movie.entity.Movie;
-import com.example.Flicktionary.domain.movie.entity.MovieCast;
 import com.example.Flicktionary.domain.movie.repository.MovieCastRepository;
-import com.example.Flicktionary.domain.series.entity.Series;
-import com.example.Flicktionary.domain.series.entity.SeriesCast;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.domain.search.service.SearchIndex;
 import com.example.Flicktionary.domain.series.repository.SeriesCastRepository;
 import com.example.Flicktionary.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -26,37 +26,38 @@ public class ActorService {
     private final ActorRepository actorRepository;
     private final MovieCastRepository movieCastRepository;
     private final SeriesCastRepository seriesCastRepository;
+    private final SearchIndex searchIndex;
 
-    // 특정 배우 조회 (출연 영화 포함)
+    // 특정 배우 조회
     public Actor getActorById(Long id) {
         return actorRepository.findById(id)
                 .orElseThrow(() -> new ServiceException(HttpStatus.NOT_FOUND.value(), "%d번 배우를 찾을 수 없습니다.".formatted(id)));
     }
 
-    // 배우가 출연한 영화 리스트 조회
-    public List<Movie> getMoviesByActorId(Long actorId) {
-        List<MovieCast> movieCasts = movieCastRepository.findMoviesByActorId(actorId);
-        return movieCasts.stream()
-                .map(MovieCast::getMovie)
-                .distinct() // 같은 영화가 중복될 경우 제거
-                .sorted(Comparator.comparing(Movie::getReleaseDate).reversed()) // tmdbId 기준으로 정렬, 최신 순 정렬
-                .collect(Collectors.toList());
-    }
-
-    // 배우가 출연한 시리즈 리스트 조회
-    public List<Series> getSeriesByActorId(Long actorId) {
-        List<SeriesCast> seriesCasts = seriesCastRepository.findSeriesByActorId(actorId);
-        return seriesCasts.stream()
-                .map(SeriesCast::getSeries)
-                .distinct()
-                .sorted(Comparator.comparing(Series::getReleaseStartDate).reversed()) // tmdbId 기준으로 정렬, 최신 순 정렬
-                .collect(Collectors.toList());
+    // 배우와 출연한 영화, 시리즈를 함께 조회합니다.
+    // 출연작은 종류마다 필요한 컬럼만 한번씩 조회하고, 중복 제거와 정렬은 DB에서 처리합니다. (쿼리 세 번)
+    @Transactional(readOnly = true)
+    public ActorFilmographyResponse getActorWithFilmography(Long actorId) {
+        Actor actor = getActorById(actorId);
+        return new ActorFilmographyResponse(actor,
+                movieCastRepository.findFilmographyByActorId(actorId),
+                seriesCastRepository.findFilmographyByActorId(actorId));
     }
 
     // 배우 목록 조회
     public Page<Actor> getActors(String keyword, int page, int pageSize) {
         Pageable pageable = PageRequest.of(page - 1, pageSize);
         String formattedKeyword = keyword.toLowerCase().replaceAll(" ", "");
-        return actorRepository.findByNameLike(keyword, pageable);
+
+        // 검색어가 있으면 검색 색인에서 한 페이지 분량의 ID만 찾은 뒤 조회합니다. (초성 검색 지원)
+        if (!formattedKeyword.isEmpty()) {
+            Optional<SearchIndex.Result> result = searchIndex.search(keyword, SearchType.ACTOR, "id", page, pageSize);
+            if (result.isPresent()) {
+                List<Actor> actors = result.get().sort(actorRepository.findAllById(result.get().ids()), Actor::getId);
+                return new PageImpl<>(actors, pageable, result.get().totalElements());
+            }
+        }
+
+        return actorRepository.findByNameLike(formattedKeyword, pageable);
     }
 }
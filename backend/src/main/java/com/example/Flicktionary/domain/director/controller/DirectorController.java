@@ -1,11 +1,10 @@
 package com.example.Flicktionary.domain.director.controller;
 
-import com.example.Flicktionary.domain.actor.controller.ActorController;
 import com.example.Flicktionary.domain.director.dto.DirectorDto;
+import com.example.Flicktionary.domain.director.dto.DirectorMovieDto;
+import com.example.Flicktionary.domain.director.dto.DirectorSeriesDto;
 import com.example.Flicktionary.domain.director.entity.Director;
 import com.example.Flicktionary.domain.director.service.DirectorService;
-import com.example.Flicktionary.domain.movie.entity.Movie;
-import com.example.Flicktionary.domain.series.entity.Series;
 import com.example.Flicktionary.global.dto.PageDto;
 import com.example.Flicktionary.global.dto.ResponseDto;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +18,8 @@ import java.util.List;
 @RequestMapping("/api/directors")
 @RequiredArgsConstructor
 public class DirectorController {
+    private static final int FILMOGRAPHY_PREVIEW_SIZE = 20;
+
     private final DirectorService directorService;
 
     @GetMapping
@@ -31,21 +32,41 @@ public class DirectorController {
         return ResponseEntity.ok(ResponseDto.ok(new PageDto<>(directorPage.map(DirectorDto::new))));
     }
 
+    // 감독 상세에는 출연작의 첫 페이지만 담고, 나머지는 아래의 목록 API로 조회합니다.
     @GetMapping("/{id}")
     public ResponseEntity<ResponseDto<DirectorResponse>> getDirector(@PathVariable Long id) {
         Director director = directorService.getDirector(id);
-        List<Movie> movies = directorService.getMoviesByDirectorId(id);
-        List<Series> series = directorService.getSeriesByDirectorId(id);
+        Page<DirectorMovieDto> movies = directorService.getMoviesByDirectorId(id, 1, FILMOGRAPHY_PREVIEW_SIZE);
+        Page<DirectorSeriesDto> series = directorService.getSeriesByDirectorId(id, 1, FILMOGRAPHY_PREVIEW_SIZE);
 
         return ResponseEntity.ok(ResponseDto.ok(new DirectorResponse(director, movies, series)));
     }
 
-    private record DirectorResponse(Long id, String name, String profilePath, List<ActorController.MovieDTO> movies,
-                                    List<ActorController.SeriesDTO> series) {
-        public DirectorResponse(Director director, List<Movie> movies, List<Series> series) {
+    @GetMapping("/{id}/movies")
+    public ResponseEntity<ResponseDto<PageDto<DirectorMovieDto>>> getDirectorMovies(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int pageSize
+    ) {
+        return ResponseEntity.ok(ResponseDto.ok(new PageDto<>(directorService.getMoviesByDirectorId(id, page, pageSize))));
+    }
+
+    @GetMapping("/{id}/series")
+    public ResponseEntity<ResponseDto<PageDto<DirectorSeriesDto>>> getDirectorSeries(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int pageSize
+    ) {
+        return ResponseEntity.ok(ResponseDto.ok(new PageDto<>(directorService.getSeriesByDirectorId(id, page, pageSize))));
+    }
+
+    private record DirectorResponse(Long id, String name, String profilePath,
+                                    List<DirectorMovieDto> movies, long movieCount,
+                                    List<DirectorSeriesDto> series, long seriesCount) {
+        public DirectorResponse(Director director, Page<DirectorMovieDto> movies, Page<DirectorSeriesDto> series) {
             this(director.getId(), director.getName(), director.getProfilePath(),
-                    movies.stream().map(ActorController.MovieDTO::new).toList(),
-                    series.stream().map(ActorController.SeriesDTO::new).toList());
+                    movies.getContent(), movies.getTotalElements(),
+                    series.getContent(), series.getTotalElements());
         }
     }
 }
@@ -0,0 +1,20 @@
+package com.example.Flicktionary.domain.director.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDate;
+
+// 감독 상세의 연출 시리즈. 목록에 필요한 컬럼만 조회합니다.
+@Getter
+@AllArgsConstructor
+public class DirectorSeriesDto {
+    @NonNull
+    private final Long id;
+    @NonNull
+    private final String title;
+    private final String posterPath;
+    private final LocalDate releaseStartDate;
+    private final LocalDate releaseEndDate;
+}
@@ -0,0 +1,10 @@
+package com.example.Flicktionary.domain.director.event;
+
+import java.util.Set;
+
+/**
+ * 감독의 영화나 시리즈가 저장, 수정되거나 다른 감독으로 바뀌어 출연작 목록을 다시 만들어야 할 때 발행하는 이벤트.
+ * 트랜잭션이 커밋된 뒤에 캐시된 목록이 제거된다.
+ */
+public record DirectorFilmographyEvent(Set<Long> directorIds) {
+}
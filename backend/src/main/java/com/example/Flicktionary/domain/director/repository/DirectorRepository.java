@@ -6,7 +6,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
+
 public interface DirectorRepository extends JpaRepository<Director, Long> {
     @Query("SELECT d FROM Director d WHERE LOWER(REPLACE(d.name, ' ', '')) LIKE CONCAT('%', :keyword, '%')")
     Page<Director> findByNameLike(String keyword, Pageable pageable);
+
+    // 검색 색인을 만들 때 ID 순서대로 나누어 읽습니다.
+    List<Director> findByIdGreaterThanOrderById(Long id, Pageable pageable);
 }
@@ -1,20 +1,29 @@
 package com.example.Flicktionary.domain.director.service;
 
+import com.example.Flicktionary.domain.director.dto.DirectorMovieDto;
+import com.example.Flicktionary.domain.director.dto.DirectorSeriesDto;
 import com.example.Flicktionary.domain.director.entity.Director;
 import com.example.Flicktionary.domain.director.repository.DirectorRepository;
-import com.example.Flicktionary.domain.movie.entity.Movie;
 import com.example.Flicktionary.domain.movie.repository.MovieRepository;
-import com.example.Flicktionary.domain.series.entity.Series;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.domain.search.service.SearchIndex;
 import com.example.Flicktionary.domain.series.repository.SeriesRepository;
+import com.example.Flicktionary.global.cache.CacheNames;
 import com.example.Flicktionary.global.exception.ServiceException;
+import com.example.Flicktionary.global.utils.CursorUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 
 @Service
 @RequiredArgsConstructor
@@ -22,10 +31,22 @@ public class DirectorService {
     private final DirectorRepository directorRepository;
     private final MovieRepository movieRepository;
     private final SeriesRepository seriesRepository;
+    private final SearchIndex searchIndex;
+    private final CacheManager cacheManager;
 
     public Page<Director> getDirectors(String keyword, int page, int pageSize) {
         Pageable pageable = PageRequest.of(page - 1, pageSize);
         String formattedKeyword = keyword.toLowerCase().replaceAll(" ", "");
+
+        // 검색어가 있으면 검색 색인에서 한 페이지 분량의 ID만 찾은 뒤 조회합니다. (초성 검색 지원)
+        if (!formattedKeyword.isEmpty()) {
+            Optional<SearchIndex.Result> result = searchIndex.search(keyword, SearchType.DIRECTOR, "id", page, pageSize);
+            if (result.isPresent()) {
+                List<Director> directors = result.get().sort(directorRepository.findAllById(result.get().ids()), Director::getId);
+                return new PageImpl<>(directors, pageable, result.get().totalElements());
+            }
+        }
+
         return directorRepository.findByNameLike(formattedKeyword, pageable);
     }
 
@@ -34,11 +55,35 @@ public class DirectorService {
                 .orElseThrow(() -> new ServiceException(HttpStatus.NOT_FOUND.value(), "%d번 감독을 찾을 수 없습니다.".formatted(id)));
     }
 
-    public List<Movie> getMoviesByDirectorId(Long id) {
-        return movieRepository.findByDirectorId(id);
+    // 감독의 영화를 최신순으로 한 페이지 조회합니다.
+    public Page<DirectorMovieDto> getMoviesByDirectorId(Long id, int page, int pageSize) {
+        return toPage(getFilmography(CacheNames.DIRECTOR_MOVIES, id, () -> movieRepository.findFilmographyByDirectorId(id)), page, pageSize);
+    }
+
+    // 감독의 시리즈를 최신순으로 한 페이지 조회합니다.
+    public Page<DirectorSeriesDto> getSeriesByDirectorId(Long id, int page, int pageSize) {
+        return toPage(getFilmography(CacheNames.DIRECTOR_SERIES, id, () -> seriesRepository.findFilmographyByDirectorId(id)), page, pageSize);
     }
 
-    public List<Series> getSeriesByDirectorId(Long id) {
-        return seriesRepository.findByDirectorId(id);
+    // 감독의 출연작은 필요한 컬럼만 담은 전체 목록을 감독별로 캐시하고, 페이지는 캐시된 목록에서 잘라냅니다.
+    // 목록은 TMDB 수집으로 감독의 영화나 시리즈가 바뀌면 DetailCacheEvictor가 제거합니다.
+    private <T> List<T> getFilmography(String cacheName, Long directorId, Callable<List<T>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("등록되지 않은 캐시입니다: " + cacheName);
+        }
+        return cache.get(directorId, loader);
+    }
+
+    private <T> Page<T> toPage(List<T> filmography, int page, int pageSize) {
+        if (page < 1) {
+            throw new ServiceException(HttpStatus.BAD_REQUEST.value(), "페이지는 1부터 요청 가능합니다.");
+        }
+        CursorUtils.checkPageSize(pageSize);
+
+        Pageable pageable = PageRequest.of(page - 1, pageSize);
+        int from = (int) Math.min(pageable.getOffset(), filmography.size());
+        int to = Math.min(from + pageSize, filmography.size());
+        return new PageImpl<>(filmography.subList(from, to), pageable, filmography.size());
     }
 }
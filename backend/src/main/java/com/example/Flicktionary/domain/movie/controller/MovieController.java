@@ -1,11 +1,17 @@
 package com.example.Flicktionary.domain.movie.controller;
 
+import com.example.Flicktionary.domain.movie.dto.MovieDetailApiResponse;
 import com.example.Flicktionary.domain.movie.dto.MovieResponse;
-import com.example.Flicktionary.domain.movie.dto.MovieResponseWithDetail;
 import com.example.Flicktionary.domain.movie.service.MovieService;
+import com.example.Flicktionary.global.cache.CacheNames;
+import com.example.Flicktionary.global.cache.JsonResponseCache;
+import com.example.Flicktionary.global.dto.CursorDto;
 import com.example.Flicktionary.global.dto.PageDto;
 import com.example.Flicktionary.global.dto.ResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "영화 API", description = "영화 API입니다.")
 public class MovieController {
     private final MovieService movieService;
+    private final JsonResponseCache jsonResponseCache;
 
     @Operation(summary = "영화 목록 조회", description = "영화 목록을 조회합니다. (페이징, 검색, 정렬 지원)")
     @GetMapping
@@ -29,10 +36,23 @@ public class MovieController {
         return ResponseEntity.ok(ResponseDto.ok(response));
     }
 
-    @Operation(summary = "영화 상세 조회", description = "영화 상세 정보를 조회합니다.")
-    @GetMapping("/{id}")
-    public ResponseEntity<ResponseDto<MovieResponseWithDetail>> getMovie(@PathVariable long id) {
-        MovieResponseWithDetail response = movieService.getMovie(id);
+    @Operation(summary = "영화 목록 커서 조회", description = "이전 응답의 nextCursor로 다음 영화 목록을 조회합니다. 전체 개수는 withTotal=true일 때만 계산합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseDto<CursorDto<MovieResponse>>> getMoviesByCursor(
+            @RequestParam(defaultValue = "") String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        CursorDto<MovieResponse> response = movieService.getMoviesByCursor(keyword, cursor, pageSize, sortBy, withTotal);
         return ResponseEntity.ok(ResponseDto.ok(response));
     }
+
+    // 직렬화된 응답을 캐시하고, If-None-Match가 ETag와 같다면 본문 없이 304로 응답합니다.
+    @Operation(summary = "영화 상세 조회", description = "영화 상세 정보를 조회합니다. (ETag 지원)")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = MovieDetailApiResponse.class)))
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> getMovie(@PathVariable long id) {
+        return jsonResponseCache.get(CacheNames.MOVIE_DETAIL, id, () -> ResponseDto.ok(movieService.getMovie(id)));
+    }
 }
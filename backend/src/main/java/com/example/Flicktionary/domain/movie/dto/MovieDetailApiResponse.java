@@ -0,0 +1,16 @@
+package com.example.Flicktionary.domain.movie.dto;
+
+import com.example.Flicktionary.global.dto.ResponseDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 영화 상세 조회 응답의 API 문서용 스키마.
+ * 상세 응답은 캐시된 JSON 바이트로 내려가므로 springdoc이 {@link ResponseDto}에 담긴 본문의 타입을 알 수 없어 직접 지정합니다.
+ */
+@Schema(name = "ResponseDtoMovieResponseWithDetail")
+public record MovieDetailApiResponse(
+        String code,
+        String message,
+        MovieResponseWithDetail data
+) {
+}
@@ -35,6 +35,13 @@ public class MovieResponseWithDetail {
     private final DirectorDto director;
 
     public MovieResponseWithDetail(Movie movie) {
+        this(movie,
+                movie.getGenres().stream().map(g -> new GenreDto(g.getId(), g.getName())).toList(),
+                movie.getCasts().stream().map(MovieCastDto::new).toList());
+    }
+
+    // 장르와 출연진을 따로 조회한 경우 사용합니다. 영화의 컬렉션은 읽지 않습니다.
+    public MovieResponseWithDetail(Movie movie, List<GenreDto> genres, List<MovieCastDto> casts) {
         this(movie.getId(),
                 movie.getTmdbId(),
                 movie.getTitle(),
@@ -47,8 +54,8 @@ public class MovieResponseWithDetail {
                 movie.getProductionCompany(),
                 movie.getAverageRating(),
                 movie.getRatingCount(),
-                movie.getGenres().stream().map(g -> new GenreDto(g.getId(), g.getName())).toList(),
-                movie.getCasts().stream().map(MovieCastDto::new).toList(),
+                genres,
+                casts,
                 movie.getDirector() == null ? null : new DirectorDto(movie.getDirector())
         );
     }
@@ -4,20 +4,31 @@ import com.example.Flicktionary.domain.director.entity.Director;
 import com.example.Flicktionary.domain.genre.entity.Genre;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+// 영화 목록을 평점순, 리뷰 수 순으로 커서 페이지네이션할 때 사용하는 인덱스
+// 목록은 평점(리뷰 수) 내림차순, ID 오름차순으로 정렬되므로 인덱스도 같은 방향으로 만들어야 filesort 없이 읽는다.
+@Table(indexes = {
+        @Index(name = "idx_movie_average_rating_desc_id", columnList = "average_rating DESC, id"),
+        @Index(name = "idx_movie_rating_count_desc_id", columnList = "rating_count DESC, id")
+})
 @Getter
 @Setter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+// 바뀐 컬럼만 UPDATE 합니다.
+// 평점 컬럼은 RatingAggregator가 SQL로 더하므로, TMDB 동기화가 예전에 읽은 평점으로 덮어쓰지 않도록 합니다.
+@DynamicUpdate
 public class Movie {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movie_seq")
+    @SequenceGenerator(name = "movie_seq", sequenceName = "movie_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true)
@@ -45,6 +56,9 @@ public class Movie {
 
     private int ratingCount;
 
+    // 평점의 합계. 평균은 리뷰가 바뀔 때마다 합계와 개수로 다시 계산한다.
+    private long ratingSum;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "movie_genre",
@@ -1,11 +1,19 @@
 package com.example.Flicktionary.domain.movie.repository;
 
+import com.example.Flicktionary.domain.actor.dto.ActorMovieDto;
 import com.example.Flicktionary.domain.movie.entity.MovieCast;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface MovieCastRepository extends JpaRepository<MovieCast, Long> {
 
-    List<MovieCast> findMoviesByActorId(Long actorId);
+    // 배우가 출연한 영화를 개봉일 최신순으로 가져옵니다. 개봉일이 없는 영화는 마지막에 옵니다.
+    // 한 영화에 여러 배역으로 출연했더라도 한번만 담깁니다.
+    @Query("SELECT DISTINCT new com.example.Flicktionary.domain.actor.dto.ActorMovieDto(m.id, m.title, m.posterPath, m.releaseDate) " +
+            "FROM MovieCast c JOIN c.movie m " +
+            "WHERE c.actor.id = :actorId " +
+            "ORDER BY m.releaseDate DESC NULLS LAST, m.id")
+    List<ActorMovieDto> findFilmographyByActorId(Long actorId);
 }
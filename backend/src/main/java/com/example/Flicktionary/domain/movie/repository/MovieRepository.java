@@ -1,28 +1,93 @@
 package com.example.Flicktionary.domain.movie.repository;
 
+import com.example.Flicktionary.domain.director.dto.DirectorMovieDto;
+import com.example.Flicktionary.domain.genre.dto.GenreDto;
+import com.example.Flicktionary.domain.movie.dto.MovieResponse;
 import com.example.Flicktionary.domain.movie.entity.Movie;
+import com.example.Flicktionary.domain.movie.entity.MovieCast;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 public interface MovieRepository extends JpaRepository<Movie, Long> {
-    @Query("SELECT m FROM Movie m WHERE LOWER(REPLACE(m.title, ' ', '')) LIKE CONCAT('%', :keyword, '%')")
-    Page<Movie> findByTitleLike(String keyword, Pageable pageable);
+    // 목록 조회는 엔티티 대신 목록에 필요한 컬럼만 DTO로 가져옵니다. (내용, 연관관계는 읽지 않음)
+    @Query(value = "SELECT new com.example.Flicktionary.domain.movie.dto.MovieResponse(m.id, m.title, m.posterPath, m.averageRating, m.ratingCount) " +
+            "FROM Movie m WHERE LOWER(REPLACE(m.title, ' ', '')) LIKE CONCAT('%', :keyword, '%')",
+            countQuery = "SELECT COUNT(m) FROM Movie m WHERE LOWER(REPLACE(m.title, ' ', '')) LIKE CONCAT('%', :keyword, '%')")
+    Page<MovieResponse> findByTitleLike(String keyword, Pageable pageable);
 
-    @Query("SELECT DISTINCT m FROM Movie m " +
-            "LEFT JOIN FETCH m.casts c " +
-            "LEFT JOIN FETCH c.actor a " +
-            "LEFT JOIN FETCH m.director d " +
-            "WHERE m.id = :id")
-    Optional<Movie> findByIdWithCastsAndDirector(Long id);
+    // 검색 색인이 찾은 ID의 목록 정보를 한번에 가져옵니다. 순서는 보장하지 않습니다.
+    @Query("SELECT new com.example.Flicktionary.domain.movie.dto.MovieResponse(m.id, m.title, m.posterPath, m.averageRating, m.ratingCount) " +
+            "FROM Movie m WHERE m.id IN :ids")
+    List<MovieResponse> findResponsesByIdIn(Collection<Long> ids);
+
+    // 상세 조회는 컬렉션을 함께 fetch join하지 않고 영화, 장르, 출연진을 각각 조회합니다.
+    // 컬렉션을 한 쿼리로 가져오면 행이 장르 수 x 출연진 수만큼 늘어나기 때문입니다.
+    @Query("SELECT m FROM Movie m LEFT JOIN FETCH m.director WHERE m.id = :id")
+    Optional<Movie> findByIdWithDirector(Long id);
+
+    @Query("SELECT new com.example.Flicktionary.domain.genre.dto.GenreDto(g.id, g.name) " +
+            "FROM Movie m JOIN m.genres g WHERE m.id = :id ORDER BY g.id")
+    List<GenreDto> findGenresById(Long id);
 
-    List<Movie> findByDirectorId(Long directorId);
+    @Query("SELECT c FROM MovieCast c JOIN FETCH c.actor WHERE c.movie.id = :id ORDER BY c.id")
+    List<MovieCast> findCastsById(Long id);
+
+    // 감독의 영화를 개봉일 최신순으로 가져옵니다. 개봉일이 없는 영화는 마지막에 옵니다.
+    @Query("SELECT new com.example.Flicktionary.domain.director.dto.DirectorMovieDto(m.id, m.title, m.posterPath, m.releaseDate) " +
+            "FROM Movie m WHERE m.director.id = :directorId " +
+            "ORDER BY m.releaseDate DESC NULLS LAST, m.id")
+    List<DirectorMovieDto> findFilmographyByDirectorId(Long directorId);
 
     @Query("SELECT m.tmdbId FROM Movie m")
     Set<Long> findAllTmdbIds();
+
+    List<Movie> findAllByTmdbIdIn(Collection<Long> tmdbIds);
+
+    // 커서 페이지네이션: 제목이 일치하는 영화 중 커서의 ID보다 큰 영화를 ID 순서로 가져옵니다.
+    @Query("SELECT new com.example.Flicktionary.domain.movie.dto.MovieResponse(m.id, m.title, m.posterPath, m.averageRating, m.ratingCount) " +
+            "FROM Movie m " +
+            "WHERE LOWER(REPLACE(m.title, ' ', '')) LIKE CONCAT('%', :keyword, '%') AND m.id > :id " +
+            "ORDER BY m.id")
+    List<MovieResponse> findByTitleLikeAfterId(String keyword, Long id, Pageable pageable);
+
+    // 커서 페이지네이션: 평점이 높은 순, 같은 평점이면 ID 순서로 커서 다음의 영화를 가져옵니다.
+    @Query("SELECT new com.example.Flicktionary.domain.movie.dto.MovieResponse(m.id, m.title, m.posterPath, m.averageRating, m.ratingCount) " +
+            "FROM Movie m " +
+            "WHERE LOWER(REPLACE(m.title, ' ', '')) LIKE CONCAT('%', :keyword, '%') " +
+            "AND (m.averageRating < :averageRating OR (m.averageRating = :averageRating AND m.id > :id)) " +
+            "ORDER BY m.averageRating DESC, m.id")
+    List<MovieResponse> findByTitleLikeAfterRating(String keyword, double averageRating, Long id, Pageable pageable);
+
+    // 커서 페이지네이션: 리뷰가 많은 순, 같은 리뷰 수면 ID 순서로 커서 다음의 영화를 가져옵니다.
+    @Query("SELECT new com.example.Flicktionary.domain.movie.dto.MovieResponse(m.id, m.title, m.posterPath, m.averageRating, m.ratingCount) " +
+            "FROM Movie m " +
+            "WHERE LOWER(REPLACE(m.title, ' ', '')) LIKE CONCAT('%', :keyword, '%') " +
+            "AND (m.ratingCount < :ratingCount OR (m.ratingCount = :ratingCount AND m.id > :id)) " +
+            "ORDER BY m.ratingCount DESC, m.id")
+    List<MovieResponse> findByTitleLikeAfterRatingCount(String keyword, int ratingCount, Long id, Pageable pageable);
+
+    @Query("SELECT COUNT(m) FROM Movie m WHERE LOWER(REPLACE(m.title, ' ', '')) LIKE CONCAT('%', :keyword, '%')")
+    long countByTitleLike(String keyword);
+
+    // 평점의 변화량을 읽지 않고 한 문장으로 더합니다.
+    // 평균을 가장 먼저 계산해야 MySQL(왼쪽부터 차례로 적용)과 다른 DB(모두 이전 값 사용)에서 결과가 같습니다.
+    @Modifying
+    @Query("UPDATE Movie m SET " +
+            "m.averageRating = CASE WHEN m.ratingCount + :countDelta > 0 " +
+            "THEN (m.ratingSum + :ratingDelta) * 1.0 / (m.ratingCount + :countDelta) ELSE 0.0 END, " +
+            "m.ratingSum = m.ratingSum + :ratingDelta, " +
+            "m.ratingCount = m.ratingCount + :countDelta " +
+            "WHERE m.id = :id")
+    int applyRatingDelta(Long id, long ratingDelta, int countDelta);
+
+    // 검색 색인을 만들 때 ID 순서대로 나누어 읽습니다.
+    List<Movie> findByIdGreaterThanOrderById(Long id, Pageable pageable);
 }
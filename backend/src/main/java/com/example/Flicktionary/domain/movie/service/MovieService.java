@@ -1,52 +1,122 @@
 package com.example.Flicktionary.domain.movie.service;
 
-import com.example.Flicktionary.domain.actor.entity.Actor;
-import com.example.Flicktionary.domain.actor.repository.ActorRepository;
-import com.example.Flicktionary.domain.director.entity.Director;
-import com.example.Flicktionary.domain.director.repository.DirectorRepository;
-import com.example.Flicktionary.domain.genre.entity.Genre;
-import com.example.Flicktionary.domain.genre.repository.GenreRepository;
+import com.example.Flicktionary.domain.director.event.DirectorFilmographyEvent;
+import com.example.Flicktionary.domain.movie.dto.MovieCastDto;
 import com.example.Flicktionary.domain.movie.dto.MovieResponse;
 import com.example.Flicktionary.domain.movie.dto.MovieResponseWithDetail;
 import com.example.Flicktionary.domain.movie.entity.Movie;
 import com.example.Flicktionary.domain.movie.entity.MovieCast;
 import com.example.Flicktionary.domain.movie.repository.MovieRepository;
+import com.example.Flicktionary.domain.search.dto.SearchDocument;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.domain.search.event.SearchIndexEvent;
+import com.example.Flicktionary.domain.search.service.SearchIndex;
+import com.example.Flicktionary.domain.tmdb.dto.TmdbChangesResponse;
 import com.example.Flicktionary.domain.tmdb.dto.TmdbMovieResponseWithDetail;
+import com.example.Flicktionary.domain.tmdb.service.TmdbIngestionPipeline;
+import com.example.Flicktionary.domain.tmdb.service.TmdbReferenceDataResolver;
 import com.example.Flicktionary.domain.tmdb.service.TmdbService;
+import com.example.Flicktionary.global.dto.CursorDto;
 import com.example.Flicktionary.global.dto.PageDto;
 import com.example.Flicktionary.global.exception.ServiceException;
+import com.example.Flicktionary.global.utils.CursorUtils;
+import com.example.Flicktionary.global.utils.LongHashSet;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 
 @Service
 @RequiredArgsConstructor
 public class MovieService {
     private final MovieRepository movieRepository;
     private final TmdbService tmdbService;
-    private final GenreRepository genreRepository;
-    private final ActorRepository actorRepository;
-    private final DirectorRepository directorRepository;
+    private final TmdbIngestionPipeline tmdbIngestionPipeline;
+    private final TmdbReferenceDataResolver tmdbReferenceDataResolver;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final String BASE_IMAGE_URL = "https://image.tmdb.org/t/p";
 
+    // 검색어가 있으면 검색 색인에서 한 페이지 분량의 ID만 찾은 뒤 조회합니다.
+    // 색인이 준비되지 않았거나 검색어가 없으면 DB에서 조회합니다.
     @Transactional(readOnly = true)
     public PageDto<MovieResponse> getMovies(String keyword, int page, int pageSize, String sortBy) {
         Sort sort = getSort(sortBy);
         Pageable pageable = PageRequest.of(page - 1, pageSize, sort);
         String formattedKeyword = keyword.toLowerCase().replaceAll(" ", "");
 
-        Page<Movie> movies = movieRepository.findByTitleLike(formattedKeyword, pageable);
+        if (!formattedKeyword.isEmpty()) {
+            Optional<SearchIndex.Result> result = searchIndex.search(keyword, SearchType.MOVIE, sortBy, page, pageSize);
+            if (result.isPresent()) {
+                List<MovieResponse> movies = result.get().sort(movieRepository.findResponsesByIdIn(result.get().ids()), MovieResponse::getId);
+                return new PageDto<>(new PageImpl<>(movies, pageable, result.get().totalElements()));
+            }
+        }
+
+        Page<MovieResponse> movies = movieRepository.findByTitleLike(formattedKeyword, pageable);
+
+        return new PageDto<>(movies);
+    }
+
+    // 커서 다음의 영화를 정렬 기준의 키셋으로 조회합니다.
+    // OFFSET을 사용하지 않으므로 몇번째 페이지든 비용이 같고, 전체 개수는 요청한 경우에만 셉니다.
+    @Transactional(readOnly = true)
+    public CursorDto<MovieResponse> getMoviesByCursor(String keyword, String cursor, int pageSize, String sortBy, boolean withTotal) {
+        CursorUtils.checkPageSize(pageSize);
+        String formattedKeyword = keyword.toLowerCase().replaceAll(" ", "");
+        // 다음 페이지가 있는지 확인하기 위해 한 건을 더 조회합니다.
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<MovieResponse> movies;
+        Function<MovieResponse, String> cursorOf;
+        switch (sortBy) {
+            case "id" -> {
+                long id = cursor == null ? 0 : CursorUtils.decode(cursor, 1, keys -> Long.parseLong(keys[0]));
+                movies = movieRepository.findByTitleLikeAfterId(formattedKeyword, id, limit);
+                cursorOf = movie -> CursorUtils.encode(movie.getId());
+            }
+            case "rating" -> {
+                RatingKey key = cursor == null
+                        ? new RatingKey(Double.MAX_VALUE, 0)
+                        : CursorUtils.decode(cursor, 2, keys -> new RatingKey(Double.parseDouble(keys[0]), Long.parseLong(keys[1])));
+                movies = movieRepository.findByTitleLikeAfterRating(formattedKeyword, key.averageRating(), key.id(), limit);
+                cursorOf = movie -> CursorUtils.encode(movie.getAverageRating(), movie.getId());
+            }
+            case "ratingCount" -> {
+                RatingCountKey key = cursor == null
+                        ? new RatingCountKey(Integer.MAX_VALUE, 0)
+                        : CursorUtils.decode(cursor, 2, keys -> new RatingCountKey(Integer.parseInt(keys[0]), Long.parseLong(keys[1])));
+                movies = movieRepository.findByTitleLikeAfterRatingCount(formattedKeyword, key.ratingCount(), key.id(), limit);
+                cursorOf = movie -> CursorUtils.encode(movie.getRatingCount(), movie.getId());
+            }
+            default -> throw new ServiceException(HttpStatus.BAD_REQUEST.value(), "잘못된 정렬 기준입니다.");
+        }
+
+        Long totalItems = withTotal ? movieRepository.countByTitleLike(formattedKeyword) : null;
+        return CursorDto.of(movies, pageSize, Function.identity(), cursorOf, totalItems);
+    }
 
-        return new PageDto<>(movies.map(MovieResponse::new));
+    private record RatingKey(double averageRating, long id) {
+    }
+
+    private record RatingCountKey(int ratingCount, long id) {
     }
 
     public Sort getSort(String sortBy) {
@@ -60,91 +130,213 @@ public class MovieService {
 
     @Transactional(readOnly = true)
     public MovieResponseWithDetail getMovie(long id) {
-        // fetch join을 이용해서 영화에 연관된 배우와 감독 정보를 가져옵니다.
-        // 장르는 lazy loading
-        Movie movie = movieRepository.findByIdWithCastsAndDirector(id)
+        // 영화와 감독, 장르, 출연진을 각각 한번씩 조회합니다. 출연진이 늘어나도 쿼리는 세 번입니다.
+        Movie movie = movieRepository.findByIdWithDirector(id)
                 .orElseThrow(() -> new ServiceException(HttpStatus.NOT_FOUND.value(), "%d번 영화를 찾을 수 없습니다.".formatted(id)));
 
-        return new MovieResponseWithDetail(movie);
+        return new MovieResponseWithDetail(movie,
+                movieRepository.findGenresById(id),
+                movieRepository.findCastsById(id).stream().map(MovieCastDto::new).toList());
     }
 
     // tmdb api를 이용해서 영화 정보를 받아와 저장합니다.
-    @Transactional
+    // 목록/상세 조회는 파이프라인에서 동시에 진행되고, 저장은 페이지 단위의 트랜잭션으로 나누어 커밋합니다.
     public void fetchAndSaveMovies(int pages) {
-        List<Movie> moviesToSave = new ArrayList<>();
-        Map<Long, Genre> genreCache = new HashMap<>();
-        Map<Long, Actor> actorCache = new HashMap<>();
-        Map<Long, Director> directorCache = new HashMap<>();
+        fetchAndSaveMovies(1, pages, Set.of(), () -> false, (page, saved) -> {
+        });
+    }
 
-        for (int i = 1; i <= pages; i++) {
-            List<TmdbMovieResponseWithDetail> movieDtos = tmdbService.fetchMovies(i);
+    // 주어진 범위의 페이지 중 skippedPages를 뺀 페이지를 수집합니다. 중지가 요청되면 저장한 페이지까지만 반영하고 false를 반환합니다.
+    // onPageSaved는 페이지를 저장한 트랜잭션 안에서 저장한 영화의 수와 함께 호출되므로, 진행 상황을 같이 커밋할 수 있습니다.
+    public boolean fetchAndSaveMovies(int fromPage,
+                                      int toPage,
+                                      Set<Integer> skippedPages,
+                                      BooleanSupplier stopRequested,
+                                      ObjIntConsumer<TmdbIngestionPipeline.PageResult<?>> onPageSaved) {
+        // 이미 저장된 ID는 수집을 시작할 때 한번만 조회하고, 페이지가 커밋될 때마다 추가합니다.
+        LongHashSet stagedTmdbIds = LongHashSet.of(movieRepository.findAllTmdbIds());
 
-            // 먼저 중복을 방지하기 위해 저장된 영화 ID를 조회
-            Set<Long> existingMovieIds = movieRepository.findAllTmdbIds();
+        return tmdbIngestionPipeline.run(fromPage, toPage, skippedPages,
+                tmdbService::fetchMovieIds,
+                tmdbService::fetchMovie,
+                page -> transactionTemplate.executeWithoutResult(status ->
+                        onPageSaved.accept(page, saveMovies(page.items(), stagedTmdbIds))),
+                stopRequested);
+    }
 
-            for (TmdbMovieResponseWithDetail movieDto : movieDtos) {
-                if (existingMovieIds.contains(movieDto.tmdbId()) ||
-                        moviesToSave.stream().anyMatch(s -> s.getTmdbId().equals(movieDto.tmdbId()))) {
-                    continue; // 이미 존재하는 영화면 스킵
-                }
+    // 기간 내에 TMDB에서 변경된 영화 중 이미 저장된 영화의 정보만 다시 받아와 갱신합니다.
+    // 변경 목록의 페이지마다 하나의 트랜잭션으로 커밋하며, 갱신한 영화의 수를 반환합니다.
+    // 받아오지 못한 변경 목록 페이지나 상세 정보가 있으면, 다음 동기화에서 같은 기간을 다시 받도록 예외를 던집니다.
+    public int syncChangedMovies(LocalDate startDate, LocalDate endDate) {
+        TmdbChangesResponse firstPage = tmdbService.fetchMovieChanges(startDate, endDate, 1);
+        if (firstPage == null || firstPage.results() == null) {
+            return 0;
+        }
 
-                Movie movie = Movie.builder()
-                        .tmdbId(movieDto.tmdbId())
-                        .title(movieDto.title())
-                        .overview(movieDto.overview())
-                        .releaseDate(movieDto.releaseDate() == null || movieDto.releaseDate().isEmpty()
-                                ? null : LocalDate.parse(movieDto.releaseDate()))
-                        .status(movieDto.status())
-                        .posterPath(movieDto.posterPath() == null ? null : BASE_IMAGE_URL + "/w342" + movieDto.posterPath())
-                        .runtime(movieDto.runtime())
-                        .productionCountry(movieDto.productionCountries().isEmpty() ? null : movieDto.productionCountries().get(0).name())
-                        .productionCompany(movieDto.productionCompanies().isEmpty() ? null : movieDto.productionCompanies().get(0).name())
-                        .build();
-
-                // 장르 저장 (캐싱 활용)
-                for (TmdbMovieResponseWithDetail.TmdbGenre tmdbGenre : movieDto.genres()) {
-                    Genre genre = genreCache.computeIfAbsent(tmdbGenre.id(), id ->
-                            genreRepository.findById(id)
-                                    .orElseGet(() -> genreRepository.save(new Genre(id, tmdbGenre.name()))));
-                    movie.getGenres().add(genre);
-                }
+        // 변경 목록에는 저장하지 않은 영화가 대부분이므로, 상세 조회 전에 걸러냅니다.
+        LongHashSet existingMovieIds = LongHashSet.of(movieRepository.findAllTmdbIds());
+        int[] updated = {0};
+        int[] failures = {0};
 
-                // 배우 저장 (캐싱 활용)
-                for (TmdbMovieResponseWithDetail.TmdbActor tmdbActor : movieDto.credits().cast().stream().limit(5).toList()) {
-                    Actor actor = actorCache.computeIfAbsent(tmdbActor.id(), id ->
-                            actorRepository.findById(id)
-                                    .orElseGet(() -> actorRepository.save(new Actor(id, tmdbActor.name(),
-                                            tmdbActor.profilePath() == null ? null : BASE_IMAGE_URL + "/w185" + tmdbActor.profilePath()))));
-
-                    MovieCast movieCast = MovieCast.builder()
-                            .movie(movie)
-                            .actor(actor)
-                            .characterName(tmdbActor.character())
-                            .build();
-                    movie.getCasts().add(movieCast);
-                }
+        tmdbIngestionPipeline.run(1, Math.max(1, firstPage.totalPages()),
+                page -> (page == 1 ? firstPage : tmdbService.fetchMovieChanges(startDate, endDate, page))
+                        .results().stream()
+                        .map(TmdbChangesResponse.TmdbChange::id)
+                        .filter(existingMovieIds::contains)
+                        .toList(),
+                tmdbService::fetchMovie,
+                page -> {
+                    failures[0] += page.failures();
+                    updated[0] += transactionTemplate.execute(status -> updateMovies(page.items()));
+                });
 
-                // 감독 저장 (캐싱 활용)
-                for (TmdbMovieResponseWithDetail.TmdbCrew crew : movieDto.credits().crew()) {
-                    if (crew.job().equalsIgnoreCase("Director")) {
-                        Director director = directorCache.computeIfAbsent(crew.id(), id ->
-                                directorRepository.findById(id)
-                                        .orElseGet(() -> directorRepository.save(new Director(id, crew.name(),
-                                                crew.profilePath() == null ? null : BASE_IMAGE_URL + "/w185" + crew.profilePath()))));
-                        movie.setDirector(director);
-
-                        if (!director.getMovies().contains(movie)) {
-                            director.getMovies().add(movie);
-                        }
-                    }
+        if (failures[0] > 0) {
+            throw new RuntimeException("영화 변경 내역 중 %d건의 요청이 실패했습니다.".formatted(failures[0]));
+        }
+        return updated[0];
+    }
+
+    // 한 페이지 분량의 영화를 저장하고, 저장한 영화의 수를 반환합니다.
+    // stagedTmdbIds에 없는 영화만 저장하며, 저장한 영화의 ID는 트랜잭션이 커밋된 뒤에 stagedTmdbIds에 추가됩니다.
+    private int saveMovies(List<TmdbMovieResponseWithDetail> movieDtos, LongHashSet stagedTmdbIds) {
+        List<TmdbMovieResponseWithDetail> newMovieDtos = new ArrayList<>();
+        LongHashSet pageTmdbIds = new LongHashSet(movieDtos.size());
+        for (TmdbMovieResponseWithDetail movieDto : movieDtos) {
+            // 같은 페이지에 같은 ID가 두번 있더라도 한번만 저장합니다.
+            if (!stagedTmdbIds.contains(movieDto.tmdbId()) && pageTmdbIds.add(movieDto.tmdbId())) {
+                newMovieDtos.add(movieDto); // 이미 존재하는 영화는 스킵
+            }
+        }
+        if (newMovieDtos.isEmpty()) {
+            return 0;
+        }
+
+        // 페이지가 롤백되면 이후 페이지에서 같은 영화를 다시 저장할 수 있도록, 커밋된 뒤에만 저장한 ID로 기록합니다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (TmdbMovieResponseWithDetail movieDto : newMovieDtos) {
+                    stagedTmdbIds.add(movieDto.tmdbId());
                 }
+            }
+        });
 
-                moviesToSave.add(movie);
+        // 장르, 배우, 감독은 페이지 단위로 모아서 한번에 저장합니다.
+        resolveReferences(newMovieDtos);
+
+        List<Movie> moviesToSave = new ArrayList<>(newMovieDtos.size());
+        for (TmdbMovieResponseWithDetail movieDto : newMovieDtos) {
+            Movie movie = Movie.builder()
+                    .tmdbId(movieDto.tmdbId())
+                    .build();
+            applyTmdbDetail(movie, movieDto);
+
+            moviesToSave.add(movie);
+        }
+
+        movieRepository.saveAll(moviesToSave);
+        publishIndexEvent(moviesToSave, new HashSet<>());
+        return moviesToSave.size();
+    }
+
+    // 한 페이지 분량의 변경된 영화 정보로 저장된 영화를 갱신합니다.
+    private int updateMovies(List<TmdbMovieResponseWithDetail> movieDtos) {
+        if (movieDtos.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, TmdbMovieResponseWithDetail> dtoByTmdbId = new HashMap<>();
+        for (TmdbMovieResponseWithDetail movieDto : movieDtos) {
+            dtoByTmdbId.put(movieDto.tmdbId(), movieDto);
+        }
+
+        resolveReferences(movieDtos);
+
+        List<Movie> movies = movieRepository.findAllByTmdbIdIn(dtoByTmdbId.keySet());
+        // 감독이 바뀌면 이전 감독의 출연작 목록에서도 빠지므로, 갱신 전의 감독도 모아둡니다.
+        Set<Long> previousDirectorIds = new HashSet<>();
+        for (Movie movie : movies) {
+            if (movie.getDirector() != null) {
+                previousDirectorIds.add(movie.getDirector().getId());
+            }
+            // 장르와 출연진은 새로 받은 정보로 교체합니다.
+            movie.getGenres().clear();
+            movie.getCasts().clear();
+            applyTmdbDetail(movie, dtoByTmdbId.get(movie.getTmdbId()));
+        }
+        publishIndexEvent(movies, previousDirectorIds);
+
+        return movies.size();
+    }
+
+    // 트랜잭션이 커밋되면 검색 색인과 감독의 출연작 목록에 반영되도록 이벤트를 발행합니다.
+    private void publishIndexEvent(List<Movie> movies, Set<Long> directorIds) {
+        eventPublisher.publishEvent(new SearchIndexEvent(movies.stream()
+                .map(SearchDocument::new)
+                .toList()));
+
+        for (Movie movie : movies) {
+            if (movie.getDirector() != null) {
+                directorIds.add(movie.getDirector().getId());
+            }
+        }
+        if (!directorIds.isEmpty()) {
+            eventPublisher.publishEvent(new DirectorFilmographyEvent(directorIds));
+        }
+    }
+
+    // 영화 정보에 포함된 장르, 배우, 감독 중 DB에 없는 것을 한번에 저장합니다.
+    private void resolveReferences(List<TmdbMovieResponseWithDetail> movieDtos) {
+        TmdbReferenceDataResolver.Batch batch = new TmdbReferenceDataResolver.Batch();
+        for (TmdbMovieResponseWithDetail movieDto : movieDtos) {
+            for (TmdbMovieResponseWithDetail.TmdbGenre tmdbGenre : movieDto.genres()) {
+                batch.addGenre(tmdbGenre.id(), tmdbGenre.name());
+            }
+            for (TmdbMovieResponseWithDetail.TmdbActor tmdbActor : movieDto.credits().cast().stream().limit(5).toList()) {
+                batch.addActor(tmdbActor.id(), tmdbActor.name(),
+                        tmdbActor.profilePath() == null ? null : BASE_IMAGE_URL + "/w185" + tmdbActor.profilePath());
+            }
+            for (TmdbMovieResponseWithDetail.TmdbCrew crew : movieDto.credits().crew()) {
+                if (crew.job().equalsIgnoreCase("Director")) {
+                    batch.addDirector(crew.id(), crew.name(),
+                            crew.profilePath() == null ? null : BASE_IMAGE_URL + "/w185" + crew.profilePath());
+                }
             }
         }
+        tmdbReferenceDataResolver.resolve(batch);
+    }
+
+    // TMDB 상세 정보를 영화 엔티티에 반영합니다. 평점과 평점 수는 리뷰로 관리되므로 건드리지 않습니다.
+    private void applyTmdbDetail(Movie movie, TmdbMovieResponseWithDetail movieDto) {
+        movie.setTitle(movieDto.title());
+        movie.setOverview(movieDto.overview());
+        movie.setReleaseDate(movieDto.releaseDate() == null || movieDto.releaseDate().isEmpty()
+                ? null : LocalDate.parse(movieDto.releaseDate()));
+        movie.setStatus(movieDto.status());
+        movie.setPosterPath(movieDto.posterPath() == null ? null : BASE_IMAGE_URL + "/w342" + movieDto.posterPath());
+        movie.setRuntime(movieDto.runtime());
+        movie.setProductionCountry(movieDto.productionCountries().isEmpty() ? null : movieDto.productionCountries().get(0).name());
+        movie.setProductionCompany(movieDto.productionCompanies().isEmpty() ? null : movieDto.productionCompanies().get(0).name());
+
+        // 장르, 배우, 감독은 resolveReferences에서 저장되었으므로 조회 없이 참조만 연결합니다.
+        for (TmdbMovieResponseWithDetail.TmdbGenre tmdbGenre : movieDto.genres()) {
+            movie.getGenres().add(tmdbReferenceDataResolver.genre(tmdbGenre.id()));
+        }
+
+        for (TmdbMovieResponseWithDetail.TmdbActor tmdbActor : movieDto.credits().cast().stream().limit(5).toList()) {
+            MovieCast movieCast = MovieCast.builder()
+                    .movie(movie)
+                    .actor(tmdbReferenceDataResolver.actor(tmdbActor.id()))
+                    .characterName(tmdbActor.character())
+                    .build();
+            movie.getCasts().add(movieCast);
+        }
 
-        if (!moviesToSave.isEmpty()) {
-            movieRepository.saveAll(moviesToSave);
+        // 감독 쪽 컬렉션은 연관관계의 주인이 아니므로, 불러오지 않고 영화 쪽만 설정합니다.
+        for (TmdbMovieResponseWithDetail.TmdbCrew crew : movieDto.credits().crew()) {
+            if (crew.job().equalsIgnoreCase("Director")) {
+                movie.setDirector(tmdbReferenceDataResolver.director(crew.id()));
+            }
         }
     }
 }
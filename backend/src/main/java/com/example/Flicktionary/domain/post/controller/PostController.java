@@ -4,6 +4,8 @@ import com.example.Flicktionary.domain.post.dto.PostCreateRequestDto;
 import com.example.Flicktionary.domain.post.dto.PostResponseDto;
 import com.example.Flicktionary.domain.post.dto.PostUpdateRequestDto;
 import com.example.Flicktionary.domain.post.service.PostService;
+import com.example.Flicktionary.global.dto.CountMode;
+import com.example.Flicktionary.global.dto.CursorDto;
 import com.example.Flicktionary.global.dto.PageDto;
 import com.example.Flicktionary.global.dto.ResponseDto;
 import lombok.RequiredArgsConstructor;
@@ -41,8 +43,21 @@ public class PostController {
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int pageSize,
             @RequestParam(required = false) String keyword,
-            @RequestParam(required = false) String keywordType) {
-        PageDto<PostResponseDto> postList = postService.getPostList(page, pageSize, keyword, keywordType);
+            @RequestParam(required = false) String keywordType,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode) {
+        PageDto<PostResponseDto> postList = postService.getPostList(page, pageSize, keyword, keywordType, countMode);
+        return ResponseEntity.ok(ResponseDto.ok(postList));
+    }
+
+    // 게시글 목록 커서 조회 및 게시글 검색
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseDto<CursorDto<PostResponseDto>>> getPostListByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String keywordType,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        CursorDto<PostResponseDto> postList = postService.getPostList(cursor, pageSize, keyword, keywordType, withTotal);
         return ResponseEntity.ok(ResponseDto.ok(postList));
     }
 
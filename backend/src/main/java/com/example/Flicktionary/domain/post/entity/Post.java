@@ -7,7 +7,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "post")
+// 게시글 목록을 작성일 역순으로 커서 페이지네이션할 때 사용하는 인덱스
+@Table(name = "post", indexes = @Index(name = "idx_post_created_at_id", columnList = "created_at, id"))
 @Getter
 @Setter
 @AllArgsConstructor
@@ -17,7 +18,8 @@ public class Post {
 
     // 게시글 id (기본키)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
     private Long id;
 
     // 유저 id (외래키)
@@ -34,6 +36,8 @@ public class Post {
     private String content;
 
     // 게시글 생성 날짜
+    // 커서 페이지네이션의 키이므로 비어 있으면 목록에 나오지 않는다.
+    @Column(nullable = false)
     private LocalDateTime createdAt;
 
     // 게시글 스포일러 여부 토글
@@ -3,9 +3,14 @@ package com.example.Flicktionary.domain.post.repository;
 import com.example.Flicktionary.domain.post.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
@@ -17,4 +22,53 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     // 닉네임으로 게시글 찾기
     Page<Post> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
+
+    // 커서 페이지네이션: (작성일, ID)가 커서보다 앞선 게시글을 작성일 역순으로 찾기
+    @Query("SELECT p FROM Post p " +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findAllBefore(LocalDateTime createdAt, Long id, Pageable pageable);
+
+    // 커서 페이지네이션: 제목으로 게시글 찾기
+    @Query("SELECT p FROM Post p " +
+            "WHERE p.title LIKE CONCAT('%', :title, '%') " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findByTitleContainingBefore(String title, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    // 커서 페이지네이션: 내용으로 게시글 찾기
+    @Query("SELECT p FROM Post p " +
+            "WHERE p.content LIKE CONCAT('%', :content, '%') " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findByContentContainingBefore(String content, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    // 커서 페이지네이션: 닉네임으로 게시글 찾기
+    @Query("SELECT p FROM Post p " +
+            "WHERE p.userAccount.nickname LIKE CONCAT('%', :nickname, '%') " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findByNicknameContainingBefore(String nickname, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    // 제목으로 찾은 게시글 수
+    long countByTitleContaining(String title);
+
+    // 내용으로 찾은 게시글 수
+    long countByContentContaining(String content);
+
+    // 닉네임으로 찾은 게시글 수
+    long countByUserAccount_NicknameContaining(String nickname);
+
+    // 전체 개수를 세지 않는 조회: 모든 게시글
+    @Query("SELECT p FROM Post p")
+    Slice<Post> findAllAsSlice(Pageable pageable);
+
+    // 전체 개수를 세지 않는 조회: 제목으로 게시글 찾기
+    Slice<Post> findSliceByTitleContaining(String title, Pageable pageable);
+
+    // 전체 개수를 세지 않는 조회: 내용으로 게시글 찾기
+    Slice<Post> findSliceByContentContaining(String content, Pageable pageable);
+
+    // 전체 개수를 세지 않는 조회: 닉네임으로 게시글 찾기
+    Slice<Post> findSliceByUserAccount_NicknameContaining(String nickname, Pageable pageable);
 }
@@ -7,10 +7,13 @@ import com.example.Flicktionary.domain.post.entity.Post;
 import com.example.Flicktionary.domain.post.repository.PostRepository;
 import com.example.Flicktionary.domain.user.entity.UserAccount;
 import com.example.Flicktionary.domain.user.repository.UserAccountRepository;
+import com.example.Flicktionary.global.dto.CountMode;
+import com.example.Flicktionary.global.dto.CursorDto;
 import com.example.Flicktionary.global.dto.PageDto;
 import com.example.Flicktionary.global.exception.ServiceException;
+import com.example.Flicktionary.global.service.PageCountService;
+import com.example.Flicktionary.global.utils.CursorUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -18,6 +21,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -25,6 +31,7 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final UserAccountRepository userAccountRepository;
+    private final PageCountService pageCountService;
 
     // 게시글 생성
     public PostResponseDto create(PostCreateRequestDto postDto) {
@@ -51,37 +58,84 @@ public class PostService {
         return PostResponseDto.fromEntity(post);
     }
 
-    // 게시글 목록 조회 및 게시글 검색
-    public PageDto<PostResponseDto> getPostList(int page, int pageSize, String keyword, String keywordType) {
+    // 게시글 목록 조회 및 게시글 검색. 전체 개수는 countMode에 따라 셈
+    public PageDto<PostResponseDto> getPostList(int page, int pageSize, String keyword, String keywordType, CountMode countMode) {
 
         // Pageable 객체 생성
         Pageable pageable = PageRequest.of(page - 1, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Post> posts;
 
         // 키워드 타입에 따라 게시글 검색. 없으면 모든 게시글 출력
         if (keyword != null && !keyword.trim().isEmpty() && keywordType != null && !keywordType.trim().isEmpty()) {
             switch (keywordType.toLowerCase()) {
                 case "title":
-                    posts = postRepository.findByTitleContaining(keyword, pageable);
+                    return pageCountService.toPageDto(countMode,
+                            () -> postRepository.findByTitleContaining(keyword, pageable).map(PostResponseDto::fromEntity),
+                            () -> postRepository.findSliceByTitleContaining(keyword, pageable).map(PostResponseDto::fromEntity),
+                            "posts:title:" + keyword, () -> postRepository.countByTitleContaining(keyword));
+                case "content":
+                    return pageCountService.toPageDto(countMode,
+                            () -> postRepository.findByContentContaining(keyword, pageable).map(PostResponseDto::fromEntity),
+                            () -> postRepository.findSliceByContentContaining(keyword, pageable).map(PostResponseDto::fromEntity),
+                            "posts:content:" + keyword, () -> postRepository.countByContentContaining(keyword));
+                case "nickname":
+                    return pageCountService.toPageDto(countMode,
+                            () -> postRepository.findByUserAccount_NicknameContaining(keyword, pageable).map(PostResponseDto::fromEntity),
+                            () -> postRepository.findSliceByUserAccount_NicknameContaining(keyword, pageable).map(PostResponseDto::fromEntity),
+                            "posts:nickname:" + keyword, () -> postRepository.countByUserAccount_NicknameContaining(keyword));
+                default:
+                    throw new ServiceException(HttpStatus.BAD_REQUEST.value(), "지원하지 않는 검색 타입입니다: " + keywordType);
+            }
+        }
+
+        return pageCountService.toPageDto(countMode,
+                () -> postRepository.findAll(pageable).map(PostResponseDto::fromEntity),
+                () -> postRepository.findAllAsSlice(pageable).map(PostResponseDto::fromEntity),
+                "posts", postRepository::count);
+    }
+
+    // 커서 다음의 게시글을 작성일 역순으로 조회 및 게시글 검색. 전체 개수는 요청한 경우에만 셈
+    public CursorDto<PostResponseDto> getPostList(String cursor, int pageSize, String keyword, String keywordType, boolean withTotal) {
+        CursorUtils.checkPageSize(pageSize);
+
+        // 커서가 없으면 가장 최근 게시글부터 조회
+        PostKey key = cursor == null
+                ? PostKey.FIRST
+                : CursorUtils.decode(cursor, 2, keys -> new PostKey(LocalDateTime.parse(keys[0]), Long.parseLong(keys[1])));
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Post> posts;
+        Long totalItems;
+
+        // 키워드 타입에 따라 게시글 검색. 없으면 모든 게시글 출력
+        if (keyword != null && !keyword.trim().isEmpty() && keywordType != null && !keywordType.trim().isEmpty()) {
+            switch (keywordType.toLowerCase()) {
+                case "title":
+                    posts = postRepository.findByTitleContainingBefore(keyword, key.createdAt(), key.id(), limit);
+                    totalItems = withTotal ? postRepository.countByTitleContaining(keyword) : null;
                     break;
                 case "content":
-                    posts = postRepository.findByContentContaining(keyword, pageable);
+                    posts = postRepository.findByContentContainingBefore(keyword, key.createdAt(), key.id(), limit);
+                    totalItems = withTotal ? postRepository.countByContentContaining(keyword) : null;
                     break;
                 case "nickname":
-                    posts = postRepository.findByUserAccount_NicknameContaining(keyword, pageable);
+                    posts = postRepository.findByNicknameContainingBefore(keyword, key.createdAt(), key.id(), limit);
+                    totalItems = withTotal ? postRepository.countByUserAccount_NicknameContaining(keyword) : null;
                     break;
                 default:
                     throw new ServiceException(HttpStatus.BAD_REQUEST.value(), "지원하지 않는 검색 타입입니다: " + keywordType);
             }
         } else {
-            posts = postRepository.findAll(pageable);
+            posts = postRepository.findAllBefore(key.createdAt(), key.id(), limit);
+            totalItems = withTotal ? postRepository.count() : null;
         }
 
-        // PageDto<PostResponseDto>로 변환
-        Page<PostResponseDto> postDtoPage = posts.map(PostResponseDto::fromEntity);
+        return CursorDto.of(posts, pageSize, PostResponseDto::fromEntity,
+                post -> CursorUtils.encode(post.getCreatedAt(), post.getId()), totalItems);
+    }
 
-        // PageDto 반환
-        return new PageDto<>(postDtoPage);
+    // 게시글 목록의 정렬 키 (작성일, ID)
+    private record PostKey(LocalDateTime createdAt, long id) {
+        // 모든 게시글보다 뒤에 있는 키
+        private static final PostKey FIRST = new PostKey(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
     }
 
     // 게시글 수정
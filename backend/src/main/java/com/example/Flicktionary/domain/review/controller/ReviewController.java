@@ -2,6 +2,8 @@ package com.example.Flicktionary.domain.review.controller;
 
 import com.example.Flicktionary.domain.review.dto.ReviewDto;
 import com.example.Flicktionary.domain.review.service.ReviewService;
+import com.example.Flicktionary.global.dto.CountMode;
+import com.example.Flicktionary.global.dto.CursorDto;
 import com.example.Flicktionary.global.dto.PageDto;
 import com.example.Flicktionary.global.dto.ResponseDto;
 import lombok.RequiredArgsConstructor;
@@ -29,10 +31,22 @@ public class ReviewController {
     @GetMapping
     public ResponseEntity<ResponseDto<PageDto<ReviewDto>>> getAllReviews(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int pageSize
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode
     ) {
 
-        PageDto<ReviewDto> reviews = reviewService.findAllReviews(page, pageSize);
+        PageDto<ReviewDto> reviews = reviewService.findAllReviews(page, pageSize, countMode);
+        return ResponseEntity.ok(ResponseDto.ok(reviews));
+    }
+
+    // 모든 리뷰를 커서로 조회
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseDto<CursorDto<ReviewDto>>> getAllReviewsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+
+        CursorDto<ReviewDto> reviews = reviewService.findAllReviews(cursor, pageSize, withTotal);
         return ResponseEntity.ok(ResponseDto.ok(reviews));
     }
 
@@ -41,9 +55,10 @@ public class ReviewController {
     public ResponseEntity<ResponseDto<PageDto<ReviewDto>>> searchReviews(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "5") int pageSize) {
+            @RequestParam(defaultValue = "5") int pageSize,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode) {
 
-        return ResponseEntity.ok(ResponseDto.ok(reviewService.searchReviews(keyword, page, pageSize)));
+        return ResponseEntity.ok(ResponseDto.ok(reviewService.searchReviews(keyword, page, pageSize, countMode)));
     }
 
     // 리뷰 수정
@@ -72,10 +87,11 @@ public class ReviewController {
     public ResponseEntity<ResponseDto<PageDto<ReviewDto>>> reviewMovieDtoPage(
             @PathVariable Long movie_id,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "5") int pageSize) {
+            @RequestParam(defaultValue = "5") int pageSize,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode) {
 
         // 특정 영화 리뷰 페이지를 조회해 변수에 담아 클라이언트에 반환
-        PageDto<ReviewDto> reviews = reviewService.reviewMovieDtoPage(movie_id, page, pageSize);
+        PageDto<ReviewDto> reviews = reviewService.reviewMovieDtoPage(movie_id, page, pageSize, countMode);
         return ResponseEntity.ok(ResponseDto.ok(reviews));
     }
 
@@ -84,10 +100,35 @@ public class ReviewController {
     public ResponseEntity<ResponseDto<PageDto<ReviewDto>>> reviewSeriesDtoPage(
             @PathVariable Long series_id,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "5") int pageSize) {
+            @RequestParam(defaultValue = "5") int pageSize,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode) {
 
         // 특정 드라마 리뷰 페이지를 조회해 변수에 담아 클라이언트에 반환
-        PageDto<ReviewDto> reviews = reviewService.reviewSeriesDtoPage(series_id, page, pageSize);
+        PageDto<ReviewDto> reviews = reviewService.reviewSeriesDtoPage(series_id, page, pageSize, countMode);
+        return ResponseEntity.ok(ResponseDto.ok(reviews));
+    }
+
+    // 특정 영화의 리뷰를 커서로 조회
+    @GetMapping("/movies/{movie_id}/cursor")
+    public ResponseEntity<ResponseDto<CursorDto<ReviewDto>>> reviewMovieDtoCursor(
+            @PathVariable Long movie_id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int pageSize,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+
+        CursorDto<ReviewDto> reviews = reviewService.reviewMovieDtoCursor(movie_id, cursor, pageSize, withTotal);
+        return ResponseEntity.ok(ResponseDto.ok(reviews));
+    }
+
+    // 특정 드라마의 리뷰를 커서로 조회
+    @GetMapping("/series/{series_id}/cursor")
+    public ResponseEntity<ResponseDto<CursorDto<ReviewDto>>> reviewSeriesDtoCursor(
+            @PathVariable Long series_id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int pageSize,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+
+        CursorDto<ReviewDto> reviews = reviewService.reviewSeriesDtoCursor(series_id, cursor, pageSize, withTotal);
         return ResponseEntity.ok(ResponseDto.ok(reviews));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,36 @@
+package com.example.Flicktionary.domain.review.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 리뷰로 바뀐 평점의 변화량 (outbox).
+ * 리뷰를 저장하는 트랜잭션에서는 이 행만 추가하고, 영화와 시리즈의 평점은 RatingAggregator가 모아서 반영한다.
+ */
+@Entity
+@Table(name = "rating_event")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RatingEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rating_event_seq")
+    @SequenceGenerator(name = "rating_event_seq", sequenceName = "rating_event_seq", allocationSize = 50)
+    private Long id;
+
+    // 리뷰한 영화 ID. 시리즈 리뷰라면 null
+    private Long movieId;
+
+    // 리뷰한 시리즈 ID. 영화 리뷰라면 null
+    private Long seriesId;
+
+    // 평점 합계의 변화량
+    @Column(nullable = false)
+    private int ratingDelta;
+
+    // 평점 개수의 변화량 (작성 1, 수정 0, 삭제 -1)
+    @Column(nullable = false)
+    private int countDelta;
+}
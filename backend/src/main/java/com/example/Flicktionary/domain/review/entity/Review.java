@@ -7,7 +7,11 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "review")
+// 작품별 리뷰 목록을 ID 역순으로 커서 페이지네이션할 때 사용하는 인덱스
+@Table(name = "review", indexes = {
+        @Index(name = "idx_review_movie_id_id", columnList = "movie_id, id"),
+        @Index(name = "idx_review_series_id_id", columnList = "series_id, id")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -17,7 +21,8 @@ public class Review {
 
     // 리뷰 id (기본키)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_seq")
+    @SequenceGenerator(name = "review_seq", sequenceName = "review_seq", allocationSize = 50)
     private Long id;
 
     // 유저 id (외래키)
@@ -0,0 +1,22 @@
+package com.example.Flicktionary.domain.review.repository;
+
+import com.example.Flicktionary.domain.review.entity.RatingEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface RatingEventRepository extends JpaRepository<RatingEvent, Long> {
+
+    // 오래된 이벤트부터 잠그고 가져옵니다.
+    // 여러 서버가 동시에 집계해도 같은 이벤트를 두번 반영하지 않도록, 다른 서버가 잠근 행은 건너뜁니다. (-2: SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM RatingEvent e ORDER BY e.id")
+    List<RatingEvent> findOldestForUpdate(Pageable pageable);
+}
@@ -2,14 +2,25 @@ package com.example.Flicktionary.domain.review.repository;
 
 import com.example.Flicktionary.domain.review.entity.Review;
 import com.example.Flicktionary.domain.user.entity.UserAccount;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
+    // 리뷰를 수정, 삭제할 때 행을 잠그고 가져옴
+    // 같은 리뷰를 동시에 수정해도 먼저 커밋된 평점을 기준으로 변화량을 계산하고, 두번 삭제되지 않도록 한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Review r WHERE r.id = :id")
+    Optional<Review> findByIdForUpdate(Long id);
+
     // 특정 영화에 대한 리뷰를 페이징 처리해서 가져옴
     Page<Review> findByMovie_IdOrderByIdDesc(Long movieId, Pageable pageable);
 
@@ -33,4 +44,35 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     // 유저 계정을 찾는 기능
     List<Review> findByUserAccount(UserAccount userAccount);
-}
\ No newline at end of file
+
+    // 커서 페이지네이션: 커서의 ID보다 작은 리뷰를 ID 역순으로 가져옴
+    List<Review> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+
+    // 커서 페이지네이션: 특정 영화에 대한 리뷰 중 커서의 ID보다 작은 리뷰를 ID 역순으로 가져옴
+    List<Review> findByMovie_IdAndIdLessThanOrderByIdDesc(Long movieId, Long id, Pageable pageable);
+
+    // 커서 페이지네이션: 특정 드라마에 대한 리뷰 중 커서의 ID보다 작은 리뷰를 ID 역순으로 가져옴
+    List<Review> findBySeries_IdAndIdLessThanOrderByIdDesc(Long seriesId, Long id, Pageable pageable);
+
+    // 특정 영화에 대한 리뷰 수
+    long countByMovie_Id(Long movieId);
+
+    // 특정 드라마에 대한 리뷰 수
+    long countBySeries_Id(Long seriesId);
+
+    // 전체 개수를 세지 않는 조회: 모든 리뷰
+    @Query("SELECT r FROM Review r")
+    Slice<Review> findAllAsSlice(Pageable pageable);
+
+    // 전체 개수를 세지 않는 조회: 특정 영화에 대한 리뷰
+    Slice<Review> findSliceByMovie_IdOrderByIdDesc(Long movieId, Pageable pageable);
+
+    // 전체 개수를 세지 않는 조회: 특정 드라마에 대한 리뷰
+    Slice<Review> findSliceBySeries_IdOrderByIdDesc(Long seriesId, Pageable pageable);
+
+    // 전체 개수를 세지 않는 조회: 닉네임 또는 리뷰 내용으로 검색
+    Slice<Review> findSliceByUserAccount_NicknameContainingOrContentContaining(String nickname, String content, Pageable pageable);
+
+    // 닉네임 또는 리뷰 내용으로 검색한 리뷰 수
+    long countByUserAccount_NicknameContainingOrContentContaining(String nickname, String content);
+}
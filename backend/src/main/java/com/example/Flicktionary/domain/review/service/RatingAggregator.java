@@ -0,0 +1,111 @@
+package com.example.Flicktionary.domain.review.service;
+
+import com.example.Flicktionary.domain.movie.repository.MovieRepository;
+import com.example.Flicktionary.domain.review.entity.RatingEvent;
+import com.example.Flicktionary.domain.review.repository.RatingEventRepository;
+import com.example.Flicktionary.domain.search.dto.SearchDocument;
+import com.example.Flicktionary.domain.search.event.SearchIndexEvent;
+import com.example.Flicktionary.domain.series.repository.SeriesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 리뷰가 남긴 {@link RatingEvent}를 주기적으로 모아 영화와 시리즈의 평점 합계, 개수, 평균에 반영한다.
+ * 같은 작품의 이벤트는 하나로 합쳐서 작품마다 UPDATE 한 번으로 반영하며,
+ * 값을 읽지 않고 DB에서 더하므로 동시에 작성된 리뷰의 변화량을 잃어버리지 않는다.
+ * 반영한 이벤트는 같은 트랜잭션에서 지우고, 커밋되면 검색 색인과 상세 캐시에도 반영된다.
+ */
+@Slf4j
+@Component
+public class RatingAggregator {
+
+    private final RatingEventRepository ratingEventRepository;
+    private final MovieRepository movieRepository;
+    private final SeriesRepository seriesRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public RatingAggregator(RatingEventRepository ratingEventRepository,
+                            MovieRepository movieRepository,
+                            SeriesRepository seriesRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${custom.rating.batch-size}") int batchSize) {
+        this.ratingEventRepository = ratingEventRepository;
+        this.movieRepository = movieRepository;
+        this.seriesRepository = seriesRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    // 밀린 이벤트가 많으면 한 배치씩 나누어 커밋합니다. 실패한 배치는 롤백되어 다음 주기에 다시 반영됩니다.
+    @Scheduled(fixedDelayString = "${custom.rating.flush-delay-ms}")
+    public void flush() {
+        try {
+            Integer aggregated;
+            do {
+                aggregated = transactionTemplate.execute(status -> aggregate());
+            } while (aggregated != null && aggregated == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("평점 집계 실패: {}", e.getMessage());
+        }
+    }
+
+    // 이벤트를 한 배치 읽어 작품별로 합친 뒤 반영하고, 반영한 이벤트를 지웁니다. 읽은 이벤트의 수를 반환합니다.
+    int aggregate() {
+        List<RatingEvent> events = ratingEventRepository.findOldestForUpdate(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // 여러 서버가 같은 작품들을 갱신할 때 교착 상태가 생기지 않도록 ID 순서로 갱신합니다.
+        Map<Long, Delta> movieDeltas = new TreeMap<>();
+        Map<Long, Delta> seriesDeltas = new TreeMap<>();
+        List<Long> eventIds = new ArrayList<>(events.size());
+        for (RatingEvent event : events) {
+            if (event.getMovieId() != null) {
+                movieDeltas.computeIfAbsent(event.getMovieId(), id -> new Delta()).add(event);
+            }
+            if (event.getSeriesId() != null) {
+                seriesDeltas.computeIfAbsent(event.getSeriesId(), id -> new Delta()).add(event);
+            }
+            eventIds.add(event.getId());
+        }
+
+        movieDeltas.forEach((id, delta) -> movieRepository.applyRatingDelta(id, delta.rating, delta.count));
+        seriesDeltas.forEach((id, delta) -> seriesRepository.applyRatingDelta(id, delta.rating, delta.count));
+        ratingEventRepository.deleteAllByIdInBatch(eventIds);
+
+        // 검색 결과를 평점순으로 정렬할 수 있도록 갱신된 값을 다시 읽어 검색 색인에 반영합니다.
+        List<SearchDocument> documents = new ArrayList<>(movieDeltas.size() + seriesDeltas.size());
+        movieRepository.findAllById(movieDeltas.keySet()).forEach(movie -> documents.add(new SearchDocument(movie)));
+        seriesRepository.findAllById(seriesDeltas.keySet()).forEach(series -> documents.add(new SearchDocument(series)));
+        eventPublisher.publishEvent(new SearchIndexEvent(documents));
+
+        return events.size();
+    }
+
+    private static final class Delta {
+
+        private long rating;
+
+        private int count;
+
+        private void add(RatingEvent event) {
+            rating += event.getRatingDelta();
+            count += event.getCountDelta();
+        }
+    }
+}
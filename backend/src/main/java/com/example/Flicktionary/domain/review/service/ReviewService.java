@@ -3,16 +3,21 @@ package com.example.Flicktionary.domain.review.service;
 import com.example.Flicktionary.domain.movie.entity.Movie;
 import com.example.Flicktionary.domain.movie.repository.MovieRepository;
 import com.example.Flicktionary.domain.review.dto.ReviewDto;
+import com.example.Flicktionary.domain.review.entity.RatingEvent;
 import com.example.Flicktionary.domain.review.entity.Review;
+import com.example.Flicktionary.domain.review.repository.RatingEventRepository;
 import com.example.Flicktionary.domain.review.repository.ReviewRepository;
 import com.example.Flicktionary.domain.series.entity.Series;
 import com.example.Flicktionary.domain.series.repository.SeriesRepository;
 import com.example.Flicktionary.domain.user.entity.UserAccount;
 import com.example.Flicktionary.domain.user.repository.UserAccountRepository;
+import com.example.Flicktionary.global.dto.CountMode;
+import com.example.Flicktionary.global.dto.CursorDto;
 import com.example.Flicktionary.global.dto.PageDto;
 import com.example.Flicktionary.global.exception.ServiceException;
+import com.example.Flicktionary.global.service.PageCountService;
+import com.example.Flicktionary.global.utils.CursorUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -32,6 +37,8 @@ public class ReviewService {
     private final UserAccountRepository userAccountRepository;
     private final MovieRepository movieRepository;
     private final SeriesRepository seriesRepository;
+    private final RatingEventRepository ratingEventRepository;
+    private final PageCountService pageCountService;
 
     // 리뷰 생성
     public ReviewDto createReview(ReviewDto reviewDto) {
@@ -80,46 +87,57 @@ public class ReviewService {
         // 레포지터리에 DB 영속화 및 변수에 저장
         Review savedReview = reviewRepository.save(review);
 
-        // 영화와 시리즈의 정보 업데이트
-        updateRatingAndCount(movie, series, review.getRating(), true);
+        // 영화와 시리즈의 평점 변화량 기록
+        recordRatingChange(movie, series, review.getRating(), 1);
 
         return ReviewDto.fromEntity(savedReview);
     }
 
-    // 모든 리뷰 조회
-    public PageDto<ReviewDto> findAllReviews(int page, int size) {
+    // 모든 리뷰 조회. 전체 개수는 countMode에 따라 셈
+    public PageDto<ReviewDto> findAllReviews(int page, int size, CountMode countMode) {
 
         // 모든 리뷰를 찾아 리턴
         Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
-        Page<ReviewDto> reviewDtoPage = reviewRepository.findAll(pageable)
-                .map(ReviewDto::fromEntity);
-        return new PageDto<>(reviewDtoPage);
+        return pageCountService.toPageDto(countMode,
+                () -> reviewRepository.findAll(pageable).map(ReviewDto::fromEntity),
+                () -> reviewRepository.findAllAsSlice(pageable).map(ReviewDto::fromEntity),
+                "reviews", reviewRepository::count);
+    }
+
+    // 커서 다음의 리뷰를 ID 역순으로 조회. 전체 개수는 요청한 경우에만 셈
+    public CursorDto<ReviewDto> findAllReviews(String cursor, int size, boolean withTotal) {
+        CursorUtils.checkPageSize(size);
+        List<Review> reviews = reviewRepository.findByIdLessThanOrderByIdDesc(getCursorId(cursor), PageRequest.of(0, size + 1));
+        Long totalItems = withTotal ? reviewRepository.count() : null;
+        return CursorDto.of(reviews, size, ReviewDto::fromEntity, review -> CursorUtils.encode(review.getId()), totalItems);
     }
 
     // 리뷰 닉네임과 내용으로 검색
-    public PageDto<ReviewDto> searchReviews(String keyword, int page, int size) {
+    public PageDto<ReviewDto> searchReviews(String keyword, int page, int size, CountMode countMode) {
 
         // Pageable 변수로 페이지와 크기를 받아 변수에 저장
         Pageable pageable = PageRequest.of(page, size);
 
         // 닉네임 또는 리뷰 내용에 검색어가 포함된 리뷰 조회
-        Page<Review> reviewPage = reviewRepository
-                .findByUserAccount_NicknameContainingOrContentContaining(keyword, keyword, pageable);
-
-        return new PageDto<>(reviewPage.map(ReviewDto::fromEntity));
+        return pageCountService.toPageDto(countMode,
+                () -> reviewRepository.findByUserAccount_NicknameContainingOrContentContaining(keyword, keyword, pageable)
+                        .map(ReviewDto::fromEntity),
+                () -> reviewRepository.findSliceByUserAccount_NicknameContainingOrContentContaining(keyword, keyword, pageable)
+                        .map(ReviewDto::fromEntity),
+                "reviews:search:" + keyword,
+                () -> reviewRepository.countByUserAccount_NicknameContainingOrContentContaining(keyword, keyword));
     }
 
     // 리뷰 수정
     public ReviewDto updateReview(Long id, ReviewDto reviewDto) {
 
         // id로 리뷰를 찾을 수 없을 경우
-        Review review = reviewRepository.findById(id)
+        Review review = reviewRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ServiceException(HttpStatus.NOT_FOUND.value(), "%d번 리뷰를 찾을 수 없습니다.".formatted(id)));
 
-        // 평점을 수정한다면 영화와 시리즈 정보 업데이트
+        // 평점을 수정한다면 영화와 시리즈의 평점 변화량 기록
         if (reviewDto.getRating() != 0 && reviewDto.getRating() != review.getRating()) {
-            updateRatingAndCount(review.getMovie(), review.getSeries(), reviewDto.getRating() - review.getRating(), false);
-            review.setRating(reviewDto.getRating());
+            recordRatingChange(review.getMovie(), review.getSeries(), reviewDto.getRating() - review.getRating(), 0);
         }
 
         // 리뷰의 평점 수정
@@ -138,58 +156,74 @@ public class ReviewService {
     // 리뷰 삭제
     public void deleteReview(Long id) {
         // id로 리뷰를 찾을 수 없을 경우
-        Review review = reviewRepository.findById(id)
+        Review review = reviewRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ServiceException(HttpStatus.NOT_FOUND.value(), "%d번 리뷰를 찾을 수 없습니다.".formatted(id)));
 
-        // 영화, 시리즈 정보 업데이트
-        updateRatingAndCount(review.getMovie(), review.getSeries(), -review.getRating(), true);
+        // 영화, 시리즈의 평점 변화량 기록
+        recordRatingChange(review.getMovie(), review.getSeries(), -review.getRating(), -1);
 
         reviewRepository.delete(review);
     }
 
-    // 공통 평점 업데이트 메서드
-    private void updateRatingAndCount(Movie movie, Series series, int ratingChange, boolean isAddOrDelete) {
-        if (movie != null) {
-            int newRatingCount = isAddOrDelete ? movie.getRatingCount() + (ratingChange > 0 ? 1 : -1) : movie.getRatingCount();
-            double newAverageRating = (newRatingCount == 0) ? 0.0
-                    : (movie.getAverageRating() * movie.getRatingCount() + ratingChange) / newRatingCount;
-            movie.setRatingCount(newRatingCount);
-            movie.setAverageRating(newAverageRating);
-        }
-
-        if (series != null) {
-            int newRatingCount = isAddOrDelete ? series.getRatingCount() + (ratingChange > 0 ? 1 : -1) : series.getRatingCount();
-            double newAverageRating = (newRatingCount == 0) ? 0.0
-                    : (series.getAverageRating() * series.getRatingCount() + ratingChange) / newRatingCount;
-            series.setRatingCount(newRatingCount);
-            series.setAverageRating(newAverageRating);
+    // 평점의 변화량을 이벤트로 남깁니다.
+    // 영화, 시리즈 행은 리뷰 트랜잭션에서 갱신하지 않고 RatingAggregator가 모아서 반영합니다.
+    private void recordRatingChange(Movie movie, Series series, int ratingDelta, int countDelta) {
+        if (movie == null && series == null) {
+            return;
         }
+        ratingEventRepository.save(RatingEvent.builder()
+                .movieId(movie != null ? movie.getId() : null)
+                .seriesId(series != null ? series.getId() : null)
+                .ratingDelta(ratingDelta)
+                .countDelta(countDelta)
+                .build());
     }
 
     // 페이지네이션을 이용해서 특정 영화의 리뷰 목록을 조회
-    public PageDto<ReviewDto> reviewMovieDtoPage(Long movieId, int page, int size) {
+    public PageDto<ReviewDto> reviewMovieDtoPage(Long movieId, int page, int size, CountMode countMode) {
 
         // Pageable 변수로 페이지와 크기를 받아 변수에 저장
         Pageable pageable = PageRequest.of(page, size);
 
-        // 영화 id로 영화를 찾아 ReviewDto 객체 목록으로 변환하여, Page 변수에 담아 return
-        Page<ReviewDto> reviewDtoPage = reviewRepository.findByMovie_IdOrderByIdDesc(movieId, pageable)
-                .map(ReviewDto::fromEntity);
-
-        return new PageDto<>(reviewDtoPage);
+        // 영화 id로 영화를 찾아 ReviewDto 객체 목록으로 변환하여 return
+        return pageCountService.toPageDto(countMode,
+                () -> reviewRepository.findByMovie_IdOrderByIdDesc(movieId, pageable).map(ReviewDto::fromEntity),
+                () -> reviewRepository.findSliceByMovie_IdOrderByIdDesc(movieId, pageable).map(ReviewDto::fromEntity),
+                "reviews:movie:" + movieId, () -> reviewRepository.countByMovie_Id(movieId));
     }
 
     // 페이지네이션을 이용해서 특정 드라마의 리뷰 목록을 조회
-    public PageDto<ReviewDto> reviewSeriesDtoPage(Long seriesId, int page, int size) {
+    public PageDto<ReviewDto> reviewSeriesDtoPage(Long seriesId, int page, int size, CountMode countMode) {
 
         // Pageable 변수로 페이지와 크기를 받아 변수에 저장
         Pageable pageable = PageRequest.of(page, size);
 
-        // 드라마 id로 드라마를 찾아 ReviewDto 객체 목록으로 변환하여, Page 변수에 담아 return
-        Page<ReviewDto> reviewDtoPage = reviewRepository.findBySeries_IdOrderByIdDesc(seriesId, pageable)
-                .map(ReviewDto::fromEntity);
+        // 드라마 id로 드라마를 찾아 ReviewDto 객체 목록으로 변환하여 return
+        return pageCountService.toPageDto(countMode,
+                () -> reviewRepository.findBySeries_IdOrderByIdDesc(seriesId, pageable).map(ReviewDto::fromEntity),
+                () -> reviewRepository.findSliceBySeries_IdOrderByIdDesc(seriesId, pageable).map(ReviewDto::fromEntity),
+                "reviews:series:" + seriesId, () -> reviewRepository.countBySeries_Id(seriesId));
+    }
+
+    // 커서를 이용해서 특정 영화의 리뷰 목록을 조회
+    public CursorDto<ReviewDto> reviewMovieDtoCursor(Long movieId, String cursor, int size, boolean withTotal) {
+        CursorUtils.checkPageSize(size);
+        List<Review> reviews = reviewRepository.findByMovie_IdAndIdLessThanOrderByIdDesc(movieId, getCursorId(cursor), PageRequest.of(0, size + 1));
+        Long totalItems = withTotal ? reviewRepository.countByMovie_Id(movieId) : null;
+        return CursorDto.of(reviews, size, ReviewDto::fromEntity, review -> CursorUtils.encode(review.getId()), totalItems);
+    }
+
+    // 커서를 이용해서 특정 드라마의 리뷰 목록을 조회
+    public CursorDto<ReviewDto> reviewSeriesDtoCursor(Long seriesId, String cursor, int size, boolean withTotal) {
+        CursorUtils.checkPageSize(size);
+        List<Review> reviews = reviewRepository.findBySeries_IdAndIdLessThanOrderByIdDesc(seriesId, getCursorId(cursor), PageRequest.of(0, size + 1));
+        Long totalItems = withTotal ? reviewRepository.countBySeries_Id(seriesId) : null;
+        return CursorDto.of(reviews, size, ReviewDto::fromEntity, review -> CursorUtils.encode(review.getId()), totalItems);
+    }
 
-        return new PageDto<>(reviewDtoPage);
+    // 커서가 없으면 가장 최근 리뷰부터 조회
+    private long getCursorId(String cursor) {
+        return cursor == null ? Long.MAX_VALUE : CursorUtils.decode(cursor, 1, keys -> Long.parseLong(keys[0]));
     }
 
     // 특정 유저의 모든 리뷰에서 userAccount를 null로 설정하는 메서드
@@ -0,0 +1,34 @@
+package com.example.Flicktionary.domain.search.controller;
+
+import com.example.Flicktionary.domain.search.dto.SearchHitResponse;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.domain.search.service.SearchService;
+import com.example.Flicktionary.global.dto.ResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/autocomplete")
+@Tag(name = "자동완성 API", description = "입력중인 검색어로 영화, 시리즈, 배우, 감독을 자동완성하는 API입니다.")
+public class AutocompleteController {
+    private final SearchService searchService;
+
+    @Operation(summary = "검색어 자동완성", description = "입력중인 검색어로 시작하는 제목과 이름을 리뷰가 많은 순서로 조회합니다. (초성 지원)")
+    @GetMapping
+    public ResponseEntity<ResponseDto<List<SearchHitResponse>>> autocomplete(
+            @RequestParam(defaultValue = "") String keyword,
+            @RequestParam(required = false) List<SearchType> types,
+            @RequestParam(defaultValue = "10") int size) {
+        List<SearchHitResponse> response = searchService.autocomplete(keyword, types, size);
+        return ResponseEntity.ok(ResponseDto.ok(response));
+    }
+}
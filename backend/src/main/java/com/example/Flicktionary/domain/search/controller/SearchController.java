@@ -0,0 +1,34 @@
+package com.example.Flicktionary.domain.search.controller;
+
+import com.example.Flicktionary.domain.search.dto.SearchResponse;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.domain.search.service.SearchService;
+import com.example.Flicktionary.global.dto.ResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/search")
+@Tag(name = "통합 검색 API", description = "영화, 시리즈, 배우, 감독을 한번에 검색하는 API입니다.")
+public class SearchController {
+    private final SearchService searchService;
+
+    @Operation(summary = "통합 검색", description = "제목과 이름으로 영화, 시리즈, 배우, 감독을 한번에 검색합니다. (부분 일치, 초성 검색 지원)")
+    @GetMapping
+    public ResponseEntity<ResponseDto<SearchResponse>> search(
+            @RequestParam(defaultValue = "") String keyword,
+            @RequestParam(required = false) List<SearchType> types,
+            @RequestParam(defaultValue = "20") int size) {
+        SearchResponse response = searchService.search(keyword, types, size);
+        return ResponseEntity.ok(ResponseDto.ok(response));
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.Flicktionary.domain.search.dto;
+
+import com.example.Flicktionary.domain.actor.entity.Actor;
+import com.example.Flicktionary.domain.director.entity.Director;
+import com.example.Flicktionary.domain.movie.entity.Movie;
+import com.example.Flicktionary.domain.series.entity.Series;
+
+/**
+ * 검색 색인에 필요한 정보. 영화와 시리즈는 제목, 배우와 감독은 이름을 name으로 사용한다.
+ * 통합 검색 결과를 DB 조회 없이 보여줄 수 있도록 포스터 또는 프로필 이미지 경로도 담는다.
+ */
+public record SearchDocument(
+        SearchType type,
+        Long id,
+        String name,
+        String imageUrl,
+        double averageRating,
+        int ratingCount
+) {
+    public SearchDocument(Movie movie) {
+        this(SearchType.MOVIE, movie.getId(), movie.getTitle(), movie.getPosterPath(), movie.getAverageRating(), movie.getRatingCount());
+    }
+
+    public SearchDocument(Series series) {
+        this(SearchType.SERIES, series.getId(), series.getTitle(), series.getPosterPath(), series.getAverageRating(), series.getRatingCount());
+    }
+
+    public SearchDocument(Actor actor) {
+        this(SearchType.ACTOR, actor.getId(), actor.getName(), actor.getProfilePath(), 0, 0);
+    }
+
+    public SearchDocument(Director director) {
+        this(SearchType.DIRECTOR, director.getId(), director.getName(), director.getProfilePath(), 0, 0);
+    }
+}
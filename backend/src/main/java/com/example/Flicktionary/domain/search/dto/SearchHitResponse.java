@@ -0,0 +1,22 @@
+package com.example.Flicktionary.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+
+/**
+ * 통합 검색 결과 한 건. type으로 영화, 시리즈, 배우, 감독을 구분한다.
+ */
+@AllArgsConstructor
+@Getter
+public class SearchHitResponse {
+    @NonNull
+    private final SearchType type;
+    @NonNull
+    private final Long id;
+    @NonNull
+    private final String name;
+    private final String imageUrl;
+    private final double averageRating;
+    private final int ratingCount;
+}
@@ -0,0 +1,18 @@
+package com.example.Flicktionary.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 통합 검색 결과. 관련도 순으로 정렬된 결과와 종류별로 일치한 문서의 수를 담는다.
+ */
+@AllArgsConstructor
+@Getter
+public class SearchResponse {
+    private final List<SearchHitResponse> items;
+    private final Map<SearchType, Long> counts;
+    private final long totalItems;
+}
@@ -0,0 +1,8 @@
+package com.example.Flicktionary.domain.search.dto;
+
+/**
+ * 검색 색인에 담기는 문서의 종류.
+ */
+public enum SearchType {
+    MOVIE, SERIES, ACTOR, DIRECTOR
+}
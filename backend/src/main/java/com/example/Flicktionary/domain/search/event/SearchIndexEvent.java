@@ -0,0 +1,12 @@
+package com.example.Flicktionary.domain.search.event;
+
+import com.example.Flicktionary.domain.search.dto.SearchDocument;
+
+import java.util.List;
+
+/**
+ * 영화, 시리즈, 배우, 감독이 저장되거나 수정되어 검색 색인을 갱신해야 할 때 발행하는 이벤트.
+ * 트랜잭션이 커밋된 뒤에 색인에 반영된다.
+ */
+public record SearchIndexEvent(List<SearchDocument> documents) {
+}
@@ -0,0 +1,146 @@
+package com.example.Flicktionary.domain.search.service;
+
+import com.example.Flicktionary.domain.search.dto.SearchDocument;
+import com.example.Flicktionary.domain.search.dto.SearchHitResponse;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.domain.search.event.SearchIndexEvent;
+import com.example.Flicktionary.global.search.HangulUtils;
+import com.example.Flicktionary.global.search.PrefixTrie;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 입력중인 검색어로 시작하는 영화, 시리즈 제목과 배우, 감독 이름을 찾는 자동완성 색인.
+ * 종류별 트라이에 자모로 분해한 이름과 초성을 키로 넣어두고, 리뷰가 많은 순서로 노드마다 상위 결과를 유지한다.
+ * 보여줄 값을 모두 색인에 들고 있으므로 조회할 때 DB에 접근하지 않는다.
+ * 검색 색인과 함께 {@link SearchIndexInitializer}가 만들고, 이후에는 {@link SearchIndexEvent}로 변경된 문서만 반영한다.
+ */
+@Component
+public class AutocompleteIndex {
+
+    public static final int MAX_SIZE = 10;
+
+    // 리뷰가 많은 순, 이름이 짧은 순
+    private static final Comparator<SearchHitResponse> ORDER = Comparator.comparingInt(SearchHitResponse::getRatingCount).reversed()
+            .thenComparingInt(hit -> hit.getName().length())
+            .thenComparing(SearchHitResponse::getType)
+            .thenComparing(SearchHitResponse::getId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<SearchType, PrefixTrie<SearchHitResponse>> tries = new EnumMap<>(SearchType.class);
+
+    // 종류 -> 문서 ID -> 색인된 값. 문서가 수정되면 이전 값을 트라이에서 제거하는 데 사용한다.
+    private final Map<SearchType, Map<Long, SearchHitResponse>> hitsByType = new EnumMap<>(SearchType.class);
+
+    private volatile boolean ready;
+
+    public AutocompleteIndex() {
+        for (SearchType type : SearchType.values()) {
+            tries.put(type, new PrefixTrie<>(MAX_SIZE, ORDER));
+            hitsByType.put(type, new HashMap<>());
+        }
+    }
+
+    /**
+     * 입력중인 검색어로 시작하는 문서를 리뷰가 많은 순서로 조회한다.
+     * 공백과 대소문자는 무시하며, 입력중인 음절과 초성으로도 찾을 수 있다. (예: "해리퐅", "ㅎㄹㅍ")
+     *
+     * @param keyword 입력중인 검색어
+     * @param types   조회할 문서의 종류
+     * @param size    돌려줄 결과의 최대 개수 ({@link #MAX_SIZE} 이하)
+     * @return 자동완성 결과. 색인이 아직 준비되지 않았다면 빈 값
+     */
+    public Optional<List<SearchHitResponse>> complete(String keyword, Set<SearchType> types, int size) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        String prefix = toKey(keyword);
+        lock.readLock().lock();
+        try {
+            List<SearchHitResponse> hits = new ArrayList<>();
+            for (SearchType type : types) {
+                hits.addAll(tries.get(type).top(prefix, size));
+            }
+            hits.sort(ORDER);
+            return Optional.of(hits.size() > size ? hits.subList(0, size) : hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인을 만드는 동안 도착한 이벤트가 더 최신 정보이므로, 이미 색인된 문서는 덮어쓰지 않습니다.
+    void load(List<SearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            for (SearchDocument document : documents) {
+                put(document, false);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void markReady() {
+        ready = true;
+    }
+
+    // 문서를 저장하거나 수정한 트랜잭션이 커밋되면 색인에 반영합니다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentsChanged(SearchIndexEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (SearchDocument document : event.documents()) {
+                put(document, true);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(SearchDocument document, boolean replace) {
+        if (document.name() == null || document.name().isBlank()) {
+            return;
+        }
+
+        PrefixTrie<SearchHitResponse> trie = tries.get(document.type());
+        Map<Long, SearchHitResponse> hitById = hitsByType.get(document.type());
+
+        SearchHitResponse existing = hitById.get(document.id());
+        if (existing != null) {
+            if (!replace) {
+                return;
+            }
+            for (String key : keys(existing.getName())) {
+                trie.remove(key, existing);
+            }
+        }
+
+        SearchHitResponse hit = new SearchHitResponse(document.type(), document.id(), document.name(),
+                document.imageUrl(), document.averageRating(), document.ratingCount());
+        for (String key : keys(hit.getName())) {
+            trie.add(key, hit);
+        }
+        hitById.put(document.id(), hit);
+    }
+
+    // 자모로 분해한 이름과, 한글이 있다면 초성도 키로 사용합니다.
+    // 두 키가 같은 노드를 지나도 그 노드의 상위 목록에는 한번만 담깁니다.
+    private static List<String> keys(String name) {
+        String normalized = HangulUtils.normalize(name);
+        String jamo = HangulUtils.decompose(normalized);
+        return HangulUtils.containsSyllable(normalized)
+                ? List.of(jamo, HangulUtils.chosung(normalized))
+                : List.of(jamo);
+    }
+
+    private static String toKey(String keyword) {
+        String normalized = HangulUtils.normalize(keyword);
+        return HangulUtils.isChosung(normalized) ? normalized : HangulUtils.decompose(normalized);
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.Flicktionary.domain.search.service;
+
+import com.example.Flicktionary.domain.search.dto.SearchDocument;
+import com.example.Flicktionary.domain.search.dto.SearchHitResponse;
+import com.example.Flicktionary.domain.search.dto.SearchResponse;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.domain.search.event.SearchIndexEvent;
+import com.example.Flicktionary.global.search.HangulNgramIndex;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 영화, 시리즈, 배우, 감독을 검색하기 위한 메모리 색인.
+ * 제목과 이름은 자모로 분해한 바이그램으로 색인해서 부분 일치, 입력중인 음절, 초성 검색을 지원한다.
+ * 줄거리는 색인하지 않는다. 긴 본문을 바이그램으로 색인하면 메모리가 지나치게 커지고, 줄거리 검색을 사용하는 화면도 없다.
+ * 애플리케이션이 시작되면 {@link SearchIndexInitializer}가 DB에서 읽은 문서로 색인을 만들고,
+ * 이후에는 {@link SearchIndexEvent}로 변경된 문서만 반영한다.
+ * 색인이 준비되기 전에는 검색 결과를 돌려주지 않으므로 DB에서 검색해야 한다.
+ */
+@Component
+public class SearchIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final HangulNgramIndex nameIndex = new HangulNgramIndex();
+
+    // 종류 -> 문서 ID -> 슬롯. 문서가 수정되어도 같은 슬롯을 다시 사용한다.
+    private final Map<SearchType, Map<Long, Integer>> slotsByType = new EnumMap<>(SearchType.class);
+
+    // 슬롯별 문서 정보
+    private SearchType[] types = new SearchType[1024];
+    private long[] ids = new long[1024];
+    private String[] names = new String[1024];
+    private String[] imageUrls = new String[1024];
+    private double[] averageRatings = new double[1024];
+    private int[] ratingCounts = new int[1024];
+
+    private int slotCount;
+
+    private volatile boolean ready;
+
+    /**
+     * @param ids           정렬된 한 페이지 분량의 문서 ID
+     * @param totalElements 검색어와 일치하는 문서의 수
+     */
+    public record Result(List<Long> ids, long totalElements) {
+
+        /**
+         * ID로 조회한 엔티티를 검색 결과의 순서대로 정렬한다. 조회되지 않은 ID는 건너뛴다.
+         *
+         * @param entities 검색 결과의 ID로 조회한 엔티티
+         * @param idGetter 엔티티의 ID를 얻는 함수
+         * @return 정렬된 엔티티
+         */
+        public <T> List<T> sort(Iterable<T> entities, Function<T, Long> idGetter) {
+            Map<Long, T> entityById = new HashMap<>();
+            for (T entity : entities) {
+                entityById.put(idGetter.apply(entity), entity);
+            }
+
+            List<T> sorted = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                T entity = entityById.get(id);
+                if (entity != null) {
+                    sorted.add(entity);
+                }
+            }
+            return sorted;
+        }
+    }
+
+    /**
+     * 색인에서 한 종류의 문서를 제목과 이름으로 검색한다.
+     *
+     * @param keyword  검색어
+     * @param type     검색할 문서의 종류
+     * @param sortBy   정렬 기준 (id, rating, ratingCount)
+     * @param page     페이지 번호 (1부터 시작)
+     * @param pageSize 페이지 크기
+     * @return 검색 결과. 색인이 아직 준비되지 않았다면 빈 값
+     */
+    public Optional<Result> search(String keyword, SearchType type, String sortBy, int page, int pageSize) {
+        if (!ready || page < 1 || pageSize < 1) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Comparator<Integer> order = getOrder(sortBy);
+            int offset = (page - 1) * pageSize;
+            int limit = offset + pageSize;
+
+            // 정렬 순서상 가장 뒤에 있는 슬롯이 맨 위에 오는 힙에 limit개까지만 남깁니다.
+            PriorityQueue<Integer> topSlots = new PriorityQueue<>(order.reversed());
+            long[] totalElements = {0};
+            nameIndex.forEachMatch(keyword, slot -> this.types[slot] == type, slot -> {
+                totalElements[0]++;
+                collect(topSlots, slot, limit, order);
+            });
+
+            List<Integer> sortedSlots = new ArrayList<>(topSlots);
+            sortedSlots.sort(order);
+            List<Long> pageIds = new ArrayList<>(pageSize);
+            for (int i = offset; i < sortedSlots.size(); i++) {
+                pageIds.add(ids[sortedSlots.get(i)]);
+            }
+            return Optional.of(new Result(pageIds, totalElements[0]));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 여러 종류의 문서를 제목과 이름으로 한번에 검색해서 관련도 순으로 돌려준다.
+     * 검색어와 전체가 일치하는 문서, 앞부분이 일치하는 문서, 중간에 포함된 문서 순이며,
+     * 같은 순위에서는 리뷰가 많은 문서, 이름이 짧은 문서 순으로 정렬한다.
+     *
+     * @param keyword 검색어
+     * @param types   검색할 문서의 종류
+     * @param size    돌려줄 결과의 최대 개수
+     * @return 검색 결과. 색인이 아직 준비되지 않았다면 빈 값
+     */
+    public Optional<SearchResponse> searchAll(String keyword, Set<SearchType> types, int size) {
+        if (!ready || size < 1) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Comparator<Hit> relevance = Comparator.comparingInt(Hit::tier).reversed()
+                    .thenComparing(Comparator.comparingInt((Hit hit) -> ratingCounts[hit.slot()]).reversed())
+                    .thenComparingInt(Hit::unmatchedLength)
+                    .thenComparingLong(hit -> ids[hit.slot()])
+                    .thenComparing(hit -> this.types[hit.slot()]);
+
+            long[] counts = new long[SearchType.values().length];
+            PriorityQueue<Hit> topHits = new PriorityQueue<>(relevance.reversed());
+            nameIndex.forEachMatch(keyword,
+                    slot -> types.contains(this.types[slot]),
+                    (slot, before, after) -> {
+                        counts[this.types[slot].ordinal()]++;
+                        Hit hit = new Hit(slot, before == 0 ? (after == 0 ? 3 : 2) : 1, before + after);
+                        if (topHits.size() < size) {
+                            topHits.add(hit);
+                        } else if (relevance.compare(hit, topHits.peek()) < 0) {
+                            topHits.poll();
+                            topHits.add(hit);
+                        }
+                    });
+
+            List<Hit> sortedHits = new ArrayList<>(topHits);
+            sortedHits.sort(relevance);
+            List<SearchHitResponse> items = new ArrayList<>(sortedHits.size());
+            for (Hit hit : sortedHits) {
+                int slot = hit.slot();
+                items.add(new SearchHitResponse(this.types[slot], ids[slot], names[slot], imageUrls[slot],
+                        averageRatings[slot], ratingCounts[slot]));
+            }
+
+            Map<SearchType, Long> countsByType = new EnumMap<>(SearchType.class);
+            long totalItems = 0;
+            for (SearchType type : types) {
+                countsByType.put(type, counts[type.ordinal()]);
+                totalItems += counts[type.ordinal()];
+            }
+            return Optional.of(new SearchResponse(items, countsByType, totalItems));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인을 만드는 동안 도착한 이벤트가 더 최신 정보이므로, 이미 색인된 문서는 덮어쓰지 않습니다.
+    void load(List<SearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            for (SearchDocument document : documents) {
+                put(document, false);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 모든 문서를 읽은 뒤에 호출되며, 이후로 검색 결과를 돌려줍니다.
+    void markReady() {
+        ready = true;
+    }
+
+    // 문서를 저장하거나 수정한 트랜잭션이 커밋되면 색인에 반영합니다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentsChanged(SearchIndexEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (SearchDocument document : event.documents()) {
+                put(document, true);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(SearchDocument document, boolean replace) {
+        Map<Long, Integer> slotById = slotsByType.computeIfAbsent(document.type(), type -> new HashMap<>());
+
+        Integer slot = slotById.get(document.id());
+        if (slot != null) {
+            if (!replace) {
+                return;
+            }
+            // 이미 색인된 문서는 같은 슬롯을 사용하고, 제목이나 이름이 바뀐 경우에만 다시 색인합니다.
+            // (리뷰로 평점만 바뀐 경우에는 함께 보여주는 값만 바꿉니다.)
+            if (!Objects.equals(names[slot], document.name())) {
+                nameIndex.replace(slot, document.name());
+            }
+            setValues(slot, document);
+            return;
+        }
+
+        int newSlot = slotCount++;
+        ensureCapacity(slotCount);
+        types[newSlot] = document.type();
+        ids[newSlot] = document.id();
+        setValues(newSlot, document);
+        nameIndex.add(newSlot, document.name());
+        slotById.put(document.id(), newSlot);
+    }
+
+    private void setValues(int slot, SearchDocument document) {
+        names[slot] = document.name();
+        imageUrls[slot] = document.imageUrl();
+        averageRatings[slot] = document.averageRating();
+        ratingCounts[slot] = document.ratingCount();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newLength = Math.max(ids.length * 2, capacity);
+        types = Arrays.copyOf(types, newLength);
+        ids = Arrays.copyOf(ids, newLength);
+        names = Arrays.copyOf(names, newLength);
+        imageUrls = Arrays.copyOf(imageUrls, newLength);
+        averageRatings = Arrays.copyOf(averageRatings, newLength);
+        ratingCounts = Arrays.copyOf(ratingCounts, newLength);
+    }
+
+    private void collect(PriorityQueue<Integer> topSlots, int slot, int limit, Comparator<Integer> order) {
+        if (topSlots.size() < limit) {
+            topSlots.add(slot);
+        } else if (order.compare(slot, topSlots.peek()) < 0) {
+            topSlots.poll();
+            topSlots.add(slot);
+        }
+    }
+
+    /**
+     * 통합 검색에서 일치한 문서.
+     *
+     * @param tier            일치한 정도 (3: 전체 일치, 2: 앞부분 일치, 1: 부분 일치)
+     * @param unmatchedLength 검색어와 일치하지 않은 나머지 글자 수
+     */
+    private record Hit(int slot, int tier, int unmatchedLength) {
+    }
+
+    // 목록 조회와 같은 정렬 기준을 사용하고, 같은 값이면 ID 순서로 정렬합니다.
+    private Comparator<Integer> getOrder(String sortBy) {
+        Comparator<Integer> byId = Comparator.comparingLong(slot -> ids[slot]);
+        return switch (sortBy) {
+            case "id" -> byId;
+            case "rating" -> Comparator.<Integer>comparingDouble(slot -> averageRatings[slot]).reversed().thenComparing(byId);
+            case "ratingCount" -> Comparator.<Integer>comparingInt(slot -> ratingCounts[slot]).reversed().thenComparing(byId);
+            default -> throw new IllegalArgumentException("잘못된 정렬 기준입니다: " + sortBy);
+        };
+    }
+}
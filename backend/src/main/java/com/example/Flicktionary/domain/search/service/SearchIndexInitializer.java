@@ -0,0 +1,80 @@
+package com.example.Flicktionary.domain.search.service;
+
+import com.example.Flicktionary.domain.actor.repository.ActorRepository;
+import com.example.Flicktionary.domain.director.repository.DirectorRepository;
+import com.example.Flicktionary.domain.movie.repository.MovieRepository;
+import com.example.Flicktionary.domain.search.dto.SearchDocument;
+import com.example.Flicktionary.domain.series.repository.SeriesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 애플리케이션이 시작되면 저장된 문서를 한번만 읽어서 검색 색인과 자동완성 색인을 함께 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private final MovieRepository movieRepository;
+    private final SeriesRepository seriesRepository;
+    private final ActorRepository actorRepository;
+    private final DirectorRepository directorRepository;
+    private final SearchIndex searchIndex;
+    private final AutocompleteIndex autocompleteIndex;
+
+    // 애플리케이션이 시작되면 별도의 스레드에서 색인을 만듭니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        Thread.ofVirtual()
+                .name("search-index")
+                .start(this::build);
+    }
+
+    // 저장된 모든 문서를 종류별로 ID 순서대로 나누어 읽어 색인합니다.
+    void build() {
+        try {
+            long startedAt = System.nanoTime();
+            int indexed = build(movieRepository::findByIdGreaterThanOrderById, SearchDocument::new)
+                    + build(seriesRepository::findByIdGreaterThanOrderById, SearchDocument::new)
+                    + build(actorRepository::findByIdGreaterThanOrderById, SearchDocument::new)
+                    + build(directorRepository::findByIdGreaterThanOrderById, SearchDocument::new);
+
+            searchIndex.markReady();
+            autocompleteIndex.markReady();
+            log.info("검색 색인 생성 완료: {}건, {}ms", indexed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (RuntimeException e) {
+            log.warn("검색 색인 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    private <T> int build(BiFunction<Long, Pageable, List<T>> finder, Function<T, SearchDocument> mapper) {
+        long lastId = 0;
+        int indexed = 0;
+        while (true) {
+            List<T> entities = finder.apply(lastId, PageRequest.of(0, BATCH_SIZE));
+            if (entities.isEmpty()) {
+                return indexed;
+            }
+
+            List<SearchDocument> documents = entities.stream().map(mapper).toList();
+            searchIndex.load(documents);
+            autocompleteIndex.load(documents);
+
+            lastId = documents.getLast().id();
+            indexed += documents.size();
+        }
+    }
+}
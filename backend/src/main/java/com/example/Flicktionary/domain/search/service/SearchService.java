@@ -0,0 +1,66 @@
+package com.example.Flicktionary.domain.search.service;
+
+import com.example.Flicktionary.domain.search.dto.SearchHitResponse;
+import com.example.Flicktionary.domain.search.dto.SearchResponse;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 영화, 시리즈, 배우, 감독을 하나의 색인에서 한번에 검색하거나, 입력중인 검색어를 자동완성한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private static final int MAX_SIZE = 50;
+
+    private final SearchIndex searchIndex;
+    private final AutocompleteIndex autocompleteIndex;
+
+    // 검색어와 일치하는 문서를 종류에 상관없이 관련도 순으로 조회합니다. DB는 조회하지 않습니다.
+    public SearchResponse search(String keyword, List<SearchType> types, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ServiceException(HttpStatus.BAD_REQUEST.value(), "검색 결과 개수는 1 이상 %d 이하로 지정해야 합니다.".formatted(MAX_SIZE));
+        }
+
+        if (keyword.isBlank()) {
+            return new SearchResponse(List.of(), Map.of(), 0);
+        }
+
+        return searchIndex.searchAll(keyword, getSearchTypes(types), size)
+                .orElseThrow(this::notReady);
+    }
+
+    // 입력중인 검색어로 시작하는 제목과 이름을 리뷰가 많은 순서로 조회합니다. DB는 조회하지 않습니다.
+    public List<SearchHitResponse> autocomplete(String keyword, List<SearchType> types, int size) {
+        if (size < 1 || size > AutocompleteIndex.MAX_SIZE) {
+            throw new ServiceException(HttpStatus.BAD_REQUEST.value(), "자동완성 결과 개수는 1 이상 %d 이하로 지정해야 합니다.".formatted(AutocompleteIndex.MAX_SIZE));
+        }
+
+        if (keyword.isBlank()) {
+            return List.of();
+        }
+
+        return autocompleteIndex.complete(keyword, getSearchTypes(types), size)
+                .orElseThrow(this::notReady);
+    }
+
+    // 종류를 지정하지 않았다면 모든 종류를 검색합니다.
+    private Set<SearchType> getSearchTypes(List<SearchType> types) {
+        return types == null || types.isEmpty()
+                ? EnumSet.allOf(SearchType.class)
+                : EnumSet.copyOf(types);
+    }
+
+    private ServiceException notReady() {
+        return new ServiceException(HttpStatus.SERVICE_UNAVAILABLE.value(), "검색 색인을 준비중입니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -1,13 +1,16 @@
 package com.example.Flicktionary.domain.series.controller;
 
-import com.example.Flicktionary.domain.series.dto.SeriesDetailResponse;
+import com.example.Flicktionary.domain.series.dto.SeriesDetailApiResponse;
 import com.example.Flicktionary.domain.series.dto.SeriesSummaryResponse;
-import com.example.Flicktionary.domain.series.entity.Series;
 import com.example.Flicktionary.domain.series.service.SeriesService;
+import com.example.Flicktionary.global.cache.CacheNames;
+import com.example.Flicktionary.global.cache.JsonResponseCache;
 import com.example.Flicktionary.global.dto.PageDto;
 import com.example.Flicktionary.global.dto.ResponseDto;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 public class SeriesController {
 
     private final SeriesService seriesService;
+    private final JsonResponseCache jsonResponseCache;
 
     //Series 목록 조회(페이징, 정렬)
     @GetMapping
@@ -26,15 +30,14 @@ public class SeriesController {
             @RequestParam(defaultValue = "10") int pageSize,
             @RequestParam(defaultValue = "id") String sortBy) {
 
-        Page<Series> series = seriesService.getSeries(keyword, page, pageSize, sortBy);
-        PageDto<SeriesSummaryResponse> pageDto = new PageDto<>(series.map(SeriesSummaryResponse::new));
+        PageDto<SeriesSummaryResponse> pageDto = new PageDto<>(seriesService.getSeries(keyword, page, pageSize, sortBy));
         return ResponseEntity.ok(ResponseDto.ok(pageDto));
     }
 
-    //Series 상세 목록 조회
+    //Series 상세 목록 조회. 직렬화된 응답을 캐시하고, If-None-Match가 ETag와 같다면 본문 없이 304로 응답
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = SeriesDetailApiResponse.class)))
     @GetMapping("/{id}")
-    public ResponseEntity<ResponseDto<SeriesDetailResponse>> getSeriesDetail(@PathVariable Long id) throws InterruptedException {
-        SeriesDetailResponse seriesDto = seriesService.getSeriesDetail(id);
-        return ResponseEntity.ok(ResponseDto.ok(seriesDto));
+    public ResponseEntity<byte[]> getSeriesDetail(@PathVariable Long id) {
+        return jsonResponseCache.get(CacheNames.SERIES_DETAIL, id, () -> ResponseDto.ok(seriesService.getSeriesDetail(id)));
     }
 }
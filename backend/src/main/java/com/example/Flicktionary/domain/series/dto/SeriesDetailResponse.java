@@ -50,6 +50,21 @@ public class SeriesDetailResponse {
     private DirectorDto director;
 
     public SeriesDetailResponse(Series series) {
+        this(series,
+                Optional.ofNullable(series.getGenres())
+                        .orElseGet(Collections::emptyList)
+                        .stream()
+                        .map(GenreDto::new)
+                        .toList(),
+                Optional.ofNullable(series.getCasts())
+                        .orElseGet(Collections::emptyList)
+                        .stream()
+                        .map(SeriesCastDto::new)
+                        .toList());
+    }
+
+    // 장르와 출연진을 따로 조회한 경우 사용합니다. 시리즈의 컬렉션은 읽지 않습니다.
+    public SeriesDetailResponse(Series series, List<GenreDto> genres, List<SeriesCastDto> casts) {
         this.id = series.getId();
         this.tmdbId = series.getTmdbId();
         this.title = series.getTitle();
@@ -64,17 +79,8 @@ public class SeriesDetailResponse {
         this.releaseEndDate = series.getReleaseEndDate();
         this.status = series.getStatus();
 
-        this.genres = Optional.ofNullable(series.getGenres())
-                .orElseGet(Collections::emptyList)
-                .stream()
-                .map(GenreDto::new)
-                .toList();
-
-        this.casts = Optional.ofNullable(series.getCasts())
-                .orElseGet(Collections::emptyList)
-                .stream()
-                .map(SeriesCastDto::new)
-                .toList();
+        this.genres = genres;
+        this.casts = casts;
 
         this.director = series.getDirector() != null ? new DirectorDto(series.getDirector()) : null;
     }
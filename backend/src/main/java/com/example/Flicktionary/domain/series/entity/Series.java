@@ -4,6 +4,7 @@ import com.example.Flicktionary.domain.director.entity.Director;
 import com.example.Flicktionary.domain.genre.entity.Genre;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -15,9 +16,13 @@ import java.util.List;
 @Builder
 @Getter
 @Setter
+// 바뀐 컬럼만 UPDATE 합니다.
+// 평점 컬럼은 RatingAggregator가 SQL로 더하므로, TMDB 동기화가 예전에 읽은 평점으로 덮어쓰지 않도록 합니다.
+@DynamicUpdate
 public class Series {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "series_seq")
+    @SequenceGenerator(name = "series_seq", sequenceName = "series_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true)
@@ -48,6 +53,9 @@ public class Series {
 
     private int ratingCount;
 
+    // 평점의 합계. 평균은 리뷰가 바뀔 때마다 합계와 개수로 다시 계산한다.
+    private long ratingSum;
+
     @Builder.Default
     @ManyToMany
     @JoinTable(
@@ -1,11 +1,19 @@
 package com.example.Flicktionary.domain.series.repository;
 
+import com.example.Flicktionary.domain.actor.dto.ActorSeriesDto;
 import com.example.Flicktionary.domain.series.entity.SeriesCast;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface SeriesCastRepository extends JpaRepository<SeriesCast, Long> {
 
-    List<SeriesCast> findSeriesByActorId(Long actorId);
+    // 배우가 출연한 시리즈를 방영 시작일 최신순으로 가져옵니다. 시작일이 없는 시리즈는 마지막에 옵니다.
+    // 한 시리즈에 여러 배역으로 출연했더라도 한번만 담깁니다.
+    @Query("SELECT DISTINCT new com.example.Flicktionary.domain.actor.dto.ActorSeriesDto(s.id, s.title, s.posterPath, s.releaseStartDate, s.releaseEndDate) " +
+            "FROM SeriesCast c JOIN c.series s " +
+            "WHERE c.actor.id = :actorId " +
+            "ORDER BY s.releaseStartDate DESC NULLS LAST, s.id")
+    List<ActorSeriesDto> findFilmographyByActorId(Long actorId);
 }
@@ -1,14 +1,19 @@
 package com.example.Flicktionary.domain.series.repository;
 
+import com.example.Flicktionary.domain.director.dto.DirectorSeriesDto;
+import com.example.Flicktionary.domain.genre.dto.GenreDto;
+import com.example.Flicktionary.domain.series.dto.SeriesSummaryResponse;
 import com.example.Flicktionary.domain.series.entity.Series;
+import com.example.Flicktionary.domain.series.entity.SeriesCast;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -16,16 +21,53 @@ import java.util.Set;
 @Repository
 public interface SeriesRepository extends JpaRepository<Series, Long> {
 
-    @EntityGraph(attributePaths = {"director", "casts", "casts.actor"})
-    Optional<Series> findById(Long id);
+    // 상세 조회는 컬렉션을 함께 fetch join하지 않고 시리즈, 장르, 출연진을 각각 조회합니다.
+    // 컬렉션을 한 쿼리로 가져오면 행이 장르 수 x 출연진 수만큼 늘어나기 때문입니다.
+    @Query("SELECT s FROM Series s LEFT JOIN FETCH s.director WHERE s.id = :id")
+    Optional<Series> findByIdWithDirector(@Param("id") Long id);
+
+    @Query("SELECT new com.example.Flicktionary.domain.genre.dto.GenreDto(g.id, g.name) " +
+            "FROM Series s JOIN s.genres g WHERE s.id = :id ORDER BY g.id")
+    List<GenreDto> findGenresById(@Param("id") Long id);
+
+    @Query("SELECT c FROM SeriesCast c JOIN FETCH c.actor WHERE c.series.id = :id ORDER BY c.id")
+    List<SeriesCast> findCastsById(@Param("id") Long id);
 
     Optional<Series> findByTmdbId(Long tmdbId);
 
-    @Query("SELECT s FROM Series s WHERE s.title LIKE CONCAT('%', :keyword, '%')")
-    Page<Series> findByTitleLike(@Param("keyword") String keyword, Pageable pageable);
+    // 목록 조회는 엔티티 대신 목록에 필요한 컬럼만 DTO로 가져옵니다. (줄거리, 연관관계는 읽지 않음)
+    @Query(value = "SELECT new com.example.Flicktionary.domain.series.dto.SeriesSummaryResponse(s.id, s.tmdbId, s.title, s.posterPath, s.averageRating, s.ratingCount) " +
+            "FROM Series s WHERE s.title LIKE CONCAT('%', :keyword, '%')",
+            countQuery = "SELECT COUNT(s) FROM Series s WHERE s.title LIKE CONCAT('%', :keyword, '%')")
+    Page<SeriesSummaryResponse> findByTitleLike(@Param("keyword") String keyword, Pageable pageable);
+
+    // 검색 색인이 찾은 ID의 목록 정보를 한번에 가져옵니다. 순서는 보장하지 않습니다.
+    @Query("SELECT new com.example.Flicktionary.domain.series.dto.SeriesSummaryResponse(s.id, s.tmdbId, s.title, s.posterPath, s.averageRating, s.ratingCount) " +
+            "FROM Series s WHERE s.id IN :ids")
+    List<SeriesSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 
-    List<Series> findByDirectorId(Long directorId);
+    // 감독의 시리즈를 방영 시작일 최신순으로 가져옵니다. 시작일이 없는 시리즈는 마지막에 옵니다.
+    @Query("SELECT new com.example.Flicktionary.domain.director.dto.DirectorSeriesDto(s.id, s.title, s.posterPath, s.releaseStartDate, s.releaseEndDate) " +
+            "FROM Series s WHERE s.director.id = :directorId " +
+            "ORDER BY s.releaseStartDate DESC NULLS LAST, s.id")
+    List<DirectorSeriesDto> findFilmographyByDirectorId(@Param("directorId") Long directorId);
 
     @Query("SELECT s.tmdbId FROM Series s")
     Set<Long> findAllTmdbIds();
-}
\ No newline at end of file
+
+    List<Series> findAllByTmdbIdIn(Collection<Long> tmdbIds);
+
+    // 검색 색인을 만들 때 ID 순서대로 나누어 읽습니다.
+    List<Series> findByIdGreaterThanOrderById(Long id, Pageable pageable);
+
+    // 평점의 변화량을 읽지 않고 한 문장으로 더합니다.
+    // 평균을 가장 먼저 계산해야 MySQL(왼쪽부터 차례로 적용)과 다른 DB(모두 이전 값 사용)에서 결과가 같습니다.
+    @Modifying
+    @Query("UPDATE Series s SET " +
+            "s.averageRating = CASE WHEN s.ratingCount + :countDelta > 0 " +
+            "THEN (s.ratingSum + :ratingDelta) * 1.0 / (s.ratingCount + :countDelta) ELSE 0.0 END, " +
+            "s.ratingSum = s.ratingSum + :ratingDelta, " +
+            "s.ratingCount = s.ratingCount + :countDelta " +
+            "WHERE s.id = :id")
+    int applyRatingDelta(@Param("id") Long id, @Param("ratingDelta") long ratingDelta, @Param("countDelta") int countDelta);
+}
@@ -1,43 +1,57 @@
 package com.example.Flicktionary.domain.series.service;
 
-import com.example.Flicktionary.domain.actor.entity.Actor;
-import com.example.Flicktionary.domain.actor.repository.ActorRepository;
-import com.example.Flicktionary.domain.director.entity.Director;
-import com.example.Flicktionary.domain.director.repository.DirectorRepository;
-import com.example.Flicktionary.domain.genre.entity.Genre;
-import com.example.Flicktionary.domain.genre.repository.GenreRepository;
+import com.example.Flicktionary.domain.director.event.DirectorFilmographyEvent;
+import com.example.Flicktionary.domain.search.dto.SearchDocument;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.domain.search.event.SearchIndexEvent;
+import com.example.Flicktionary.domain.search.service.SearchIndex;
+import com.example.Flicktionary.domain.series.dto.SeriesCastDto;
 import com.example.Flicktionary.domain.series.dto.SeriesDetailResponse;
+import com.example.Flicktionary.domain.series.dto.SeriesSummaryResponse;
 import com.example.Flicktionary.domain.series.entity.Series;
 import com.example.Flicktionary.domain.series.entity.SeriesCast;
 import com.example.Flicktionary.domain.series.repository.SeriesRepository;
+import com.example.Flicktionary.domain.tmdb.dto.TmdbChangesResponse;
 import com.example.Flicktionary.domain.tmdb.dto.TmdbSeriesResponseWithDetail;
+import com.example.Flicktionary.domain.tmdb.service.TmdbIngestionPipeline;
+import com.example.Flicktionary.domain.tmdb.service.TmdbReferenceDataResolver;
 import com.example.Flicktionary.domain.tmdb.service.TmdbService;
 import com.example.Flicktionary.global.exception.ServiceException;
+import com.example.Flicktionary.global.utils.LongHashSet;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.ObjIntConsumer;
 
 @Service
 @RequiredArgsConstructor
 public class SeriesService {
     private final SeriesRepository seriesRepository;
-    private final GenreRepository genreRepository;
-    private final ActorRepository actorRepository;
-    private final DirectorRepository directorRepository;
     private final TmdbService tmdbService;
+    private final TmdbIngestionPipeline tmdbIngestionPipeline;
+    private final TmdbReferenceDataResolver tmdbReferenceDataResolver;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
     private final String BASE_IMAGE_URL = "https://image.tmdb.org/t/p";
 
     //Series 목록 조회(검색, 페이징, 정렬)
     @Transactional(readOnly = true)
-    public Page<Series> getSeries(String keyword, int page, int pageSize, String sortBy) {
+    public Page<SeriesSummaryResponse> getSeries(String keyword, int page, int pageSize, String sortBy) {
         Sort sort = getSort(sortBy);
 
         if (page < 1) {
@@ -45,6 +59,16 @@ public class SeriesService {
         }
 
         Pageable pageable = PageRequest.of(page - 1, pageSize, sort);
+
+        // 검색어가 있으면 검색 색인에서 한 페이지 분량의 ID만 찾은 뒤 조회합니다.
+        if (!keyword.isBlank()) {
+            Optional<SearchIndex.Result> result = searchIndex.search(keyword, SearchType.SERIES, sortBy, page, pageSize);
+            if (result.isPresent()) {
+                List<SeriesSummaryResponse> series = result.get().sort(seriesRepository.findSummariesByIdIn(result.get().ids()), SeriesSummaryResponse::getId);
+                return new PageImpl<>(series, pageable, result.get().totalElements());
+            }
+        }
+
         return seriesRepository.findByTitleLike(keyword, pageable);
     }
 
@@ -60,90 +84,215 @@ public class SeriesService {
     //Series 상세 조회
     @Transactional(readOnly = true)
     public SeriesDetailResponse getSeriesDetail(Long id) {
-        Series series = seriesRepository.findById(id)
+        // 시리즈와 감독, 장르, 출연진을 각각 한번씩 조회합니다. 출연진이 늘어나도 쿼리는 세 번입니다.
+        Series series = seriesRepository.findByIdWithDirector(id)
                 .orElseThrow(() -> new ServiceException(HttpStatus.NOT_FOUND.value(), "%d번 시리즈를 찾을 수 없습니다.".formatted(id)));
 
-        return new SeriesDetailResponse(series);
+        return new SeriesDetailResponse(series,
+                seriesRepository.findGenresById(id),
+                seriesRepository.findCastsById(id).stream().map(SeriesCastDto::new).toList());
     }
 
-    @Transactional
+    // tmdb api를 이용해서 시리즈 정보를 받아와 저장합니다.
+    // 목록/상세 조회는 파이프라인에서 동시에 진행되고, 저장은 페이지 단위의 트랜잭션으로 나누어 커밋합니다.
     public void fetchAndSaveSeries(int pages) {
-        List<Series> seriesToSave = new ArrayList<>();
-        Map<Long, Genre> genreCache = new HashMap<>();
-        Map<Long, Actor> actorCache = new HashMap<>();
-        Map<Long, Director> directorCache = new HashMap<>();
+        fetchAndSaveSeries(1, pages, Set.of(), () -> false, (page, saved) -> {
+        });
+    }
 
-        for (int i = 1; i <= pages; i++) {
-            List<TmdbSeriesResponseWithDetail> seriesDtos = tmdbService.fetchSeries(i);
+    // 주어진 범위의 페이지 중 skippedPages를 뺀 페이지를 수집합니다. 중지가 요청되면 저장한 페이지까지만 반영하고 false를 반환합니다.
+    // onPageSaved는 페이지를 저장한 트랜잭션 안에서 저장한 시리즈의 수와 함께 호출되므로, 진행 상황을 같이 커밋할 수 있습니다.
+    public boolean fetchAndSaveSeries(int fromPage,
+                                      int toPage,
+                                      Set<Integer> skippedPages,
+                                      BooleanSupplier stopRequested,
+                                      ObjIntConsumer<TmdbIngestionPipeline.PageResult<?>> onPageSaved) {
+        // 이미 저장된 ID는 수집을 시작할 때 한번만 조회하고, 페이지가 커밋될 때마다 추가합니다.
+        LongHashSet stagedTmdbIds = LongHashSet.of(seriesRepository.findAllTmdbIds());
 
-            // 기존 시리즈 ID를 미리 조회하여 중복 방지
-            Set<Long> existingSeriesIds = seriesRepository.findAllTmdbIds();
+        return tmdbIngestionPipeline.run(fromPage, toPage, skippedPages,
+                tmdbService::fetchSeriesIds,
+                tmdbService::fetchSeries,
+                page -> transactionTemplate.executeWithoutResult(status ->
+                        onPageSaved.accept(page, saveSeries(page.items(), stagedTmdbIds))),
+                stopRequested);
+    }
 
-            for (TmdbSeriesResponseWithDetail seriesDto : seriesDtos) {
-                if (existingSeriesIds.contains(seriesDto.tmdbId()) ||
-                        seriesToSave.stream().anyMatch(s -> s.getTmdbId().equals(seriesDto.tmdbId()))) {
-                    continue; // 이미 존재하는 시리즈면 스킵
-                }
+    // 기간 내에 TMDB에서 변경된 시리즈 중 이미 저장된 시리즈의 정보만 다시 받아와 갱신합니다.
+    // 변경 목록의 페이지마다 하나의 트랜잭션으로 커밋하며, 갱신한 시리즈의 수를 반환합니다.
+    // 받아오지 못한 변경 목록 페이지나 상세 정보가 있으면, 다음 동기화에서 같은 기간을 다시 받도록 예외를 던집니다.
+    public int syncChangedSeries(LocalDate startDate, LocalDate endDate) {
+        TmdbChangesResponse firstPage = tmdbService.fetchSeriesChanges(startDate, endDate, 1);
+        if (firstPage == null || firstPage.results() == null) {
+            return 0;
+        }
 
-                Series series = Series.builder()
-                        .tmdbId(seriesDto.tmdbId())
-                        .title(seriesDto.title())
-                        .overview(seriesDto.overview())
-                        .releaseStartDate(seriesDto.releaseStartDate() == null || seriesDto.releaseStartDate().isEmpty()
-                                ? null : LocalDate.parse(seriesDto.releaseStartDate()))
-                        .releaseEndDate(seriesDto.releaseEndDate() == null || seriesDto.releaseEndDate().isEmpty()
-                                ? null : LocalDate.parse(seriesDto.releaseEndDate()))
-                        .status(seriesDto.status())
-                        .posterPath(seriesDto.posterPath() == null ? null : BASE_IMAGE_URL + "/w342" + seriesDto.posterPath())
-                        .episodeNumber(seriesDto.numberOfEpisodes())
-                        .productionCountry(seriesDto.productionCountries().isEmpty() ? null : seriesDto.productionCountries().get(0).name())
-                        .productionCompany(seriesDto.productionCompanies().isEmpty() ? null : seriesDto.productionCompanies().get(0).name())
-                        .build();
-
-                // 장르 저장 (캐싱 활용)
-                for (TmdbSeriesResponseWithDetail.TmdbGenre tmdbGenre : seriesDto.genres()) {
-                    Genre genre = genreCache.computeIfAbsent(tmdbGenre.id(), id ->
-                            genreRepository.findById(id)
-                                    .orElseGet(() -> genreRepository.save(new Genre(id, tmdbGenre.name()))));
-                    series.getGenres().add(genre);
-                }
+        // 변경 목록에는 저장하지 않은 시리즈가 대부분이므로, 상세 조회 전에 걸러냅니다.
+        LongHashSet existingSeriesIds = LongHashSet.of(seriesRepository.findAllTmdbIds());
+        int[] updated = {0};
+        int[] failures = {0};
 
-                // 배우 저장 (캐싱 활용)
-                for (TmdbSeriesResponseWithDetail.TmdbActor tmdbActor : seriesDto.credits().cast().stream().limit(5).toList()) {
-                    Actor actor = actorCache.computeIfAbsent(tmdbActor.id(), id ->
-                            actorRepository.findById(id)
-                                    .orElseGet(() -> actorRepository.save(new Actor(id, tmdbActor.name(),
-                                            tmdbActor.profilePath() == null ? null : BASE_IMAGE_URL + "/w185" + tmdbActor.profilePath()))));
-
-                    SeriesCast seriesCast = SeriesCast.builder()
-                            .series(series)
-                            .actor(actor)
-                            .characterName(tmdbActor.character())
-                            .build();
-                    series.getCasts().add(seriesCast);
-                }
+        tmdbIngestionPipeline.run(1, Math.max(1, firstPage.totalPages()),
+                page -> (page == 1 ? firstPage : tmdbService.fetchSeriesChanges(startDate, endDate, page))
+                        .results().stream()
+                        .map(TmdbChangesResponse.TmdbChange::id)
+                        .filter(existingSeriesIds::contains)
+                        .toList(),
+                tmdbService::fetchSeries,
+                page -> {
+                    failures[0] += page.failures();
+                    updated[0] += transactionTemplate.execute(status -> updateSeries(page.items()));
+                });
+
+        if (failures[0] > 0) {
+            throw new RuntimeException("시리즈 변경 내역 중 %d건의 요청이 실패했습니다.".formatted(failures[0]));
+        }
+        return updated[0];
+    }
 
-                // 감독 저장 (캐싱 활용)
-                for (TmdbSeriesResponseWithDetail.TmdbCrew crew : seriesDto.credits().crew()) {
-                    if (crew.job().equalsIgnoreCase("Director")) {
-                        Director director = directorCache.computeIfAbsent(crew.id(), id ->
-                                directorRepository.findById(id)
-                                        .orElseGet(() -> directorRepository.save(new Director(id, crew.name(),
-                                                crew.profilePath() == null ? null : BASE_IMAGE_URL + "/w185" + crew.profilePath()))));
-                        series.setDirector(director);
-
-                        if (!director.getSeries().contains(series)) {
-                            director.getSeries().add(series);
-                        }
-                    }
+    // 한 페이지 분량의 시리즈를 저장하고, 저장한 시리즈의 수를 반환합니다.
+    // stagedTmdbIds에 없는 시리즈만 저장하며, 저장한 시리즈의 ID는 트랜잭션이 커밋된 뒤에 stagedTmdbIds에 추가됩니다.
+    private int saveSeries(List<TmdbSeriesResponseWithDetail> seriesDtos, LongHashSet stagedTmdbIds) {
+        List<TmdbSeriesResponseWithDetail> newSeriesDtos = new ArrayList<>();
+        LongHashSet pageTmdbIds = new LongHashSet(seriesDtos.size());
+        for (TmdbSeriesResponseWithDetail seriesDto : seriesDtos) {
+            // 같은 페이지에 같은 ID가 두번 있더라도 한번만 저장합니다.
+            if (!stagedTmdbIds.contains(seriesDto.tmdbId()) && pageTmdbIds.add(seriesDto.tmdbId())) {
+                newSeriesDtos.add(seriesDto); // 이미 존재하는 시리즈는 스킵
+            }
+        }
+        if (newSeriesDtos.isEmpty()) {
+            return 0;
+        }
+
+        // 페이지가 롤백되면 이후 페이지에서 같은 시리즈를 다시 저장할 수 있도록, 커밋된 뒤에만 저장한 ID로 기록합니다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (TmdbSeriesResponseWithDetail seriesDto : newSeriesDtos) {
+                    stagedTmdbIds.add(seriesDto.tmdbId());
                 }
+            }
+        });
+
+        // 장르, 배우, 감독은 페이지 단위로 모아서 한번에 저장합니다.
+        resolveReferences(newSeriesDtos);
+
+        List<Series> seriesToSave = new ArrayList<>(newSeriesDtos.size());
+        for (TmdbSeriesResponseWithDetail seriesDto : newSeriesDtos) {
+            Series series = Series.builder()
+                    .tmdbId(seriesDto.tmdbId())
+                    .build();
+            applyTmdbDetail(series, seriesDto);
+
+            seriesToSave.add(series);
+        }
+
+        seriesRepository.saveAll(seriesToSave);
+        publishIndexEvent(seriesToSave, new HashSet<>());
+        return seriesToSave.size();
+    }
+
+    // 한 페이지 분량의 변경된 시리즈 정보로 저장된 시리즈를 갱신합니다.
+    private int updateSeries(List<TmdbSeriesResponseWithDetail> seriesDtos) {
+        if (seriesDtos.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, TmdbSeriesResponseWithDetail> dtoByTmdbId = new HashMap<>();
+        for (TmdbSeriesResponseWithDetail seriesDto : seriesDtos) {
+            dtoByTmdbId.put(seriesDto.tmdbId(), seriesDto);
+        }
+
+        resolveReferences(seriesDtos);
 
-                seriesToSave.add(series);
+        List<Series> seriesList = seriesRepository.findAllByTmdbIdIn(dtoByTmdbId.keySet());
+        // 감독이 바뀌면 이전 감독의 출연작 목록에서도 빠지므로, 갱신 전의 감독도 모아둡니다.
+        Set<Long> previousDirectorIds = new HashSet<>();
+        for (Series series : seriesList) {
+            if (series.getDirector() != null) {
+                previousDirectorIds.add(series.getDirector().getId());
             }
+            // 장르와 출연진은 새로 받은 정보로 교체합니다.
+            series.getGenres().clear();
+            series.getCasts().clear();
+            applyTmdbDetail(series, dtoByTmdbId.get(series.getTmdbId()));
         }
+        publishIndexEvent(seriesList, previousDirectorIds);
+
+        return seriesList.size();
+    }
+
+    // 트랜잭션이 커밋되면 검색 색인과 감독의 출연작 목록에 반영되도록 이벤트를 발행합니다.
+    private void publishIndexEvent(List<Series> seriesList, Set<Long> directorIds) {
+        eventPublisher.publishEvent(new SearchIndexEvent(seriesList.stream()
+                .map(SearchDocument::new)
+                .toList()));
 
-        if (!seriesToSave.isEmpty()) {
-            seriesRepository.saveAll(seriesToSave);
+        for (Series series : seriesList) {
+            if (series.getDirector() != null) {
+                directorIds.add(series.getDirector().getId());
+            }
+        }
+        if (!directorIds.isEmpty()) {
+            eventPublisher.publishEvent(new DirectorFilmographyEvent(directorIds));
+        }
+    }
+
+    // 시리즈 정보에 포함된 장르, 배우, 감독 중 DB에 없는 것을 한번에 저장합니다.
+    private void resolveReferences(List<TmdbSeriesResponseWithDetail> seriesDtos) {
+        TmdbReferenceDataResolver.Batch batch = new TmdbReferenceDataResolver.Batch();
+        for (TmdbSeriesResponseWithDetail seriesDto : seriesDtos) {
+            for (TmdbSeriesResponseWithDetail.TmdbGenre tmdbGenre : seriesDto.genres()) {
+                batch.addGenre(tmdbGenre.id(), tmdbGenre.name());
+            }
+            for (TmdbSeriesResponseWithDetail.TmdbActor tmdbActor : seriesDto.credits().cast().stream().limit(5).toList()) {
+                batch.addActor(tmdbActor.id(), tmdbActor.name(),
+                        tmdbActor.profilePath() == null ? null : BASE_IMAGE_URL + "/w185" + tmdbActor.profilePath());
+            }
+            for (TmdbSeriesResponseWithDetail.TmdbCrew crew : seriesDto.credits().crew()) {
+                if (crew.job().equalsIgnoreCase("Director")) {
+                    batch.addDirector(crew.id(), crew.name(),
+                            crew.profilePath() == null ? null : BASE_IMAGE_URL + "/w185" + crew.profilePath());
+                }
+            }
+        }
+        tmdbReferenceDataResolver.resolve(batch);
+    }
+
+    // TMDB 상세 정보를 시리즈 엔티티에 반영합니다. 평점과 평점 수는 리뷰로 관리되므로 건드리지 않습니다.
+    private void applyTmdbDetail(Series series, TmdbSeriesResponseWithDetail seriesDto) {
+        series.setTitle(seriesDto.title());
+        series.setOverview(seriesDto.overview());
+        series.setReleaseStartDate(seriesDto.releaseStartDate() == null || seriesDto.releaseStartDate().isEmpty()
+                ? null : LocalDate.parse(seriesDto.releaseStartDate()));
+        series.setReleaseEndDate(seriesDto.releaseEndDate() == null || seriesDto.releaseEndDate().isEmpty()
+                ? null : LocalDate.parse(seriesDto.releaseEndDate()));
+        series.setStatus(seriesDto.status());
+        series.setPosterPath(seriesDto.posterPath() == null ? null : BASE_IMAGE_URL + "/w342" + seriesDto.posterPath());
+        series.setEpisodeNumber(seriesDto.numberOfEpisodes());
+        series.setProductionCountry(seriesDto.productionCountries().isEmpty() ? null : seriesDto.productionCountries().get(0).name());
+        series.setProductionCompany(seriesDto.productionCompanies().isEmpty() ? null : seriesDto.productionCompanies().get(0).name());
+
+        // 장르, 배우, 감독은 resolveReferences에서 저장되었으므로 조회 없이 참조만 연결합니다.
+        for (TmdbSeriesResponseWithDetail.TmdbGenre tmdbGenre : seriesDto.genres()) {
+            series.getGenres().add(tmdbReferenceDataResolver.genre(tmdbGenre.id()));
+        }
+
+        for (TmdbSeriesResponseWithDetail.TmdbActor tmdbActor : seriesDto.credits().cast().stream().limit(5).toList()) {
+            SeriesCast seriesCast = SeriesCast.builder()
+                    .series(series)
+                    .actor(tmdbReferenceDataResolver.actor(tmdbActor.id()))
+                    .characterName(tmdbActor.character())
+                    .build();
+            series.getCasts().add(seriesCast);
+        }
+
+        // 감독 쪽 컬렉션은 연관관계의 주인이 아니므로, 불러오지 않고 시리즈 쪽만 설정합니다.
+        for (TmdbSeriesResponseWithDetail.TmdbCrew crew : seriesDto.credits().crew()) {
+            if (crew.job().equalsIgnoreCase("Director")) {
+                series.setDirector(tmdbReferenceDataResolver.director(crew.id()));
+            }
         }
     }
 }
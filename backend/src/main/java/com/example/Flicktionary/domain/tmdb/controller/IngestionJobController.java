@@ -0,0 +1,54 @@
+package com.example.Flicktionary.domain.tmdb.controller;
+
+import com.example.Flicktionary.domain.tmdb.dto.IngestionJobRequest;
+import com.example.Flicktionary.domain.tmdb.dto.IngestionJobResponse;
+import com.example.Flicktionary.domain.tmdb.service.IngestionJobService;
+import com.example.Flicktionary.global.dto.ResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/ingestion-jobs")
+@Tag(name = "TMDB 수집 작업 API", description = "관리자용 TMDB 수집 작업 API입니다.")
+public class IngestionJobController {
+    private final IngestionJobService ingestionJobService;
+
+    @Operation(summary = "수집 작업 목록 조회", description = "최근에 만든 순서로 수집 작업의 진행 상황을 조회합니다.")
+    @GetMapping
+    public ResponseEntity<ResponseDto<List<IngestionJobResponse>>> getJobs() {
+        return ResponseEntity.ok(ResponseDto.ok(ingestionJobService.getJobs()));
+    }
+
+    @Operation(summary = "수집 작업 조회", description = "수집 작업의 진행 상황을 조회합니다. (완료한 페이지, 초당 저장 수, 오류 수)")
+    @GetMapping("/{id}")
+    public ResponseEntity<ResponseDto<IngestionJobResponse>> getJob(@PathVariable long id) {
+        return ResponseEntity.ok(ResponseDto.ok(ingestionJobService.getJob(id)));
+    }
+
+    @Operation(summary = "수집 작업 시작", description = "TMDB 인기 목록의 1페이지부터 지정한 페이지까지 수집하는 작업을 시작합니다.")
+    @PostMapping
+    public ResponseEntity<ResponseDto<IngestionJobResponse>> startJob(@RequestBody IngestionJobRequest request) {
+        IngestionJobResponse response = ingestionJobService.startJob(request.target(), request.pages());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ResponseDto.of(HttpStatus.CREATED.value() + "", HttpStatus.CREATED.getReasonPhrase(), response));
+    }
+
+    @Operation(summary = "수집 작업 중지", description = "실행중인 수집 작업을 멈춥니다. 저장중인 페이지가 커밋된 뒤에 멈춥니다.")
+    @PostMapping("/{id}/pause")
+    public ResponseEntity<ResponseDto<IngestionJobResponse>> pauseJob(@PathVariable long id) {
+        return ResponseEntity.ok(ResponseDto.ok("수집 작업 중지를 요청했습니다.", ingestionJobService.pauseJob(id)));
+    }
+
+    @Operation(summary = "수집 작업 재개", description = "멈춘 수집 작업을 마지막으로 커밋된 페이지 다음부터 다시 실행합니다.")
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<ResponseDto<IngestionJobResponse>> resumeJob(@PathVariable long id) {
+        return ResponseEntity.ok(ResponseDto.ok(ingestionJobService.resumeJob(id)));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.Flicktionary.domain.tmdb.dto;
+
+import com.example.Flicktionary.domain.tmdb.entity.IngestionTarget;
+
+/**
+ * 수집 작업 생성 요청.
+ *
+ * @param target 수집할 콘텐츠의 종류
+ * @param pages  수집할 TMDB 목록 페이지 수 (1페이지부터)
+ */
+public record IngestionJobRequest(
+        IngestionTarget target,
+        int pages
+) {
+}
@@ -0,0 +1,32 @@
+package com.example.Flicktionary.domain.tmdb.dto;
+
+import com.example.Flicktionary.domain.tmdb.entity.IngestionJob;
+import com.example.Flicktionary.domain.tmdb.entity.IngestionJobStatus;
+import com.example.Flicktionary.domain.tmdb.entity.IngestionTarget;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@Getter
+public class IngestionJobResponse {
+    private final Long id;
+    private final IngestionTarget target;
+    private final IngestionJobStatus status;
+    private final int totalPages;
+    private final int pagesCompleted;
+    private final int lastCommittedPage;
+    private final long titlesSaved;
+    private final double titlesPerSecond;
+    private final long failures;
+    private final String lastError;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public IngestionJobResponse(IngestionJob job) {
+        this(job.getId(), job.getTarget(), job.getStatus(), job.getToPage(), job.getPagesCompleted(),
+                job.getLastCommittedPage(), job.getTitlesSaved(), job.getTitlesPerSecond(), job.getFailures(),
+                job.getLastError(), job.getCreatedAt(), job.getUpdatedAt());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.Flicktionary.domain.tmdb.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record TmdbChangesResponse(
+        List<TmdbChange> results,
+        int page,
+        @JsonProperty("total_pages") int totalPages
+) {
+    public record TmdbChange(Long id) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.Flicktionary.domain.tmdb.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * TMDB 목록 페이지를 차례로 수집하는 작업.
+ * 페이지를 저장하는 트랜잭션에서 진행 상황을 함께 커밋하므로,
+ * 작업이 중간에 멈추더라도 마지막으로 커밋된 페이지 이후부터 이어서 수집할 수 있다.
+ * 여러 서버가 떠 있어도 작업은 DB에서 조건부 UPDATE로 가져간 한 서버에서만 실행된다.
+ */
+@Entity
+@Table(name = "ingestion_job", uniqueConstraints = {
+        @UniqueConstraint(name = "unique_ingestion_job_active_target", columnNames = "active_target")
+})
+@DynamicUpdate
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestionJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private IngestionTarget target;
+
+    /**
+     * 수집할 마지막 목록 페이지. 첫 페이지는 항상 1이다.
+     */
+    @Column(nullable = false)
+    private int toPage;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private IngestionJobStatus status;
+
+    /**
+     * 실행중인 작업의 수집 대상. 실행중이 아니면 {@code null}이다.
+     * unique 제약이 걸려 있으므로 여러 서버가 동시에 시작하거나 재개해도 같은 대상의 작업은 하나만 실행된다.
+     * ({@code null}끼리는 unique 제약에 걸리지 않는다.)
+     */
+    @Enumerated(EnumType.STRING)
+    private IngestionTarget activeTarget;
+
+    /**
+     * 작업을 실행하고 있는 서버. 실행중이 아니면 {@code null}이다.
+     */
+    @Column(length = 64)
+    private String owner;
+
+    /**
+     * 작업을 실행하는 서버가 마지막으로 살아있음을 알린 시간.
+     * 오래 갱신되지 않으면 실행하던 서버가 종료된 것으로 보고 다른 서버가 작업을 가져가서 이어서 수집한다.
+     */
+    private LocalDateTime heartbeatAt;
+
+    /**
+     * 중지가 요청되었는지 여부. 작업을 실행하는 서버가 페이지를 저장할 때와 heartbeat를 갱신할 때 확인한다.
+     */
+    private boolean pauseRequested;
+
+    /**
+     * 이 페이지까지는 모든 페이지가 커밋되었다. 다시 시작하면 다음 페이지부터 수집한다.
+     */
+    private int lastCommittedPage;
+
+    /**
+     * {@link #lastCommittedPage} 이후에 먼저 커밋된 페이지. 다시 시작하면 이 페이지들은 건너뛴다.
+     */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "ingestion_job_page_ahead", joinColumns = @JoinColumn(name = "ingestion_job_id"))
+    @Column(name = "page_number")
+    @Builder.Default
+    private Set<Integer> pagesAhead = new HashSet<>();
+
+    /**
+     * 커밋된 페이지의 수. 페이지는 완료된 순서대로 저장되므로 {@link #lastCommittedPage}보다 클 수 있다.
+     */
+    private int pagesCompleted;
+
+    /**
+     * 새로 저장한 콘텐츠의 수.
+     */
+    private long titlesSaved;
+
+    /**
+     * 실패한 TMDB 요청의 수.
+     */
+    private long failures;
+
+    /**
+     * 작업이 실제로 실행된 시간(ms). 멈춰 있던 시간은 포함하지 않는다.
+     */
+    private long activeMillis;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    /**
+     * 초당 저장한 콘텐츠의 수.
+     */
+    public double getTitlesPerSecond() {
+        return activeMillis == 0 ? 0 : titlesSaved * 1000.0 / activeMillis;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.Flicktionary.domain.tmdb.entity;
+
+/**
+ * 수집 작업의 상태.
+ */
+public enum IngestionJobStatus {
+    /**
+     * 페이지를 수집하고 있는 중.
+     */
+    RUNNING,
+    /**
+     * 관리자의 요청으로 멈춘 상태. 마지막으로 커밋된 페이지 이후부터 다시 시작할 수 있다.
+     */
+    PAUSED,
+    /**
+     * 저장 단계의 오류로 멈춘 상태. 마지막으로 커밋된 페이지 이후부터 다시 시작할 수 있다.
+     */
+    FAILED,
+    /**
+     * 모든 페이지를 수집한 상태.
+     */
+    COMPLETED
+}
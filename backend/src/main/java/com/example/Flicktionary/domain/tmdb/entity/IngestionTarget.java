@@ -0,0 +1,9 @@
+package com.example.Flicktionary.domain.tmdb.entity;
+
+/**
+ * TMDB에서 수집할 콘텐츠의 종류.
+ */
+public enum IngestionTarget {
+    MOVIE,
+    SERIES
+}
@@ -0,0 +1,38 @@
+package com.example.Flicktionary.domain.tmdb.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * TMDB 변경 내역 동기화가 어디까지 진행되었는지를 기록하는 엔티티.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TmdbSyncState {
+
+    public static final String MOVIE = "MOVIE";
+
+    public static final String SERIES = "SERIES";
+
+    /**
+     * 동기화 대상 (MOVIE, SERIES).
+     */
+    @Id
+    private String target;
+
+    /**
+     * 마지막으로 동기화를 시작한 시각. 다음 동기화는 이 시각 이후의 변경 내역을 가져온다.
+     */
+    @Column(nullable = false)
+    private LocalDateTime lastSyncedAt;
+}
@@ -0,0 +1,58 @@
+package com.example.Flicktionary.domain.tmdb.repository;
+
+import com.example.Flicktionary.domain.tmdb.entity.IngestionJob;
+import com.example.Flicktionary.domain.tmdb.entity.IngestionJobStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface IngestionJobRepository extends JpaRepository<IngestionJob, Long> {
+    List<IngestionJob> findAllByOrderByIdDesc();
+
+    // 진행 상황을 기록하거나 작업을 끝낼 때 행을 잠그고 가져옴
+    // 다른 서버가 작업을 가져가는 UPDATE와 겹치지 않으므로, 소유한 서버만 진행 상황을 기록할 수 있다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM IngestionJob j WHERE j.id = :id")
+    Optional<IngestionJob> findByIdForUpdate(Long id);
+
+    // 실행중인데 실행하는 서버가 없거나, 실행하는 서버의 heartbeat가 staleBefore 이전에 끊긴 작업
+    @Query("SELECT j.id FROM IngestionJob j WHERE j.status = :running " +
+            "AND (j.owner IS NULL OR j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+    List<Long> findOrphanedIds(IngestionJobStatus running, LocalDateTime staleBefore);
+
+    // 버려진 작업을 가져옴. 여러 서버가 동시에 시도해도 조건을 만족하는 한 서버만 1을 반환받는다.
+    @Modifying
+    @Query("UPDATE IngestionJob j SET j.owner = :owner, j.heartbeatAt = :now " +
+            "WHERE j.id = :id AND j.status = :running " +
+            "AND (j.owner IS NULL OR j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+    int claim(Long id, String owner, IngestionJobStatus running, LocalDateTime now, LocalDateTime staleBefore);
+
+    // 소유한 작업의 heartbeat를 갱신함. 다른 서버가 작업을 가져갔다면 0을 반환한다.
+    @Modifying
+    @Query("UPDATE IngestionJob j SET j.heartbeatAt = :now " +
+            "WHERE j.id = :id AND j.owner = :owner AND j.status = :running")
+    int renewHeartbeat(Long id, String owner, IngestionJobStatus running, LocalDateTime now);
+
+    // 실행중인 작업에 중지를 요청함. 실행중이 아니라면 0을 반환한다.
+    @Modifying
+    @Query("UPDATE IngestionJob j SET j.pauseRequested = true, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status = :running")
+    int requestPause(Long id, IngestionJobStatus running, LocalDateTime now);
+
+    // 멈춘 작업을 다시 실행중으로 바꾸고 owner가 가져감. 재개할 수 없는 상태라면 0을 반환한다.
+    // 같은 대상의 작업이 이미 실행중이라면 activeTarget의 unique 제약에 걸려 실패한다.
+    @Modifying
+    @Query("UPDATE IngestionJob j SET j.status = :running, j.activeTarget = j.target, j.owner = :owner, " +
+            "j.heartbeatAt = :now, j.pauseRequested = false, j.lastError = NULL, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status IN :resumable")
+    int resume(Long id, Collection<IngestionJobStatus> resumable, IngestionJobStatus running, String owner, LocalDateTime now);
+
+    boolean existsByIdAndPauseRequestedTrue(Long id);
+}
@@ -0,0 +1,7 @@
+package com.example.Flicktionary.domain.tmdb.repository;
+
+import com.example.Flicktionary.domain.tmdb.entity.TmdbSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TmdbSyncStateRepository extends JpaRepository<TmdbSyncState, String> {
+}
@@ -0,0 +1,316 @@
+package com.example.Flicktionary.domain.tmdb.service;
+
+import com.example.Flicktionary.domain.movie.service.MovieService;
+import com.example.Flicktionary.domain.series.service.SeriesService;
+import com.example.Flicktionary.domain.tmdb.dto.IngestionJobResponse;
+import com.example.Flicktionary.domain.tmdb.entity.IngestionJob;
+import com.example.Flicktionary.domain.tmdb.entity.IngestionJobStatus;
+import com.example.Flicktionary.domain.tmdb.entity.IngestionTarget;
+import com.example.Flicktionary.domain.tmdb.repository.IngestionJobRepository;
+import com.example.Flicktionary.global.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * TMDB 수집 작업을 시작, 중지, 재개하고 진행 상황을 조회한다.
+ * 작업은 가상 스레드에서 실행되며, 페이지를 저장할 때마다 같은 트랜잭션에서 진행 상황을 커밋한다.
+ * 여러 서버가 떠 있으면 작업은 DB에서 조건부 UPDATE로 가져간 서버에서만 실행되고,
+ * 실행하던 서버의 heartbeat가 끊기면 다른 서버가 가져가서 마지막으로 커밋된 페이지 다음부터 이어서 수집한다.
+ * TMDB 요청이 실패한 페이지는 커밋된 페이지로 기록하지 않으므로, 작업을 재개하면 그 페이지들을 다시 수집한다.
+ */
+@Slf4j
+@Service
+public class IngestionJobService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final Set<IngestionJobStatus> RESUMABLE = EnumSet.of(IngestionJobStatus.PAUSED, IngestionJobStatus.FAILED);
+
+    private final IngestionJobRepository ingestionJobRepository;
+    private final MovieService movieService;
+    private final SeriesService seriesService;
+    private final TransactionTemplate transactionTemplate;
+
+    // heartbeat가 이 시간(ms) 이상 갱신되지 않은 작업은 다른 서버가 가져갈 수 있습니다.
+    private final long leaseMillis;
+
+    // 작업의 owner로 기록되는 이 서버의 ID
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 이 서버에서 실행중인 작업 ID -> 중지 요청 여부
+    private final Map<Long, AtomicBoolean> runningJobs = new ConcurrentHashMap<>();
+
+    public IngestionJobService(IngestionJobRepository ingestionJobRepository,
+                               MovieService movieService,
+                               SeriesService seriesService,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${tmdb.ingestion.lease-ms}") long leaseMillis) {
+        this.ingestionJobRepository = ingestionJobRepository;
+        this.movieService = movieService;
+        this.seriesService = seriesService;
+        this.transactionTemplate = transactionTemplate;
+        this.leaseMillis = leaseMillis;
+    }
+
+    @Transactional(readOnly = true)
+    public List<IngestionJobResponse> getJobs() {
+        return ingestionJobRepository.findAllByOrderByIdDesc().stream()
+                .map(IngestionJobResponse::new)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public IngestionJobResponse getJob(long id) {
+        return new IngestionJobResponse(findJob(id));
+    }
+
+    // 새 수집 작업을 만들고 바로 실행합니다. 같은 종류의 작업은 동시에 하나만 실행할 수 있습니다.
+    public IngestionJobResponse startJob(IngestionTarget target, int pages) {
+        if (target == null || pages < 1) {
+            throw new ServiceException(HttpStatus.BAD_REQUEST.value(), "수집 대상과 1 이상의 페이지 수를 지정해야 합니다.");
+        }
+
+        IngestionJob job;
+        try {
+            // 같은 대상의 작업이 실행중이라면 activeTarget의 unique 제약에 걸려 저장되지 않습니다.
+            job = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                return ingestionJobRepository.saveAndFlush(IngestionJob.builder()
+                        .target(target)
+                        .toPage(pages)
+                        .status(IngestionJobStatus.RUNNING)
+                        .activeTarget(target)
+                        .owner(instanceId)
+                        .heartbeatAt(now)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build());
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw alreadyRunning(target);
+        }
+
+        launch(job.getId());
+        return new IngestionJobResponse(job);
+    }
+
+    // 실행중인 작업에 중지를 요청합니다. 작업을 실행하는 서버가 요청을 확인하고, 저장중인 페이지가 커밋된 뒤에 PAUSED 상태가 됩니다.
+    public IngestionJobResponse pauseJob(long id) {
+        if (!updated(status -> ingestionJobRepository.requestPause(id, IngestionJobStatus.RUNNING, LocalDateTime.now()))) {
+            findJob(id);
+            throw new ServiceException(HttpStatus.CONFLICT.value(), "%d번 수집 작업은 실행중이 아닙니다.".formatted(id));
+        }
+
+        // 이 서버에서 실행중이라면 다음 페이지를 기다리지 않고 바로 멈춥니다.
+        AtomicBoolean stopRequested = runningJobs.get(id);
+        if (stopRequested != null) {
+            stopRequested.set(true);
+        }
+        return getJob(id);
+    }
+
+    // 멈춘 작업을 마지막으로 커밋된 페이지 다음부터 다시 실행합니다.
+    public IngestionJobResponse resumeJob(long id) {
+        boolean resumed;
+        try {
+            resumed = updated(status -> ingestionJobRepository.resume(
+                    id, RESUMABLE, IngestionJobStatus.RUNNING, instanceId, LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            throw alreadyRunning(findJob(id).getTarget());
+        }
+        if (!resumed) {
+            findJob(id);
+            throw new ServiceException(HttpStatus.CONFLICT.value(), "%d번 수집 작업은 재개할 수 없는 상태입니다.".formatted(id));
+        }
+
+        launch(id);
+        return getJob(id);
+    }
+
+    // 이 서버에서 실행중인 작업의 heartbeat를 갱신하고, 다른 서버에서 들어온 중지 요청을 확인합니다.
+    // 그 다음 실행하던 서버가 종료되어 버려진 작업을 가져와서 이어서 수집합니다. (서버를 다시 시작한 경우도 포함)
+    @Scheduled(fixedDelayString = "${tmdb.ingestion.heartbeat-ms}")
+    public void heartbeat() {
+        try {
+            runningJobs.forEach((id, stopRequested) -> {
+                boolean owned = updated(status ->
+                        ingestionJobRepository.renewHeartbeat(id, instanceId, IngestionJobStatus.RUNNING, LocalDateTime.now()));
+                // 다른 서버가 작업을 가져갔다면 더 수집하지 않습니다.
+                if (!owned || ingestionJobRepository.existsByIdAndPauseRequestedTrue(id)) {
+                    stopRequested.set(true);
+                }
+            });
+            claimOrphanedJobs();
+        } catch (RuntimeException e) {
+            log.warn("수집 작업 heartbeat 실패: {}", e.getMessage());
+        }
+    }
+
+    // 조건부 UPDATE로 가져오므로, 여러 서버가 동시에 시도해도 한 서버만 작업을 실행합니다.
+    void claimOrphanedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(leaseMillis, ChronoUnit.MILLIS);
+        for (Long id : ingestionJobRepository.findOrphanedIds(IngestionJobStatus.RUNNING, staleBefore)) {
+            if (runningJobs.containsKey(id)) {
+                continue;
+            }
+            if (updated(status -> ingestionJobRepository.claim(id, instanceId, IngestionJobStatus.RUNNING, now, staleBefore))) {
+                log.info("버려진 {}번 수집 작업을 가져와서 이어서 수집합니다.", id);
+                launch(id);
+            }
+        }
+    }
+
+    private void launch(long id) {
+        AtomicBoolean stopRequested = new AtomicBoolean();
+        if (runningJobs.putIfAbsent(id, stopRequested) != null) {
+            return;
+        }
+        Thread.ofVirtual()
+                .name("ingestion-job-" + id)
+                .start(() -> run(id, stopRequested));
+    }
+
+    // 작업을 끝까지, 혹은 중지가 요청될 때까지 실행합니다.
+    void run(long id, AtomicBoolean stopRequested) {
+        try {
+            IngestionJob job = ingestionJobRepository.findById(id).orElseThrow();
+            PageProgress progress = new PageProgress(job.getLastCommittedPage(), job.getPagesAhead());
+            long[] lastCheckpointNanos = {System.nanoTime()};
+
+            // 페이지를 저장한 트랜잭션 안에서 호출됩니다.
+            ObjIntConsumer<TmdbIngestionPipeline.PageResult<?>> checkpoint = (page, saved) -> {
+                // 목록 페이지를 받아오지 못했다면 TMDB 장애일 수 있으므로 더 수집하지 않고 멈춥니다.
+                // 이 페이지는 커밋된 페이지로 기록되지 않으므로, 재개하면 마지막으로 커밋된 페이지 다음부터 다시 수집합니다.
+                if (page.listFailed()) {
+                    throw new IllegalStateException("TMDB 목록 %d페이지를 가져오지 못했습니다.".formatted(page.page()));
+                }
+                long now = System.nanoTime();
+                IngestionJob current = ingestionJobRepository.findByIdForUpdate(id).orElseThrow();
+                // 다른 서버가 작업을 가져갔다면 이 페이지를 롤백하고 멈춥니다.
+                if (!instanceId.equals(current.getOwner())) {
+                    stopRequested.set(true);
+                    throw new IllegalStateException("%d번 수집 작업을 다른 서버가 실행하고 있습니다.".formatted(id));
+                }
+                if (current.isPauseRequested()) {
+                    stopRequested.set(true);
+                }
+                // 상세 정보를 받아오지 못한 콘텐츠가 있는 페이지는 받아온 콘텐츠만 저장하고 커밋된 페이지로 기록하지 않습니다.
+                // 재개하면 이 페이지를 다시 수집하며, 이미 저장된 콘텐츠는 건너뜁니다.
+                if (page.failures() == 0) {
+                    current.setLastCommittedPage(progress.complete(page.page()));
+                    current.getPagesAhead().retainAll(progress.pagesAhead());
+                    current.getPagesAhead().addAll(progress.pagesAhead());
+                    current.setPagesCompleted(progress.completedPages());
+                }
+                current.setTitlesSaved(current.getTitlesSaved() + saved);
+                current.setFailures(current.getFailures() + page.failures());
+                current.setActiveMillis(current.getActiveMillis() + TimeUnit.NANOSECONDS.toMillis(now - lastCheckpointNanos[0]));
+                current.setHeartbeatAt(LocalDateTime.now());
+                current.setUpdatedAt(LocalDateTime.now());
+                lastCheckpointNanos[0] = now;
+            };
+
+            // 먼저 커밋된 페이지는 다시 수집하지 않습니다.
+            int fromPage = job.getLastCommittedPage() + 1;
+            Set<Integer> skippedPages = Set.copyOf(job.getPagesAhead());
+            boolean completed = switch (job.getTarget()) {
+                case MOVIE -> movieService.fetchAndSaveMovies(fromPage, job.getToPage(), skippedPages, stopRequested::get, checkpoint);
+                case SERIES -> seriesService.fetchAndSaveSeries(fromPage, job.getToPage(), skippedPages, stopRequested::get, checkpoint);
+            };
+
+            if (!completed) {
+                finish(id, IngestionJobStatus.PAUSED, null);
+            } else if (progress.completedPages() < job.getToPage()) {
+                // 다시 수집해야 하는 페이지가 남았으므로, 재개할 수 있도록 실패로 기록합니다.
+                int retryPages = job.getToPage() - progress.completedPages();
+                finish(id, IngestionJobStatus.FAILED,
+                        "%d개 페이지의 일부 콘텐츠를 가져오지 못했습니다. 재개하면 이 페이지들을 다시 수집합니다.".formatted(retryPages));
+            } else {
+                finish(id, IngestionJobStatus.COMPLETED, null);
+            }
+        } catch (RuntimeException e) {
+            log.warn("{}번 수집 작업 실패: {}", id, e.getMessage());
+            finish(id, IngestionJobStatus.FAILED, e.getMessage());
+        } finally {
+            runningJobs.remove(id);
+        }
+    }
+
+    // 작업을 끝낸 상태를 기록합니다. 그 사이 다른 서버가 작업을 가져갔다면 그 서버의 상태를 덮어쓰지 않습니다.
+    private void finish(long id, IngestionJobStatus status, String error) {
+        transactionTemplate.executeWithoutResult(tx -> ingestionJobRepository.findByIdForUpdate(id)
+                .filter(job -> instanceId.equals(job.getOwner()))
+                .ifPresent(job -> {
+                    job.setStatus(status);
+                    job.setActiveTarget(null);
+                    job.setOwner(null);
+                    job.setHeartbeatAt(null);
+                    job.setPauseRequested(false);
+                    job.setLastError(error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH));
+                    job.setUpdatedAt(LocalDateTime.now());
+                }));
+    }
+
+    // 조건부 UPDATE를 트랜잭션에서 실행하고, 바뀐 행이 있는지 반환합니다.
+    private boolean updated(TransactionCallback<Integer> update) {
+        Integer count = transactionTemplate.execute(update);
+        return count != null && count > 0;
+    }
+
+    private IngestionJob findJob(long id) {
+        return ingestionJobRepository.findById(id)
+                .orElseThrow(() -> new ServiceException(HttpStatus.NOT_FOUND.value(), "%d번 수집 작업을 찾을 수 없습니다.".formatted(id)));
+    }
+
+    private static ServiceException alreadyRunning(IngestionTarget target) {
+        return new ServiceException(HttpStatus.CONFLICT.value(), "이미 실행중인 %s 수집 작업이 있습니다.".formatted(target));
+    }
+
+    /**
+     * 커밋된 페이지를 기록해서, 빠짐없이 커밋된 마지막 페이지를 계산한다.
+     * 페이지는 완료된 순서대로 커밋되므로 중간에 빈 페이지가 있을 수 있다.
+     */
+    static class PageProgress {
+        private int lastCommittedPage;
+
+        // lastCommittedPage 이후에 커밋된 페이지. 작업과 함께 저장되어 다시 시작해도 유지된다.
+        private final Set<Integer> pagesAhead = new HashSet<>();
+
+        PageProgress(int lastCommittedPage, Collection<Integer> pagesAhead) {
+            this.lastCommittedPage = lastCommittedPage;
+            this.pagesAhead.addAll(pagesAhead);
+        }
+
+        int complete(int page) {
+            pagesAhead.add(page);
+            while (pagesAhead.remove(lastCommittedPage + 1)) {
+                lastCommittedPage++;
+            }
+            return lastCommittedPage;
+        }
+
+        int completedPages() {
+            return lastCommittedPage + pagesAhead.size();
+        }
+
+        Set<Integer> pagesAhead() {
+            return pagesAhead;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.Flicktionary.domain.tmdb.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+
+/**
+ * TMDB 목록/상세 조회를 가상 스레드에서 동시에 수행하고,
+ * 페이지 단위로 모인 결과를 호출한 스레드의 저장 단계로 흘려보내는 수집 파이프라인.
+ */
+@Slf4j
+@Component
+public class TmdbIngestionPipeline {
+
+    /**
+     * 동시에 진행할 수 있는 TMDB 요청의 최대 개수.
+     */
+    private final int concurrency;
+
+    public TmdbIngestionPipeline(@Value("${tmdb.ingestion.concurrency}") int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * 주어진 범위의 목록 페이지를 동시에 조회하고, 각 페이지에 담긴 ID의 상세 정보를 다시 동시에 조회한다.
+     * 상세 조회가 모두 끝난 페이지부터 완료된 순서대로 {@code pageWriter}에 전달되며,
+     * {@code pageWriter}는 항상 이 메소드를 호출한 스레드에서 실행된다.
+     * 목록 페이지를 가져오지 못한 경우에도 {@link PageResult#listFailed()}가 {@code true}인 결과로 전달된다.
+     *
+     * @param fromPage      조회를 시작할 페이지 (포함)
+     * @param toPage        조회를 끝낼 페이지 (포함)
+     * @param idFetcher     목록 페이지 번호로 ID 목록을 가져오는 함수
+     * @param detailFetcher ID로 상세 정보를 가져오는 함수
+     * @param pageWriter    한 페이지 분량의 결과를 저장하는 함수
+     * @param <T>           상세 정보의 타입
+     */
+    public <T> void run(int fromPage,
+                        int toPage,
+                        IntFunction<List<Long>> idFetcher,
+                        LongFunction<T> detailFetcher,
+                        Consumer<PageResult<T>> pageWriter) {
+        run(fromPage, toPage, Set.of(), idFetcher, detailFetcher, pageWriter, () -> false);
+    }
+
+    /**
+     * {@link #run(int, int, IntFunction, LongFunction, Consumer)}와 같지만, {@code skippedPages}에 담긴 페이지는 조회하지 않고,
+     * 페이지를 저장할 때마다 {@code stopRequested}를 확인해서 중지가 요청되었다면 남은 요청을 취소하고 바로 반환한다.
+     * 이미 저장된 페이지는 그대로 유지된다.
+     *
+     * @param skippedPages  범위 안에서 이미 저장되어 건너뛸 페이지
+     * @param stopRequested 중지 요청 여부를 알려주는 함수
+     * @return 모든 페이지를 저장했다면 {@code true}, 중간에 중지되었다면 {@code false}
+     */
+    public <T> boolean run(int fromPage,
+                           int toPage,
+                           Set<Integer> skippedPages,
+                           IntFunction<List<Long>> idFetcher,
+                           LongFunction<T> detailFetcher,
+                           Consumer<PageResult<T>> pageWriter,
+                           BooleanSupplier stopRequested) {
+        Semaphore permits = new Semaphore(concurrency);
+        // 저장 단계가 느려도 결과가 쌓이지 않도록, 저장하지 않은 페이지는 동시 요청 수만큼만 진행한다.
+        BlockingQueue<PageResult<T>> completedPages = new ArrayBlockingQueue<>(concurrency);
+        List<Integer> pages = new ArrayList<>();
+        for (int page = fromPage; page <= toPage; page++) {
+            if (!skippedPages.contains(page)) {
+                pages.add(page);
+            }
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            int submittedPages = 0;
+            while (submittedPages < Math.min(concurrency, pages.size())) {
+                submitPage(executor, permits, completedPages, pages.get(submittedPages++), idFetcher, detailFetcher);
+            }
+
+            try {
+                for (int i = 0; i < pages.size(); i++) {
+                    if (stopRequested.getAsBoolean()) {
+                        executor.shutdownNow();
+                        return false;
+                    }
+                    PageResult<T> result = completedPages.take();
+                    // 한 페이지를 꺼낼 때마다 다음 페이지를 하나 요청하므로, 큐가 가득 차는 일은 없다.
+                    if (submittedPages < pages.size()) {
+                        submitPage(executor, permits, completedPages, pages.get(submittedPages++), idFetcher, detailFetcher);
+                    }
+                    pageWriter.accept(result);
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("TMDB 수집이 중단되었습니다.", e);
+            } catch (RuntimeException e) {
+                // 저장 단계가 실패하면 남은 요청을 더 보내지 않는다.
+                executor.shutdownNow();
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    private <T> void submitPage(ExecutorService executor,
+                                Semaphore permits,
+                                BlockingQueue<PageResult<T>> completedPages,
+                                int page,
+                                IntFunction<List<Long>> idFetcher,
+                                LongFunction<T> detailFetcher) {
+        executor.submit(() -> {
+            PageResult<T> result;
+            try {
+                result = fetchPage(executor, permits, page, idFetcher, detailFetcher);
+            } catch (RuntimeException e) {
+                // 어떤 경우에도 저장 단계가 페이지를 기다리며 멈추지 않도록 결과를 넘긴다.
+                log.warn("TMDB {}페이지 수집 실패: {}", page, e.getMessage());
+                result = PageResult.listFailure(page);
+            }
+            completedPages.add(result);
+        });
+    }
+
+    // 한 페이지의 ID 목록과 상세 정보를 가져옵니다. 실패한 요청은 건너뛰고 개수만 기록합니다.
+    private <T> PageResult<T> fetchPage(ExecutorService executor,
+                                        Semaphore permits,
+                                        int page,
+                                        IntFunction<List<Long>> idFetcher,
+                                        LongFunction<T> detailFetcher) {
+        List<Long> ids;
+        try {
+            ids = withPermit(permits, () -> idFetcher.apply(page));
+        } catch (Exception e) {
+            log.warn("TMDB 목록 {}페이지 조회 실패: {}", page, e.getMessage());
+            return PageResult.listFailure(page);
+        }
+
+        List<Future<T>> details = new ArrayList<>(ids.size());
+        try {
+            for (Long id : ids) {
+                details.add(executor.submit(() -> withPermit(permits, () -> detailFetcher.apply(id))));
+            }
+        } catch (RejectedExecutionException e) {
+            return new PageResult<>(page, List.of(), ids.size());
+        }
+
+        List<T> items = new ArrayList<>(details.size());
+        int failures = 0;
+        for (Future<T> detail : details) {
+            try {
+                T item = detail.get();
+                if (item != null) {
+                    items.add(item);
+                }
+            } catch (ExecutionException e) {
+                failures++;
+                log.warn("TMDB 상세 조회 실패 ({}페이지): {}", page, e.getCause().getMessage());
+            } catch (InterruptedException | CancellationException e) {
+                failures++;
+            }
+        }
+
+        return new PageResult<>(page, items, failures);
+    }
+
+    private static <R> R withPermit(Semaphore permits, Callable<R> call) throws Exception {
+        permits.acquire();
+        try {
+            return call.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 한 페이지 분량의 수집 결과.
+     *
+     * @param page       목록 페이지 번호
+     * @param items      상세 조회에 성공한 항목
+     * @param failures   실패한 요청의 수
+     * @param listFailed 목록 페이지를 가져오지 못했는지 여부. 이 경우 {@code items}는 비어 있지만, 실제로 빈 페이지는 아니다.
+     * @param <T>        상세 정보의 타입
+     */
+    public record PageResult<T>(
+            int page,
+            List<T> items,
+            int failures,
+            boolean listFailed
+    ) {
+        public PageResult(int page, List<T> items, int failures) {
+            this(page, items, failures, false);
+        }
+
+        static <T> PageResult<T> listFailure(int page) {
+            return new PageResult<>(page, List.of(), 1, true);
+        }
+    }
+}
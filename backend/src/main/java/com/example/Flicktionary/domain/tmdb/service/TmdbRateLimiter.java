@@ -0,0 +1,105 @@
+package com.example.Flicktionary.domain.tmdb.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 모든 TMDB 요청이 공유하는 토큰 버킷 방식의 요청 제한기.
+ * 토큰이 부족하면 먼저 토큰을 예약한 뒤, 예약한 토큰이 채워질 때까지 호출한 스레드를 재운다.
+ * 서버가 요청 제한을 알려오면 그 시점까지는 토큰을 채우지 않고 모든 요청을 기다리게 한다.
+ */
+@Component
+public class TmdbRateLimiter {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 초당 채워지는 토큰 수.
+     */
+    private final double permitsPerSecond;
+
+    /**
+     * 버킷에 쌓일 수 있는 최대 토큰 수.
+     */
+    private final double capacity;
+
+    /**
+     * 현재 남은 토큰 수. 예약된 토큰이 있으면 음수가 된다.
+     */
+    private double tokens;
+
+    private long lastRefillNanos;
+
+    /**
+     * 이 시점까지는 토큰을 채우지 않고 모든 요청이 기다린다.
+     */
+    private long blockedUntilNanos;
+
+    public TmdbRateLimiter(@Value("${tmdb.rate-limit.permits-per-second}") double permitsPerSecond,
+                           @Value("${tmdb.rate-limit.burst}") int burst) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+        this.blockedUntilNanos = lastRefillNanos;
+    }
+
+    /**
+     * 토큰을 하나 얻을 때까지 기다린다.
+     *
+     * @return 토큰을 얻기 위해 기다렸다면 {@code true}
+     * @throws InterruptedException 기다리는 도중 스레드가 인터럽트된 경우
+     */
+    public boolean acquire() throws InterruptedException {
+        long waitNanos;
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            refill(now);
+            tokens -= 1;
+            // 모자란 토큰은 멈춘 시간이 끝난 뒤부터 채워진다.
+            waitNanos = Math.max(0, blockedUntilNanos - now);
+            if (tokens < 0) {
+                waitNanos += (long) (-tokens / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+            }
+            if (waitNanos == 0) {
+                return false;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+        return true;
+    }
+
+    /**
+     * 서버가 요청 제한을 알려왔을때, 주어진 시간 동안 모든 요청이 토큰을 얻지 못하도록 멈춘다.
+     * 여러 요청이 동시에 제한을 알려와도 멈추는 시간은 더해지지 않고, 가장 늦게 끝나는 시점까지만 멈춘다.
+     *
+     * @param duration 요청을 멈출 시간
+     */
+    public void pause(Duration duration) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            refill(now);
+            blockedUntilNanos = Math.max(blockedUntilNanos, now + duration.toNanos());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 마지막으로 채운 시점 이후, 멈춘 시간을 뺀 만큼 토큰을 채웁니다.
+    private void refill(long now) {
+        long from = Math.max(lastRefillNanos, blockedUntilNanos);
+        if (now > from) {
+            tokens = Math.min(capacity, tokens + (now - from) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+        }
+        lastRefillNanos = Math.max(lastRefillNanos, now);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.Flicktionary.domain.tmdb.service;
+
+import com.example.Flicktionary.domain.actor.entity.Actor;
+import com.example.Flicktionary.domain.actor.repository.ActorRepository;
+import com.example.Flicktionary.domain.director.entity.Director;
+import com.example.Flicktionary.domain.director.repository.DirectorRepository;
+import com.example.Flicktionary.domain.genre.entity.Genre;
+import com.example.Flicktionary.domain.genre.repository.GenreRepository;
+import com.example.Flicktionary.domain.search.dto.SearchDocument;
+import com.example.Flicktionary.domain.search.event.SearchIndexEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * TMDB 수집 결과에 포함된 장르, 배우, 감독을 한번에 확인하고 없는 것만 한번에 저장한다.
+ * 한 배치에서 참조하는 엔티티마다 조회/저장을 반복하지 않고,
+ * 종류별로 IN 쿼리 한번과 JDBC 배치 INSERT 한번으로 처리한다.
+ * 저장이 확인된 ID는 프로세스가 끝날 때까지 기억해서 다음 배치에서는 조회하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TmdbReferenceDataResolver {
+
+    private final GenreRepository genreRepository;
+    private final ActorRepository actorRepository;
+    private final DirectorRepository directorRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // DB에 저장되어 있는 것이 확인된 ID
+    private final Set<Long> knownGenreIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> knownActorIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> knownDirectorIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 배치에 담긴 장르, 배우, 감독 중 DB에 없는 것을 저장한다.
+     * 진행중인 트랜잭션 안에서 호출해야 하며, 호출한 뒤에는 {@link #genre}, {@link #actor}, {@link #director}로
+     * 조회 쿼리 없이 연관관계에 사용할 엔티티를 얻을 수 있다.
+     *
+     * @param batch 저장할 수집 결과에서 모은 장르, 배우, 감독
+     */
+    public void resolve(Batch batch) {
+        Set<Long> newGenreIds = resolve(batch.genres, knownGenreIds, genreRepository, Genre::getId);
+        insertGenres(batch.genres, newGenreIds);
+
+        Set<Long> newActorIds = resolve(batch.actors, knownActorIds, actorRepository, Actor::getId);
+        insertActors(batch.actors, newActorIds);
+
+        Set<Long> newDirectorIds = resolve(batch.directors, knownDirectorIds, directorRepository, Director::getId);
+        insertDirectors(batch.directors, newDirectorIds);
+
+        publishIndexEvent(batch, newActorIds, newDirectorIds);
+    }
+
+    public Genre genre(long id) {
+        return genreRepository.getReferenceById(id);
+    }
+
+    public Actor actor(long id) {
+        return actorRepository.getReferenceById(id);
+    }
+
+    public Director director(long id) {
+        return directorRepository.getReferenceById(id);
+    }
+
+    // 아직 확인하지 않은 ID만 IN 쿼리로 조회하고, DB에 없어서 새로 저장해야 하는 ID를 반환합니다.
+    private <T> Set<Long> resolve(Map<Long, T> candidates,
+                                  Set<Long> knownIds,
+                                  JpaRepository<T, Long> repository,
+                                  Function<T, Long> idGetter) {
+        Set<Long> unknownIds = new HashSet<>();
+        for (Long id : candidates.keySet()) {
+            if (!knownIds.contains(id)) {
+                unknownIds.add(id);
+            }
+        }
+        if (unknownIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> newIds = new HashSet<>(unknownIds);
+        for (T existing : repository.findAllById(unknownIds)) {
+            Long id = idGetter.apply(existing);
+            newIds.remove(id);
+            knownIds.add(id);
+        }
+
+        // 새로 저장한 ID는 트랜잭션이 커밋된 뒤에만 확인된 것으로 기억합니다.
+        rememberAfterCommit(knownIds, newIds);
+        return newIds;
+    }
+
+    private void insertGenres(Map<Long, Genre> genres, Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = ids.stream()
+                .map(genres::get)
+                .map(genre -> new Object[]{genre.getId(), genre.getName()})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO genre (id, name) VALUES (?, ?)", rows);
+    }
+
+    private void insertActors(Map<Long, Actor> actors, Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = ids.stream()
+                .map(actors::get)
+                .map(actor -> new Object[]{actor.getId(), actor.getName(), actor.getProfilePath()})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO actor (id, name, profile_path) VALUES (?, ?, ?)", rows);
+    }
+
+    private void insertDirectors(Map<Long, Director> directors, Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = ids.stream()
+                .map(directors::get)
+                .map(director -> new Object[]{director.getId(), director.getName(), director.getProfilePath()})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO director (id, name, profile_path) VALUES (?, ?, ?)", rows);
+    }
+
+    // 새로 저장한 배우와 감독은 트랜잭션이 커밋되면 검색 색인에 반영합니다.
+    private void publishIndexEvent(Batch batch, Set<Long> newActorIds, Set<Long> newDirectorIds) {
+        if (newActorIds.isEmpty() && newDirectorIds.isEmpty()) {
+            return;
+        }
+        List<SearchDocument> documents = new ArrayList<>(newActorIds.size() + newDirectorIds.size());
+        for (Long id : newActorIds) {
+            documents.add(new SearchDocument(batch.actors.get(id)));
+        }
+        for (Long id : newDirectorIds) {
+            documents.add(new SearchDocument(batch.directors.get(id)));
+        }
+        eventPublisher.publishEvent(new SearchIndexEvent(documents));
+    }
+
+    private void rememberAfterCommit(Set<Long> knownIds, Set<Long> newIds) {
+        if (newIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            knownIds.addAll(newIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                knownIds.addAll(newIds);
+            }
+        });
+    }
+
+    /**
+     * 한 번에 확인할 장르, 배우, 감독을 모으는 객체. 같은 ID는 처음 추가된 정보만 사용한다.
+     */
+    public static class Batch {
+        private final Map<Long, Genre> genres = new LinkedHashMap<>();
+        private final Map<Long, Actor> actors = new LinkedHashMap<>();
+        private final Map<Long, Director> directors = new LinkedHashMap<>();
+
+        public void addGenre(Long id, String name) {
+            genres.putIfAbsent(id, new Genre(id, name));
+        }
+
+        public void addActor(Long id, String name, String profilePath) {
+            actors.putIfAbsent(id, new Actor(id, name, profilePath));
+        }
+
+        public void addDirector(Long id, String name, String profilePath) {
+            directors.putIfAbsent(id, new Director(id, name, profilePath));
+        }
+    }
+}
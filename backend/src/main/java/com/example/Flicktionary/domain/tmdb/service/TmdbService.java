@@ -1,116 +1,215 @@
 package com.example.Flicktionary.domain.tmdb.service;
 
 import com.example.Flicktionary.domain.tmdb.dto.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 public class TmdbService {
+    // 다시 시도할 수 있는 응답 코드 (요청 제한, 일시적인 서버 오류)
+    private static final Set<Integer> RETRYABLE_STATUS_CODES = Set.of(429, 500, 502, 503, 504);
+
     @Value("${tmdb.access-token}")
     private String accessToken;
-    private final RestClient restClient;
 
-    public TmdbService(RestClient.Builder builder) {
-        String BASE_URL = "https://api.themoviedb.org/3";
-        this.restClient = builder.baseUrl(BASE_URL).build();
-    }
+    // 요청 하나당 최대 시도 횟수 (첫 요청 포함)
+    @Value("${tmdb.retry.max-attempts}")
+    private int maxAttempts;
 
-    // tmdb api를 이용해서 인기 영화를 가져옵니다.
-    public List<TmdbMovieResponseWithDetail> fetchMovies(int page) {
-        String url = "/movie/popular?language=ko-KR&page=" + page;
-        List<Long> movieIds = getMovies(url);
+    // 첫번째 재시도의 기본 대기 시간(ms). 재시도할 때마다 두 배가 된다.
+    @Value("${tmdb.retry.base-delay-millis}")
+    private long baseDelayMillis;
 
-        return movieIds.stream().map(this::fetchMovie).toList();
-    }
+    // 재시도 대기 시간의 상한(ms)
+    @Value("${tmdb.retry.max-delay-millis}")
+    private long maxDelayMillis;
 
-    private List<Long> getMovies(String url) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", accessToken);
-
-            TmdbMoviesResponse response = restClient.get()
-                    .uri(url)
-                    .headers(h -> h.addAll(headers))
-                    .retrieve()
-                    .body(TmdbMoviesResponse.class);
+    private final RestClient restClient;
+    private final TmdbRateLimiter rateLimiter;
+    private final Counter clientThrottledCounter;
+    private final Counter serverThrottledCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    // 테스트에서는 로컬 스텁 서버의 주소로 교체할 수 있습니다.
+    public TmdbService(RestClient.Builder builder,
+                       @Value("${tmdb.base-url}") String baseUrl,
+                       TmdbRateLimiter rateLimiter,
+                       MeterRegistry meterRegistry) {
+        this.restClient = builder.baseUrl(baseUrl).build();
+        this.rateLimiter = rateLimiter;
+        this.clientThrottledCounter = Counter.builder("tmdb.requests.throttled")
+                .description("요청 제한으로 대기한 TMDB 요청 수")
+                .tag("source", "client")
+                .register(meterRegistry);
+        this.serverThrottledCounter = Counter.builder("tmdb.requests.throttled")
+                .description("요청 제한으로 대기한 TMDB 요청 수")
+                .tag("source", "server")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("tmdb.requests.retried")
+                .description("다시 시도한 TMDB 요청 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("tmdb.requests.failed")
+                .description("재시도 후에도 실패한 TMDB 요청 수")
+                .register(meterRegistry);
+    }
 
-            if (response == null || response.getResults() == null) {
-                throw new RuntimeException("TMDB API 응답 내용이 없습니다.");
-            }
+    // tmdb api를 이용해서 인기 영화 목록 한 페이지의 ID를 가져옵니다.
+    public List<Long> fetchMovieIds(int page) {
+        String url = "/movie/popular?language=ko-KR&page=" + page;
+        TmdbMoviesResponse response = get(url, TmdbMoviesResponse.class);
 
-            return response.getResults().stream().map(TmdbMoviesIdResponse::getId).toList();
-        } catch (HttpClientErrorException e) {
-            throw new RuntimeException("TMDB API 요청 실패: " + e.getMessage());
+        if (response == null || response.getResults() == null) {
+            throw new RuntimeException("TMDB API 응답 내용이 없습니다.");
         }
+
+        return response.getResults().stream().map(TmdbMoviesIdResponse::getId).toList();
     }
 
     // 영화 상세 정보를 가져옵니다.
     public TmdbMovieResponseWithDetail fetchMovie(long tmdbId) {
         String url = "/movie/%d?language=ko-KR&append_to_response=credits".formatted(tmdbId);
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", accessToken);
-
-            return restClient.get()
-                    .uri(url)
-                    .headers(h -> h.addAll(headers))
-                    .retrieve()
-                    .body(TmdbMovieResponseWithDetail.class);
-        } catch (HttpClientErrorException e) {
-            throw new RuntimeException("TMDB API 요청 실패: " + e.getMessage());
-        }
+        return get(url, TmdbMovieResponseWithDetail.class);
     }
 
-    // tmdb api를 이용해서 인기 시리즈를 가져옵니다.
-    public List<TmdbSeriesResponseWithDetail> fetchSeries(int page) {
+    // tmdb api를 이용해서 인기 시리즈 목록 한 페이지의 ID를 가져옵니다.
+    public List<Long> fetchSeriesIds(int page) {
         String url = "/tv/popular?language=ko-KR&page=" + page;
-        List<Long> seriesIds = getSeries(url);
+        TmdbSeriesResponse response = get(url, TmdbSeriesResponse.class);
 
-        return seriesIds.stream().map(this::fetchSeries).toList();
+        if (response == null || response.getResults() == null) {
+            throw new RuntimeException("TMDB API 응답 내용이 없습니다.");
+        }
+
+        return response.getResults().stream().map(TmdbSeriesIdResponse::getId).toList();
     }
 
-    private List<Long> getSeries(String url) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", accessToken);
+    // 시리즈 상세 정보를 가져옵니다.
+    public TmdbSeriesResponseWithDetail fetchSeries(long tmdbId) {
+        String url = "/tv/%d?language=ko-KR&append_to_response=credits".formatted(tmdbId);
+        return get(url, TmdbSeriesResponseWithDetail.class);
+    }
 
-            TmdbSeriesResponse response = restClient.get()
-                    .uri(url)
-                    .headers(h -> h.addAll(headers))
-                    .retrieve()
-                    .body(TmdbSeriesResponse.class);
+    // 기간 내에 변경된 영화 ID 목록 한 페이지를 가져옵니다. (TMDB는 최대 14일까지 조회 가능)
+    public TmdbChangesResponse fetchMovieChanges(LocalDate startDate, LocalDate endDate, int page) {
+        String url = "/movie/changes?start_date=%s&end_date=%s&page=%d".formatted(startDate, endDate, page);
+        return get(url, TmdbChangesResponse.class);
+    }
 
-            if (response == null || response.getResults() == null) {
-                throw new RuntimeException("TMDB API 응답 내용이 없습니다.");
+    // 기간 내에 변경된 시리즈 ID 목록 한 페이지를 가져옵니다. (TMDB는 최대 14일까지 조회 가능)
+    public TmdbChangesResponse fetchSeriesChanges(LocalDate startDate, LocalDate endDate, int page) {
+        String url = "/tv/changes?start_date=%s&end_date=%s&page=%d".formatted(startDate, endDate, page);
+        return get(url, TmdbChangesResponse.class);
+    }
+
+    // 요청 제한기에서 토큰을 얻은 뒤 요청을 보내고, 일시적인 오류는 지수 백오프로 다시 시도합니다.
+    private <T> T get(String url, Class<T> responseType) {
+        for (int attempt = 1; ; attempt++) {
+            acquirePermit();
+
+            Duration delay;
+            try {
+                return restClient.get()
+                        .uri(url)
+                        .header(HttpHeaders.AUTHORIZATION, accessToken)
+                        .retrieve()
+                        .body(responseType);
+            } catch (HttpStatusCodeException e) {
+                if (!isRetryable(e.getStatusCode()) || attempt >= maxAttempts) {
+                    failedCounter.increment();
+                    throw new RuntimeException("TMDB API 요청 실패: " + e.getMessage());
+                }
+
+                delay = retryAfter(e.getResponseHeaders());
+                if (delay == null) {
+                    delay = backoff(attempt);
+                }
+                if (e.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                    serverThrottledCounter.increment();
+                    // 서버가 알려준 시간 동안은 다른 요청도 보내지 않는다.
+                    // 이 요청도 다음 토큰을 얻을 때 함께 기다리므로 따로 기다리지 않는다.
+                    rateLimiter.pause(delay);
+                    delay = Duration.ZERO;
+                }
+            } catch (ResourceAccessException e) {
+                if (attempt >= maxAttempts) {
+                    failedCounter.increment();
+                    throw new RuntimeException("TMDB API 요청 실패: " + e.getMessage());
+                }
+                delay = backoff(attempt);
             }
 
-            return response.getResults().stream().map(TmdbSeriesIdResponse::getId).toList();
-        } catch (HttpClientErrorException e) {
-            throw new RuntimeException("TMDB API 요청 실패: " + e.getMessage());
+            retriedCounter.increment();
+            sleep(delay);
         }
     }
 
-    // 시리즈 상세 정보를 가져옵니다.
-    public TmdbSeriesResponseWithDetail fetchSeries(long tmdbId) {
-        String url = "/tv/%d?language=ko-KR&append_to_response=credits".formatted(tmdbId);
+    private void acquirePermit() {
+        try {
+            if (rateLimiter.acquire()) {
+                clientThrottledCounter.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("TMDB API 요청이 중단되었습니다.", e);
+        }
+    }
+
+    private boolean isRetryable(HttpStatusCode statusCode) {
+        return RETRYABLE_STATUS_CODES.contains(statusCode.value());
+    }
+
+    // 지터를 더한 지수 백오프 대기 시간 (대기 시간의 절반은 고정, 나머지 절반은 무작위)
+    private Duration backoff(int attempt) {
+        long exponential = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        long half = exponential / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(exponential - half + 1));
+    }
+
+    // Retry-After 헤더는 초 단위 숫자이거나 HTTP 날짜 형식입니다.
+    private Duration retryAfter(HttpHeaders headers) {
+        String retryAfter = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException ignored) {
+        }
 
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", accessToken);
-
-            return restClient.get()
-                    .uri(url)
-                    .headers(h -> h.addAll(headers))
-                    .retrieve()
-                    .body(TmdbSeriesResponseWithDetail.class);
-        } catch (HttpClientErrorException e) {
-            throw new RuntimeException("TMDB API 요청 실패: " + e.getMessage());
+            ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration duration = Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt);
+            return duration.isNegative() ? Duration.ZERO : duration;
+        } catch (DateTimeParseException ignored) {
+            return null;
         }
     }
 
+    private void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("TMDB API 요청이 중단되었습니다.", e);
+        }
+    }
 }
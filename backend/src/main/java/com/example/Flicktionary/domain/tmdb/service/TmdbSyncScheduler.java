@@ -0,0 +1,61 @@
+package com.example.Flicktionary.domain.tmdb.service;
+
+import com.example.Flicktionary.domain.movie.service.MovieService;
+import com.example.Flicktionary.domain.series.service.SeriesService;
+import com.example.Flicktionary.domain.tmdb.entity.TmdbSyncState;
+import com.example.Flicktionary.domain.tmdb.repository.TmdbSyncStateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+/**
+ * 마지막 동기화 시각 이후 TMDB에서 변경된 영화와 시리즈를 주기적으로 다시 받아와 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TmdbSyncScheduler {
+
+    // TMDB 변경 목록 API가 한번에 조회할 수 있는 최대 기간(일)
+    private static final int MAX_CHANGES_WINDOW_DAYS = 14;
+
+    private final MovieService movieService;
+    private final SeriesService seriesService;
+    private final TmdbSyncStateRepository tmdbSyncStateRepository;
+
+    @Scheduled(cron = "${tmdb.sync.cron}")
+    public void syncChanges() {
+        sync(TmdbSyncState.MOVIE, movieService::syncChangedMovies);
+        sync(TmdbSyncState.SERIES, seriesService::syncChangedSeries);
+    }
+
+    // 대상 하나를 동기화하고, 실패한 요청 없이 끝난 경우에만 마지막 동기화 시각을 갱신합니다.
+    // 실패한 요청이 있으면 syncer가 예외를 던지므로, 다음 동기화에서 같은 기간을 다시 받습니다.
+    private void sync(String target, BiFunction<LocalDate, LocalDate, Integer> syncer) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime lastSyncedAt = tmdbSyncStateRepository.findById(target)
+                .map(TmdbSyncState::getLastSyncedAt)
+                .orElse(startedAt.minusDays(1));
+
+        LocalDate endDate = startedAt.toLocalDate();
+        LocalDate startDate = lastSyncedAt.toLocalDate();
+        if (startDate.isBefore(endDate.minusDays(MAX_CHANGES_WINDOW_DAYS))) {
+            // 기간을 넘는 변경 내역은 받을 수 없으므로 가능한 범위만 동기화합니다.
+            log.warn("TMDB {} 동기화가 {}일 넘게 밀려 최근 변경 내역만 반영합니다.", target, MAX_CHANGES_WINDOW_DAYS);
+            startDate = endDate.minusDays(MAX_CHANGES_WINDOW_DAYS);
+        }
+
+        try {
+            int updated = syncer.apply(startDate, endDate);
+            tmdbSyncStateRepository.save(new TmdbSyncState(target, startedAt));
+            log.info("TMDB {} 동기화 완료: {} ~ {}, {}건 갱신", target, startDate, endDate, updated);
+        } catch (RuntimeException e) {
+            log.warn("TMDB {} 동기화 실패: {}", target, e.getMessage());
+        }
+    }
+}
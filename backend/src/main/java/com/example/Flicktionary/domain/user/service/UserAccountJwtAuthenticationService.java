@@ -3,13 +3,17 @@ package com.example.Flicktionary.domain.user.service;
 import com.example.Flicktionary.domain.user.entity.UserAccount;
 import com.example.Flicktionary.domain.user.repository.UserAccountRepository;
 import com.example.Flicktionary.global.exception.ServiceException;
+import com.example.Flicktionary.global.security.CustomUserDetails;
+import com.example.Flicktionary.global.security.JwtCodec;
 import com.example.Flicktionary.global.utils.JwtUtils;
 import com.example.Flicktionary.global.utils.UuidUtils;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -29,10 +33,9 @@ public class UserAccountJwtAuthenticationService {
     private final PasswordEncoder passwordEncoder;
 
     /**
-     * JWT 서명/검증에 사용될 비밀키
+     * 비밀키와 파서를 재사용해 JWT를 서명/검증하는 컴포넌트
      */
-    @Value("${custom.jwt.secret-key}")
-    private String secret;
+    private final JwtCodec jwtCodec;
 
     /**
      * 접큰 토큰의 유효기간(초)
@@ -58,22 +61,24 @@ public class UserAccountJwtAuthenticationService {
         if (!passwordEncoder.matches("{bcrypt}" + password, userAccount.getPassword())) {
             throw new ServiceException(HttpStatus.FORBIDDEN.value(), "비밀번호가 틀립니다.");
         }
-        return createNewAccessTokenWithClaims(userAccount.getUsername(), userAccount.getNickname());
+        return createNewAccessTokenWithClaims(userAccount);
     }
 
     /**
-     * 주어진 유저 ID와 닉네임이 클레임에 담긴 접근 토큰을 발행한다.
+     * 주어진 회원의 고유 ID, 유저 ID, 닉네임, 계정 분류가 클레임에 담긴 접근 토큰을 발행한다.
+     * 인증 필터는 이 클레임만으로 회원 정보를 만들므로, 요청마다 회원을 조회하지 않는다.
      *
-     * @param username 회원의 유저 ID
-     * @param nickname 회원의 닉네임
+     * @param userAccount 접근 토큰을 발행할 회원
      * @return 새로 발행된 접근 토큰
      */
-    private String createNewAccessTokenWithClaims(String username, String nickname) {
+    private String createNewAccessTokenWithClaims(UserAccount userAccount) {
         Map<String, Object> claims = Map.of(
-                "username", username,
-                "nickname", nickname
+                "id", userAccount.getId(),
+                "username", userAccount.getUsername(),
+                "nickname", userAccount.getNickname(),
+                "role", userAccount.getRole().toString()
         );
-        return JwtUtils.createToken(secret, accessExpireSeconds, claims);
+        return jwtCodec.encode(claims, accessExpireSeconds);
     }
 
     ;
@@ -90,24 +95,35 @@ public class UserAccountJwtAuthenticationService {
             throw new ServiceException(HttpStatus.FORBIDDEN.value(), "리프레시 토큰이 유효하지 않습니다.");
         }
 
-        String newAccessToken = createNewAccessTokenWithClaims(userAccount.getUsername(), userAccount.getNickname());
+        String newAccessToken = createNewAccessTokenWithClaims(userAccount);
         String newRefreshToken = rotateRefreshTokenOfUser(userAccount.getUsername());
         return new JwtUtils.TokenSet(newAccessToken, newRefreshToken);
     }
 
     /**
-     * 접큰 토큰의 클레임에서 회원 정보를 추출한 뒤, 해당하는 회원의 엔티티 오브젝트를 반환한다.
+     * 접근 토큰을 검증한 뒤, 클레임에 담긴 회원 정보로 인증된 회원의 정보를 만든다.
+     * 서명과 만료시각은 한번에 검증하며, 트랜잭션을 시작하지 않으므로 DB 커넥션도 사용하지 않는다.
+     * 고유 ID와 계정 분류가 없는 이전 형식의 토큰이라면 유저 ID로 회원을 조회한다.
      *
      * @param token 접근 토큰
-     * @return 접근 토큰이 발행된 회원의 엔티티 오브젝트
+     * @return 접근 토큰이 발행된 회원의 정보
      */
-    public UserAccount retrieveUserFromAccessToken(String token) {
-        if (!isAccessTokenValid(token)) {
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CustomUserDetails retrievePrincipalFromAccessToken(String token) {
+        Claims claims;
+        try {
+            claims = jwtCodec.decode(token);
+        } catch (RuntimeException e) {
             throw new ServiceException(HttpStatus.UNAUTHORIZED.value(), "접근 토큰이 유효하지 않습니다.");
         }
-        Map<String, Object> claims = JwtUtils.getTokenPayload(secret, token);
-        String username = (String) claims.get("username");
-        return getUserByUsername(username);
+
+        String username = claims.get("username", String.class);
+        Long id = claims.get("id", Long.class);
+        String role = claims.get("role", String.class);
+        if (id == null || role == null) {
+            return new CustomUserDetails(getUserByUsername(username));
+        }
+        return new CustomUserDetails(id, username, role);
     }
 
     /**
@@ -123,16 +139,6 @@ public class UserAccountJwtAuthenticationService {
         return userAccount.getRefreshToken();
     }
 
-    /**
-     * 주어진 접근 토큰의 유효성을 검증한다.
-     *
-     * @param token 검증할 접근 토큰
-     * @return 유효할시 {@code true}
-     */
-    private boolean isAccessTokenValid(String token) {
-        return JwtUtils.isTokenValid(secret, token);
-    }
-
     /**
      * 주어진 회원의 리프레시 토큰의 유효기간을 검증한다.
      *
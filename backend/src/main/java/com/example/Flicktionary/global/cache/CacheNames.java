@@ -0,0 +1,22 @@
+package com.example.Flicktionary.global.cache;
+
+/**
+ * 캐시 이름. application.yml의 spring.cache.cache-names에도 등록해야 메트릭이 수집된다.
+ */
+public final class CacheNames {
+
+    // 영화 ID -> 영화 상세 조회 응답 (JSON)
+    public static final String MOVIE_DETAIL = "movieDetail";
+
+    // 시리즈 ID -> 시리즈 상세 조회 응답 (JSON)
+    public static final String SERIES_DETAIL = "seriesDetail";
+
+    // 감독 ID -> 감독의 영화 목록 (최신순)
+    public static final String DIRECTOR_MOVIES = "directorMovies";
+
+    // 감독 ID -> 감독의 시리즈 목록 (최신순)
+    public static final String DIRECTOR_SERIES = "directorSeries";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.Flicktionary.global.cache;
+
+import com.example.Flicktionary.domain.director.event.DirectorFilmographyEvent;
+import com.example.Flicktionary.domain.search.dto.SearchDocument;
+import com.example.Flicktionary.domain.search.event.SearchIndexEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 영화나 시리즈가 수정되면 캐시된 상세 정보를 제거한다.
+ * 리뷰의 평점 반영과 TMDB 수집은 모두 {@link SearchIndexEvent}를 발행하므로, 이 이벤트로 변경을 알 수 있다.
+ * 감독의 출연작 목록은 TMDB 수집이 발행하는 {@link DirectorFilmographyEvent}로 제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DetailCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    // 커밋 전에 제거하면 다른 요청이 커밋 전의 정보를 다시 캐시할 수 있으므로, 커밋된 뒤에 제거합니다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentsChanged(SearchIndexEvent event) {
+        for (SearchDocument document : event.documents()) {
+            String cacheName = switch (document.type()) {
+                case MOVIE -> CacheNames.MOVIE_DETAIL;
+                case SERIES -> CacheNames.SERIES_DETAIL;
+                default -> null;
+            };
+            if (cacheName == null || document.id() == null) {
+                continue;
+            }
+
+            evict(cacheName, document.id());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFilmographyChanged(DirectorFilmographyEvent event) {
+        for (Long directorId : event.directorIds()) {
+            evict(CacheNames.DIRECTOR_MOVIES, directorId);
+            evict(CacheNames.DIRECTOR_SERIES, directorId);
+        }
+    }
+
+    private void evict(String cacheName, Long key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.Flicktionary.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.function.Supplier;
+
+/**
+ * 응답 본문을 JSON으로 직렬화한 바이트와 ETag를 함께 캐시한다.
+ * 캐시에 있으면 조회와 직렬화 없이 저장된 바이트를 그대로 응답하고,
+ * 요청의 If-None-Match가 ETag와 같다면 Spring MVC가 본문 없이 304로 응답한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonResponseCache {
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 캐시된 응답을 돌려준다. 없다면 본문을 만들어 직렬화한 뒤 캐시한다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     * @param loader    응답 본문을 만드는 함수. 던진 예외는 그대로 전달된다.
+     * @return JSON 바이트와 ETag를 담은 200 응답
+     */
+    public ResponseEntity<byte[]> get(String cacheName, Object key, Supplier<?> loader) {
+        JsonResponse response;
+        try {
+            response = getCache(cacheName).get(key, () -> JsonResponse.of(objectMapper.writeValueAsBytes(loader.get())));
+        } catch (Cache.ValueRetrievalException e) {
+            // 조회하다 발생한 예외(404 등)는 GlobalExceptionHandler가 처리하도록 꺼내서 던집니다.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(response.eTag())
+                .body(response.body());
+    }
+
+    private Cache getCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("등록되지 않은 캐시입니다: " + cacheName);
+        }
+        return cache;
+    }
+
+    /**
+     * 직렬화된 응답 본문과 본문의 해시로 만든 ETag.
+     * 본문 배열은 캐시와 응답이 공유하므로 수정하면 안 된다.
+     */
+    record JsonResponse(byte[] body, String eTag) {
+
+        static JsonResponse of(byte[] body) {
+            return new JsonResponse(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.Flicktionary.global.dto;
+
+/**
+ * 목록을 조회할 때 전체 개수를 세는 방법.
+ */
+public enum CountMode {
+
+    /**
+     * 매번 COUNT 쿼리로 정확한 개수를 센다.
+     */
+    EXACT,
+
+    /**
+     * 일정 시간마다 다시 센 개수를 사용한다. 최근에 추가되거나 삭제된 항목은 반영되지 않을 수 있다.
+     */
+    APPROXIMATE,
+
+    /**
+     * 개수를 세지 않고 다음 페이지가 있는지만 알려준다. 무한 스크롤처럼 전체 개수가 필요 없는 경우에 사용한다.
+     */
+    NONE
+}
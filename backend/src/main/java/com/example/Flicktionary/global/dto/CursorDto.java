@@ -0,0 +1,47 @@
+package com.example.Flicktionary.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지네이션 응답.
+ * 다음 페이지는 nextCursor를 그대로 전달해서 조회하며, 몇번째 페이지든 조회 비용이 같다.
+ * 전체 개수는 요청한 경우에만 세어서 totalItems에 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorDto<T> {
+
+    @NonNull
+    private List<T> items;
+
+    // 다음 페이지의 커서. 마지막 페이지라면 null
+    private String nextCursor;
+
+    @NonNull
+    private int pageSize;
+
+    // 전체 개수. 요청하지 않았다면 null
+    private Long totalItems;
+
+    /**
+     * pageSize + 1개까지 조회한 행으로 응답을 만든다. 한 행이 더 조회되었다면 다음 페이지가 있다.
+     *
+     * @param rows       pageSize + 1개까지 조회한 행
+     * @param pageSize   페이지 크기
+     * @param mapper     행을 응답 항목으로 변환하는 함수
+     * @param cursorOf   행의 정렬 키로 커서를 만드는 함수
+     * @param totalItems 전체 개수. 세지 않았다면 null
+     */
+    public static <E, T> CursorDto<T> of(List<E> rows, int pageSize, Function<E, T> mapper,
+                                         Function<E, String> cursorOf, Long totalItems) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.getLast()) : null;
+        return new CursorDto<>(page.stream().map(mapper).toList(), nextCursor, pageSize, totalItems);
+    }
+}
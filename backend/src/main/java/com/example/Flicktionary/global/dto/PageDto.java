@@ -1,24 +1,25 @@
 package com.example.Flicktionary.global.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 
 import java.util.List;
 
 @Getter
-@AllArgsConstructor
 public class PageDto<T> {
 
     @NonNull
     List<T> items;
 
-    @NonNull
-    private int totalPages;
+    // 전체 개수를 세지 않았다면(CountMode.NONE) null
+    @Nullable
+    private Integer totalPages;
 
-    @NonNull
-    private int totalItems;
+    @Nullable
+    private Integer totalItems;
 
     @NonNull
     private int curPageNo;
@@ -29,13 +30,38 @@ public class PageDto<T> {
     @NonNull
     private String sortBy;
 
+    private boolean hasNext;
+
+    public PageDto(List<T> items, int totalPages, int totalItems, int curPageNo, int pageSize, String sortBy) {
+        this.items = items;
+        this.totalPages = totalPages;
+        this.totalItems = totalItems;
+        this.curPageNo = curPageNo;
+        this.pageSize = pageSize;
+        this.sortBy = sortBy;
+        this.hasNext = curPageNo < totalPages;
+    }
+
     public PageDto(Page<T> page) {
-        this.items = page.getContent();
-        this.totalItems = (int) page.getTotalElements();
-        this.totalPages = page.getTotalPages();
-        this.curPageNo = page.getNumber() + 1;
-        this.pageSize = page.getSize();
-        this.sortBy = page.getSort().toString();
+        this(page, page.getTotalElements());
+    }
+
+    // 전체 개수 없이 다음 페이지가 있는지만 알려준다.
+    public PageDto(Slice<T> slice) {
+        this(slice, null);
+    }
+
+    // 다음 페이지 여부는 조회한 결과로 판단하고, 전체 개수는 따로 센 값(근사값일 수 있음)을 사용한다.
+    public PageDto(Slice<T> slice, Long totalItems) {
+        this.items = slice.getContent();
+        this.curPageNo = slice.getNumber() + 1;
+        this.pageSize = slice.getSize();
+        this.sortBy = slice.getSort().toString();
+        this.hasNext = slice.hasNext();
+        if (totalItems != null) {
+            this.totalItems = totalItems.intValue();
+            this.totalPages = pageSize == 0 ? 1 : (int) Math.ceil((double) totalItems / pageSize);
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package com.example.Flicktionary.global.init;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * IDENTITY 방식으로 저장된 기존 데이터가 있을때, 시퀀스가 이미 사용중인 ID를 발급하지 않도록
+ * 애플리케이션이 시작될 때 각 시퀀스를 테이블의 최대 ID 이후로 옮긴다. 시퀀스가 이미 그 이후라면 그대로 둔다.
+ * 다른 초기화 작업이 데이터를 저장하기 전에 실행되어야 한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements ApplicationRunner {
+
+    // 엔티티의 @SequenceGenerator와 같은 값이어야 한다.
+    private static final int ALLOCATION_SIZE = 50;
+
+    // 테이블 이름 -> 시퀀스 이름
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "movie", "movie_seq",
+            "movie_cast", "movie_cast_seq",
+            "series", "series_seq",
+            "series_cast", "series_cast_seq",
+            "review", "review_seq",
+            "post", "post_seq",
+            "favorite", "favorite_seq",
+            "rating_event", "rating_event_seq"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        // MySQL처럼 시퀀스가 없는 DB에서는 하이버네이트가 next_val 컬럼 하나를 가진 테이블로 시퀀스를 흉내낸다.
+        boolean supportsSequences = dialect.getSequenceSupport().supportsSequences();
+
+        SEQUENCES.forEach((table, sequence) -> {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            if (maxId == null) {
+                return;
+            }
+
+            // pooled 최적화는 시퀀스 값보다 최대 ALLOCATION_SIZE만큼 작은 ID부터 발급하므로 그만큼 여유를 둔다.
+            long nextValue = maxId + ALLOCATION_SIZE + 1;
+            // 시퀀스는 앞으로만 옮긴다. 이미 더 큰 값까지 발급된 ID 블록이 있으면 건드리지 않는다.
+            if (supportsSequences) {
+                // 현재 값을 읽는 방법은 DB마다 달라서 다음 값을 하나 받아본다. 한 블록을 건너뛸 뿐 발급된 ID와 겹치지는 않는다.
+                Long currentValue = jdbcTemplate.queryForObject(
+                        dialect.getSequenceSupport().getSequenceNextValString(sequence), Long.class);
+                if (currentValue != null && currentValue >= nextValue) {
+                    return;
+                }
+                jdbcTemplate.execute("ALTER SEQUENCE %s RESTART WITH %d".formatted(sequence, nextValue));
+            } else if (jdbcTemplate.update("UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?", nextValue, nextValue) == 0) {
+                return;
+            }
+            log.debug("{} 시퀀스를 {} 이후로 설정", sequence, nextValue);
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.Flicktionary.global.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 작성일(created_at)이 비어 있는 게시글에 가장 오래된 작성일을 채운다.
+ * 게시글 목록은 (작성일, ID)를 커서로 사용하므로 작성일이 없는 게시글은 목록에 나오지 않는다.
+ * 작성일 역순 목록에서 NULL은 맨 뒤에 오므로, 가장 오래된 값으로 채우면 이전과 같은 순서가 유지된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCreatedAtInitializer implements ApplicationRunner {
+
+    private static final LocalDateTime OLDEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int updated = jdbcTemplate.update("UPDATE post SET created_at = ? WHERE created_at IS NULL", OLDEST);
+        if (updated > 0) {
+            log.info("작성일이 없는 게시글 {}건의 작성일을 채웠습니다.", updated);
+        }
+    }
+}
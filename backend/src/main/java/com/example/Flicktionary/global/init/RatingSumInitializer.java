@@ -0,0 +1,31 @@
+package com.example.Flicktionary.global.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 평점 합계(rating_sum) 컬럼이 추가되기 전에 저장된 영화와 시리즈의 합계를 평균과 개수로 채운다.
+ * 평점은 1 이상의 정수이므로 평점이 있는데 합계가 0이라면 아직 채우지 않은 행이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingSumInitializer implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (String table : new String[]{"movie", "series"}) {
+            int updated = jdbcTemplate.update(("UPDATE %s SET rating_sum = ROUND(average_rating * rating_count) " +
+                    "WHERE rating_sum = 0 AND rating_count > 0").formatted(table));
+            if (updated > 0) {
+                log.info("{} 테이블의 평점 합계를 {}건 채웠습니다.", table, updated);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.Flicktionary.global.search;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * 한글 이름과 제목을 검색하기 위한 바이그램 색인.
+ * 공백을 제거하고 소문자로 바꾼 문자열을 자모로 분해해서 색인하므로, 입력중인 음절로도 부분 일치 검색을 할 수 있다.
+ * (예: "해리퐅" 으로 "해리 포터" 검색)
+ * 초성만으로 된 검색어는 초성 색인에서 찾는다. (예: "ㅎㄹㅍㅌ" 으로 "해리 포터" 검색)
+ * 문서는 호출한 쪽이 정한 슬롯 번호로 구분하며, 새 슬롯은 증가하는 순서로 추가하고 이미 추가한 슬롯의 문자열은 {@link #replace}로 바꾼다.
+ * 스레드에 안전하지 않으므로 호출한 쪽에서 동기화해야 한다.
+ */
+public class HangulNgramIndex {
+
+    private final NgramIndex jamoIndex = new NgramIndex();
+
+    // 한글이 포함된 문자열만 색인한다.
+    private final NgramIndex chosungIndex = new NgramIndex();
+
+    /**
+     * 문자열을 색인한다.
+     *
+     * @param slot 문서의 슬롯 번호. 이전에 추가한 슬롯 번호보다 커야 한다.
+     * @param text 색인할 문자열
+     */
+    public void add(int slot, String text) {
+        String normalized = HangulUtils.normalize(text);
+        jamoIndex.add(slot, HangulUtils.decompose(normalized));
+        if (HangulUtils.containsSyllable(normalized)) {
+            chosungIndex.add(slot, HangulUtils.chosung(normalized));
+        }
+    }
+
+    /**
+     * 이미 추가한 슬롯의 문자열을 바꾼다. 슬롯 번호는 그대로 유지된다.
+     *
+     * @param slot 문서의 슬롯 번호
+     * @param text 새로 색인할 문자열
+     */
+    public void replace(int slot, String text) {
+        String normalized = HangulUtils.normalize(text);
+        jamoIndex.replace(slot, HangulUtils.decompose(normalized));
+        chosungIndex.replace(slot, HangulUtils.containsSyllable(normalized) ? HangulUtils.chosung(normalized) : null);
+    }
+
+    /**
+     * 검색어를 포함하는 문서의 슬롯을 오름차순으로 전달한다.
+     *
+     * @param query    검색어
+     * @param filter   전달할 슬롯인지 확인하는 함수 (삭제된 문서 등을 거른다)
+     * @param consumer 일치하는 슬롯을 받을 함수
+     */
+    public void forEachMatch(String query, IntPredicate filter, IntConsumer consumer) {
+        forEachMatch(query, filter, (slot, before, after) -> consumer.accept(slot));
+    }
+
+    /**
+     * 검색어를 포함하는 문서의 슬롯을 일치한 위치와 함께 오름차순으로 전달한다.
+     * 위치는 자모로 분해한 문자열(초성 검색은 초성 문자열) 기준이다.
+     *
+     * @param query    검색어
+     * @param filter   전달할 슬롯인지 확인하는 함수 (삭제된 문서 등을 거른다)
+     * @param consumer 일치하는 슬롯과 위치를 받을 함수
+     */
+    public void forEachMatch(String query, IntPredicate filter, NgramIndex.MatchConsumer consumer) {
+        String normalized = HangulUtils.normalize(query);
+        if (HangulUtils.isChosung(normalized)) {
+            chosungIndex.forEachMatch(normalized, filter, consumer);
+        } else {
+            jamoIndex.forEachMatch(HangulUtils.decompose(normalized), filter, consumer);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.Flicktionary.global.search;
+
+import java.text.Normalizer;
+
+/**
+ * 한글 음절을 자모로 분해하거나 초성을 추출한다.
+ * 분해한 자모는 키보드로 입력하는 호환용 자모(ㄱ, ㅏ 등)로 나타내며,
+ * 겹모음과 겹받침은 입력하는 순서대로 나눈다. (예: "왔" -> "ㅇㅗㅏㅆ", "닭" -> "ㄷㅏㄹㄱ")
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환용 자모 중 겹자모 -> 나눈 자모
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_DECOMPOSED = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 한글 음절과 겹자모를 자모로 분해한다. 한글이 아닌 문자는 그대로 둔다.
+     *
+     * @param text 분해할 문자열
+     * @return 자모로 분해된 문자열
+     */
+    public static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                sb.append(CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+                sb.append(JUNGSEONG[index % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT]);
+                sb.append(JONGSEONG[index % JONGSEONG_COUNT]);
+                continue;
+            }
+
+            int compound = COMPOUND_JAMO.indexOf(c);
+            if (compound >= 0) {
+                sb.append(COMPOUND_JAMO_DECOMPOSED[compound]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾼다. 한글이 아닌 문자는 그대로 둔다. (예: "해리 포터" -> "ㅎㄹ ㅍㅌ")
+     *
+     * @param text 변환할 문자열
+     * @return 초성으로 바뀐 문자열
+     */
+    public static String chosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            sb.append(isSyllable(c) ? CHOSEONG[(c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)] : c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 검색할 문자열을 비교하기 쉬운 형태로 바꾼다.
+     * 조합형(NFD)으로 입력된 한글을 완성형으로 바꾸고, 공백을 제거한 뒤 소문자로 바꾼다.
+     *
+     * @param text 바꿀 문자열
+     * @return 바꾼 문자열. {@code null}이면 빈 문자열
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase().replaceAll(" ", "");
+    }
+
+    /**
+     * @param text 확인할 문자열
+     * @return 비어있지 않고 모든 문자가 자음이라면 {@code true} (예: "ㅎㄹㅍㅌ")
+     */
+    public static boolean isChosung(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param text 확인할 문자열
+     * @return 한글 음절이 하나라도 있다면 {@code true}
+     */
+    public static boolean containsSyllable(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isSyllable(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
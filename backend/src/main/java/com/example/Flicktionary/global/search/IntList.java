@@ -0,0 +1,88 @@
+package com.example.Flicktionary.global.search;
+
+import java.util.Arrays;
+
+/**
+ * 박싱 없이 int 값을 담는 가변 길이 배열. 색인의 문서 목록(posting list)에 사용한다.
+ */
+class IntList {
+
+    private int[] values;
+
+    private int size;
+
+    IntList() {
+        this(4);
+    }
+
+    IntList(int capacity) {
+        this.values = new int[Math.max(capacity, 1)];
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int last() {
+        return values[size - 1];
+    }
+
+    // 오름차순을 유지하며 값을 넣습니다. 이미 있다면 넣지 않습니다.
+    void insert(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) {
+            return;
+        }
+        index = -index - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+    }
+
+    // 오름차순으로 정렬된 목록에서 값을 뺍니다.
+    void remove(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+    }
+
+    // 오름차순으로 정렬된 두 목록의 교집합을 구합니다.
+    IntList intersect(IntList other) {
+        IntList result = new IntList(Math.min(size, other.size));
+        int i = 0, j = 0;
+        while (i < size && j < other.size) {
+            int a = values[i], b = other.values[j];
+            if (a == b) {
+                result.add(a);
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result;
+    }
+}
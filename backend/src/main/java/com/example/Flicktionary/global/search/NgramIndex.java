@@ -0,0 +1,180 @@
+package com.example.Flicktionary.global.search;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * 문자열의 부분 일치 검색을 위한 바이그램(연속된 두 글자) 색인.
+ * 검색어의 모든 바이그램을 포함하는 문서를 추린 뒤, 실제로 검색어를 포함하는지 확인한다.
+ * 문서는 호출한 쪽이 정한 슬롯 번호로 구분하며, 새 슬롯은 증가하는 순서로 추가하고 이미 추가한 슬롯의 문자열은 {@link #replace}로 바꾼다.
+ * 스레드에 안전하지 않으므로 호출한 쪽에서 동기화해야 한다.
+ */
+public class NgramIndex {
+
+    // 바이그램 -> 바이그램을 포함하는 슬롯 (오름차순)
+    private final Map<Integer, IntList> postings = new HashMap<>();
+
+    // 슬롯 -> 색인된 문자열
+    private String[] texts = new String[1024];
+
+    private int slotCount;
+
+    /**
+     * 문자열을 색인한다.
+     *
+     * @param slot 문서의 슬롯 번호. 이전에 추가한 슬롯 번호보다 커야 한다.
+     * @param text 정규화된 문자열
+     */
+    public void add(int slot, String text) {
+        if (slot >= texts.length) {
+            texts = Arrays.copyOf(texts, Math.max(texts.length * 2, slot + 1));
+        }
+        texts[slot] = text;
+        slotCount = Math.max(slotCount, slot + 1);
+
+        for (int i = 0; i + 1 < text.length(); i++) {
+            IntList slots = postings.computeIfAbsent(bigram(text, i), key -> new IntList());
+            // 한 문서에 같은 바이그램이 여러번 나와도 한번만 기록한다.
+            if (slots.isEmpty() || slots.last() != slot) {
+                slots.add(slot);
+            }
+        }
+    }
+
+    /**
+     * 이미 추가한 슬롯의 문자열을 바꾼다. 이전 문자열의 바이그램에서 슬롯을 빼고 새 문자열로 다시 색인하므로,
+     * 문서가 수정되어도 슬롯과 목록이 늘어나지 않는다.
+     *
+     * @param slot 문서의 슬롯 번호
+     * @param text 정규화된 문자열. {@code null}이면 색인에서 뺀다.
+     */
+    public void replace(int slot, String text) {
+        String oldText = text(slot);
+        if (oldText != null) {
+            for (int i = 0; i + 1 < oldText.length(); i++) {
+                int key = bigram(oldText, i);
+                IntList slots = postings.get(key);
+                if (slots != null) {
+                    slots.remove(slot);
+                    if (slots.isEmpty()) {
+                        postings.remove(key);
+                    }
+                }
+            }
+            texts[slot] = null;
+        }
+        if (text == null) {
+            return;
+        }
+
+        if (slot >= texts.length) {
+            texts = Arrays.copyOf(texts, Math.max(texts.length * 2, slot + 1));
+        }
+        texts[slot] = text;
+        slotCount = Math.max(slotCount, slot + 1);
+        for (int i = 0; i + 1 < text.length(); i++) {
+            postings.computeIfAbsent(bigram(text, i), key -> new IntList()).insert(slot);
+        }
+    }
+
+    /**
+     * @param slot 슬롯 번호
+     * @return 색인된 문자열. 없다면 {@code null}
+     */
+    public String text(int slot) {
+        return slot < slotCount ? texts[slot] : null;
+    }
+
+    /**
+     * 검색어를 포함하는 문서의 슬롯을 오름차순으로 전달한다.
+     *
+     * @param query    정규화된 검색어
+     * @param filter   전달할 슬롯인지 확인하는 함수 (삭제된 문서 등을 거른다)
+     * @param consumer 일치하는 슬롯을 받을 함수
+     */
+    public void forEachMatch(String query, IntPredicate filter, IntConsumer consumer) {
+        forEachMatch(query, filter, (slot, before, after) -> consumer.accept(slot));
+    }
+
+    /**
+     * 검색어를 포함하는 문서의 슬롯을 일치한 위치와 함께 오름차순으로 전달한다.
+     *
+     * @param query    정규화된 검색어
+     * @param filter   전달할 슬롯인지 확인하는 함수 (삭제된 문서 등을 거른다)
+     * @param consumer 일치하는 슬롯과 위치를 받을 함수
+     */
+    public void forEachMatch(String query, IntPredicate filter, MatchConsumer consumer) {
+        if (query.isEmpty()) {
+            return;
+        }
+
+        // 한 글자는 바이그램으로 추릴 수 없으므로 모든 문서를 확인한다.
+        if (query.length() == 1) {
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (texts[slot] != null && filter.test(slot)) {
+                    int offset = texts[slot].indexOf(query.charAt(0));
+                    if (offset >= 0) {
+                        consumer.accept(slot, offset, texts[slot].length() - offset - 1);
+                    }
+                }
+            }
+            return;
+        }
+
+        IntList candidates = candidates(query);
+        for (int i = 0; i < candidates.size(); i++) {
+            int slot = candidates.get(i);
+            if (filter.test(slot)) {
+                int offset = texts[slot].indexOf(query);
+                if (offset >= 0) {
+                    consumer.accept(slot, offset, texts[slot].length() - offset - query.length());
+                }
+            }
+        }
+    }
+
+    // 검색어의 모든 바이그램을 포함하는 슬롯. 짧은 목록부터 교집합을 구합니다.
+    private IntList candidates(String query) {
+        Set<Integer> keys = new HashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            keys.add(bigram(query, i));
+        }
+
+        List<IntList> lists = new ArrayList<>(keys.size());
+        for (Integer key : keys) {
+            IntList slots = postings.get(key);
+            if (slots == null) {
+                return new IntList(1);
+            }
+            lists.add(slots);
+        }
+        lists.sort(Comparator.comparingInt(IntList::size));
+
+        IntList result = lists.getFirst();
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result = result.intersect(lists.get(i));
+        }
+        return result;
+    }
+
+    private static int bigram(String text, int index) {
+        return (text.charAt(index) << 16) | text.charAt(index + 1);
+    }
+
+    /**
+     * 검색어와 일치한 문서를 받는 함수.
+     */
+    @FunctionalInterface
+    public interface MatchConsumer {
+
+        /**
+         * 둘 다 0이면 전체 일치, before가 0이면 앞부분 일치이다.
+         *
+         * @param slot   일치한 문서의 슬롯
+         * @param before 색인된 문자열에서 검색어가 처음 나온 위치 앞의 글자 수
+         * @param after  처음 나온 검색어 뒤의 글자 수
+         */
+        void accept(int slot, int before, int after);
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.Flicktionary.global.search;
+
+import java.util.*;
+
+/**
+ * 접두사로 시작하는 키의 값 중 순위가 높은 값을 찾는 트라이.
+ * 자식이 하나뿐인 경로는 한 노드로 합쳐서(radix tree) 노드 수를 키의 수에 비례하도록 유지한다.
+ * 노드마다 서브트리에서 순위가 높은 값을 최대 k개까지 정렬해서 들고 있으므로,
+ * 조회는 접두사를 따라 내려가는 비용만 든다.
+ * 같은 값을 여러 키로 추가할 수 있으며, 한 노드의 상위 목록에는 한번만 담긴다.
+ * 스레드에 안전하지 않으므로 호출한 쪽에서 동기화해야 한다.
+ *
+ * @param <T> 값의 타입. 값은 {@code equals}로 구분한다.
+ */
+public class PrefixTrie<T> {
+
+    private final int k;
+
+    private final Comparator<? super T> order;
+
+    private final Node<T> root = new Node<>("");
+
+    /**
+     * @param k     노드마다 유지할 상위 값의 개수. 한번에 조회할 수 있는 최대 개수이다.
+     * @param order 순위. 앞에 오는 값이 순위가 높으며, 서로 다른 값은 같은 순위가 되면 안 된다.
+     */
+    public PrefixTrie(int k, Comparator<? super T> order) {
+        this.k = k;
+        this.order = order;
+    }
+
+    /**
+     * 키에 값을 추가한다. 빈 키는 무시한다.
+     *
+     * @param key   키
+     * @param value 값
+     */
+    public void add(String key, T value) {
+        if (key.isEmpty()) {
+            return;
+        }
+
+        List<Node<T>> path = new ArrayList<>();
+        Node<T> node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node<T> child = node.child(key.charAt(index));
+            if (child == null) {
+                child = new Node<>(key.substring(index));
+                node.addChild(child);
+                path.add(child);
+                node = child;
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, key, index);
+            if (common < child.label.length()) {
+                child = split(node, child, common);
+            }
+            path.add(child);
+            node = child;
+            index += common;
+        }
+        node.addValue(value);
+
+        for (Node<T> visited : path) {
+            visited.offerTop(value, k, order);
+        }
+    }
+
+    /**
+     * 키에서 값을 제거한다.
+     *
+     * @param key   키
+     * @param value 값
+     * @return 제거되었다면 {@code true}
+     */
+    public boolean remove(String key, T value) {
+        List<Node<T>> path = new ArrayList<>();
+        path.add(root);
+        Node<T> node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node<T> child = node.child(key.charAt(index));
+            if (child == null || !key.startsWith(child.label, index)) {
+                return false;
+            }
+            path.add(child);
+            node = child;
+            index += child.label.length();
+        }
+        if (node == root || !node.removeValue(value)) {
+            return false;
+        }
+
+        // 아래에서부터 상위 목록을 다시 계산합니다.
+        // 값이 상위 목록에 없는 노드를 만나면, 그 위의 노드에도 이 경로로 들어간 값은 없습니다.
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node<T> current = path.get(i);
+            if (current.isEmpty()) {
+                path.get(i - 1).removeChild(current);
+                continue;
+            }
+            if (!current.topContains(value)) {
+                break;
+            }
+            current.recomputeTop(k, order);
+        }
+        return true;
+    }
+
+    /**
+     * 접두사로 시작하는 키의 값을 순위가 높은 순서대로 조회한다.
+     *
+     * @param prefix 접두사
+     * @param limit  최대 개수. k보다 클 수 없다.
+     * @return 순위순으로 정렬된 값
+     */
+    public List<T> top(String prefix, int limit) {
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+
+        Node<T> node = root;
+        int index = 0;
+        while (index < prefix.length()) {
+            Node<T> child = node.child(prefix.charAt(index));
+            if (child == null) {
+                return List.of();
+            }
+
+            int common = commonPrefixLength(child.label, prefix, index);
+            if (index + common == prefix.length()) {
+                // 접두사가 이 노드의 라벨 중간에서 끝나도, 이 노드의 서브트리가 결과이다.
+                node = child;
+                break;
+            }
+            if (common < child.label.length()) {
+                return List.of();
+            }
+            node = child;
+            index += common;
+        }
+        return node.top(limit);
+    }
+
+    // 자식 노드의 라벨을 common 위치에서 나누고, 앞부분을 가진 새 노드를 반환합니다.
+    private Node<T> split(Node<T> parent, Node<T> child, int common) {
+        Node<T> middle = new Node<>(child.label.substring(0, common));
+        // 자식 노드의 라벨을 바꾸기 전에 교체해야 부모의 정렬 순서가 유지됩니다.
+        parent.replaceChild(middle);
+        child.label = child.label.substring(common);
+        middle.addChild(child);
+        // 나누기 직전에는 두 노드의 서브트리가 같습니다.
+        middle.top = child.top.clone();
+        return middle;
+    }
+
+    private static int commonPrefixLength(String label, String key, int from) {
+        int length = 0;
+        while (length < label.length()
+                && from + length < key.length()
+                && label.charAt(length) == key.charAt(from + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static final class Node<T> {
+
+        private static final Object[] EMPTY = new Object[0];
+
+        // 부모 노드에서 이 노드까지의 문자열
+        private String label;
+
+        // 라벨의 첫 글자 순서로 정렬된 자식 노드
+        private List<Node<T>> children;
+
+        // 이 노드에서 끝나는 키의 값
+        private List<T> values;
+
+        // 서브트리에서 순위가 높은 값 (순위순)
+        private Object[] top = EMPTY;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node<T> child(char first) {
+            int index = childIndex(first);
+            return index >= 0 ? children.get(index) : null;
+        }
+
+        private int childIndex(char first) {
+            if (children == null) {
+                return -1;
+            }
+            int low = 0, high = children.size() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children.get(mid).label.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void addChild(Node<T> child) {
+            if (children == null) {
+                children = new ArrayList<>(2);
+            }
+            children.add(-(childIndex(child.label.charAt(0)) + 1), child);
+        }
+
+        // 첫 글자가 같은 자식 노드를 바꿉니다.
+        private void replaceChild(Node<T> child) {
+            children.set(childIndex(child.label.charAt(0)), child);
+        }
+
+        private void removeChild(Node<T> child) {
+            children.remove(childIndex(child.label.charAt(0)));
+            if (children.isEmpty()) {
+                children = null;
+            }
+        }
+
+        private void addValue(T value) {
+            if (values == null) {
+                values = new ArrayList<>(1);
+            }
+            values.add(value);
+        }
+
+        private boolean removeValue(T value) {
+            if (values == null || !values.remove(value)) {
+                return false;
+            }
+            if (values.isEmpty()) {
+                values = null;
+            }
+            return true;
+        }
+
+        private boolean isEmpty() {
+            return values == null && children == null;
+        }
+
+        private boolean topContains(T value) {
+            for (Object candidate : top) {
+                if (candidate.equals(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // 순위에 맞는 위치에 값을 넣고, k개를 넘으면 마지막 값을 버립니다.
+        @SuppressWarnings("unchecked")
+        private void offerTop(T value, int k, Comparator<? super T> order) {
+            if (topContains(value)) {
+                return;
+            }
+            int position = 0;
+            while (position < top.length && order.compare((T) top[position], value) < 0) {
+                position++;
+            }
+            if (position >= k) {
+                return;
+            }
+
+            Object[] next = new Object[Math.min(top.length + 1, k)];
+            System.arraycopy(top, 0, next, 0, position);
+            next[position] = value;
+            System.arraycopy(top, position, next, position + 1, next.length - position - 1);
+            top = next;
+        }
+
+        // 이 노드의 값과 자식 노드의 상위 목록으로 상위 목록을 다시 만듭니다.
+        @SuppressWarnings("unchecked")
+        private void recomputeTop(int k, Comparator<? super T> order) {
+            List<T> candidates = new ArrayList<>();
+            if (values != null) {
+                candidates.addAll(values);
+            }
+            if (children != null) {
+                for (Node<T> child : children) {
+                    for (Object value : child.top) {
+                        candidates.add((T) value);
+                    }
+                }
+            }
+            candidates.sort(order);
+
+            List<T> next = new ArrayList<>(k);
+            for (T candidate : candidates) {
+                if (next.size() == k) {
+                    break;
+                }
+                if (!next.contains(candidate)) {
+                    next.add(candidate);
+                }
+            }
+            top = next.toArray();
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<T> top(int limit) {
+            int size = Math.min(limit, top.length);
+            List<T> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add((T) top[i]);
+            }
+            return result;
+        }
+    }
+}
@@ -1,28 +1,23 @@
 package com.example.Flicktionary.global.security;
 
-import com.example.Flicktionary.domain.user.entity.UserAccount;
 import com.example.Flicktionary.domain.user.service.UserAccountJwtAuthenticationService;
-import com.example.Flicktionary.global.dto.ResponseDto;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.net.URI;
-import java.util.Arrays;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * 쿠키로 JWT를 받아 유저를 인증하는 커스텀 인증 필터.
@@ -34,15 +29,8 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
     private final UserAccountJwtAuthenticationService userAccountJwtAuthenticationService;
 
-    private final CustomUserDetailsService customUserDetailsService;
-
-    /**
-     * URI 경로를 검증하는 AntPathMatcher 오브젝트.
-     */
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
-
     /**
-     * 인증에서 제회할 URI 경로.
+     * 인증에서 제회할 URI 경로. 와일드카드 없는 경로와 "/**"로 끝나는 경로만 사용할 수 있다.
      */
     private static final String[] excluded_urls = {
             "/api/users/login",
@@ -52,10 +40,52 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             "/h2-console/**"
     };
 
+    /**
+     * 접근 토큰이 담긴 쿠키의 이름.
+     */
+    private static final String ACCESS_TOKEN_COOKIE = "accessToken";
+
+    /**
+     * 접근 토큰이 유효하지 않을때 재발급을 요청할 경로.
+     */
+    private static final String REFRESH_URL = "/api/users/refresh";
+
+    // 요청마다 패턴을 해석하지 않도록, 제외할 경로를 정확히 일치하는 경로와 접두사로 미리 나눠둔다.
+    private static final Set<String> EXCLUDED_PATHS;
+
+    private static final String[] EXCLUDED_PREFIXES;
+
+    static {
+        Set<String> paths = new HashSet<>();
+        List<String> prefixes = new ArrayList<>();
+        for (String url : excluded_urls) {
+            if (url.endsWith("/**")) {
+                // "/h2-console/**"는 "/h2-console"과 그 하위 경로에 일치한다.
+                String base = url.substring(0, url.length() - "/**".length());
+                paths.add(base);
+                prefixes.add(base + "/");
+            } else if (url.contains("*") || url.contains("?") || url.contains("{")) {
+                throw new IllegalStateException("지원하지 않는 제외 경로입니다: " + url);
+            } else {
+                paths.add(url);
+            }
+        }
+        EXCLUDED_PATHS = Set.copyOf(paths);
+        EXCLUDED_PREFIXES = prefixes.toArray(String[]::new);
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String url = request.getRequestURI();
-        return Stream.of(excluded_urls).anyMatch(path -> pathMatcher.match(path, url));
+        if (EXCLUDED_PATHS.contains(url)) {
+            return true;
+        }
+        for (String prefix : EXCLUDED_PREFIXES) {
+            if (url.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -68,29 +98,38 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
         }
 
         // 접근 토큰이 없거나 빈 값을 가지고 있다면 인증을 거부한다.
-        Cookie authCookie = Arrays.stream(cookies).filter(cookie -> cookie.getName().equals("accessToken")).findFirst().orElse(null);
+        Cookie authCookie = findCookie(cookies, ACCESS_TOKEN_COOKIE);
         if (authCookie == null || authCookie.getValue().isEmpty()) {
             filterChain.doFilter(request, response);
             return;
         }
 
+        // 접근 토큰의 클레임으로 회원 정보를 만든다. (DB 조회 없음)
+        // 이후 필터와 컨트롤러에서 난 예외는 토큰과 상관없으므로, 토큰을 확인하는 부분만 감싼다.
+        CustomUserDetails customUserDetails;
         try {
-            // 접근 토큰에서 회원 정보를 꺼내 해당 회원을 현재 인증된 회원으로 지정한다.
-            UserAccount requestUser = userAccountJwtAuthenticationService.retrieveUserFromAccessToken(authCookie.getValue());
-            UserDetails customUserDetails = customUserDetailsService.loadUserByUsername(requestUser.getUsername());
-            Authentication authentication = new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            filterChain.doFilter(request, response);
+            customUserDetails = userAccountJwtAuthenticationService.retrievePrincipalFromAccessToken(authCookie.getValue());
         } catch (Exception e) {
             // 접근 토큰이 유효하지 않을때 리프레시 토큰으로 재발급을 시도한다.
-            response.setContentType("application/json;charset=UTF-8");
-            response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
-            response.setHeader("Location", URI.create("/api/users/refresh").toString());
-            response.getWriter().write(
-                    new ObjectMapper().writeValueAsString(ResponseDto.of(
-                            HttpStatus.TEMPORARY_REDIRECT.value() + "",
-                            "접근 토큰이 유효하지 않습니다."
-                    )));
+            // 토큰이 만료되는 시점에 요청이 몰리므로, 미리 직렬화한 본문을 그대로 쓴다.
+            response.setHeader("Location", REFRESH_URL);
+            SecurityErrorResponse.INVALID_ACCESS_TOKEN.write(response);
+            return;
+        }
+
+        // 현재 인증된 회원으로 지정한다.
+        Authentication authentication = new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        filterChain.doFilter(request, response);
+    }
+
+    // 스트림을 만들지 않고 쿠키 배열에서 이름이 일치하는 첫 쿠키를 찾는다.
+    static Cookie findCookie(Cookie[] cookies, String name) {
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName())) {
+                return cookie;
+            }
         }
+        return null;
     }
 }
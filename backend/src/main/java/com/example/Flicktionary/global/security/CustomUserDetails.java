@@ -5,7 +5,7 @@ import lombok.Getter;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
-import java.util.stream.Stream;
+import java.util.List;
 
 /**
  * 회원 엔티티를 담을 {@code UserDetailsService} 구현체
@@ -16,7 +16,19 @@ public class CustomUserDetails extends User {
     private Long id;
 
     public CustomUserDetails(UserAccount userAccount) {
-        super(userAccount.getUsername(), userAccount.getPassword(), Stream.of(userAccount.getRole().toString()).map(SimpleGrantedAuthority::new).toList());
+        super(userAccount.getUsername(), userAccount.getPassword(), List.of(new SimpleGrantedAuthority(userAccount.getRole().toString())));
         this.id = userAccount.getId();
     }
+
+    /**
+     * 접근 토큰의 클레임으로 회원 정보를 만든다. 토큰으로 인증하므로 비밀번호는 담지 않는다.
+     *
+     * @param id       회원의 고유 ID
+     * @param username 회원의 유저 ID
+     * @param role     회원의 계정 분류
+     */
+    public CustomUserDetails(Long id, String username, String role) {
+        super(username, "", List.of(new SimpleGrantedAuthority(role)));
+        this.id = id;
+    }
 }
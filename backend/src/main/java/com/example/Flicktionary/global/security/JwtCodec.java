@@ -0,0 +1,67 @@
+package com.example.Flicktionary.global.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * JWT를 서명하고 검증하는 컴포넌트.
+ * 비밀키와 파서를 처음 한번만 만들어 재사용한다. 둘 다 불변이므로 여러 스레드가 동시에 사용해도 안전하다.
+ */
+@Component
+public class JwtCodec {
+
+    private final SecretKey secretKey;
+
+    private final JwtParser parser;
+
+    public JwtCodec(@Value("${custom.jwt.secret-key}") String secret) {
+        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+    }
+
+    /**
+     * 비밀키로 서명된, 만료시각을 가진 JWT를 생성한다.
+     *
+     * @param claims             JWT에 담길 클레임
+     * @param expireAfterSeconds JWT의 유효기간(초)
+     * @return 새로 생성된 JWT
+     */
+    public String encode(Map<String, Object> claims, int expireAfterSeconds) {
+        Date issuedAt = new Date();
+        Date expiresAt = new Date(issuedAt.getTime() + expireAfterSeconds * 1000L);
+        return Jwts.builder()
+                .claims(claims)
+                .issuedAt(issuedAt)
+                .expiration(expiresAt)
+                .signWith(secretKey)
+                .compact();
+    }
+
+    /**
+     * JWT의 서명과 만료시각을 한번에 검증한 뒤 클레임을 꺼내온다.
+     * 서명되지 않았거나 만료시각이 없는 JWT는 거부한다.
+     *
+     * @param token 검증할 JWT
+     * @return JWT의 클레임. {@link Claims#get(String, Class)}로 타입을 지정해 꺼낼 수 있다.
+     * @throws JwtException 유효하지 않은 JWT일 때
+     */
+    public Claims decode(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        if (claims.getExpiration() == null) {
+            throw new JwtException("토큰의 만료시각이 없습니다.");
+        }
+        return claims;
+    }
+}
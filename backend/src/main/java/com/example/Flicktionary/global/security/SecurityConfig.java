@@ -1,11 +1,9 @@
 package com.example.Flicktionary.global.security;
 
-import com.example.Flicktionary.global.dto.ResponseDto;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.Flicktionary.domain.user.entity.UserAccountType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -16,8 +14,6 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    // JSON 직렬/역직렬화 유틸리티 클래스를 따로 구현할지 여부를 고려해볼것
-    private final ObjectMapper objectMapper = new ObjectMapper();
     private final CustomAuthenticationFilter customAuthenticationFilter;
     private final CorsConfig corsConfig;
 
@@ -25,8 +21,10 @@ public class SecurityConfig {
     SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 .authorizeHttpRequests((authorizeHttpRequests) ->
-                        /** 모든 엔드포인트를 개방한다. {@link CustomAuthenticationFilter} 참조. */
+                        /** 관리자 API를 제외한 모든 엔드포인트를 개방한다. {@link CustomAuthenticationFilter} 참조. */
                         authorizeHttpRequests
+                                .requestMatchers("/api/admin/**")
+                                .hasAuthority(UserAccountType.ADMIN.toString())
                                 .anyRequest()
                                 .permitAll())
                 // CORS 설정 적용
@@ -44,26 +42,12 @@ public class SecurityConfig {
                 .exceptionHandling((exceptionHandling) ->
                         exceptionHandling
                                 .authenticationEntryPoint(
-                                        (request, response, authException) -> {
-                                            response.setContentType("application/json;charset=UTF-8");
-                                            response.setStatus(HttpStatus.FORBIDDEN.value());
-                                            response.getWriter().write(
-                                                    objectMapper.writeValueAsString(ResponseDto.of(
-                                                            HttpStatus.FORBIDDEN.value() + "",
-                                                            "로그인이 필요합니다."
-                                                    )));
-                                        }
+                                        (request, response, authException) ->
+                                                SecurityErrorResponse.LOGIN_REQUIRED.write(response)
                                 )
                                 .accessDeniedHandler(
-                                        (request, response, authException) -> {
-                                            response.setContentType("application/json;charset=UTF-8");
-                                            response.setStatus(HttpStatus.UNAUTHORIZED.value());
-                                            response.getWriter().write(
-                                                    objectMapper.writeValueAsString(ResponseDto.of(
-                                                            HttpStatus.UNAUTHORIZED.value() + "",
-                                                            "접근 권한이 없습니다."
-                                                    )));
-                                        }
+                                        (request, response, accessDeniedException) ->
+                                                SecurityErrorResponse.ACCESS_DENIED.write(response)
                                 )
                 );
         return http.build();
@@ -0,0 +1,56 @@
+package com.example.Flicktionary.global.security;
+
+import com.example.Flicktionary.global.dto.ResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 인증 필터와 {@link SecurityConfig}의 예외 처리에서 돌려주는 고정된 오류 응답.
+ * 본문은 처음 한번만 JSON으로 직렬화해두고, 요청마다 같은 바이트 배열을 그대로 쓴다.
+ */
+public enum SecurityErrorResponse {
+
+    INVALID_ACCESS_TOKEN(HttpStatus.TEMPORARY_REDIRECT, "접근 토큰이 유효하지 않습니다."),
+    LOGIN_REQUIRED(HttpStatus.FORBIDDEN, "로그인이 필요합니다."),
+    ACCESS_DENIED(HttpStatus.UNAUTHORIZED, "접근 권한이 없습니다.");
+
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    private final HttpStatus status;
+
+    private final byte[] body;
+
+    SecurityErrorResponse(HttpStatus status, String message) {
+        this.status = status;
+        try {
+            this.body = new ObjectMapper().writeValueAsBytes(ResponseDto.of(status.value() + "", message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 상태 코드와 미리 직렬화한 본문을 응답에 쓴다.
+     * 이미 커밋된 응답에는 쓰지 않고, 앞에서 {@code getWriter()}를 호출한 응답에는 Writer로 쓴다.
+     *
+     * @param response 오류를 응답할 HTTP 응답
+     */
+    public void write(HttpServletResponse response) throws IOException {
+        if (response.isCommitted()) {
+            return;
+        }
+        response.setStatus(status.value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        try {
+            response.getOutputStream().write(body);
+        } catch (IllegalStateException e) {
+            response.getWriter().write(new String(body, StandardCharsets.UTF_8));
+        }
+    }
+}
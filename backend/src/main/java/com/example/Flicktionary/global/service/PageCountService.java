@@ -0,0 +1,106 @@
+package com.example.Flicktionary.global.service;
+
+import com.example.Flicktionary.global.dto.CountMode;
+import com.example.Flicktionary.global.dto.PageDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * {@link CountMode}에 따라 전체 개수를 세거나 건너뛰고 {@link PageDto}를 만든다.
+ * 근사값은 목록의 조건별로 캐시해두고, 유효기간이 지나면 처음 요청한 스레드 하나만 다시 센다.
+ * 다시 세는 동안 다른 요청은 이전 값을 그대로 사용한다.
+ */
+@Service
+public class PageCountService {
+
+    // 검색어마다 항목이 생기므로 개수를 제한한다. 넘치면 모두 비우고 다시 센다.
+    static final int MAX_ENTRIES = 10_000;
+
+    private final long ttlNanos;
+
+    private final Map<String, Count> counts = new ConcurrentHashMap<>();
+
+    public PageCountService(@Value("${custom.count.approximate-ttl-seconds}") long ttlSeconds) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /**
+     * 목록을 조회해서 {@link PageDto}로 만든다.
+     *
+     * @param countMode  전체 개수를 세는 방법
+     * @param pageQuery  전체 개수와 함께 조회하는 쿼리 (EXACT)
+     * @param sliceQuery 전체 개수 없이 다음 페이지 여부만 조회하는 쿼리 (APPROXIMATE, NONE)
+     * @param countKey   근사값을 캐시할 키. 목록의 조건을 모두 포함해야 한다.
+     * @param countQuery 근사값을 다시 셀 때 사용하는 쿼리
+     * @return 페이지. NONE이라면 전체 개수가 없다.
+     */
+    public <T> PageDto<T> toPageDto(CountMode countMode,
+                                    Supplier<Page<T>> pageQuery,
+                                    Supplier<Slice<T>> sliceQuery,
+                                    String countKey,
+                                    LongSupplier countQuery) {
+        return switch (countMode) {
+            case EXACT -> new PageDto<>(pageQuery.get());
+            case APPROXIMATE -> new PageDto<>(sliceQuery.get(), approximateCount(countKey, countQuery));
+            case NONE -> new PageDto<>(sliceQuery.get());
+        };
+    }
+
+    /**
+     * 캐시된 개수를 돌려준다. 없거나 유효기간이 지났다면 다시 센다.
+     *
+     * @param key        캐시할 키
+     * @param countQuery 개수를 세는 쿼리
+     * @return 전체 개수의 근사값
+     */
+    public long approximateCount(String key, LongSupplier countQuery) {
+        Count cached = counts.get(key);
+        if (cached != null && (!cached.isExpired(ttlNanos) || !cached.refreshing.compareAndSet(false, true))) {
+            return cached.value;
+        }
+
+        long value;
+        try {
+            value = countQuery.getAsLong();
+        } catch (RuntimeException e) {
+            if (cached != null) {
+                cached.refreshing.set(false);
+            }
+            throw e;
+        }
+
+        if (cached == null && counts.size() >= MAX_ENTRIES) {
+            counts.clear();
+        }
+        counts.put(key, new Count(value, System.nanoTime()));
+        return value;
+    }
+
+    private static final class Count {
+
+        private final long value;
+
+        private final long countedAt;
+
+        // 한 스레드만 다시 세도록 표시
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Count(long value, long countedAt) {
+            this.value = value;
+            this.countedAt = countedAt;
+        }
+
+        private boolean isExpired(long ttlNanos) {
+            return System.nanoTime() - countedAt >= ttlNanos;
+        }
+    }
+}
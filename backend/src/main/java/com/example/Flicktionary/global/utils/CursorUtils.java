@@ -0,0 +1,67 @@
+package com.example.Flicktionary.global.utils;
+
+import com.example.Flicktionary.global.exception.ServiceException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 기반 페이지네이션에서 사용하는 커서를 만들고 읽는 유틸리티 클래스.
+ * 커서는 마지막으로 조회한 행의 정렬 키를 base64로 인코딩한 문자열이며, 클라이언트는 내용을 해석하지 않고 그대로 돌려준다.
+ */
+public class CursorUtils {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * @param pageSize 요청한 페이지 크기
+     * @throws ServiceException 페이지 크기가 1 이상 {@link #MAX_PAGE_SIZE} 이하가 아닌 경우
+     */
+    public static void checkPageSize(int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new ServiceException(HttpStatus.BAD_REQUEST.value(), "페이지 크기는 1 이상 %d 이하로 지정해야 합니다.".formatted(MAX_PAGE_SIZE));
+        }
+    }
+
+    /**
+     * 정렬 키를 커서로 인코딩한다.
+     *
+     * @param keys 마지막으로 조회한 행의 정렬 키. {@code toString()}으로 변환한 값을 다시 읽을 수 있어야 한다.
+     * @return URL에 그대로 사용할 수 있는 base64 문자열
+     */
+    public static String encode(Object... keys) {
+        String joined = Arrays.stream(keys)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 정렬 키로 디코딩한다.
+     *
+     * @param cursor   클라이언트가 전달한 커서
+     * @param keyCount 정렬 키의 개수
+     * @param parser   문자열로 된 정렬 키를 읽는 함수
+     * @return 읽은 정렬 키
+     * @throws ServiceException 커서의 형식이 잘못된 경우
+     */
+    public static <T> T decode(String cursor, int keyCount, Function<String[], T> parser) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = decoded.split("\\|", -1);
+            if (keys.length != keyCount) {
+                throw new IllegalArgumentException("정렬 키의 개수가 다릅니다: " + keys.length);
+            }
+            return parser.apply(keys);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new ServiceException(HttpStatus.BAD_REQUEST.value(), "잘못된 커서입니다.");
+        }
+    }
+}
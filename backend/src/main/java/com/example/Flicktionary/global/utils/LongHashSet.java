@@ -0,0 +1,143 @@
+package com.example.Flicktionary.global.utils;
+
+import java.util.Collection;
+
+/**
+ * {@code long} 값을 박싱하지 않고 저장하는 해시 집합.
+ * 개방 주소법(선형 탐사)을 사용하며, 삭제는 지원하지 않는다.
+ * 스레드에 안전하지 않으므로 값을 추가하는 동안에는 한 스레드에서만 사용해야 한다.
+ */
+public class LongHashSet {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // 빈 슬롯을 나타내는 값. 0은 별도의 플래그로 관리한다.
+    private static final long EMPTY = 0L;
+
+    private long[] slots;
+
+    private int mask;
+
+    private int size;
+
+    private boolean containsZero;
+
+    public LongHashSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize 테이블을 늘리지 않고 담을 수 있어야 하는 값의 개수
+     */
+    public LongHashSet(int expectedSize) {
+        int capacity = tableSizeFor(Math.max(expectedSize, DEFAULT_CAPACITY / 2) * 2);
+        this.slots = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 주어진 값을 모두 담은 집합을 생성한다. {@code null}은 무시한다.
+     *
+     * @param values 담을 값
+     * @return 생성된 집합
+     */
+    public static LongHashSet of(Collection<Long> values) {
+        LongHashSet set = new LongHashSet(values.size());
+        for (Long value : values) {
+            if (value != null) {
+                set.add(value);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * 값을 추가한다.
+     *
+     * @param value 추가할 값
+     * @return 새로 추가되었다면 {@code true}, 이미 있던 값이면 {@code false}
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int index = indexOf(value);
+        if (slots[index] == value) {
+            return false;
+        }
+
+        slots[index] = value;
+        size++;
+        // 채움 비율을 1/2 이하로 유지해서 탐사 길이를 짧게 만든다.
+        if (size * 2 > slots.length) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * @param value 확인할 값
+     * @return 값이 집합에 있다면 {@code true}
+     */
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        return slots[indexOf(value)] == value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 값이 들어있는 슬롯, 또는 값이 들어갈 빈 슬롯의 위치를 찾습니다.
+    private int indexOf(long value) {
+        int index = mix(value) & mask;
+        while (slots[index] != EMPTY && slots[index] != value) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void grow() {
+        long[] oldSlots = slots;
+        slots = new long[oldSlots.length * 2];
+        mask = slots.length - 1;
+        for (long value : oldSlots) {
+            if (value != EMPTY) {
+                slots[indexOf(value)] = value;
+            }
+        }
+    }
+
+    // 연속된 ID가 인접한 슬롯에 몰리지 않도록 비트를 섞습니다. (MurmurHash3의 finalizer)
+    private static int mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        return n < 0 ? 1 << 30 : n;
+    }
+
+    @Override
+    public String toString() {
+        return "LongHashSet{size=" + size + ", capacity=" + slots.length + "}";
+    }
+}
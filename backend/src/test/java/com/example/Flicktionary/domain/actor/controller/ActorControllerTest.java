@@ -1,5 +1,8 @@
 package com.example.Flicktionary.domain.actor.controller;
 
+import com.example.Flicktionary.domain.actor.dto.ActorFilmographyResponse;
+import com.example.Flicktionary.domain.actor.dto.ActorMovieDto;
+import com.example.Flicktionary.domain.actor.dto.ActorSeriesDto;
 import com.example.Flicktionary.domain.actor.entity.Actor;
 import com.example.Flicktionary.domain.actor.service.ActorService;
 import com.example.Flicktionary.domain.movie.entity.Movie;
@@ -74,9 +77,9 @@ class ActorControllerTest {
     @DisplayName("배우 상세 조회 - 성공")
     void getActor1() throws Exception {
         // Given
-        given(actorService.getActorById(1L)).willReturn(testActor);
-        given(actorService.getMoviesByActorId(1L)).willReturn(List.of(testMovie));
-        given(actorService.getSeriesByActorId(1L)).willReturn(List.of(testSeries));
+        given(actorService.getActorWithFilmography(1L)).willReturn(new ActorFilmographyResponse(testActor,
+                List.of(new ActorMovieDto(testMovie.getId(), testMovie.getTitle(), testMovie.getPosterPath(), null)),
+                List.of(new ActorSeriesDto(testSeries.getId(), testSeries.getTitle(), testSeries.getPosterPath(), null, null))));
 
         // When & Then
         mockMvc.perform(get("/api/actors/1"))
@@ -93,7 +96,7 @@ class ActorControllerTest {
     void getActor2() throws Exception {
         // Given
         long id = 999;
-        given(actorService.getActorById(id)).willThrow(
+        given(actorService.getActorWithFilmography(id)).willThrow(
                 new ServiceException(HttpStatus.NOT_FOUND.value(), "%d번 배우를 찾을 수 없습니다.".formatted(id))
         );
 
@@ -1,13 +1,16 @@
 package com.example.Flicktionary.domain.actor.service;
 
+import com.example.Flicktionary.domain.actor.dto.ActorFilmographyResponse;
+import com.example.Flicktionary.domain.actor.dto.ActorMovieDto;
+import com.example.Flicktionary.domain.actor.dto.ActorSeriesDto;
 import com.example.Flicktionary.domain.actor.entity.Actor;
 import com.example.Flicktionary.domain.actor.repository.ActorRepository;
 import com.example.Flicktionary.domain.movie.entity.Movie;
-import com.example.Flicktionary.domain.movie.entity.MovieCast;
 import com.example.Flicktionary.domain.movie.repository.MovieCastRepository;
+import com.example.Flicktionary.domain.search.service.SearchIndex;
 import com.example.Flicktionary.domain.series.entity.Series;
-import com.example.Flicktionary.domain.series.entity.SeriesCast;
 import com.example.Flicktionary.domain.series.repository.SeriesCastRepository;
+import com.example.Flicktionary.global.exception.ServiceException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,6 +29,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -40,6 +44,8 @@ class ActorServiceTest {
     private MovieCastRepository movieCastRepository;
     @Mock
     private SeriesCastRepository seriesCastRepository;
+    @Mock
+    private SearchIndex searchIndex;
     @InjectMocks
     private ActorService actorService;
 
@@ -82,35 +88,41 @@ class ActorServiceTest {
     }
 
     @Test
-    @DisplayName("배우가 출연한 영화 리스트 조회 - 성공")
-    void getMoviesByActorId1() {
+    @DisplayName("배우 출연작 조회 - 성공")
+    void getActorWithFilmography1() {
         // Given
-        MovieCast movieCast = new MovieCast(1L, movie, actor1, "name");
-        given(movieCastRepository.findMoviesByActorId(1L)).willReturn(List.of(movieCast));
+        given(actorRepository.findById(1L)).willReturn(Optional.of(actor1));
+        given(movieCastRepository.findFilmographyByActorId(1L)).willReturn(List.of(
+                new ActorMovieDto(movie.getId(), movie.getTitle(), movie.getPosterPath(), movie.getReleaseDate())));
+        given(seriesCastRepository.findFilmographyByActorId(1L)).willReturn(List.of(
+                new ActorSeriesDto(series.getId(), series.getTitle(), series.getPosterPath(),
+                        series.getReleaseStartDate(), series.getReleaseEndDate())));
 
         // When
-        List<Movie> result = actorService.getMoviesByActorId(1L);
+        ActorFilmographyResponse result = actorService.getActorWithFilmography(1L);
 
         // Then
-        assertEquals(movie.getTitle(), result.getFirst().getTitle());
-        assertEquals(movie.getReleaseDate(), result.getFirst().getReleaseDate());
-        then(movieCastRepository).should().findMoviesByActorId(1L);
+        assertEquals(actor1.getName(), result.getName());
+        assertEquals(movie.getTitle(), result.getMovies().getFirst().getTitle());
+        assertEquals(movie.getReleaseDate(), result.getMovies().getFirst().getReleaseDate());
+        assertEquals(series.getTitle(), result.getSeries().getFirst().getTitle());
+        assertEquals(series.getReleaseEndDate(), result.getSeries().getFirst().getReleaseEndDate());
+        then(movieCastRepository).should().findFilmographyByActorId(1L);
+        then(seriesCastRepository).should().findFilmographyByActorId(1L);
     }
 
     @Test
-    @DisplayName("배우가 출연한 시리즈 리스트 조회 - 성공")
-    void getSeriesByActorId1() {
-        // Given
-        SeriesCast seriesCast = new SeriesCast(1L, series, actor1, "name");
-        given(seriesCastRepository.findSeriesByActorId(1L)).willReturn(List.of(seriesCast));
+    @DisplayName("배우 출연작 조회 - 실패 - 없는 배우 조회")
+    void getActorWithFilmography2() {
+        given(actorRepository.findById(999L)).willReturn(Optional.empty());
 
-        // When
-        List<Series> result = actorService.getSeriesByActorId(1L);
+        Throwable thrown = catchThrowable(() -> actorService.getActorWithFilmography(999L));
 
-        // Then
-        assertEquals(series.getTitle(), result.getFirst().getTitle());
-        assertEquals(series.getReleaseEndDate(), result.getFirst().getReleaseEndDate());
-        then(seriesCastRepository).should().findSeriesByActorId(1L);
+        assertThat(thrown)
+                .isInstanceOf(ServiceException.class)
+                .hasMessage("999번 배우를 찾을 수 없습니다.");
+        then(movieCastRepository).shouldHaveNoInteractions();
+        then(seriesCastRepository).shouldHaveNoInteractions();
     }
 
     @Test
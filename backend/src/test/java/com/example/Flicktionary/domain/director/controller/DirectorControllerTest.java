@@ -1,5 +1,7 @@
 package com.example.Flicktionary.domain.director.controller;
 
+import com.example.Flicktionary.domain.director.dto.DirectorMovieDto;
+import com.example.Flicktionary.domain.director.dto.DirectorSeriesDto;
 import com.example.Flicktionary.domain.director.entity.Director;
 import com.example.Flicktionary.domain.director.service.DirectorService;
 import com.example.Flicktionary.domain.movie.entity.Movie;
@@ -103,8 +105,8 @@ class DirectorControllerTest {
     void getDirector1() throws Exception {
         // Given
         given(directorService.getDirector(1L)).willReturn(director);
-        given(directorService.getMoviesByDirectorId(1L)).willReturn(List.of(movie));
-        given(directorService.getSeriesByDirectorId(1L)).willReturn(List.of(series));
+        given(directorService.getMoviesByDirectorId(1L, 1, 20)).willReturn(new PageImpl<>(List.of(movieDto()), PageRequest.of(0, 20), 21));
+        given(directorService.getSeriesByDirectorId(1L, 1, 20)).willReturn(new PageImpl<>(List.of(seriesDto()), PageRequest.of(0, 20), 1));
 
         // When & Then
         mockMvc.perform(get("/api/directors/1"))
@@ -113,7 +115,34 @@ class DirectorControllerTest {
                 .andExpect(jsonPath("$.data.name").value("director"))
                 .andExpect(jsonPath("$.data.profilePath").value("director.png"))
                 .andExpect(jsonPath("$.data.movies[0].title").value("movie"))
-                .andExpect(jsonPath("$.data.series[0].title").value("series"));
+                .andExpect(jsonPath("$.data.movieCount").value(21))
+                .andExpect(jsonPath("$.data.series[0].title").value("series"))
+                .andExpect(jsonPath("$.data.seriesCount").value(1));
+    }
+
+    @Test
+    @DisplayName("감독의 영화 목록 조회 - 성공")
+    void getDirectorMovies1() throws Exception {
+        given(directorService.getMoviesByDirectorId(1L, 2, 20)).willReturn(new PageImpl<>(List.of(movieDto()), PageRequest.of(1, 20), 21));
+
+        mockMvc.perform(get("/api/directors/1/movies")
+                        .param("page", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].title").value("movie"))
+                .andExpect(jsonPath("$.data.curPageNo").value(2))
+                .andExpect(jsonPath("$.data.totalItems").value(21));
+    }
+
+    @Test
+    @DisplayName("감독의 시리즈 목록 조회 - 성공")
+    void getDirectorSeries1() throws Exception {
+        given(directorService.getSeriesByDirectorId(1L, 1, 5)).willReturn(new PageImpl<>(List.of(seriesDto()), PageRequest.of(0, 5), 1));
+
+        mockMvc.perform(get("/api/directors/1/series")
+                        .param("pageSize", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].title").value("series"))
+                .andExpect(jsonPath("$.data.totalItems").value(1));
     }
 
     @Test
@@ -133,4 +162,12 @@ class DirectorControllerTest {
                 .andExpect(jsonPath("$.code").value(HttpStatus.NOT_FOUND.value()))
                 .andExpect(jsonPath("$.message").value("%d번 감독을 찾을 수 없습니다.".formatted(id)));
     }
-}
\ No newline at end of file
+
+    private DirectorMovieDto movieDto() {
+        return new DirectorMovieDto(movie.getId(), movie.getTitle(), movie.getPosterPath(), null);
+    }
+
+    private DirectorSeriesDto seriesDto() {
+        return new DirectorSeriesDto(series.getId(), series.getTitle(), series.getPosterPath(), null, null);
+    }
+}
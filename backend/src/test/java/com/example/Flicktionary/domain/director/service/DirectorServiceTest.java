@@ -1,18 +1,27 @@
 package com.example.Flicktionary.domain.director.service;
 
+import com.example.Flicktionary.domain.director.dto.DirectorMovieDto;
+import com.example.Flicktionary.domain.director.dto.DirectorSeriesDto;
 import com.example.Flicktionary.domain.director.entity.Director;
 import com.example.Flicktionary.domain.director.repository.DirectorRepository;
 import com.example.Flicktionary.domain.movie.entity.Movie;
 import com.example.Flicktionary.domain.movie.repository.MovieRepository;
+import com.example.Flicktionary.domain.search.service.SearchIndex;
 import com.example.Flicktionary.domain.series.entity.Series;
 import com.example.Flicktionary.domain.series.repository.SeriesRepository;
+import com.example.Flicktionary.global.cache.CacheNames;
+import com.example.Flicktionary.global.exception.ServiceException;
+import com.example.Flicktionary.global.utils.CursorUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -23,6 +32,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -39,6 +49,12 @@ class DirectorServiceTest {
     @Mock
     private SeriesRepository seriesRepository;
 
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(CacheNames.DIRECTOR_MOVIES, CacheNames.DIRECTOR_SERIES);
+
     @InjectMocks
     private DirectorService directorService;
 
@@ -110,29 +126,80 @@ class DirectorServiceTest {
     @DisplayName("감독 아이디로 영화 조회 - 성공")
     void getMoviesByDirectorId() {
         // Arrange
-        when(movieRepository.findByDirectorId(director.getId())).thenReturn(List.of(movie));
+        when(movieRepository.findFilmographyByDirectorId(director.getId())).thenReturn(List.of(movieDto(1L), movieDto(2L), movieDto(3L)));
 
         // Act
-        List<Movie> movies = directorService.getMoviesByDirectorId(director.getId());
+        Page<DirectorMovieDto> movies = directorService.getMoviesByDirectorId(director.getId(), 2, 2);
 
         // Assert
         assertNotNull(movies);
-        assertEquals(1, movies.size());
-        assertEquals(movie.getTitle(), movies.get(0).getTitle());
+        assertEquals(1, movies.getContent().size());
+        assertEquals(3L, movies.getContent().get(0).getId());
+        assertEquals(3L, movies.getTotalElements());
+        assertEquals(2, movies.getTotalPages());
     }
 
     @Test
     @DisplayName("감독 아이디로 시리즈 조회 - 성공")
     void getSeriesByDirectorId() {
         // Arrange
-        when(seriesRepository.findByDirectorId(director.getId())).thenReturn(List.of(series));
+        when(seriesRepository.findFilmographyByDirectorId(director.getId())).thenReturn(List.of(
+                new DirectorSeriesDto(series.getId(), series.getTitle(), series.getPosterPath(),
+                        series.getReleaseStartDate(), series.getReleaseEndDate())));
 
         // Act
-        List<Series> seriesList = directorService.getSeriesByDirectorId(director.getId());
+        Page<DirectorSeriesDto> seriesPage = directorService.getSeriesByDirectorId(director.getId(), 1, 10);
 
         // Assert
-        assertNotNull(seriesList);
-        assertEquals(1, seriesList.size());
-        assertEquals(series.getTitle(), seriesList.get(0).getTitle());
+        assertNotNull(seriesPage);
+        assertEquals(1, seriesPage.getContent().size());
+        assertEquals(series.getTitle(), seriesPage.getContent().get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("감독 아이디로 영화 조회 - 성공 - 다른 페이지는 캐시된 목록에서 조회")
+    void getMoviesByDirectorIdCached() {
+        when(movieRepository.findFilmographyByDirectorId(director.getId())).thenReturn(List.of(movieDto(1L), movieDto(2L)));
+
+        directorService.getMoviesByDirectorId(director.getId(), 1, 1);
+        Page<DirectorMovieDto> second = directorService.getMoviesByDirectorId(director.getId(), 2, 1);
+
+        assertEquals(2L, second.getContent().get(0).getId());
+        verify(movieRepository, times(1)).findFilmographyByDirectorId(director.getId());
+    }
+
+    @Test
+    @DisplayName("감독 아이디로 영화 조회 - 성공 - 범위를 넘는 페이지는 빈 페이지")
+    void getMoviesByDirectorIdOutOfRange() {
+        when(movieRepository.findFilmographyByDirectorId(director.getId())).thenReturn(List.of(movieDto(1L)));
+
+        Page<DirectorMovieDto> movies = directorService.getMoviesByDirectorId(director.getId(), 5, 10);
+
+        assertTrue(movies.getContent().isEmpty());
+        assertEquals(1L, movies.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("감독 아이디로 영화 조회 - 실패 - 잘못된 페이지")
+    void getMoviesByDirectorIdInvalidPage() {
+        Throwable thrown = catchThrowable(() -> directorService.getMoviesByDirectorId(director.getId(), 0, 10));
+
+        assertThat(thrown)
+                .isInstanceOf(ServiceException.class)
+                .hasMessage("페이지는 1부터 요청 가능합니다.");
+    }
+
+    @Test
+    @DisplayName("감독 아이디로 시리즈 조회 - 실패 - 최대 크기를 넘는 페이지")
+    void getSeriesByDirectorIdPageSizeTooLarge() {
+        Throwable thrown = catchThrowable(() -> directorService.getSeriesByDirectorId(director.getId(), 1, CursorUtils.MAX_PAGE_SIZE + 1));
+
+        assertThat(thrown)
+                .isInstanceOf(ServiceException.class)
+                .hasMessage("페이지 크기는 1 이상 %d 이하로 지정해야 합니다.".formatted(CursorUtils.MAX_PAGE_SIZE));
+    }
+
+    private DirectorMovieDto movieDto(Long id) {
+        return new DirectorMovieDto(id, "movie" + id, null, LocalDate.of(2022, 1, 1));
     }
-}
\ No newline at end of file
+}
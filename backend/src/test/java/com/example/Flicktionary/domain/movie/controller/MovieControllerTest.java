@@ -6,6 +6,8 @@ import com.example.Flicktionary.domain.movie.entity.Movie;
 import com.example.Flicktionary.domain.movie.service.MovieService;
 import com.example.Flicktionary.domain.user.service.UserAccountJwtAuthenticationService;
 import com.example.Flicktionary.domain.user.service.UserAccountService;
+import com.example.Flicktionary.global.cache.JsonResponseCache;
+import com.example.Flicktionary.global.dto.CursorDto;
 import com.example.Flicktionary.global.dto.PageDto;
 import com.example.Flicktionary.global.exception.ServiceException;
 import com.example.Flicktionary.global.security.CustomUserDetailsService;
@@ -19,6 +21,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -37,6 +40,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @DisplayName("영화 도메인 컨트롤러 테스트")
 @Import({MovieService.class,
+        JsonResponseCache.class,
         UserAccountService.class,
         UserAccountJwtAuthenticationService.class,
         CustomUserDetailsService.class})
@@ -135,6 +139,31 @@ class MovieControllerTest {
                 .andExpect(jsonPath("$.data").isEmpty());
     }
 
+    @Test
+    @DisplayName("영화 목록 커서 조회 - 성공")
+    void getMoviesByCursor1() throws Exception {
+        given(movieService.getMoviesByCursor("", "MTIz", 2, "rating", false))
+                .willReturn(new CursorDto<>(
+                        List.of(new MovieResponse(testMovie2), new MovieResponse(testMovie1)),
+                        "NDU2", 2, null));
+
+        ResultActions resultActions = mvc.perform(get("/api/movies/cursor")
+                        .param("cursor", "MTIz")
+                        .param("pageSize", "2")
+                        .param("sortBy", "rating")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print());
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(MovieController.class))
+                .andExpect(handler().methodName("getMoviesByCursor"))
+                .andExpect(jsonPath("$.data.items[0].id").value(testMovie2.getId()))
+                .andExpect(jsonPath("$.data.nextCursor").value("NDU2"))
+                .andExpect(jsonPath("$.data.totalItems").isEmpty());
+        then(movieService).should().getMoviesByCursor("", "MTIz", 2, "rating", false);
+    }
+
     @Test
     @DisplayName("영화 상세 조회 - 성공")
     void getMovie1() throws Exception {
@@ -178,4 +207,27 @@ class MovieControllerTest {
                 .andExpect(jsonPath("$.message").value("%d번 영화를 찾을 수 없습니다.".formatted(id)))
                 .andExpect(jsonPath("$.data").isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("영화 상세 조회 - ETag가 같으면 본문 없이 304 응답")
+    void getMovieNotModified() throws Exception {
+        given(movieService.getMovie(testMovie1.getId()))
+                .willReturn(new MovieResponseWithDetail(testMovie1));
+
+        String eTag = mvc.perform(get("/api/movies/%d".formatted(testMovie1.getId())))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/api/movies/%d".formatted(testMovie1.getId()))
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        mvc.perform(get("/api/movies/%d".formatted(testMovie1.getId()))
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value(testMovie1.getTitle()));
+    }
+}
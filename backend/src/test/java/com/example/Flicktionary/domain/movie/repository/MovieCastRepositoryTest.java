@@ -0,0 +1,87 @@
+package com.example.Flicktionary.domain.movie.repository;
+
+import com.example.Flicktionary.domain.actor.dto.ActorMovieDto;
+import com.example.Flicktionary.domain.actor.entity.Actor;
+import com.example.Flicktionary.domain.movie.entity.Movie;
+import com.example.Flicktionary.domain.movie.entity.MovieCast;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("영화 출연진 리포지토리 테스트")
+class MovieCastRepositoryTest {
+
+    @Autowired
+    private MovieCastRepository movieCastRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("배우의 출연 영화는 개봉일 최신순으로 중복 없이 한 문장으로 가져오며, 개봉일이 없으면 마지막에 온다.")
+    void findFilmographyByActorId() {
+        Actor actor = new Actor(1L, "배우", null);
+        Actor other = new Actor(2L, "다른 배우", null);
+        entityManager.persist(actor);
+        entityManager.persist(other);
+
+        Movie unreleased = movie(1L, "미개봉", null);
+        Movie old = movie(2L, "오래된 영화", LocalDate.of(2001, 1, 1));
+        Movie recent = movie(3L, "최근 영화", LocalDate.of(2024, 1, 1));
+        Movie notCast = movie(4L, "출연하지 않은 영화", LocalDate.of(2025, 1, 1));
+        cast(unreleased, actor, "배역");
+        cast(old, actor, "배역");
+        cast(recent, actor, "1인 2역 - 첫번째");
+        cast(recent, actor, "1인 2역 - 두번째");
+        cast(notCast, other, "배역");
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<ActorMovieDto> movies = movieCastRepository.findFilmographyByActorId(actor.getId());
+
+        assertThat(movies).extracting(ActorMovieDto::getTitle)
+                .containsExactly("최근 영화", "오래된 영화", "미개봉");
+        assertThat(movies.getLast().getReleaseDate()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private Movie movie(Long tmdbId, String title, LocalDate releaseDate) {
+        Movie movie = Movie.builder()
+                .tmdbId(tmdbId)
+                .title(title)
+                .releaseDate(releaseDate)
+                .build();
+        entityManager.persist(movie);
+        return movie;
+    }
+
+    private void cast(Movie movie, Actor actor, String characterName) {
+        entityManager.persist(MovieCast.builder()
+                .movie(movie)
+                .actor(actor)
+                .characterName(characterName)
+                .build());
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.Flicktionary.domain.movie.repository;
+
+import com.example.Flicktionary.domain.actor.entity.Actor;
+import com.example.Flicktionary.domain.actor.repository.ActorRepository;
+import com.example.Flicktionary.domain.movie.entity.Movie;
+import com.example.Flicktionary.domain.movie.entity.MovieCast;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 영화와 출연진을 대량으로 저장할 때의 처리량을 측정한다.
+ * JDBC 배치를 끈 경우(IDENTITY 방식과 같은 조건)와 설정된 배치 크기를 사용하는 경우를 비교한다.
+ * 일반 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.orm.jdbc.bind=INFO",
+        "logging.level.org.hibernate.orm.jdbc.extract=INFO"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("영화 저장 성능 측정")
+class MovieInsertBenchmarkTest {
+
+    private static final int TITLES = 5_000;
+
+    private static final int CASTS_PER_TITLE = 5;
+
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ActorRepository actorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("JDBC 배치를 사용하면 더 적은 문장으로 더 빠르게 저장한다.")
+    void insertThroughput() {
+        actorRepository.saveAll(LongStream.rangeClosed(1, CASTS_PER_TITLE)
+                .mapToObj(id -> new Actor(id, "배우 " + id, null))
+                .toList());
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        Session session = entityManager.unwrap(Session.class);
+        long rows = (long) TITLES * (1 + CASTS_PER_TITLE);
+
+        // 배치 없이 한 행씩 저장 (IDENTITY 방식을 사용할 때와 같은 조건)
+        session.setJdbcBatchSize(1);
+        statistics.clear();
+        long unbatchedNanos = insertTitles(0);
+        long unbatchedStatements = statistics.getPrepareStatementCount();
+
+        // 설정된 배치 크기로 저장
+        session.setJdbcBatchSize(null);
+        statistics.clear();
+        long batchedNanos = insertTitles(TITLES);
+        long batchedStatements = statistics.getPrepareStatementCount();
+
+        System.out.printf("[영화 저장 성능] %d편 (%d행)%n", TITLES, rows);
+        System.out.printf("  배치 없음: %,.0f편/초, 실행한 문장 %d개%n", throughput(unbatchedNanos), unbatchedStatements);
+        System.out.printf("  배치 사용: %,.0f편/초, 실행한 문장 %d개%n", throughput(batchedNanos), batchedStatements);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(rows);
+        assertThat(batchedStatements).isLessThan(unbatchedStatements / 10);
+    }
+
+    // 영화마다 출연진을 붙여서 CHUNK_SIZE편씩 저장하고, 걸린 시간을 반환합니다.
+    private long insertTitles(long tmdbIdOffset) {
+        long startedAt = System.nanoTime();
+        for (int chunk = 0; chunk < TITLES / CHUNK_SIZE; chunk++) {
+            List<Movie> movies = new ArrayList<>(CHUNK_SIZE);
+            for (int i = 0; i < CHUNK_SIZE; i++) {
+                long tmdbId = tmdbIdOffset + (long) chunk * CHUNK_SIZE + i + 1;
+                Movie movie = Movie.builder()
+                        .tmdbId(tmdbId)
+                        .title("영화 " + tmdbId)
+                        .build();
+                for (long actorId = 1; actorId <= CASTS_PER_TITLE; actorId++) {
+                    movie.getCasts().add(MovieCast.builder()
+                            .movie(movie)
+                            .actor(entityManager.getReference(Actor.class, actorId))
+                            .characterName("역할 " + actorId)
+                            .build());
+                }
+                movies.add(movie);
+            }
+            movieRepository.saveAll(movies);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private double throughput(long nanos) {
+        return TITLES / (nanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+}
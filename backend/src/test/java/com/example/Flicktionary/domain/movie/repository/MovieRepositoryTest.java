@@ -0,0 +1,175 @@
+package com.example.Flicktionary.domain.movie.repository;
+
+import com.example.Flicktionary.domain.actor.entity.Actor;
+import com.example.Flicktionary.domain.director.entity.Director;
+import com.example.Flicktionary.domain.genre.dto.GenreDto;
+import com.example.Flicktionary.domain.genre.entity.Genre;
+import com.example.Flicktionary.domain.movie.dto.MovieResponse;
+import com.example.Flicktionary.domain.movie.entity.Movie;
+import com.example.Flicktionary.domain.movie.entity.MovieCast;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("영화 리포지토리 테스트")
+class MovieRepositoryTest {
+
+    private static final int MOVIES = 25;
+
+    private static final int CASTS = 12;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private final List<Long> movieIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Genre action = new Genre(1L, "액션");
+        Genre drama = new Genre(2L, "드라마");
+        Director director = new Director(1L, "감독", null);
+        entityManager.persist(action);
+        entityManager.persist(drama);
+        entityManager.persist(director);
+        for (int i = 1; i <= MOVIES; i++) {
+            Movie movie = Movie.builder()
+                    .tmdbId((long) i)
+                    .title("영화 " + i)
+                    .overview("줄거리 " + i)
+                    .averageRating(i % 5)
+                    .ratingCount(i)
+                    .genres(new ArrayList<>(List.of(action, drama)))
+                    .director(director)
+                    .build();
+            entityManager.persist(movie);
+            movieIds.add(movie.getId());
+        }
+        Movie first = entityManager.find(Movie.class, movieIds.getFirst());
+        for (long i = 1; i <= CASTS; i++) {
+            Actor actor = new Actor(i, "배우 " + i, null);
+            entityManager.persist(actor);
+            entityManager.persist(MovieCast.builder().movie(first).actor(actor).characterName("배역 " + i).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("영화 목록은 페이지 크기와 관계없이 목록 조회와 개수 조회 두 문장으로 가져온다.")
+    void findByTitleLikeStatementCount() {
+        Page<MovieResponse> page = movieRepository.findByTitleLike("영화", PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "ratingCount")));
+        // 응답을 만드는 것처럼 모든 값을 읽어도 추가 조회가 없어야 한다.
+        page.forEach(movie -> assertThat(movie.getTitle()).isNotNull());
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(MOVIES);
+        assertThat(page.getContent().getFirst().getRatingCount()).isEqualTo(MOVIES);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        // 엔티티를 만들지 않으므로 영속성 컨텍스트에도 담기지 않는다.
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("영화 상세는 장르와 출연진 수와 관계없이 세 문장으로 가져온다.")
+    void findDetailStatementCount() {
+        Long id = movieIds.getFirst();
+
+        Movie movie = movieRepository.findByIdWithDirector(id).orElseThrow();
+        List<GenreDto> genres = movieRepository.findGenresById(id);
+        List<MovieCast> casts = movieRepository.findCastsById(id);
+
+        assertThat(movie.getDirector().getName()).isEqualTo("감독");
+        assertThat(genres).extracting(GenreDto::getName).containsExactly("액션", "드라마");
+        assertThat(casts).hasSize(CASTS);
+        assertThat(casts).extracting(cast -> cast.getActor().getName()).startsWith("배우 1", "배우 2");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("검색 색인이 찾은 영화는 한 문장으로 가져온다.")
+    void findResponsesByIdInStatementCount() {
+        List<MovieResponse> movies = movieRepository.findResponsesByIdIn(movieIds.subList(0, 20));
+
+        assertThat(movies).hasSize(20);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("평점 변화량을 한 문장으로 더하고 평균을 다시 계산한다.")
+    void applyRatingDelta() {
+        Movie movie = Movie.builder()
+                .tmdbId(1000L)
+                .title("평점 영화")
+                .averageRating(4)
+                .ratingCount(2)
+                .ratingSum(8)
+                .build();
+        entityManager.persist(movie);
+        entityManager.flush();
+        statistics.clear();
+
+        int updated = movieRepository.applyRatingDelta(movie.getId(), 5, 1);
+        entityManager.clear();
+
+        Movie result = movieRepository.findById(movie.getId()).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(result.getRatingSum()).isEqualTo(13);
+        assertThat(result.getRatingCount()).isEqualTo(3);
+        assertThat(result.getAverageRating()).isCloseTo(13 / 3.0, within(1e-9));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("마지막 평점이 빠지면 평균은 0이 된다.")
+    void applyRatingDeltaToZero() {
+        Movie movie = Movie.builder()
+                .tmdbId(1000L)
+                .title("평점 영화")
+                .averageRating(5)
+                .ratingCount(1)
+                .ratingSum(5)
+                .build();
+        entityManager.persist(movie);
+        entityManager.flush();
+
+        movieRepository.applyRatingDelta(movie.getId(), -5, -1);
+        entityManager.clear();
+
+        Movie result = movieRepository.findById(movie.getId()).orElseThrow();
+        assertThat(result.getRatingSum()).isZero();
+        assertThat(result.getRatingCount()).isZero();
+        assertThat(result.getAverageRating()).isZero();
+    }
+}
@@ -1,33 +1,58 @@
 package com.example.Flicktionary.domain.movie.service;
 
+import com.example.Flicktionary.domain.actor.entity.Actor;
+import com.example.Flicktionary.domain.genre.dto.GenreDto;
 import com.example.Flicktionary.domain.movie.dto.MovieResponse;
 import com.example.Flicktionary.domain.movie.dto.MovieResponseWithDetail;
 import com.example.Flicktionary.domain.movie.entity.Movie;
+import com.example.Flicktionary.domain.movie.entity.MovieCast;
 import com.example.Flicktionary.domain.movie.repository.MovieRepository;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.domain.search.service.SearchIndex;
+import com.example.Flicktionary.domain.tmdb.dto.TmdbChangesResponse;
+import com.example.Flicktionary.domain.tmdb.dto.TmdbMovieResponseWithDetail;
+import com.example.Flicktionary.domain.tmdb.service.TmdbIngestionPipeline;
+import com.example.Flicktionary.domain.tmdb.service.TmdbReferenceDataResolver;
 import com.example.Flicktionary.domain.tmdb.service.TmdbService;
+import com.example.Flicktionary.global.dto.CursorDto;
 import com.example.Flicktionary.global.dto.PageDto;
 import com.example.Flicktionary.global.exception.ServiceException;
+import com.example.Flicktionary.global.utils.CursorUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @DisplayName("영화 서비스 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +64,21 @@ class MovieServiceTest {
     @Mock
     private TmdbService tmdbService;
 
+    @Spy
+    private TmdbIngestionPipeline tmdbIngestionPipeline = new TmdbIngestionPipeline(2);
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TmdbReferenceDataResolver tmdbReferenceDataResolver;
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MovieService movieService;
 
@@ -52,11 +92,11 @@ class MovieServiceTest {
 
         given(movieRepository.findByTitleLike(any(String.class), captor.capture()))
                 .willReturn(new PageImpl<>(
-                        List.of(Movie.builder()
+                        List.of(new MovieResponse(Movie.builder()
                                 .id(123L)
                                 .tmdbId(124L)
                                 .title("testTitle")
-                                .build()),
+                                .build())),
                         PageRequest.of(page - 1, pageSize, Sort.by(Sort.Direction.ASC, "id")),
                         10));
 
@@ -87,11 +127,11 @@ class MovieServiceTest {
 
         given(movieRepository.findByTitleLike(stringCaptor.capture(), pageableCaptor.capture()))
                 .willReturn(new PageImpl<>(
-                        List.of(Movie.builder()
+                        List.of(new MovieResponse(Movie.builder()
                                 .id(123L)
                                 .tmdbId(124L)
                                 .title("testTitle")
-                                .build()),
+                                .build())),
                         PageRequest.of(page - 1, pageSize, Sort.by(Sort.Direction.ASC, "id")),
                         10));
 
@@ -120,11 +160,11 @@ class MovieServiceTest {
 
         given(movieRepository.findByTitleLike(any(String.class), captor.capture()))
                 .willReturn(new PageImpl<>(
-                        List.of(Movie.builder()
+                        List.of(new MovieResponse(Movie.builder()
                                 .id(123L)
                                 .tmdbId(124L)
                                 .title("testTitle")
-                                .build()),
+                                .build())),
                         PageRequest.of(page - 1, pageSize, Sort.by(Sort.Direction.DESC, "averageRating")),
                         10));
 
@@ -151,11 +191,11 @@ class MovieServiceTest {
 
         given(movieRepository.findByTitleLike(any(String.class), captor.capture()))
                 .willReturn(new PageImpl<>(
-                        List.of(Movie.builder()
+                        List.of(new MovieResponse(Movie.builder()
                                 .id(123L)
                                 .tmdbId(124L)
                                 .title("testTitle")
-                                .build()),
+                                .build())),
                         PageRequest.of(page - 1, pageSize, Sort.by(Sort.Direction.DESC, "ratingCount")),
                         10));
 
@@ -186,6 +226,28 @@ class MovieServiceTest {
                 .hasMessage("잘못된 정렬 기준입니다.");
     }
 
+    @Test
+    @DisplayName("영화 목록 조회 - 성공 - 검색 색인 사용")
+    void getMovies6() {
+        String keyword = "해리 포터", sortBy = "rating";
+        int page = 1, pageSize = 10;
+        given(searchIndex.search(keyword, SearchType.MOVIE, sortBy, page, pageSize))
+                .willReturn(Optional.of(new SearchIndex.Result(List.of(2L, 1L), 2)));
+        // 색인이 정렬한 순서와 다르게 조회되어도 색인의 순서를 따른다.
+        given(movieRepository.findResponsesByIdIn(List.of(2L, 1L)))
+                .willReturn(List.of(
+                        new MovieResponse(Movie.builder().id(1L).title("해리 포터와 비밀의 방").averageRating(4.0).build()),
+                        new MovieResponse(Movie.builder().id(2L).title("해리 포터와 마법사의 돌").averageRating(4.5).build())));
+
+        PageDto<MovieResponse> result = movieService.getMovies(keyword, page, pageSize, sortBy);
+
+        assertEquals(2, result.getTotalItems());
+        assertThat(result.getItems().get(0).getId()).isEqualTo(2L);
+        assertThat(result.getItems().get(1).getId()).isEqualTo(1L);
+        assertEquals("averageRating: DESC", result.getSortBy());
+        then(movieRepository).should(never()).findByTitleLike(any(String.class), any(Pageable.class));
+    }
+
     @Test
     @DisplayName("영화 상세 조회 - 성공 - 기본")
     void getMovie1() {
@@ -197,8 +259,16 @@ class MovieServiceTest {
                 .ratingCount(12)
                 .status("Released")
                 .build();
-        given(movieRepository.findByIdWithCastsAndDirector(testMovie.getId()))
+        given(movieRepository.findByIdWithDirector(testMovie.getId()))
                 .willReturn(Optional.of(testMovie));
+        given(movieRepository.findGenresById(testMovie.getId()))
+                .willReturn(List.of(new GenreDto(1L, "액션")));
+        given(movieRepository.findCastsById(testMovie.getId()))
+                .willReturn(List.of(MovieCast.builder()
+                        .movie(testMovie)
+                        .actor(new Actor(1L, "testActor", null))
+                        .characterName("testCharacter")
+                        .build()));
 
         MovieResponseWithDetail result = movieService.getMovie(testMovie.getId());
 
@@ -207,14 +277,16 @@ class MovieServiceTest {
         assertEquals(testMovie.getTmdbId(), result.getTmdbId());
         assertEquals(testMovie.getAverageRating(), result.getAverageRating());
         assertEquals(testMovie.getRatingCount(), result.getRatingCount());
-        then(movieRepository).should().findByIdWithCastsAndDirector(testMovie.getId());
+        assertEquals("액션", result.getGenres().getFirst().getName());
+        assertEquals("testCharacter", result.getCasts().getFirst().getCharacterName());
+        then(movieRepository).should().findByIdWithDirector(testMovie.getId());
     }
 
     @Test
     @DisplayName("영화 상세 조회 - 실패 - 없는 영화 조회")
     void getMovie3() {
         long id = 1000000000000000000L;
-        given(movieRepository.findByIdWithCastsAndDirector(id)).willReturn(Optional.empty());
+        given(movieRepository.findByIdWithDirector(id)).willReturn(Optional.empty());
 
         Throwable thrown = catchThrowable(() -> movieService.getMovie(id));
 
@@ -222,4 +294,141 @@ class MovieServiceTest {
                 .isInstanceOf(ServiceException.class)
                 .hasMessage("%d번 영화를 찾을 수 없습니다.".formatted(id));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("변경된 영화 동기화 - 성공 - 저장된 영화만 갱신")
+    void syncChangedMovies1() {
+        LocalDate startDate = LocalDate.of(2025, 3, 1), endDate = LocalDate.of(2025, 3, 2);
+        Movie storedMovie = Movie.builder()
+                .id(1L)
+                .tmdbId(100L)
+                .title("oldTitle")
+                .averageRating(4.5)
+                .ratingCount(2)
+                .build();
+        given(tmdbService.fetchMovieChanges(startDate, endDate, 1))
+                .willReturn(new TmdbChangesResponse(
+                        List.of(new TmdbChangesResponse.TmdbChange(100L), new TmdbChangesResponse.TmdbChange(200L)),
+                        1, 1));
+        given(movieRepository.findAllTmdbIds()).willReturn(Set.of(100L));
+        given(tmdbService.fetchMovie(100L)).willReturn(new TmdbMovieResponseWithDetail(
+                100L, "newTitle", "newOverview", "2025-03-01", "Released", null, 120,
+                List.of(), List.of(), List.of(),
+                new TmdbMovieResponseWithDetail.TmdbCredits(List.of(), List.of())));
+        given(movieRepository.findAllByTmdbIdIn(Set.of(100L))).willReturn(List.of(storedMovie));
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        int updated = movieService.syncChangedMovies(startDate, endDate);
+
+        assertEquals(1, updated);
+        assertEquals("newTitle", storedMovie.getTitle());
+        assertEquals(LocalDate.of(2025, 3, 1), storedMovie.getReleaseDate());
+        // 평점은 리뷰로 관리되므로 그대로 유지된다.
+        assertEquals(4.5, storedMovie.getAverageRating());
+        assertEquals(2, storedMovie.getRatingCount());
+        then(tmdbService).should(never()).fetchMovie(200L);
+    }
+
+    @Test
+    @DisplayName("변경된 영화 동기화 - 실패 - 받아오지 못한 변경 목록 페이지가 있으면 예외")
+    void syncChangedMovies2() {
+        LocalDate startDate = LocalDate.of(2025, 3, 1), endDate = LocalDate.of(2025, 3, 2);
+        Movie storedMovie = Movie.builder()
+                .id(1L)
+                .tmdbId(100L)
+                .title("oldTitle")
+                .build();
+        given(tmdbService.fetchMovieChanges(startDate, endDate, 1))
+                .willReturn(new TmdbChangesResponse(List.of(new TmdbChangesResponse.TmdbChange(100L)), 1, 2));
+        given(tmdbService.fetchMovieChanges(startDate, endDate, 2))
+                .willThrow(new RuntimeException("TMDB API 요청 실패: 503"));
+        given(movieRepository.findAllTmdbIds()).willReturn(Set.of(100L));
+        given(tmdbService.fetchMovie(100L)).willReturn(new TmdbMovieResponseWithDetail(
+                100L, "newTitle", "newOverview", "2025-03-01", "Released", null, 120,
+                List.of(), List.of(), List.of(),
+                new TmdbMovieResponseWithDetail.TmdbCredits(List.of(), List.of())));
+        given(movieRepository.findAllByTmdbIdIn(Set.of(100L))).willReturn(List.of(storedMovie));
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        Throwable thrown = catchThrowable(() -> movieService.syncChangedMovies(startDate, endDate));
+
+        assertThat(thrown)
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("영화 변경 내역 중 1건의 요청이 실패했습니다.");
+        // 받아온 페이지는 그대로 반영된다.
+        assertEquals("newTitle", storedMovie.getTitle());
+    }
+
+    @Test
+    @DisplayName("영화 수집 - 성공 - 롤백된 페이지의 영화는 이후 페이지에서 다시 저장")
+    void fetchAndSaveMoviesAfterRollback() {
+        given(movieRepository.findAllTmdbIds()).willReturn(Set.of());
+        given(tmdbService.fetchMovieIds(any(Integer.class))).willReturn(List.of(100L));
+        given(tmdbService.fetchMovie(100L)).willReturn(new TmdbMovieResponseWithDetail(
+                100L, "title", "overview", "2025-03-01", "Released", null, 120,
+                List.of(), List.of(), List.of(),
+                new TmdbMovieResponseWithDetail.TmdbCredits(List.of(), List.of())));
+        // 첫 페이지는 롤백되고(afterCommit이 호출되지 않음), 이후 페이지는 커밋된다.
+        AtomicInteger transactions = new AtomicInteger();
+        willAnswer(invocation -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+                if (transactions.incrementAndGet() > 1) {
+                    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                }
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        movieService.fetchAndSaveMovies(1, 3, Set.of(), () -> false, (page, saved) -> {
+        });
+
+        // 롤백된 페이지와 그 다음 페이지에서 저장하고, 커밋된 뒤의 페이지에서는 건너뛴다.
+        then(movieRepository).should(times(2)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("영화 목록 커서 조회 - 성공 - 평점순 다음 페이지")
+    void getMoviesByCursor1() {
+        given(movieRepository.findByTitleLikeAfterRating("해리", 4.5, 2L, PageRequest.of(0, 2)))
+                .willReturn(List.of(
+                        new MovieResponse(Movie.builder().id(1L).title("해리 포터와 비밀의 방").averageRating(4.0).build()),
+                        new MovieResponse(Movie.builder().id(3L).title("해리 포터와 불의 잔").averageRating(3.5).build())));
+
+        CursorDto<MovieResponse> result = movieService.getMoviesByCursor("해리", CursorUtils.encode(4.5, 2L), 1, "rating", false);
+
+        assertEquals(1, result.getItems().size());
+        assertThat(result.getItems().get(0).getId()).isEqualTo(1L);
+        assertEquals(CursorUtils.encode(4.0, 1L), result.getNextCursor());
+        assertThat(result.getTotalItems()).isNull();
+    }
+
+    @Test
+    @DisplayName("영화 목록 커서 조회 - 성공 - 첫 페이지와 전체 개수")
+    void getMoviesByCursor2() {
+        given(movieRepository.findByTitleLikeAfterId("", 0L, PageRequest.of(0, 11)))
+                .willReturn(List.of(new MovieResponse(Movie.builder().id(1L).title("기생충").build())));
+        given(movieRepository.countByTitleLike("")).willReturn(1L);
+
+        CursorDto<MovieResponse> result = movieService.getMoviesByCursor("", null, 10, "id", true);
+
+        assertEquals(1, result.getItems().size());
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getTotalItems()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("영화 목록 커서 조회 - 실패 - 잘못된 페이지 크기")
+    void getMoviesByCursor3() {
+        Throwable thrown = catchThrowable(() -> movieService.getMoviesByCursor("", null, 0, "id", false));
+
+        assertThat(thrown)
+                .isInstanceOf(ServiceException.class)
+                .hasMessage("페이지 크기는 1 이상 100 이하로 지정해야 합니다.");
+    }
+}
@@ -8,6 +8,7 @@ import com.example.Flicktionary.domain.user.entity.UserAccount;
 import com.example.Flicktionary.domain.user.entity.UserAccountType;
 import com.example.Flicktionary.domain.user.service.UserAccountJwtAuthenticationService;
 import com.example.Flicktionary.domain.user.service.UserAccountService;
+import com.example.Flicktionary.global.dto.CountMode;
 import com.example.Flicktionary.global.dto.PageDto;
 import com.example.Flicktionary.global.exception.ServiceException;
 import com.example.Flicktionary.global.security.CustomUserDetailsService;
@@ -177,7 +178,7 @@ public class PostControllerTest {
         }
 
         // 게시글 전체 조회
-        given(postService.getPostList(page, pageSize, null, null)).willReturn(pageDto);
+        given(postService.getPostList(page, pageSize, null, null, CountMode.EXACT)).willReturn(pageDto);
         mockMvc.perform(get("/api/posts")
                 .param("page", String.valueOf(page))
                 .param("pageSize", String.valueOf(pageSize)))
@@ -186,13 +187,13 @@ public class PostControllerTest {
                 .andExpect(jsonPath("$.data.items.length()").value(postList.size()))
                 .andExpect(jsonPath("$.data.totalPages").value(pageDto.getTotalPages()))
                 .andExpect(jsonPath("$.data.totalItems").value(pageDto.getTotalItems()));
-        then(postService).should().getPostList(page, pageSize, null, null);
+        then(postService).should().getPostList(page, pageSize, null, null, CountMode.EXACT);
 
         // 제목으로 검색
         String searchTitle = "찾을 제목";
         List<PostResponseDto> titleSearchResult = List.of(postList.getFirst());
         PageDto<PostResponseDto> titleSearchPageDto = new PageDto<>(titleSearchResult, 1, 1, 1, 1, "createdAt");
-        given(postService.getPostList(page, pageSize, searchTitle, "title")).willReturn(titleSearchPageDto);
+        given(postService.getPostList(page, pageSize, searchTitle, "title", CountMode.EXACT)).willReturn(titleSearchPageDto);
         mockMvc.perform(get("/api/posts")
                         .param("page", String.valueOf(page))
                         .param("pageSize", String.valueOf(pageSize))
@@ -203,13 +204,13 @@ public class PostControllerTest {
                 .andExpect(jsonPath("$.data.items.length()").value(titleSearchResult.size()))
                 .andExpect(jsonPath("$.data.totalPages").value(titleSearchPageDto.getTotalPages()))
                 .andExpect(jsonPath("$.data.totalItems").value(titleSearchPageDto.getTotalItems()));
-        then(postService).should().getPostList(page, pageSize, searchTitle, "title");
+        then(postService).should().getPostList(page, pageSize, searchTitle, "title", CountMode.EXACT);
 
         // 내용으로 검색
         String searchContent = "찾을 내용";
         List<PostResponseDto> contentSearchResult = List.of(postList.getFirst());
         PageDto<PostResponseDto> contentSearchPageDto = new PageDto<>(contentSearchResult, 1, 1, 1, 1, "createdAt");
-        given(postService.getPostList(page, pageSize, searchContent, "content")).willReturn(contentSearchPageDto);
+        given(postService.getPostList(page, pageSize, searchContent, "content", CountMode.EXACT)).willReturn(contentSearchPageDto);
         mockMvc.perform(get("/api/posts")
                         .param("page", String.valueOf(page))
                         .param("pageSize", String.valueOf(pageSize))
@@ -220,13 +221,13 @@ public class PostControllerTest {
                 .andExpect(jsonPath("$.data.items.length()").value(contentSearchResult.size()))
                 .andExpect(jsonPath("$.data.totalPages").value(contentSearchPageDto.getTotalPages()))
                 .andExpect(jsonPath("$.data.totalItems").value(contentSearchPageDto.getTotalItems()));
-        then(postService).should().getPostList(page, pageSize, searchContent, "content");
+        then(postService).should().getPostList(page, pageSize, searchContent, "content", CountMode.EXACT);
 
         // 유저 닉네임으로 검색
         String searchNickname = "찾을 유저";
         List<PostResponseDto> nicknameSearchResult = List.of(postList.getFirst());
         PageDto<PostResponseDto> nicknameSearchPageDto = new PageDto<>(nicknameSearchResult, 1, 1, 1, 1, "createdAt");
-        given(postService.getPostList(page, pageSize, searchNickname, "nickname")).willReturn(nicknameSearchPageDto);
+        given(postService.getPostList(page, pageSize, searchNickname, "nickname", CountMode.EXACT)).willReturn(nicknameSearchPageDto);
         mockMvc.perform(get("/api/posts")
                         .param("page", String.valueOf(page))
                         .param("pageSize", String.valueOf(pageSize))
@@ -237,7 +238,7 @@ public class PostControllerTest {
                 .andExpect(jsonPath("$.data.items.length()").value(nicknameSearchResult.size()))
                 .andExpect(jsonPath("$.data.totalPages").value(nicknameSearchPageDto.getTotalPages()))
                 .andExpect(jsonPath("$.data.totalItems").value(nicknameSearchPageDto.getTotalItems()));
-        then(postService).should().getPostList(page, pageSize, searchNickname, "nickname");
+        then(postService).should().getPostList(page, pageSize, searchNickname, "nickname", CountMode.EXACT);
     }
 
     @Test
@@ -8,13 +8,18 @@ import com.example.Flicktionary.domain.post.repository.PostRepository;
 import com.example.Flicktionary.domain.user.entity.UserAccount;
 import com.example.Flicktionary.domain.user.entity.UserAccountType;
 import com.example.Flicktionary.domain.user.repository.UserAccountRepository;
+import com.example.Flicktionary.global.dto.CountMode;
+import com.example.Flicktionary.global.dto.CursorDto;
 import com.example.Flicktionary.global.dto.PageDto;
 import com.example.Flicktionary.global.exception.ServiceException;
+import com.example.Flicktionary.global.service.PageCountService;
+import com.example.Flicktionary.global.utils.CursorUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
@@ -25,6 +30,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +47,9 @@ public class PostServiceTest {
     @Mock
     private UserAccountRepository userAccountRepository;
 
+    @Spy
+    private PageCountService pageCountService = new PageCountService(60);
+
     /* 테스트용 변수 설정 */
     // 테스트용 유저
     private final UserAccount testUser = new UserAccount(
@@ -196,7 +205,7 @@ public class PostServiceTest {
 
         // 전체 게시글 조회
         when(postRepository.findAll(pageable)).thenReturn(postPage);
-        PageDto<PostResponseDto> testPages = postService.getPostList(page, pageSize, null, null);
+        PageDto<PostResponseDto> testPages = postService.getPostList(page, pageSize, null, null, CountMode.EXACT);
         /// 검증
         // 로그 확인
         System.out.println(" ========= 게시글 목록 전체 조회 ========= ");
@@ -218,7 +227,7 @@ public class PostServiceTest {
                 .toList();
         Page<Post> titleSearchPage = new PageImpl<>(titleSearch, pageable, titleSearch.size());
         when(postRepository.findByTitleContaining(eq(searchKeywordTitle), eq(pageable))).thenReturn(titleSearchPage);
-        PageDto<PostResponseDto> titleSearchResult = postService.getPostList(page, pageSize, searchKeywordTitle, "title");
+        PageDto<PostResponseDto> titleSearchResult = postService.getPostList(page, pageSize, searchKeywordTitle, "title", CountMode.EXACT);
         /// 검증
         // 로그 확인
         System.out.println(" ========= 게시글 목록 조회(제목) ========= ");
@@ -240,7 +249,7 @@ public class PostServiceTest {
                 .toList();
         Page<Post> contentSearchPage = new PageImpl<>(contentSearch, pageable, contentSearch.size());
         when(postRepository.findByContentContaining(eq(searchKeywordContent), eq(pageable))).thenReturn(contentSearchPage);
-        PageDto<PostResponseDto> contentSearchResult = postService.getPostList(page, pageSize, searchKeywordContent, "content");
+        PageDto<PostResponseDto> contentSearchResult = postService.getPostList(page, pageSize, searchKeywordContent, "content", CountMode.EXACT);
         /// 검증
         // 로그 확인
         System.out.println(" ========= 게시글 목록 조회(내용) ========= ");
@@ -262,7 +271,7 @@ public class PostServiceTest {
                 .toList();
         Page<Post> nicknameSearchPage = new PageImpl<>(nicknameSearch, pageable, nicknameSearch.size());
         when(postRepository.findByUserAccount_NicknameContaining(eq(searchKeywordNickname), eq(pageable))).thenReturn(nicknameSearchPage);
-        PageDto<PostResponseDto> nicknameSearchResult = postService.getPostList(page, pageSize, searchKeywordNickname, "nickname");
+        PageDto<PostResponseDto> nicknameSearchResult = postService.getPostList(page, pageSize, searchKeywordNickname, "nickname", CountMode.EXACT);
         /// 검증
         // 로그 확인
         System.out.println(" ========= 게시글 목록 조회(유저 닉네임) ========= ");
@@ -345,4 +354,72 @@ public class PostServiceTest {
         /// 검증
         verify(postRepository).delete(existingPost);
     }
+
+    @Test
+    @DisplayName("게시글 목록 커서 조회 - 첫 페이지")
+    void getPostListByCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        Post newer = Post.builder().id(2L).userAccount(testUser).title("두번째").content("내용").createdAt(createdAt).build();
+        Post older = Post.builder().id(1L).userAccount(testUser).title("첫번째").content("내용").createdAt(createdAt).build();
+        when(postRepository.findAllBefore(any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(newer, older));
+
+        CursorDto<PostResponseDto> result = postService.getPostList(null, 1, null, null, false);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(2L, result.getItems().get(0).getId().longValue());
+        // 작성일이 같아도 ID로 다음 페이지의 위치를 구분
+        assertEquals(CursorUtils.encode(createdAt, 2L), result.getNextCursor());
+        assertNull(result.getTotalItems());
+        verify(postRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("게시글 목록 커서 조회 - 커서 다음 페이지 검색")
+    void searchPostListByCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        when(postRepository.findByTitleContainingBefore("테스트", createdAt, 2L, PageRequest.of(0, 11)))
+                .thenReturn(List.of(savedPost));
+        when(postRepository.countByTitleContaining("테스트")).thenReturn(2L);
+
+        CursorDto<PostResponseDto> result = postService.getPostList(CursorUtils.encode(createdAt, 2L), 10, "테스트", "title", true);
+
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+        assertEquals(2L, result.getTotalItems().longValue());
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 - 전체 개수를 세지 않으면 다음 페이지 여부만 포함")
+    void getPostListWithoutCount() {
+        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt"));
+        when(postRepository.findAllAsSlice(pageable)).thenReturn(new SliceImpl<>(List.of(savedPost), pageable, true));
+
+        PageDto<PostResponseDto> result = postService.getPostList(1, 1, null, null, CountMode.NONE);
+
+        assertEquals(1, result.getItems().size());
+        assertTrue(result.isHasNext());
+        assertNull(result.getTotalItems());
+        assertNull(result.getTotalPages());
+        verify(postRepository, never()).findAll(any(Pageable.class));
+        verify(postRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("게시글 검색 - 근사 개수는 검색 조건별로 따로 셈")
+    void searchPostListWithApproximateCount() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        when(postRepository.findSliceByTitleContaining(any(), eq(pageable))).thenReturn(new SliceImpl<>(List.of(savedPost), pageable, false));
+        when(postRepository.countByTitleContaining("테스트")).thenReturn(1L);
+        when(postRepository.countByTitleContaining("제목")).thenReturn(2L);
+
+        PageDto<PostResponseDto> first = postService.getPostList(1, 10, "테스트", "title", CountMode.APPROXIMATE);
+        PageDto<PostResponseDto> second = postService.getPostList(1, 10, "제목", "title", CountMode.APPROXIMATE);
+        postService.getPostList(1, 10, "테스트", "title", CountMode.APPROXIMATE);
+
+        assertEquals(1, first.getTotalItems().intValue());
+        assertEquals(2, second.getTotalItems().intValue());
+        verify(postRepository).countByTitleContaining("테스트");
+        verify(postRepository).countByTitleContaining("제목");
+    }
 }
@@ -8,6 +8,7 @@ import com.example.Flicktionary.domain.user.entity.UserAccount;
 import com.example.Flicktionary.domain.user.entity.UserAccountType;
 import com.example.Flicktionary.domain.user.service.UserAccountJwtAuthenticationService;
 import com.example.Flicktionary.domain.user.service.UserAccountService;
+import com.example.Flicktionary.global.dto.CountMode;
 import com.example.Flicktionary.global.dto.PageDto;
 import com.example.Flicktionary.global.security.CustomUserDetailsService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,6 +30,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doNothing;
@@ -150,7 +152,7 @@ public class ReviewControllerTest {
                 sortBy
         );
 
-        given(reviewService.findAllReviews(page, size)).willReturn(reviewsPageDto);
+        given(reviewService.findAllReviews(page, size, CountMode.EXACT)).willReturn(reviewsPageDto);
 
         // mockMvc로 get 요청 후 검증
         mockMvc.perform(get("/api/reviews")
@@ -163,7 +165,7 @@ public class ReviewControllerTest {
                 .andExpect(jsonPath("$.data.items[1].content")
                         .value("테스트용 리뷰 내용 (드라마)"));
 
-        then(reviewService).should().findAllReviews(page, size);
+        then(reviewService).should().findAllReviews(page, size, CountMode.EXACT);
     }
 
     @Test
@@ -223,7 +225,8 @@ public class ReviewControllerTest {
         given(reviewService.reviewMovieDtoPage(
                 longCaptor.capture(),
                 integerCaptor.capture(),
-                integerCaptor.capture()))
+                integerCaptor.capture(),
+                eq(CountMode.EXACT)))
                 .willReturn(new PageDto<>(new PageImpl<>(
                         List.of(reviewDto1),
                         PageRequest.of(0, 5),
@@ -243,7 +246,7 @@ public class ReviewControllerTest {
         assertEquals(0, integerArgs.getFirst());
         assertEquals(5, integerArgs.get(1));
         then(reviewService).should()
-                .reviewMovieDtoPage(any(Long.class), any(Integer.class), any(Integer.class));
+                .reviewMovieDtoPage(any(Long.class), any(Integer.class), any(Integer.class), eq(CountMode.EXACT));
     }
 
     @Test
@@ -254,7 +257,8 @@ public class ReviewControllerTest {
         given(reviewService.reviewSeriesDtoPage(
                 longCaptor.capture(),
                 integerCaptor.capture(),
-                integerCaptor.capture()))
+                integerCaptor.capture(),
+                eq(CountMode.EXACT)))
                 .willReturn(new PageDto<>(new PageImpl<>(
                         List.of(reviewDto2),
                         PageRequest.of(0, 5),
@@ -274,6 +278,6 @@ public class ReviewControllerTest {
         assertEquals(0, integerArgs.getFirst());
         assertEquals(5, integerArgs.get(1));
         then(reviewService).should()
-                .reviewSeriesDtoPage(any(Long.class), any(Integer.class), any(Integer.class));
+                .reviewSeriesDtoPage(any(Long.class), any(Integer.class), any(Integer.class), eq(CountMode.EXACT));
     }
 }
@@ -0,0 +1,122 @@
+package com.example.Flicktionary.domain.review.service;
+
+import com.example.Flicktionary.domain.movie.entity.Movie;
+import com.example.Flicktionary.domain.movie.repository.MovieRepository;
+import com.example.Flicktionary.domain.review.entity.RatingEvent;
+import com.example.Flicktionary.domain.review.repository.RatingEventRepository;
+import com.example.Flicktionary.domain.search.dto.SearchDocument;
+import com.example.Flicktionary.domain.search.event.SearchIndexEvent;
+import com.example.Flicktionary.domain.series.entity.Series;
+import com.example.Flicktionary.domain.series.repository.SeriesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("평점 집계 테스트")
+class RatingAggregatorTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    @Mock
+    private RatingEventRepository ratingEventRepository;
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private RatingAggregator ratingAggregator;
+
+    @BeforeEach
+    void setUp() {
+        ratingAggregator = new RatingAggregator(ratingEventRepository, movieRepository, seriesRepository,
+                eventPublisher, transactionTemplate, BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("같은 작품의 이벤트는 합쳐서 한번에 반영한다.")
+    void aggregateCoalescesEvents() {
+        given(ratingEventRepository.findOldestForUpdate(any(Pageable.class))).willReturn(List.of(
+                movieEvent(1L, 13L, 5, 1),
+                movieEvent(2L, 13L, -1, 0),
+                seriesEvent(3L, 14L, -4, -1)));
+        given(movieRepository.findAllById(Set.of(13L))).willReturn(List.of(Movie.builder().id(13L).title("영화").build()));
+        given(seriesRepository.findAllById(Set.of(14L))).willReturn(List.of(Series.builder().id(14L).title("시리즈").build()));
+
+        int aggregated = ratingAggregator.aggregate();
+
+        assertThat(aggregated).isEqualTo(3);
+        then(movieRepository).should().applyRatingDelta(13L, 4, 1);
+        then(seriesRepository).should().applyRatingDelta(14L, -4, -1);
+        then(ratingEventRepository).should().deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+
+        ArgumentCaptor<SearchIndexEvent> captor = ArgumentCaptor.forClass(SearchIndexEvent.class);
+        then(eventPublisher).should().publishEvent(captor.capture());
+        assertThat(captor.getValue().documents()).extracting(SearchDocument::id).containsExactly(13L, 14L);
+    }
+
+    @Test
+    @DisplayName("반영할 이벤트가 없으면 아무것도 하지 않는다.")
+    void aggregateWithoutEvents() {
+        given(ratingEventRepository.findOldestForUpdate(any(Pageable.class))).willReturn(List.of());
+
+        int aggregated = ratingAggregator.aggregate();
+
+        assertThat(aggregated).isZero();
+        then(movieRepository).should(never()).applyRatingDelta(anyLong(), anyLong(), anyInt());
+        then(ratingEventRepository).should(never()).deleteAllByIdInBatch(any());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 남은 이벤트를 이어서 반영한다.")
+    void flushRepeatsWhileBatchIsFull() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(ratingEventRepository.findOldestForUpdate(any(Pageable.class))).willReturn(
+                List.of(movieEvent(1L, 13L, 5, 1), movieEvent(2L, 13L, 4, 1), movieEvent(3L, 13L, 3, 1)),
+                List.of(movieEvent(4L, 13L, 2, 1)));
+
+        ratingAggregator.flush();
+
+        then(ratingEventRepository).should(times(2)).findOldestForUpdate(any(Pageable.class));
+        then(movieRepository).should().applyRatingDelta(13L, 12, 3);
+        then(movieRepository).should().applyRatingDelta(13L, 2, 1);
+    }
+
+    private RatingEvent movieEvent(Long id, Long movieId, int ratingDelta, int countDelta) {
+        return RatingEvent.builder().id(id).movieId(movieId).ratingDelta(ratingDelta).countDelta(countDelta).build();
+    }
+
+    private RatingEvent seriesEvent(Long id, Long seriesId, int ratingDelta, int countDelta) {
+        return RatingEvent.builder().id(id).seriesId(seriesId).ratingDelta(ratingDelta).countDelta(countDelta).build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.Flicktionary.domain.review.service;
+
+import com.example.Flicktionary.domain.movie.entity.Movie;
+import com.example.Flicktionary.domain.movie.repository.MovieRepository;
+import com.example.Flicktionary.domain.review.dto.ReviewDto;
+import com.example.Flicktionary.domain.review.repository.RatingEventRepository;
+import com.example.Flicktionary.domain.user.entity.UserAccount;
+import com.example.Flicktionary.domain.user.entity.UserAccountType;
+import com.example.Flicktionary.domain.user.repository.UserAccountRepository;
+import com.example.Flicktionary.global.exception.ServiceException;
+import com.example.Flicktionary.global.service.PageCountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 한 영화에 리뷰 작성, 수정, 삭제가 동시에 몰릴 때 영화의 평점 합계, 개수, 평균이 리뷰 테이블과 일치하는지 확인한다.
+ * 같은 리뷰를 여러 스레드가 동시에 수정하고 삭제하며, 그 사이에도 평점 집계가 계속 실행된다.
+ * 커밋된 데이터로 확인해야 하므로 테스트 트랜잭션을 사용하지 않고, 다른 테스트와 겹치지 않도록 별도의 DB를 사용한다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:review_concurrency;MODE=MySQL",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.orm.jdbc.bind=INFO",
+        "logging.level.org.hibernate.orm.jdbc.extract=INFO",
+        "logging.level.org.springframework.transaction.interceptor=INFO"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ReviewService.class, RatingAggregator.class, PageCountService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("리뷰 동시성 테스트")
+class ReviewConcurrencyTest {
+
+    private static final int USERS = 600;
+
+    private static final int UPDATES_PER_REVIEW = 3;
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private RatingAggregator ratingAggregator;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private RatingEventRepository ratingEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("동시에 작성, 수정, 삭제해도 영화의 평점은 리뷰 테이블의 AVG(rating)와 같다.")
+    void ratingsMatchReviewsAfterConcurrentWrites() throws Exception {
+        Movie movie = movieRepository.save(Movie.builder().tmdbId(1L).title("개봉작").build());
+        List<UserAccount> users = userAccountRepository.saveAll(IntStream.rangeClosed(1, USERS)
+                .mapToObj(i -> new UserAccount(null, "user" + i, "password", "user" + i + "@email.com", "유저 " + i, UserAccountType.USER))
+                .toList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        // 리뷰를 쓰는 동안에도 평점 집계를 계속 실행한다.
+        Future<?> aggregating = executor.submit(() -> {
+            while (writing.get()) {
+                ratingAggregator.flush();
+            }
+        });
+        try {
+            // 모든 유저가 동시에 리뷰를 작성한다.
+            List<Callable<Long>> creates = new ArrayList<>();
+            for (UserAccount user : users) {
+                creates.add(() -> reviewService.createReview(ReviewDto.builder()
+                        .userAccountId(user.getId())
+                        .nickname(user.getNickname())
+                        .movieId(movie.getId())
+                        .rating(rating())
+                        .content("개봉 첫날 리뷰")
+                        .build()).getId());
+            }
+            List<Long> reviewIds = new ArrayList<>();
+            for (Future<Long> future : executor.invokeAll(creates)) {
+                reviewIds.add(future.get());
+            }
+
+            // 같은 리뷰를 여러 스레드가 동시에 수정하고, 다섯 개 중 하나는 두 스레드가 동시에 삭제한다.
+            List<Callable<Void>> changes = new ArrayList<>();
+            for (int i = 0; i < reviewIds.size(); i++) {
+                Long reviewId = reviewIds.get(i);
+                for (int j = 0; j < UPDATES_PER_REVIEW; j++) {
+                    changes.add(() -> ignoreNotFound(() -> reviewService.updateReview(reviewId,
+                            ReviewDto.builder().rating(rating()).build())));
+                }
+                if (i % 5 == 0) {
+                    changes.add(() -> ignoreNotFound(() -> reviewService.deleteReview(reviewId)));
+                    changes.add(() -> ignoreNotFound(() -> reviewService.deleteReview(reviewId)));
+                }
+            }
+            for (Future<Void> future : executor.invokeAll(changes)) {
+                future.get();
+            }
+        } finally {
+            writing.set(false);
+            aggregating.get();
+            executor.shutdown();
+        }
+
+        // 남은 이벤트를 모두 반영한다.
+        ratingAggregator.flush();
+        assertThat(ratingEventRepository.count()).isZero();
+
+        Map<String, Object> expected = jdbcTemplate.queryForMap(
+                "SELECT COUNT(*) AS cnt, COALESCE(SUM(rating), 0) AS total, AVG(rating * 1.0) AS average FROM review WHERE movie_id = ?",
+                movie.getId());
+        Movie result = movieRepository.findById(movie.getId()).orElseThrow();
+
+        assertThat(result.getRatingCount()).isEqualTo(USERS - USERS / 5);
+        assertThat(result.getRatingCount()).isEqualTo(((Number) expected.get("cnt")).intValue());
+        assertThat(result.getRatingSum()).isEqualTo(((Number) expected.get("total")).longValue());
+        assertThat(result.getAverageRating()).isCloseTo(((Number) expected.get("average")).doubleValue(), within(1e-9));
+    }
+
+    private static int rating() {
+        return ThreadLocalRandom.current().nextInt(1, 6);
+    }
+
+    // 먼저 삭제된 리뷰를 수정하거나 다시 삭제하면 404가 나는 것은 정상이다.
+    private static Void ignoreNotFound(Runnable change) {
+        try {
+            change.run();
+        } catch (ServiceException e) {
+            assertThat(e.getCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        }
+        return null;
+    }
+}
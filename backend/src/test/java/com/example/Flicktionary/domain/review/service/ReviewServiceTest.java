@@ -3,21 +3,29 @@ package com.example.Flicktionary.domain.review.service;
 import com.example.Flicktionary.domain.movie.entity.Movie;
 import com.example.Flicktionary.domain.movie.repository.MovieRepository;
 import com.example.Flicktionary.domain.review.dto.ReviewDto;
+import com.example.Flicktionary.domain.review.entity.RatingEvent;
 import com.example.Flicktionary.domain.review.entity.Review;
+import com.example.Flicktionary.domain.review.repository.RatingEventRepository;
 import com.example.Flicktionary.domain.review.repository.ReviewRepository;
 import com.example.Flicktionary.domain.series.entity.Series;
 import com.example.Flicktionary.domain.series.repository.SeriesRepository;
 import com.example.Flicktionary.domain.user.entity.UserAccount;
 import com.example.Flicktionary.domain.user.entity.UserAccountType;
 import com.example.Flicktionary.domain.user.repository.UserAccountRepository;
+import com.example.Flicktionary.global.dto.CountMode;
+import com.example.Flicktionary.global.dto.CursorDto;
 import com.example.Flicktionary.global.dto.PageDto;
 import com.example.Flicktionary.global.exception.ServiceException;
+import com.example.Flicktionary.global.service.PageCountService;
+import com.example.Flicktionary.global.utils.CursorUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
@@ -31,6 +39,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.doNothing;
 
 @DisplayName("리뷰 서비스 테스트")
@@ -49,6 +58,12 @@ public class ReviewServiceTest {
     @Mock
     private SeriesRepository seriesRepository;
 
+    @Mock
+    private RatingEventRepository ratingEventRepository;
+
+    @Spy
+    private PageCountService pageCountService = new PageCountService(60);
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -205,44 +220,46 @@ public class ReviewServiceTest {
 
 
     @Test
-    @DisplayName("리뷰 작성 시 영화 정보 업데이트")
+    @DisplayName("리뷰 작성 시 영화의 평점 변화량 기록")
     void createReviewUpdateMovie() {
-        int ratingCount = testMovie.getRatingCount();
-        double averageRating = testMovie.getAverageRating();
         given(userAccountRepository.findById(any(Long.class))).willReturn(Optional.of(testUser));
         given(movieRepository.findById(any(Long.class))).willReturn(Optional.of(testMovie));
         given(reviewRepository.save(any(Review.class))).willReturn(reviewDto1.toEntity(testUser, testMovie, null));
 
-        // 리뷰 생성 및 변수에 저장
-        ReviewDto review = reviewService.createReview(reviewDto1);
-
-        int newRatingCount = ratingCount + 1;
-        double newAverageRating = (averageRating * ratingCount + review.getRating()) / newRatingCount;
-
-        assertThat(testMovie.getRatingCount()).isEqualTo(newRatingCount);
-        assertThat(testMovie.getAverageRating()).isEqualTo(newAverageRating);
+        // 리뷰 생성
+        reviewService.createReview(reviewDto1);
+
+        // 영화의 평점은 바로 바뀌지 않고, 변화량만 기록된다.
+        RatingEvent event = captureRatingEvent();
+        assertThat(event.getMovieId()).isEqualTo(testMovie.getId());
+        assertThat(event.getSeriesId()).isNull();
+        assertThat(event.getRatingDelta()).isEqualTo(reviewDto1.getRating());
+        assertThat(event.getCountDelta()).isEqualTo(1);
+        assertThat(testMovie.getRatingCount()).isEqualTo(10);
+        assertThat(testMovie.getAverageRating()).isEqualTo(4);
         then(userAccountRepository).should().findById(reviewDto1.getUserAccountId());
         then(movieRepository).should().findById(reviewDto1.getMovieId());
         then(reviewRepository).should().save(any(Review.class));
     }
 
     @Test
-    @DisplayName("리뷰 작성 시 시리즈 정보 업데이트")
+    @DisplayName("리뷰 작성 시 시리즈의 평점 변화량 기록")
     void createReviewUpdateSeries() {
-        int ratingCount = testSeries.getRatingCount();
-        double averageRating = testSeries.getAverageRating();
         given(userAccountRepository.findById(any(Long.class))).willReturn(Optional.of(testUser));
         given(seriesRepository.findById(any(Long.class))).willReturn(Optional.of(testSeries));
         given(reviewRepository.save(any(Review.class))).willReturn(reviewDto2.toEntity(testUser, null, testSeries));
 
-        // 리뷰 생성 및 변수에 저장
-        ReviewDto review = reviewService.createReview(reviewDto2);
-
-        int newRatingCount = ratingCount + 1;
-        double newAverageRating = (averageRating * ratingCount + review.getRating()) / newRatingCount;
-
-        assertThat(testSeries.getRatingCount()).isEqualTo(newRatingCount);
-        assertThat(testSeries.getAverageRating()).isEqualTo(newAverageRating);
+        // 리뷰 생성
+        reviewService.createReview(reviewDto2);
+
+        // 시리즈의 평점은 바로 바뀌지 않고, 변화량만 기록된다.
+        RatingEvent event = captureRatingEvent();
+        assertThat(event.getMovieId()).isNull();
+        assertThat(event.getSeriesId()).isEqualTo(testSeries.getId());
+        assertThat(event.getRatingDelta()).isEqualTo(reviewDto2.getRating());
+        assertThat(event.getCountDelta()).isEqualTo(1);
+        assertThat(testSeries.getRatingCount()).isEqualTo(10);
+        assertThat(testSeries.getAverageRating()).isEqualTo(4.5);
         then(userAccountRepository).should().findById(reviewDto2.getUserAccountId());
         then(seriesRepository).should().findById(reviewDto2.getSeriesId());
         then(reviewRepository).should().save(any(Review.class));
@@ -267,7 +284,7 @@ public class ReviewServiceTest {
         given(reviewRepository.findAll(pageable)).willReturn(reviewPage);
 
         // 반환 타입 변경
-        PageDto<ReviewDto> reviewsPageDto = reviewService.findAllReviews(page, size);
+        PageDto<ReviewDto> reviewsPageDto = reviewService.findAllReviews(page, size, CountMode.EXACT);
         List<ReviewDto> reviews = reviewsPageDto.getItems();
 
         /// 검증 ///
@@ -295,7 +312,7 @@ public class ReviewServiceTest {
                 );
 
         // 영화 id로 영화를 찾아 리뷰들을 PageDto 변수에 저장
-        PageDto<ReviewDto> reviewDtoPageDto = reviewService.reviewMovieDtoPage(reviewDto1.getMovieId(), 0, 5);
+        PageDto<ReviewDto> reviewDtoPageDto = reviewService.reviewMovieDtoPage(reviewDto1.getMovieId(), 0, 5, CountMode.EXACT);
 
         /// 검증 ///
         assertThat(reviewDtoPageDto).isNotNull();
@@ -318,7 +335,7 @@ public class ReviewServiceTest {
                 );
 
         // 영화 id로 영화를 찾아 리뷰들을 PageDto 변수에 저장
-        PageDto<ReviewDto> reviewDtoPageDto = reviewService.reviewSeriesDtoPage(reviewDto2.getSeriesId(), 0, 5);
+        PageDto<ReviewDto> reviewDtoPageDto = reviewService.reviewSeriesDtoPage(reviewDto2.getSeriesId(), 0, 5, CountMode.EXACT);
 
         /// 검증 ///
         assertThat(reviewDtoPageDto).isNotNull();
@@ -334,7 +351,7 @@ public class ReviewServiceTest {
     @Test
         // TODO: 새로운 평점/내용 검증 로직까지 테스트하는 것을 검토
     void updateReview() {
-        given(reviewRepository.findById(reviewDto1.getId()))
+        given(reviewRepository.findByIdForUpdate(reviewDto1.getId()))
                 .willReturn(Optional.of(reviewDto1.toEntity(testUser, testMovie, null)));
 
         // 수정할 리뷰 내용 변수에 저장
@@ -354,14 +371,12 @@ public class ReviewServiceTest {
         assertThat(result).isNotNull();
         assertEquals(4, result.getRating());
         assertEquals("(테스트)수정된 리뷰 내용", result.getContent());
-        then(reviewRepository).should().findById(reviewDto1.getId());
+        then(reviewRepository).should().findByIdForUpdate(reviewDto1.getId());
     }
 
     @Test
-    @DisplayName("리뷰 수정 시 영화 정보 업데이트")
+    @DisplayName("리뷰 수정 시 영화의 평점 변화량 기록")
     void updateReviewUpdateMovie() {
-        int ratingCount = testMovie.getRatingCount();
-        double averageRating = testMovie.getAverageRating();
         // 수정할 리뷰 내용 변수에 저장
         ReviewDto updatedReviewDto = ReviewDto.builder()
                 .id(reviewDto1.getId())
@@ -371,50 +386,52 @@ public class ReviewServiceTest {
                 .rating(4)
                 .content("(테스트)수정된 리뷰 내용")
                 .build();
-        given(reviewRepository.findById(reviewDto1.getId()))
-                .willReturn(Optional.of(updatedReviewDto.toEntity(testUser, testMovie, null)));
-
-        // 수정
-        ReviewDto review = reviewService.updateReview(reviewDto1.getId(), updatedReviewDto);
+        given(reviewRepository.findByIdForUpdate(reviewDto1.getId()))
+                .willReturn(Optional.of(reviewDto1.toEntity(testUser, testMovie, null)));
 
-        double newAverageRating = (averageRating * ratingCount - updatedReviewDto.getRating() + review.getRating()) / ratingCount;
+        // 수정 (5점 -> 4점)
+        reviewService.updateReview(reviewDto1.getId(), updatedReviewDto);
 
-        assertThat(testMovie.getRatingCount()).isEqualTo(ratingCount);
-        assertThat(testMovie.getAverageRating()).isEqualTo(newAverageRating);
-        then(reviewRepository).should().findById(reviewDto1.getId());
+        RatingEvent event = captureRatingEvent();
+        assertThat(event.getMovieId()).isEqualTo(testMovie.getId());
+        assertThat(event.getRatingDelta()).isEqualTo(-1);
+        assertThat(event.getCountDelta()).isZero();
+        assertThat(testMovie.getRatingCount()).isEqualTo(10);
+        assertThat(testMovie.getAverageRating()).isEqualTo(4);
+        then(reviewRepository).should().findByIdForUpdate(reviewDto1.getId());
     }
 
     @Test
-    @DisplayName("리뷰 수정 시 시리즈 정보 업데이트")
+    @DisplayName("리뷰 수정 시 시리즈의 평점 변화량 기록")
     void updateReviewUpdateSeries() {
-        int ratingCount = testSeries.getRatingCount();
-        double averageRating = testSeries.getAverageRating();
         // 수정할 리뷰 내용 변수에 저장
         ReviewDto updatedReviewDto = ReviewDto.builder()
                 .id(reviewDto2.getId())
                 .userAccountId(reviewDto2.getUserAccountId())
                 .nickname(reviewDto2.getNickname())
-                .movieId(reviewDto2.getMovieId())
+                .seriesId(reviewDto2.getSeriesId())
                 .rating(4)
                 .content("(테스트)수정된 리뷰 내용")
                 .build();
-        given(reviewRepository.findById(reviewDto2.getId()))
-                .willReturn(Optional.of(updatedReviewDto.toEntity(testUser, null, testSeries)));
-
-        // 수정
-        ReviewDto review = reviewService.updateReview(reviewDto2.getId(), updatedReviewDto);
+        given(reviewRepository.findByIdForUpdate(reviewDto2.getId()))
+                .willReturn(Optional.of(reviewDto2.toEntity(testUser, null, testSeries)));
 
-        double newAverageRating = (averageRating * ratingCount - updatedReviewDto.getRating() + review.getRating()) / ratingCount;
+        // 수정 (5점 -> 4점)
+        reviewService.updateReview(reviewDto2.getId(), updatedReviewDto);
 
-        assertThat(testSeries.getRatingCount()).isEqualTo(ratingCount);
-        assertThat(testSeries.getAverageRating()).isEqualTo(newAverageRating);
-        then(reviewRepository).should().findById(reviewDto2.getId());
+        RatingEvent event = captureRatingEvent();
+        assertThat(event.getSeriesId()).isEqualTo(testSeries.getId());
+        assertThat(event.getRatingDelta()).isEqualTo(-1);
+        assertThat(event.getCountDelta()).isZero();
+        assertThat(testSeries.getRatingCount()).isEqualTo(10);
+        assertThat(testSeries.getAverageRating()).isEqualTo(4.5);
+        then(reviewRepository).should().findByIdForUpdate(reviewDto2.getId());
     }
 
     @DisplayName("존재하지 않는 리뷰 수정")
     @Test
     void updateNonexistentReview() {
-        given(reviewRepository.findById(1234L)).willReturn(Optional.empty());
+        given(reviewRepository.findByIdForUpdate(1234L)).willReturn(Optional.empty());
 
 
         // 수정
@@ -424,69 +441,67 @@ public class ReviewServiceTest {
         assertThat(thrown)
                 .isInstanceOf(ServiceException.class)
                 .hasMessage("1234번 리뷰를 찾을 수 없습니다.");
-        then(reviewRepository).should().findById(1234L);
+        then(reviewRepository).should().findByIdForUpdate(1234L);
     }
 
     @DisplayName("리뷰 삭제")
     @Test
     void deleteReview() {
-        given(reviewRepository.findById(reviewDto1.getId()))
+        given(reviewRepository.findByIdForUpdate(reviewDto1.getId()))
                 .willReturn(Optional.of(reviewDto1.toEntity(testUser, testMovie, null)));
 
         // 리뷰 삭제
         reviewService.deleteReview(reviewDto1.getId());
 
         /// 검증 ///
-        then(reviewRepository).should().findById(reviewDto1.getId());
+        then(reviewRepository).should().findByIdForUpdate(reviewDto1.getId());
         then(reviewRepository).should().delete(any(Review.class));
     }
 
     @Test
-    @DisplayName("리뷰 삭제 시 영화 정보 업데이트")
+    @DisplayName("리뷰 삭제 시 영화의 평점 변화량 기록")
     void deleteReviewUpdateMovie() {
-        int ratingCount = testMovie.getRatingCount();
-        double averageRating = testMovie.getAverageRating();
-        given(reviewRepository.findById(reviewDto1.getId()))
+        given(reviewRepository.findByIdForUpdate(reviewDto1.getId()))
                 .willReturn(Optional.of(reviewDto1.toEntity(testUser, testMovie, null)));
         doNothing().when(reviewRepository).delete(any(Review.class));
 
         // 리뷰 삭제
         reviewService.deleteReview(reviewDto1.getId());
 
-        int newRatingCount = ratingCount - 1;
-        double newAverageRating = (averageRating * ratingCount - reviewDto1.getRating()) / newRatingCount;
-
-        assertThat(testMovie.getRatingCount()).isEqualTo(newRatingCount);
-        assertThat(testMovie.getAverageRating()).isEqualTo(newAverageRating);
-        then(reviewRepository).should().findById(reviewDto1.getId());
+        RatingEvent event = captureRatingEvent();
+        assertThat(event.getMovieId()).isEqualTo(testMovie.getId());
+        assertThat(event.getRatingDelta()).isEqualTo(-reviewDto1.getRating());
+        assertThat(event.getCountDelta()).isEqualTo(-1);
+        assertThat(testMovie.getRatingCount()).isEqualTo(10);
+        assertThat(testMovie.getAverageRating()).isEqualTo(4);
+        then(reviewRepository).should().findByIdForUpdate(reviewDto1.getId());
         then(reviewRepository).should().delete(any(Review.class));
     }
 
     @Test
-    @DisplayName("리뷰 삭제 시 시리즈 정보 업데이트")
+    @DisplayName("리뷰 삭제 시 시리즈의 평점 변화량 기록")
     void deleteReviewUpdateSeries() {
-        int ratingCount = testSeries.getRatingCount();
-        double averageRating = testSeries.getAverageRating();
-        given(reviewRepository.findById(reviewDto2.getId()))
+        given(reviewRepository.findByIdForUpdate(reviewDto2.getId()))
                 .willReturn(Optional.of(reviewDto2.toEntity(testUser, null, testSeries)));
         doNothing().when(reviewRepository).delete(any(Review.class));
 
         // 리뷰 삭제
         reviewService.deleteReview(reviewDto2.getId());
 
-        int newRatingCount = ratingCount - 1;
-        double newAverageRating = (averageRating * ratingCount - reviewDto2.getRating()) / newRatingCount;
-
-        assertThat(testSeries.getRatingCount()).isEqualTo(newRatingCount);
-        assertThat(testSeries.getAverageRating()).isEqualTo(newAverageRating);
-        then(reviewRepository).should().findById(reviewDto2.getId());
+        RatingEvent event = captureRatingEvent();
+        assertThat(event.getSeriesId()).isEqualTo(testSeries.getId());
+        assertThat(event.getRatingDelta()).isEqualTo(-reviewDto2.getRating());
+        assertThat(event.getCountDelta()).isEqualTo(-1);
+        assertThat(testSeries.getRatingCount()).isEqualTo(10);
+        assertThat(testSeries.getAverageRating()).isEqualTo(4.5);
+        then(reviewRepository).should().findByIdForUpdate(reviewDto2.getId());
         then(reviewRepository).should().delete(any(Review.class));
     }
 
     @DisplayName("존재하지 않는 리뷰 삭제")
     @Test
     void deleteNonexistentReview() {
-        given(reviewRepository.findById(reviewDto1.getId())).willReturn(Optional.empty());
+        given(reviewRepository.findByIdForUpdate(reviewDto1.getId())).willReturn(Optional.empty());
 
         // 리뷰 삭제
         Throwable thrown = catchThrowable(() -> reviewService.deleteReview(reviewDto1.getId()));
@@ -496,4 +511,96 @@ public class ReviewServiceTest {
                 .isInstanceOf(ServiceException.class)
                 .hasMessage("%d번 리뷰를 찾을 수 없습니다.".formatted(reviewDto1.getId()));
     }
+
+    @Test
+    @DisplayName("특정 영화의 리뷰 커서 조회 - 다음 페이지가 있으면 마지막 리뷰의 ID로 커서 생성")
+    void reviewMovieDtoCursor() {
+        given(reviewRepository.findByMovie_IdAndIdLessThanOrderByIdDesc(testMovie.getId(), Long.MAX_VALUE, PageRequest.of(0, 3)))
+                .willReturn(List.of(review(30L), review(20L), review(10L)));
+
+        CursorDto<ReviewDto> result = reviewService.reviewMovieDtoCursor(testMovie.getId(), null, 2, false);
+
+        assertThat(result.getItems()).extracting(ReviewDto::getId).containsExactly(30L, 20L);
+        assertThat(result.getNextCursor()).isEqualTo(CursorUtils.encode(20L));
+        assertThat(result.getTotalItems()).isNull();
+        then(reviewRepository).should(never()).countByMovie_Id(any());
+    }
+
+    @Test
+    @DisplayName("모든 리뷰 커서 조회 - 마지막 페이지는 다음 커서가 없고, 요청하면 전체 개수 포함")
+    void findAllReviewsByCursor() {
+        given(reviewRepository.findByIdLessThanOrderByIdDesc(20L, PageRequest.of(0, 3)))
+                .willReturn(List.of(review(10L)));
+        given(reviewRepository.count()).willReturn(3L);
+
+        CursorDto<ReviewDto> result = reviewService.findAllReviews(CursorUtils.encode(20L), 2, true);
+
+        assertThat(result.getItems()).extracting(ReviewDto::getId).containsExactly(10L);
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getTotalItems()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("리뷰 커서 조회 - 잘못된 커서")
+    void findAllReviewsByInvalidCursor() {
+        Throwable thrown = catchThrowable(() -> reviewService.findAllReviews("잘못된 커서", 2, false));
+
+        assertThat(thrown)
+                .isInstanceOf(ServiceException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("특정 영화의 리뷰 조회 - 전체 개수를 세지 않으면 다음 페이지 여부만 포함")
+    void printReviewByMovieWithoutCount() {
+        Pageable pageable = PageRequest.of(0, 2);
+        given(reviewRepository.findSliceByMovie_IdOrderByIdDesc(testMovie.getId(), pageable))
+                .willReturn(new SliceImpl<>(List.of(review(30L), review(20L)), pageable, true));
+
+        PageDto<ReviewDto> result = reviewService.reviewMovieDtoPage(testMovie.getId(), 0, 2, CountMode.NONE);
+
+        assertThat(result.getItems()).extracting(ReviewDto::getId).containsExactly(30L, 20L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getTotalItems()).isNull();
+        assertThat(result.getTotalPages()).isNull();
+        then(reviewRepository).should(never()).findByMovie_IdOrderByIdDesc(any(), any());
+        then(reviewRepository).should(never()).countByMovie_Id(any());
+    }
+
+    @Test
+    @DisplayName("리뷰 검색 - 근사 개수는 한번 센 값을 다시 사용")
+    void searchReviewsWithApproximateCount() {
+        Pageable pageable = PageRequest.of(0, 5);
+        given(reviewRepository.findSliceByUserAccount_NicknameContainingOrContentContaining("영화", "영화", pageable))
+                .willReturn(new SliceImpl<>(List.of(review(10L)), pageable, false));
+        given(reviewRepository.countByUserAccount_NicknameContainingOrContentContaining("영화", "영화"))
+                .willReturn(12L);
+
+        reviewService.searchReviews("영화", 0, 5, CountMode.APPROXIMATE);
+        PageDto<ReviewDto> result = reviewService.searchReviews("영화", 0, 5, CountMode.APPROXIMATE);
+
+        assertThat(result.getItems()).extracting(ReviewDto::getId).containsExactly(10L);
+        assertThat(result.getTotalItems()).isEqualTo(12);
+        assertThat(result.getTotalPages()).isEqualTo(3);
+        // 다음 페이지 여부는 근사 개수가 아니라 조회한 결과로 판단
+        assertThat(result.isHasNext()).isFalse();
+        then(reviewRepository).should().countByUserAccount_NicknameContainingOrContentContaining("영화", "영화");
+        then(reviewRepository).should(never()).findByUserAccount_NicknameContainingOrContentContaining(any(), any(), any());
+    }
+
+    private Review review(Long id) {
+        return Review.builder()
+                .id(id)
+                .userAccount(testUser)
+                .movie(testMovie)
+                .rating(5)
+                .content("테스트용 리뷰 내용 (영화)")
+                .build();
+    }
+
+    private RatingEvent captureRatingEvent() {
+        ArgumentCaptor<RatingEvent> captor = ArgumentCaptor.forClass(RatingEvent.class);
+        then(ratingEventRepository).should().save(captor.capture());
+        return captor.getValue();
+    }
 }
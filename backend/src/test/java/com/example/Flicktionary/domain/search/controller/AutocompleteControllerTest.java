@@ -0,0 +1,77 @@
+package com.example.Flicktionary.domain.search.controller;
+
+import com.example.Flicktionary.domain.search.dto.SearchHitResponse;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.domain.search.service.SearchService;
+import com.example.Flicktionary.domain.user.service.UserAccountJwtAuthenticationService;
+import com.example.Flicktionary.domain.user.service.UserAccountService;
+import com.example.Flicktionary.global.exception.ServiceException;
+import com.example.Flicktionary.global.security.CustomUserDetailsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("자동완성 컨트롤러 테스트")
+@Import({SearchService.class,
+        UserAccountService.class,
+        UserAccountJwtAuthenticationService.class,
+        CustomUserDetailsService.class})
+@WebMvcTest(AutocompleteController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class AutocompleteControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoBean
+    private SearchService searchService;
+
+    @MockitoBean
+    private UserAccountService userAccountService;
+
+    @MockitoBean
+    private UserAccountJwtAuthenticationService userAccountJwtAuthenticationService;
+
+    @Test
+    @DisplayName("자동완성 - 성공 - 기본 결과 개수")
+    void autocomplete1() throws Exception {
+        given(searchService.autocomplete("ㅎㄹ", null, 10))
+                .willReturn(List.of(new SearchHitResponse(SearchType.MOVIE, 2L, "해리 포터와 비밀의 방", "poster", 4.5, 30)));
+
+        mvc.perform(get("/api/autocomplete")
+                        .param("keyword", "ㅎㄹ"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].type").value("MOVIE"))
+                .andExpect(jsonPath("$.data[0].name").value("해리 포터와 비밀의 방"))
+                .andExpect(jsonPath("$.data[0].ratingCount").value(30));
+        then(searchService).should().autocomplete("ㅎㄹ", null, 10);
+    }
+
+    @Test
+    @DisplayName("자동완성 - 실패 - 잘못된 결과 개수")
+    void autocomplete2() throws Exception {
+        given(searchService.autocomplete("해리", List.of(SearchType.ACTOR), 20))
+                .willThrow(new ServiceException(HttpStatus.BAD_REQUEST.value(), "자동완성 결과 개수는 1 이상 10 이하로 지정해야 합니다."));
+
+        mvc.perform(get("/api/autocomplete")
+                        .param("keyword", "해리")
+                        .param("types", "ACTOR")
+                        .param("size", "20"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("자동완성 결과 개수는 1 이상 10 이하로 지정해야 합니다."));
+    }
+}
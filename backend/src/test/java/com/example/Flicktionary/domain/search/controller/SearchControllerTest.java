@@ -0,0 +1,90 @@
+package com.example.Flicktionary.domain.search.controller;
+
+import com.example.Flicktionary.domain.search.dto.SearchHitResponse;
+import com.example.Flicktionary.domain.search.dto.SearchResponse;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.domain.search.service.SearchService;
+import com.example.Flicktionary.domain.user.service.UserAccountJwtAuthenticationService;
+import com.example.Flicktionary.domain.user.service.UserAccountService;
+import com.example.Flicktionary.global.exception.ServiceException;
+import com.example.Flicktionary.global.security.CustomUserDetailsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("통합 검색 컨트롤러 테스트")
+@Import({SearchService.class,
+        UserAccountService.class,
+        UserAccountJwtAuthenticationService.class,
+        CustomUserDetailsService.class})
+@WebMvcTest(SearchController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoBean
+    private SearchService searchService;
+
+    @MockitoBean
+    private UserAccountService userAccountService;
+
+    @MockitoBean
+    private UserAccountJwtAuthenticationService userAccountJwtAuthenticationService;
+
+    @Test
+    @DisplayName("통합 검색 - 성공")
+    void search1() throws Exception {
+        given(searchService.search("봉준", List.of(SearchType.MOVIE, SearchType.DIRECTOR), 10))
+                .willReturn(new SearchResponse(
+                        List.of(new SearchHitResponse(SearchType.DIRECTOR, 1L, "봉준호", null, 0, 0),
+                                new SearchHitResponse(SearchType.MOVIE, 2L, "봉준호의 영화", "poster", 4.5, 12)),
+                        Map.of(SearchType.MOVIE, 1L, SearchType.DIRECTOR, 1L),
+                        2));
+
+        mvc.perform(get("/api/search")
+                        .param("keyword", "봉준")
+                        .param("types", "MOVIE", "DIRECTOR")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].type").value("DIRECTOR"))
+                .andExpect(jsonPath("$.data.items[0].name").value("봉준호"))
+                .andExpect(jsonPath("$.data.items[1].type").value("MOVIE"))
+                .andExpect(jsonPath("$.data.items[1].imageUrl").value("poster"))
+                .andExpect(jsonPath("$.data.counts.MOVIE").value(1))
+                .andExpect(jsonPath("$.data.totalItems").value(2));
+        then(searchService).should().search("봉준", List.of(SearchType.MOVIE, SearchType.DIRECTOR), 10);
+    }
+
+    @Test
+    @DisplayName("통합 검색 - 실패 - 색인 준비중")
+    void search2() throws Exception {
+        given(searchService.search(anyString(), any(), anyInt()))
+                .willThrow(new ServiceException(HttpStatus.SERVICE_UNAVAILABLE.value(), "검색 색인을 준비중입니다. 잠시 후 다시 시도해주세요."));
+
+        mvc.perform(get("/api/search")
+                        .param("keyword", "해리"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value(HttpStatus.SERVICE_UNAVAILABLE.value()))
+                .andExpect(jsonPath("$.message").value("검색 색인을 준비중입니다. 잠시 후 다시 시도해주세요."));
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.Flicktionary.domain.search.service;
+
+import com.example.Flicktionary.domain.actor.entity.Actor;
+import com.example.Flicktionary.domain.director.entity.Director;
+import com.example.Flicktionary.domain.movie.entity.Movie;
+import com.example.Flicktionary.domain.search.dto.SearchDocument;
+import com.example.Flicktionary.domain.search.dto.SearchHitResponse;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.domain.search.event.SearchIndexEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("자동완성 색인 테스트")
+class AutocompleteIndexTest {
+
+    private AutocompleteIndex autocompleteIndex;
+
+    @BeforeEach
+    void setUp() {
+        autocompleteIndex = new AutocompleteIndex();
+        autocompleteIndex.load(List.of(
+                new SearchDocument(movie(1L, "해리 포터와 마법사의 돌", 10)),
+                new SearchDocument(movie(2L, "해리 포터와 비밀의 방", 30)),
+                new SearchDocument(movie(3L, "The Dark Knight", 20)),
+                new SearchDocument(new Actor(1L, "해리슨 포드", "profile")),
+                new SearchDocument(new Director(1L, "봉준호", null))));
+        autocompleteIndex.markReady();
+    }
+
+    @Test
+    @DisplayName("자동완성 - 성공 - 리뷰가 많은 순서로 정렬")
+    void complete1() {
+        List<SearchHitResponse> result = complete("해리", EnumSet.allOf(SearchType.class), 10);
+
+        assertThat(result).extracting(SearchHitResponse::getType, SearchHitResponse::getId)
+                .containsExactly(
+                        tuple(SearchType.MOVIE, 2L),
+                        tuple(SearchType.MOVIE, 1L),
+                        tuple(SearchType.ACTOR, 1L));
+        assertThat(result.get(2).getImageUrl()).isEqualTo("profile");
+    }
+
+    @Test
+    @DisplayName("자동완성 - 성공 - 입력중인 음절, 초성, 공백과 대소문자 무시")
+    void complete2() {
+        assertThat(complete("해리퐅", EnumSet.of(SearchType.MOVIE), 10))
+                .extracting(SearchHitResponse::getId).containsExactly(2L, 1L);
+        assertThat(complete("ㅂㅈ", EnumSet.allOf(SearchType.class), 10))
+                .extracting(SearchHitResponse::getName).containsExactly("봉준호");
+        assertThat(complete("thed", EnumSet.of(SearchType.MOVIE), 10))
+                .extracting(SearchHitResponse::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("자동완성 - 성공 - 앞부분이 일치하지 않으면 제외, 종류와 개수 제한")
+    void complete3() {
+        assertThat(complete("포터", EnumSet.allOf(SearchType.class), 10)).isEmpty();
+        assertThat(complete("해리", EnumSet.of(SearchType.ACTOR), 10))
+                .extracting(SearchHitResponse::getName).containsExactly("해리슨 포드");
+        assertThat(complete("ㅎ", EnumSet.allOf(SearchType.class), 1))
+                .extracting(SearchHitResponse::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("색인 갱신 - 성공 - 수정된 제목과 리뷰 수 반영")
+    void onDocumentsChanged1() {
+        autocompleteIndex.onDocumentsChanged(new SearchIndexEvent(List.of(
+                new SearchDocument(movie(1L, "해리 포터와 마법사의 돌", 50)),
+                new SearchDocument(movie(2L, "비밀의 방", 30)))));
+
+        assertThat(complete("해리", EnumSet.of(SearchType.MOVIE), 10))
+                .extracting(SearchHitResponse::getId, SearchHitResponse::getRatingCount)
+                .containsExactly(tuple(1L, 50));
+        assertThat(complete("ㅂㅁ", EnumSet.of(SearchType.MOVIE), 10))
+                .extracting(SearchHitResponse::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("색인 생성 - 성공 - 먼저 반영된 이벤트를 덮어쓰지 않음")
+    void load1() {
+        autocompleteIndex.onDocumentsChanged(new SearchIndexEvent(List.of(
+                new SearchDocument(new Director(2L, "봉준호", null)))));
+        autocompleteIndex.load(List.of(new SearchDocument(new Director(2L, "박찬욱", null))));
+
+        assertThat(complete("봉", EnumSet.of(SearchType.DIRECTOR), 10))
+                .extracting(SearchHitResponse::getId).containsExactly(1L, 2L);
+        assertThat(complete("박", EnumSet.of(SearchType.DIRECTOR), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("자동완성 - 실패 - 색인이 준비되기 전")
+    void complete4() {
+        assertThat(new AutocompleteIndex().complete("해리", EnumSet.allOf(SearchType.class), 10)).isEmpty();
+    }
+
+    private List<SearchHitResponse> complete(String keyword, Set<SearchType> types, int size) {
+        return autocompleteIndex.complete(keyword, types, size).orElseThrow();
+    }
+
+    private Movie movie(Long id, String title, int ratingCount) {
+        return Movie.builder()
+                .id(id)
+                .title(title)
+                .ratingCount(ratingCount)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.Flicktionary.domain.search.service;
+
+import com.example.Flicktionary.domain.actor.entity.Actor;
+import com.example.Flicktionary.domain.actor.repository.ActorRepository;
+import com.example.Flicktionary.domain.director.repository.DirectorRepository;
+import com.example.Flicktionary.domain.movie.entity.Movie;
+import com.example.Flicktionary.domain.movie.repository.MovieRepository;
+import com.example.Flicktionary.domain.search.dto.SearchDocument;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.domain.series.repository.SeriesRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@DisplayName("검색 색인 초기화 테스트")
+@ExtendWith(MockitoExtension.class)
+class SearchIndexInitializerTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    @Mock
+    private ActorRepository actorRepository;
+
+    @Mock
+    private DirectorRepository directorRepository;
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Mock
+    private AutocompleteIndex autocompleteIndex;
+
+    @InjectMocks
+    private SearchIndexInitializer searchIndexInitializer;
+
+    @Test
+    @DisplayName("색인 생성 - 성공 - 한번 읽은 문서로 두 색인을 함께 생성")
+    void build1() {
+        given(movieRepository.findByIdGreaterThanOrderById(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(Movie.builder().id(1L).title("해리 포터").build(), Movie.builder().id(2L).title("기생충").build()));
+        given(movieRepository.findByIdGreaterThanOrderById(eq(2L), any(Pageable.class)))
+                .willReturn(List.of());
+        given(seriesRepository.findByIdGreaterThanOrderById(anyLong(), any(Pageable.class)))
+                .willReturn(List.of());
+        given(actorRepository.findByIdGreaterThanOrderById(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(new Actor(1L, "송강호", null)));
+        given(actorRepository.findByIdGreaterThanOrderById(eq(1L), any(Pageable.class)))
+                .willReturn(List.of());
+        given(directorRepository.findByIdGreaterThanOrderById(anyLong(), any(Pageable.class)))
+                .willReturn(List.of());
+
+        searchIndexInitializer.build();
+
+        then(searchIndex).should().load(argThat(documents -> documents.size() == 2 && documents.getFirst().type() == SearchType.MOVIE));
+        then(searchIndex).should().load(List.of(new SearchDocument(new Actor(1L, "송강호", null))));
+        then(autocompleteIndex).should().load(List.of(new SearchDocument(new Actor(1L, "송강호", null))));
+        then(searchIndex).should().markReady();
+        then(autocompleteIndex).should().markReady();
+    }
+
+    @Test
+    @DisplayName("색인 생성 - 실패 - 조회 중 오류가 나면 준비 상태로 바꾸지 않음")
+    void build2() {
+        given(movieRepository.findByIdGreaterThanOrderById(anyLong(), any(Pageable.class)))
+                .willThrow(new IllegalStateException("connection refused"));
+
+        searchIndexInitializer.build();
+
+        then(searchIndex).should(never()).markReady();
+        then(autocompleteIndex).should(never()).markReady();
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.Flicktionary.domain.search.service;
+
+import com.example.Flicktionary.domain.actor.entity.Actor;
+import com.example.Flicktionary.domain.director.entity.Director;
+import com.example.Flicktionary.domain.movie.entity.Movie;
+import com.example.Flicktionary.domain.search.dto.SearchDocument;
+import com.example.Flicktionary.domain.search.dto.SearchHitResponse;
+import com.example.Flicktionary.domain.search.dto.SearchResponse;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.domain.search.event.SearchIndexEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("검색 색인 테스트")
+class SearchIndexTest {
+
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new SearchIndex();
+        searchIndex.load(List.of(
+                new SearchDocument(movie(1L, "해리 포터와 마법사의 돌", "마법 학교에 입학한 소년", 4.0, 10)),
+                new SearchDocument(movie(2L, "해리 포터와 비밀의 방", "비밀의 방이 열린다", 4.5, 3)),
+                new SearchDocument(movie(3L, "The Dark Knight", "Batman raises the stakes", 4.8, 30))));
+        searchIndex.load(List.of(
+                new SearchDocument(new Actor(1L, "송강호", null)),
+                new SearchDocument(new Actor(2L, "Tom Hanks", null))));
+        searchIndex.load(List.of(new SearchDocument(new Director(1L, "봉준호", null))));
+        searchIndex.markReady();
+    }
+
+    @Test
+    @DisplayName("제목 검색 - 성공 - 공백과 대소문자를 무시한 부분 일치")
+    void searchName1() {
+        SearchIndex.Result result = search("포터와", SearchType.MOVIE, "id", 1, 10);
+        SearchIndex.Result english = search("dark kn", SearchType.MOVIE, "id", 1, 10);
+
+        assertThat(result.ids()).containsExactly(1L, 2L);
+        assertThat(result.totalElements()).isEqualTo(2);
+        assertThat(english.ids()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("제목 검색 - 성공 - 입력중인 음절과 초성")
+    void searchName2() {
+        SearchIndex.Result typing = search("해리퐅", SearchType.MOVIE, "id", 1, 10);
+        SearchIndex.Result chosung = search("ㅂㅁㅇ", SearchType.MOVIE, "id", 1, 10);
+
+        assertThat(typing.ids()).containsExactly(1L, 2L);
+        assertThat(chosung.ids()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("이름 검색 - 성공 - 종류별로 구분")
+    void searchName3() {
+        SearchIndex.Result actors = search("ㅅㄱ", SearchType.ACTOR, "id", 1, 10);
+        SearchIndex.Result directors = search("봉준", SearchType.DIRECTOR, "id", 1, 10);
+        SearchIndex.Result movies = search("봉준", SearchType.MOVIE, "id", 1, 10);
+
+        assertThat(actors.ids()).containsExactly(1L);
+        assertThat(directors.ids()).containsExactly(1L);
+        assertThat(movies.ids()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목 검색 - 성공 - 정렬과 페이징")
+    void searchName4() {
+        SearchIndex.Result byRating = search("해리", SearchType.MOVIE, "rating", 1, 1);
+        SearchIndex.Result byRatingCount = search("해리", SearchType.MOVIE, "ratingCount", 2, 1);
+
+        assertThat(byRating.ids()).containsExactly(2L);
+        assertThat(byRating.totalElements()).isEqualTo(2);
+        assertThat(byRatingCount.ids()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("색인 갱신 - 성공 - 수정된 제목과 평점 반영")
+    void onDocumentsChanged1() {
+        searchIndex.onDocumentsChanged(new SearchIndexEvent(List.of(
+                new SearchDocument(movie(1L, "마법사의 돌", "마법 학교에 입학한 소년", 4.0, 10)),
+                new SearchDocument(movie(2L, "해리 포터와 비밀의 방", "비밀의 방이 열린다", 1.0, 4)),
+                new SearchDocument(new Actor(3L, "송혜교", null)))));
+
+        SearchIndex.Result result = search("해리", SearchType.MOVIE, "id", 1, 10);
+        SearchIndex.Result byRating = search("의", SearchType.MOVIE, "rating", 1, 10);
+        SearchIndex.Result actors = search("송", SearchType.ACTOR, "id", 1, 10);
+
+        assertThat(result.ids()).containsExactly(2L);
+        assertThat(byRating.ids()).containsExactly(1L, 2L);
+        assertThat(actors.ids()).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("색인 갱신 - 성공 - 제목이 바뀌어도 같은 슬롯을 다시 사용")
+    void onDocumentsChanged2() {
+        for (String title : List.of("마법사의 돌", "해리 포터와 마법사의 돌", "마법사의 돌")) {
+            searchIndex.onDocumentsChanged(new SearchIndexEvent(List.of(
+                    new SearchDocument(movie(1L, title, "마법 학교에 입학한 소년", 4.0, 10)))));
+        }
+
+        assertThat(search("해리", SearchType.MOVIE, "id", 1, 10).ids()).containsExactly(2L);
+        assertThat(search("마법사", SearchType.MOVIE, "id", 1, 10).ids()).containsExactly(1L);
+        assertThat(ReflectionTestUtils.getField(searchIndex, "slotCount")).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("통합 검색 - 성공 - 전체 일치, 앞부분 일치, 부분 일치 순으로 정렬")
+    void searchAll1() {
+        searchIndex.onDocumentsChanged(new SearchIndexEvent(List.of(
+                new SearchDocument(new Director(2L, "해리", "profile")))));
+
+        SearchResponse result = searchIndex.searchAll("해리", EnumSet.allOf(SearchType.class), 10).orElseThrow();
+
+        assertThat(result.getItems()).extracting(SearchHitResponse::getType, SearchHitResponse::getId)
+                .containsExactly(
+                        tuple(SearchType.DIRECTOR, 2L),
+                        tuple(SearchType.MOVIE, 1L),
+                        tuple(SearchType.MOVIE, 2L));
+        assertThat(result.getItems().getFirst().getImageUrl()).isEqualTo("profile");
+        assertThat(result.getCounts()).containsEntry(SearchType.MOVIE, 2L).containsEntry(SearchType.DIRECTOR, 1L);
+        assertThat(result.getTotalItems()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("통합 검색 - 성공 - 종류 지정과 결과 개수 제한")
+    void searchAll2() {
+        SearchResponse result = searchIndex.searchAll("ㅅ", EnumSet.of(SearchType.ACTOR, SearchType.DIRECTOR), 1).orElseThrow();
+
+        assertThat(result.getItems()).extracting(SearchHitResponse::getName).containsExactly("송강호");
+        assertThat(result.getCounts()).containsOnlyKeys(SearchType.ACTOR, SearchType.DIRECTOR);
+        assertThat(result.getTotalItems()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검색 결과 정렬 - 성공 - 조회한 엔티티를 검색 결과 순서로 정렬")
+    void resultSort1() {
+        SearchIndex.Result result = new SearchIndex.Result(List.of(3L, 1L, 2L), 3);
+
+        List<Actor> sorted = result.sort(List.of(new Actor(1L, "a", null), new Actor(3L, "c", null)), Actor::getId);
+
+        assertThat(sorted).extracting(Actor::getId).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("검색 - 실패 - 색인이 준비되기 전")
+    void search1() {
+        SearchIndex notReady = new SearchIndex();
+
+        Optional<SearchIndex.Result> result = notReady.search("해리", SearchType.MOVIE, "id", 1, 10);
+
+        assertThat(result).isEmpty();
+    }
+
+    private SearchIndex.Result search(String keyword, SearchType type, String sortBy, int page, int pageSize) {
+        return searchIndex.search(keyword, type, sortBy, page, pageSize).orElseThrow();
+    }
+
+    private Movie movie(Long id, String title, String overview, double averageRating, int ratingCount) {
+        return Movie.builder()
+                .id(id)
+                .title(title)
+                .overview(overview)
+                .averageRating(averageRating)
+                .ratingCount(ratingCount)
+                .build();
+    }
+}
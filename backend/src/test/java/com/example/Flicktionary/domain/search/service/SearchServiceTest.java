@@ -0,0 +1,124 @@
+package com.example.Flicktionary.domain.search.service;
+
+import com.example.Flicktionary.domain.search.dto.SearchHitResponse;
+import com.example.Flicktionary.domain.search.dto.SearchResponse;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.global.exception.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@DisplayName("통합 검색 서비스 테스트")
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Mock
+    private AutocompleteIndex autocompleteIndex;
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @Test
+    @DisplayName("통합 검색 - 성공 - 종류를 지정하지 않으면 모든 종류를 검색")
+    void search1() {
+        SearchResponse response = new SearchResponse(List.of(), Map.of(), 0);
+        given(searchIndex.searchAll("해리", EnumSet.allOf(SearchType.class), 20)).willReturn(Optional.of(response));
+
+        SearchResponse result = searchService.search("해리", null, 20);
+
+        assertThat(result).isSameAs(response);
+    }
+
+    @Test
+    @DisplayName("통합 검색 - 성공 - 빈 검색어는 색인을 조회하지 않음")
+    void search2() {
+        SearchResponse result = searchService.search(" ", List.of(SearchType.MOVIE), 20);
+
+        assertThat(result.getItems()).isEmpty();
+        then(searchIndex).should(never()).searchAll(anyString(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("통합 검색 - 실패 - 잘못된 결과 개수")
+    void search3() {
+        Throwable thrown = catchThrowable(() -> searchService.search("해리", null, 0));
+
+        assertThat(thrown)
+                .isInstanceOf(ServiceException.class)
+                .hasMessage("검색 결과 개수는 1 이상 50 이하로 지정해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("통합 검색 - 실패 - 색인 준비중")
+    void search4() {
+        given(searchIndex.searchAll("해리", EnumSet.of(SearchType.ACTOR), 20)).willReturn(Optional.empty());
+
+        Throwable thrown = catchThrowable(() -> searchService.search("해리", List.of(SearchType.ACTOR), 20));
+
+        assertThat(thrown)
+                .isInstanceOf(ServiceException.class)
+                .hasMessage("검색 색인을 준비중입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @Test
+    @DisplayName("자동완성 - 성공")
+    void autocomplete1() {
+        List<SearchHitResponse> hits = List.of(new SearchHitResponse(SearchType.ACTOR, 1L, "송강호", null, 0, 0));
+        given(autocompleteIndex.complete("송", EnumSet.of(SearchType.ACTOR), 5)).willReturn(Optional.of(hits));
+
+        List<SearchHitResponse> result = searchService.autocomplete("송", List.of(SearchType.ACTOR), 5);
+
+        assertThat(result).isSameAs(hits);
+    }
+
+    @Test
+    @DisplayName("자동완성 - 성공 - 빈 검색어는 색인을 조회하지 않음")
+    void autocomplete2() {
+        List<SearchHitResponse> result = searchService.autocomplete("", null, 10);
+
+        assertThat(result).isEmpty();
+        then(autocompleteIndex).should(never()).complete(anyString(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("자동완성 - 실패 - 잘못된 결과 개수")
+    void autocomplete3() {
+        Throwable thrown = catchThrowable(() -> searchService.autocomplete("해리", null, 11));
+
+        assertThat(thrown)
+                .isInstanceOf(ServiceException.class)
+                .hasMessage("자동완성 결과 개수는 1 이상 10 이하로 지정해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("자동완성 - 실패 - 색인 준비중")
+    void autocomplete4() {
+        given(autocompleteIndex.complete("해리", EnumSet.allOf(SearchType.class), 10)).willReturn(Optional.empty());
+
+        Throwable thrown = catchThrowable(() -> searchService.autocomplete("해리", null, 10));
+
+        assertThat(thrown)
+                .isInstanceOf(ServiceException.class)
+                .hasMessage("검색 색인을 준비중입니다. 잠시 후 다시 시도해주세요.");
+    }
+}
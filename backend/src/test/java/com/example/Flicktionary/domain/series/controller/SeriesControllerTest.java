@@ -6,6 +6,7 @@ import com.example.Flicktionary.domain.series.entity.Series;
 import com.example.Flicktionary.domain.series.service.SeriesService;
 import com.example.Flicktionary.domain.user.service.UserAccountJwtAuthenticationService;
 import com.example.Flicktionary.domain.user.service.UserAccountService;
+import com.example.Flicktionary.global.cache.JsonResponseCache;
 import com.example.Flicktionary.global.dto.PageDto;
 import com.example.Flicktionary.global.security.CustomUserDetailsService;
 import org.junit.jupiter.api.DisplayName;
@@ -33,6 +34,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @DisplayName("시리즈 도메인 컨트롤러 테스트")
 @Import({SeriesService.class,
+        JsonResponseCache.class,
         UserAccountService.class,
         UserAccountJwtAuthenticationService.class,
         CustomUserDetailsService.class})
@@ -86,7 +88,7 @@ public class SeriesControllerTest {
         PageDto<SeriesSummaryResponse> result = new PageDto<>(mockSeriesPage.map(SeriesSummaryResponse::new));
 
         // mockSeriesPage를 seriesService.getSeries()에서 반환하도록 설정(when)
-        when(seriesService.getSeries(keyword, page, pageSize, sortBy)).thenReturn(mockSeriesPage);
+        when(seriesService.getSeries(keyword, page, pageSize, sortBy)).thenReturn(mockSeriesPage.map(SeriesSummaryResponse::new));
         ResultActions resultActions = mvc.perform(get("/api/series")
                         .param("keyword", keyword)
                         .param("page", String.valueOf(page))
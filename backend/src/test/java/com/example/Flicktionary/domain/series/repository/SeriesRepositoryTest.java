@@ -0,0 +1,67 @@
+package com.example.Flicktionary.domain.series.repository;
+
+import com.example.Flicktionary.domain.genre.entity.Genre;
+import com.example.Flicktionary.domain.series.dto.SeriesSummaryResponse;
+import com.example.Flicktionary.domain.series.entity.Series;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("시리즈 리포지토리 테스트")
+class SeriesRepositoryTest {
+
+    @Autowired
+    private SeriesRepository seriesRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("시리즈 목록은 장르를 읽지 않고 목록 조회와 개수 조회 두 문장으로 가져온다.")
+    void findByTitleLikeStatementCount() {
+        Genre genre = new Genre(1L, "드라마");
+        entityManager.persist(genre);
+        for (int i = 1; i <= 25; i++) {
+            entityManager.persist(Series.builder()
+                    .tmdbId((long) i)
+                    .title("시리즈 " + i)
+                    .ratingCount(i)
+                    .genres(new ArrayList<>(List.of(genre)))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        Page<SeriesSummaryResponse> page = seriesRepository.findByTitleLike("시리즈", PageRequest.of(1, 10, Sort.by("id")));
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(25);
+        assertThat(page.getContent().getFirst().getTitle()).isEqualTo("시리즈 11");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
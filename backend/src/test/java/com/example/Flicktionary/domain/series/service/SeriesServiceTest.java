@@ -1,7 +1,12 @@
 package com.example.Flicktionary.domain.series.service;
 
+import com.example.Flicktionary.domain.actor.entity.Actor;
+import com.example.Flicktionary.domain.genre.dto.GenreDto;
+import com.example.Flicktionary.domain.search.service.SearchIndex;
 import com.example.Flicktionary.domain.series.dto.SeriesDetailResponse;
+import com.example.Flicktionary.domain.series.dto.SeriesSummaryResponse;
 import com.example.Flicktionary.domain.series.entity.Series;
+import com.example.Flicktionary.domain.series.entity.SeriesCast;
 import com.example.Flicktionary.domain.series.repository.SeriesRepository;
 import com.example.Flicktionary.global.exception.ServiceException;
 import org.junit.jupiter.api.DisplayName;
@@ -31,6 +36,9 @@ public class SeriesServiceTest {
     @Mock
     private SeriesRepository seriesRepository;
 
+    @Mock
+    private SearchIndex searchIndex;
+
     @InjectMocks
     SeriesService seriesService;
 
@@ -44,16 +52,16 @@ public class SeriesServiceTest {
         given(seriesRepository.findByTitleLike(any(String.class), captor.capture()))
                 .willReturn(new PageImpl<>(
                         List.of(
-                                Series.builder()
+                                new SeriesSummaryResponse(Series.builder()
                                         .id(123L)
                                         .tmdbId(124L)
                                         .title("testTitle")
-                                        .build()
+                                        .build())
                         ),
                         PageRequest.of(page - 1, pageSize, Sort.by("id").ascending()),
                         10));
 
-        Page<Series> series = seriesService.getSeries(keyword, page, pageSize, sortBy);
+        Page<SeriesSummaryResponse> series = seriesService.getSeries(keyword, page, pageSize, sortBy);
         Pageable captured = captor.getValue();
 
         assertThat(series).isNotNull();
@@ -77,16 +85,16 @@ public class SeriesServiceTest {
         given(seriesRepository.findByTitleLike(any(String.class), captor.capture()))
                 .willReturn(new PageImpl<>(
                         List.of(
-                                Series.builder()
+                                new SeriesSummaryResponse(Series.builder()
                                         .id(123L)
                                         .tmdbId(124L)
                                         .title("testTitle")
-                                        .build()
+                                        .build())
                         ),
                         PageRequest.of(page - 1, pageSize, Sort.by("averageRating").descending()),
                         10));
 
-        Page<Series> series = seriesService.getSeries(keyword, page, pageSize, sortBy);
+        Page<SeriesSummaryResponse> series = seriesService.getSeries(keyword, page, pageSize, sortBy);
         Pageable captured = captor.getValue();
 
         assertThat(series).isNotNull();
@@ -105,16 +113,16 @@ public class SeriesServiceTest {
         given(seriesRepository.findByTitleLike(any(String.class), captor.capture()))
                 .willReturn(new PageImpl<>(
                         List.of(
-                                Series.builder()
+                                new SeriesSummaryResponse(Series.builder()
                                         .id(123L)
                                         .tmdbId(124L)
                                         .title("testTitle")
-                                        .build()
+                                        .build())
                         ),
                         PageRequest.of(page - 1, pageSize, Sort.by("ratingCount").descending()),
                         10));
 
-        Page<Series> series = seriesService.getSeries(keyword, page, pageSize, sortBy);
+        Page<SeriesSummaryResponse> series = seriesService.getSeries(keyword, page, pageSize, sortBy);
         Pageable captured = captor.getValue();
 
         assertThat(series).isNotNull();
@@ -132,16 +140,16 @@ public class SeriesServiceTest {
         given(seriesRepository.findByTitleLike(captor.capture(), any(Pageable.class)))
                 .willReturn(new PageImpl<>(
                         List.of(
-                                Series.builder()
+                                new SeriesSummaryResponse(Series.builder()
                                         .id(123L)
                                         .tmdbId(124L)
                                         .title("testTitle")
-                                        .build()
+                                        .build())
                         ),
                         PageRequest.of(page - 1, pageSize, Sort.by("id").ascending()),
                         10));
 
-        Page<Series> series = seriesService.getSeries(keyword, page, pageSize, sortBy);
+        Page<SeriesSummaryResponse> series = seriesService.getSeries(keyword, page, pageSize, sortBy);
         String capturedString = captor.getValue();
 
         assertThat(series).isNotNull();
@@ -169,12 +177,19 @@ public class SeriesServiceTest {
     void testGetSeriesDetail_Success() throws InterruptedException {
         // given
         Long seriesId = 123L;
-        given(seriesRepository.findById(seriesId))
+        given(seriesRepository.findByIdWithDirector(seriesId))
                 .willReturn(Optional.of(Series.builder()
                         .id(seriesId)
                         .tmdbId(124L)
                         .title("testTitle")
                         .build()));
+        given(seriesRepository.findGenresById(seriesId))
+                .willReturn(List.of(new GenreDto(1L, "드라마")));
+        given(seriesRepository.findCastsById(seriesId))
+                .willReturn(List.of(SeriesCast.builder()
+                        .actor(new Actor(1L, "testActor", null))
+                        .characterName("testCharacter")
+                        .build()));
 
         // when
         SeriesDetailResponse response = seriesService.getSeriesDetail(seriesId);
@@ -184,7 +199,9 @@ public class SeriesServiceTest {
         assertEquals(seriesId, response.getId());
         assertEquals(124L, response.getTmdbId());
         assertEquals("testTitle", response.getTitle());
-        then(seriesRepository).should().findById(seriesId);
+        assertEquals("드라마", response.getGenres().getFirst().getName());
+        assertEquals("testCharacter", response.getCasts().getFirst().getCharacterName());
+        then(seriesRepository).should().findByIdWithDirector(seriesId);
     }
 
     @Test
@@ -192,7 +209,7 @@ public class SeriesServiceTest {
     void testGetSeriesDetail_Fail_NotFound() {
         // given
         Long seriesId = 999L;  // 존재하지 않는 ID
-        given(seriesRepository.findById(seriesId)).willReturn(Optional.empty());
+        given(seriesRepository.findByIdWithDirector(seriesId)).willReturn(Optional.empty());
 
         // when
         Throwable thrown = catchThrowable(() -> seriesService.getSeriesDetail(seriesId));
@@ -201,6 +218,6 @@ public class SeriesServiceTest {
         assertThat(thrown)
                 .isInstanceOf(ServiceException.class)
                 .hasMessage("%d번 시리즈를 찾을 수 없습니다.".formatted(seriesId));
-        then(seriesRepository).should().findById(seriesId);
+        then(seriesRepository).should().findByIdWithDirector(seriesId);
     }
 }
@@ -0,0 +1,107 @@
+package com.example.Flicktionary.domain.tmdb.controller;
+
+import com.example.Flicktionary.domain.tmdb.dto.IngestionJobRequest;
+import com.example.Flicktionary.domain.tmdb.dto.IngestionJobResponse;
+import com.example.Flicktionary.domain.tmdb.entity.IngestionJob;
+import com.example.Flicktionary.domain.tmdb.entity.IngestionJobStatus;
+import com.example.Flicktionary.domain.tmdb.entity.IngestionTarget;
+import com.example.Flicktionary.domain.tmdb.service.IngestionJobService;
+import com.example.Flicktionary.domain.user.service.UserAccountJwtAuthenticationService;
+import com.example.Flicktionary.domain.user.service.UserAccountService;
+import com.example.Flicktionary.global.exception.ServiceException;
+import com.example.Flicktionary.global.security.CustomUserDetailsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("TMDB 수집 작업 컨트롤러 테스트")
+@Import({IngestionJobService.class,
+        UserAccountService.class,
+        UserAccountJwtAuthenticationService.class,
+        CustomUserDetailsService.class})
+@WebMvcTest(IngestionJobController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class IngestionJobControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private IngestionJobService ingestionJobService;
+
+    @MockitoBean
+    private UserAccountService userAccountService;
+
+    @MockitoBean
+    private UserAccountJwtAuthenticationService userAccountJwtAuthenticationService;
+
+    private final IngestionJob testJob = IngestionJob.builder()
+            .id(1L)
+            .target(IngestionTarget.MOVIE)
+            .toPage(10)
+            .status(IngestionJobStatus.RUNNING)
+            .lastCommittedPage(3)
+            .pagesCompleted(4)
+            .titlesSaved(80)
+            .activeMillis(2000)
+            .failures(1)
+            .build();
+
+    @Test
+    @DisplayName("수집 작업 시작 - 성공")
+    void startJob1() throws Exception {
+        given(ingestionJobService.startJob(IngestionTarget.MOVIE, 10)).willReturn(new IngestionJobResponse(testJob));
+
+        mvc.perform(post("/api/admin/ingestion-jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new IngestionJobRequest(IngestionTarget.MOVIE, 10))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.id").value(1))
+                .andExpect(jsonPath("$.data.status").value("RUNNING"))
+                .andExpect(jsonPath("$.data.totalPages").value(10));
+
+        then(ingestionJobService).should().startJob(IngestionTarget.MOVIE, 10);
+    }
+
+    @Test
+    @DisplayName("수집 작업 조회 - 성공 - 진행 상황")
+    void getJob1() throws Exception {
+        given(ingestionJobService.getJob(1L)).willReturn(new IngestionJobResponse(testJob));
+
+        mvc.perform(get("/api/admin/ingestion-jobs/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.pagesCompleted").value(4))
+                .andExpect(jsonPath("$.data.lastCommittedPage").value(3))
+                .andExpect(jsonPath("$.data.titlesPerSecond").value(40.0))
+                .andExpect(jsonPath("$.data.failures").value(1));
+    }
+
+    @Test
+    @DisplayName("수집 작업 중지 - 실패 - 실행중이 아닌 작업")
+    void pauseJob1() throws Exception {
+        given(ingestionJobService.pauseJob(1L))
+                .willThrow(new ServiceException(HttpStatus.CONFLICT.value(), "1번 수집 작업은 실행중이 아닙니다."));
+
+        mvc.perform(post("/api/admin/ingestion-jobs/1/pause"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("1번 수집 작업은 실행중이 아닙니다."));
+    }
+}
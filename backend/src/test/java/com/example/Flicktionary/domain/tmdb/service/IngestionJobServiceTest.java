@@ -0,0 +1,335 @@
+package com.example.Flicktionary.domain.tmdb.service;
+
+import com.example.Flicktionary.domain.movie.service.MovieService;
+import com.example.Flicktionary.domain.series.service.SeriesService;
+import com.example.Flicktionary.domain.tmdb.entity.IngestionJob;
+import com.example.Flicktionary.domain.tmdb.entity.IngestionJobStatus;
+import com.example.Flicktionary.domain.tmdb.entity.IngestionTarget;
+import com.example.Flicktionary.domain.tmdb.repository.IngestionJobRepository;
+import com.example.Flicktionary.global.exception.ServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+@DisplayName("TMDB 수집 작업 서비스 테스트")
+@ExtendWith(MockitoExtension.class)
+class IngestionJobServiceTest {
+
+    @Mock
+    private IngestionJobRepository ingestionJobRepository;
+
+    @Mock
+    private MovieService movieService;
+
+    @Mock
+    private SeriesService seriesService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private IngestionJobService ingestionJobService;
+
+    private String instanceId;
+
+    @BeforeEach
+    void setUp() {
+        ingestionJobService = new IngestionJobService(ingestionJobRepository, movieService, seriesService,
+                transactionTemplate, 60_000);
+        instanceId = (String) ReflectionTestUtils.getField(ingestionJobService, "instanceId");
+    }
+
+    @Test
+    @DisplayName("수집 작업 실행 - 성공 - 마지막으로 커밋된 페이지 다음부터 수집")
+    void run1() {
+        IngestionJob job = IngestionJob.builder()
+                .id(1L)
+                .target(IngestionTarget.MOVIE)
+                .toPage(5)
+                .status(IngestionJobStatus.RUNNING)
+                .activeTarget(IngestionTarget.MOVIE)
+                .owner(instanceId)
+                .lastCommittedPage(2)
+                .pagesCompleted(3)
+                .titlesSaved(40)
+                .build();
+        given(ingestionJobRepository.findById(1L)).willReturn(Optional.of(job));
+        given(ingestionJobRepository.findByIdForUpdate(1L)).willReturn(Optional.of(job));
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        // 5, 3, 4페이지 순서로 커밋된다.
+        willAnswer(invocation -> {
+            ObjIntConsumer<TmdbIngestionPipeline.PageResult<?>> checkpoint = invocation.getArgument(4);
+            checkpoint.accept(new TmdbIngestionPipeline.PageResult<>(5, List.of(), 0), 20);
+            assertEquals(2, job.getLastCommittedPage());
+            // 먼저 커밋된 페이지는 작업과 함께 저장된다.
+            assertEquals(Set.of(5), job.getPagesAhead());
+            checkpoint.accept(new TmdbIngestionPipeline.PageResult<>(3, List.of(), 0), 20);
+            assertEquals(3, job.getLastCommittedPage());
+            checkpoint.accept(new TmdbIngestionPipeline.PageResult<>(4, List.of(), 0), 20);
+            return true;
+        }).given(movieService).fetchAndSaveMovies(eq(3), eq(5), eq(Set.of()), any(), any());
+
+        ingestionJobService.run(1L, new AtomicBoolean());
+
+        assertEquals(IngestionJobStatus.COMPLETED, job.getStatus());
+        assertEquals(5, job.getLastCommittedPage());
+        assertEquals(5, job.getPagesCompleted());
+        assertEquals(100, job.getTitlesSaved());
+        assertEquals(0, job.getFailures());
+        assertTrue(job.getPagesAhead().isEmpty());
+        assertNull(job.getLastError());
+        assertNull(job.getActiveTarget());
+        assertNull(job.getOwner());
+    }
+
+    @Test
+    @DisplayName("수집 작업 실행 - 실패 - 저장 단계의 오류를 기록")
+    void run2() {
+        IngestionJob job = IngestionJob.builder()
+                .id(1L)
+                .target(IngestionTarget.SERIES)
+                .toPage(5)
+                .status(IngestionJobStatus.RUNNING)
+                .activeTarget(IngestionTarget.SERIES)
+                .owner(instanceId)
+                .build();
+        given(ingestionJobRepository.findById(1L)).willReturn(Optional.of(job));
+        given(ingestionJobRepository.findByIdForUpdate(1L)).willReturn(Optional.of(job));
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(seriesService.fetchAndSaveSeries(anyInt(), anyInt(), any(), any(), any()))
+                .willThrow(new RuntimeException("DB 오류"));
+
+        ingestionJobService.run(1L, new AtomicBoolean());
+
+        assertEquals(IngestionJobStatus.FAILED, job.getStatus());
+        assertEquals("DB 오류", job.getLastError());
+        assertNull(job.getActiveTarget());
+    }
+
+    @Test
+    @DisplayName("수집 작업 실행 - 성공 - 먼저 커밋된 페이지는 다시 수집하지 않음")
+    void run3() {
+        IngestionJob job = IngestionJob.builder()
+                .id(1L)
+                .target(IngestionTarget.MOVIE)
+                .toPage(5)
+                .status(IngestionJobStatus.RUNNING)
+                .activeTarget(IngestionTarget.MOVIE)
+                .owner(instanceId)
+                .lastCommittedPage(2)
+                .pagesAhead(new HashSet<>(Set.of(4)))
+                .pagesCompleted(3)
+                .build();
+        given(ingestionJobRepository.findById(1L)).willReturn(Optional.of(job));
+        given(ingestionJobRepository.findByIdForUpdate(1L)).willReturn(Optional.of(job));
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        willAnswer(invocation -> {
+            ObjIntConsumer<TmdbIngestionPipeline.PageResult<?>> checkpoint = invocation.getArgument(4);
+            checkpoint.accept(new TmdbIngestionPipeline.PageResult<>(3, List.of(), 0), 20);
+            assertEquals(4, job.getLastCommittedPage());
+            checkpoint.accept(new TmdbIngestionPipeline.PageResult<>(5, List.of(), 0), 20);
+            return true;
+        }).given(movieService).fetchAndSaveMovies(eq(3), eq(5), eq(Set.of(4)), any(), any());
+
+        ingestionJobService.run(1L, new AtomicBoolean());
+
+        assertEquals(IngestionJobStatus.COMPLETED, job.getStatus());
+        assertEquals(5, job.getLastCommittedPage());
+        assertEquals(5, job.getPagesCompleted());
+    }
+
+    @Test
+    @DisplayName("수집 작업 실행 - 실패 - 다른 서버가 가져간 작업은 기록하지 않고 멈춤")
+    void run4() {
+        IngestionJob job = IngestionJob.builder()
+                .id(1L)
+                .target(IngestionTarget.MOVIE)
+                .toPage(5)
+                .status(IngestionJobStatus.RUNNING)
+                .activeTarget(IngestionTarget.MOVIE)
+                .owner("other-server")
+                .build();
+        given(ingestionJobRepository.findById(1L)).willReturn(Optional.of(job));
+        given(ingestionJobRepository.findByIdForUpdate(1L)).willReturn(Optional.of(job));
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        willAnswer(invocation -> {
+            ObjIntConsumer<TmdbIngestionPipeline.PageResult<?>> checkpoint = invocation.getArgument(4);
+            checkpoint.accept(new TmdbIngestionPipeline.PageResult<>(1, List.of(), 0), 20);
+            return true;
+        }).given(movieService).fetchAndSaveMovies(anyInt(), anyInt(), any(), any(), any());
+
+        AtomicBoolean stopRequested = new AtomicBoolean();
+        ingestionJobService.run(1L, stopRequested);
+
+        assertTrue(stopRequested.get());
+        assertEquals(IngestionJobStatus.RUNNING, job.getStatus());
+        assertEquals("other-server", job.getOwner());
+        assertEquals(0, job.getLastCommittedPage());
+    }
+
+    @Test
+    @DisplayName("수집 작업 실행 - 실패 - 목록 페이지를 가져오지 못하면 기록하지 않고 멈춤")
+    void run5() {
+        IngestionJob job = IngestionJob.builder()
+                .id(1L)
+                .target(IngestionTarget.MOVIE)
+                .toPage(5)
+                .status(IngestionJobStatus.RUNNING)
+                .activeTarget(IngestionTarget.MOVIE)
+                .owner(instanceId)
+                .lastCommittedPage(2)
+                .pagesCompleted(2)
+                .build();
+        given(ingestionJobRepository.findById(1L)).willReturn(Optional.of(job));
+        given(ingestionJobRepository.findByIdForUpdate(1L)).willReturn(Optional.of(job));
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        willAnswer(invocation -> {
+            ObjIntConsumer<TmdbIngestionPipeline.PageResult<?>> checkpoint = invocation.getArgument(4);
+            checkpoint.accept(new TmdbIngestionPipeline.PageResult<>(3, List.of(), 1, true), 0);
+            return true;
+        }).given(movieService).fetchAndSaveMovies(eq(3), eq(5), eq(Set.of()), any(), any());
+
+        ingestionJobService.run(1L, new AtomicBoolean());
+
+        // 재개하면 3페이지부터 다시 수집한다.
+        assertEquals(IngestionJobStatus.FAILED, job.getStatus());
+        assertEquals("TMDB 목록 3페이지를 가져오지 못했습니다.", job.getLastError());
+        assertEquals(2, job.getLastCommittedPage());
+        assertEquals(2, job.getPagesCompleted());
+        assertTrue(job.getPagesAhead().isEmpty());
+    }
+
+    @Test
+    @DisplayName("수집 작업 실행 - 실패 - 상세 정보를 가져오지 못한 페이지는 커밋된 페이지로 기록하지 않음")
+    void run6() {
+        IngestionJob job = IngestionJob.builder()
+                .id(1L)
+                .target(IngestionTarget.MOVIE)
+                .toPage(3)
+                .status(IngestionJobStatus.RUNNING)
+                .activeTarget(IngestionTarget.MOVIE)
+                .owner(instanceId)
+                .build();
+        given(ingestionJobRepository.findById(1L)).willReturn(Optional.of(job));
+        given(ingestionJobRepository.findByIdForUpdate(1L)).willReturn(Optional.of(job));
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        willAnswer(invocation -> {
+            ObjIntConsumer<TmdbIngestionPipeline.PageResult<?>> checkpoint = invocation.getArgument(4);
+            checkpoint.accept(new TmdbIngestionPipeline.PageResult<>(1, List.of(), 0), 20);
+            checkpoint.accept(new TmdbIngestionPipeline.PageResult<>(2, List.of(), 2), 18);
+            checkpoint.accept(new TmdbIngestionPipeline.PageResult<>(3, List.of(), 0), 20);
+            return true;
+        }).given(movieService).fetchAndSaveMovies(eq(1), eq(3), eq(Set.of()), any(), any());
+
+        ingestionJobService.run(1L, new AtomicBoolean());
+
+        // 재개하면 2페이지만 다시 수집한다.
+        assertEquals(IngestionJobStatus.FAILED, job.getStatus());
+        assertEquals(1, job.getLastCommittedPage());
+        assertEquals(Set.of(3), job.getPagesAhead());
+        assertEquals(2, job.getPagesCompleted());
+        assertEquals(58, job.getTitlesSaved());
+        assertEquals(2, job.getFailures());
+        assertEquals("1개 페이지의 일부 콘텐츠를 가져오지 못했습니다. 재개하면 이 페이지들을 다시 수집합니다.", job.getLastError());
+    }
+
+    @Test
+    @DisplayName("수집 작업 시작 - 실패 - 같은 대상의 작업이 실행중")
+    void startJob() {
+        given(transactionTemplate.execute(any())).willThrow(new DataIntegrityViolationException("unique_ingestion_job_active_target"));
+
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> ingestionJobService.startJob(IngestionTarget.MOVIE, 10));
+
+        assertEquals(HttpStatus.CONFLICT.value(), exception.getCode());
+    }
+
+    @Test
+    @DisplayName("수집 작업 중지 - 실패 - 실행중이 아닌 작업")
+    void pauseJob() {
+        IngestionJob job = IngestionJob.builder()
+                .id(1L)
+                .target(IngestionTarget.MOVIE)
+                .toPage(5)
+                .status(IngestionJobStatus.PAUSED)
+                .build();
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(ingestionJobRepository.requestPause(eq(1L), eq(IngestionJobStatus.RUNNING), any())).willReturn(0);
+        given(ingestionJobRepository.findById(1L)).willReturn(Optional.of(job));
+
+        ServiceException exception = assertThrows(ServiceException.class, () -> ingestionJobService.pauseJob(1L));
+
+        assertEquals(HttpStatus.CONFLICT.value(), exception.getCode());
+    }
+
+    @Test
+    @DisplayName("버려진 작업 가져오기 - 다른 서버가 먼저 가져간 작업은 실행하지 않음")
+    void claimOrphanedJobs() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(ingestionJobRepository.findOrphanedIds(eq(IngestionJobStatus.RUNNING), any())).willReturn(List.of(1L));
+        given(ingestionJobRepository.claim(eq(1L), eq(instanceId), eq(IngestionJobStatus.RUNNING), any(), any())).willReturn(0);
+
+        ingestionJobService.claimOrphanedJobs();
+
+        then(ingestionJobRepository).should(never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("커밋된 페이지 계산 - 빈 페이지가 채워질 때까지 마지막 페이지가 늘어나지 않는다")
+    void pageProgress() {
+        IngestionJobService.PageProgress progress = new IngestionJobService.PageProgress(0, Set.of());
+
+        assertEquals(0, progress.complete(2));
+        assertEquals(0, progress.complete(3));
+        assertEquals(3, progress.complete(1));
+        assertEquals(3, progress.completedPages());
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.Flicktionary.domain.tmdb.service;
+
+import com.example.Flicktionary.domain.tmdb.dto.TmdbMovieResponseWithDetail;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TMDB 수집 파이프라인 테스트")
+class TmdbIngestionPipelineTest {
+
+    private static final int CONCURRENCY = 4;
+
+    private static final int PAGE_SIZE = 5;
+
+    private static final long MISSING_TMDB_ID = 203L;
+
+    private static final int MISSING_PAGE = 7;
+
+    private final TmdbIngestionPipeline tmdbIngestionPipeline = new TmdbIngestionPipeline(CONCURRENCY);
+
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+    private final AtomicInteger maxInFlightRequests = new AtomicInteger();
+
+    private final AtomicInteger listRequests = new AtomicInteger();
+
+    private HttpServer stubServer;
+
+    private TmdbService tmdbService;
+
+    @BeforeEach
+    void startStubServer() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stubServer.createContext("/movie", this::handle);
+        stubServer.start();
+
+        tmdbService = new TmdbService(
+                RestClient.builder(),
+                "http://localhost:%d".formatted(stubServer.getAddress().getPort()),
+                new TmdbRateLimiter(1000, 1000),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tmdbService, "accessToken", "Bearer testToken");
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("모든 페이지의 상세 정보를 동시 요청 제한 안에서 수집한다.")
+    void collectAllPagesWithinConcurrencyLimit() {
+        List<TmdbIngestionPipeline.PageResult<TmdbMovieResponseWithDetail>> results = new ArrayList<>();
+
+        tmdbIngestionPipeline.run(1, 3, tmdbService::fetchMovieIds, tmdbService::fetchMovie, results::add);
+
+        assertEquals(3, results.size());
+        assertThat(results.stream().map(TmdbIngestionPipeline.PageResult::page).collect(Collectors.toSet()))
+                .containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(results.stream().flatMap(result -> result.items().stream()).map(TmdbMovieResponseWithDetail::tmdbId))
+                .hasSize(3 * PAGE_SIZE - 1)
+                .doesNotContain(MISSING_TMDB_ID);
+        assertThat(maxInFlightRequests.get()).isGreaterThan(1).isLessThanOrEqualTo(CONCURRENCY);
+    }
+
+    @Test
+    @DisplayName("실패한 상세 요청은 건너뛰고 실패 수로 기록한다.")
+    void skipFailedDetailRequests() {
+        List<TmdbIngestionPipeline.PageResult<TmdbMovieResponseWithDetail>> results = new ArrayList<>();
+
+        tmdbIngestionPipeline.run(2, 2, tmdbService::fetchMovieIds, tmdbService::fetchMovie, results::add);
+
+        assertEquals(1, results.size());
+        assertEquals(PAGE_SIZE - 1, results.getFirst().items().size());
+        assertEquals(1, results.getFirst().failures());
+    }
+
+    @Test
+    @DisplayName("이미 저장된 페이지는 다시 조회하지 않는다.")
+    void skipSavedPages() {
+        List<TmdbIngestionPipeline.PageResult<TmdbMovieResponseWithDetail>> results = new ArrayList<>();
+
+        boolean completed = tmdbIngestionPipeline.run(1, 3, Set.of(2), tmdbService::fetchMovieIds, tmdbService::fetchMovie,
+                results::add, () -> false);
+
+        assertTrue(completed);
+        assertThat(results.stream().map(TmdbIngestionPipeline.PageResult::page).collect(Collectors.toSet()))
+                .containsExactlyInAnyOrder(1, 3);
+    }
+
+    @Test
+    @DisplayName("목록 페이지를 가져오지 못하면 빈 페이지와 구분해서 전달한다.")
+    void reportListFailure() {
+        List<TmdbIngestionPipeline.PageResult<TmdbMovieResponseWithDetail>> results = new ArrayList<>();
+
+        tmdbIngestionPipeline.run(MISSING_PAGE - 1, MISSING_PAGE, tmdbService::fetchMovieIds, tmdbService::fetchMovie, results::add);
+
+        assertThat(results)
+                .filteredOn(TmdbIngestionPipeline.PageResult::listFailed)
+                .singleElement()
+                .satisfies(result -> {
+                    assertEquals(MISSING_PAGE, result.page());
+                    assertTrue(result.items().isEmpty());
+                });
+        assertThat(results)
+                .filteredOn(result -> !result.listFailed())
+                .singleElement()
+                .satisfies(result -> assertEquals(PAGE_SIZE, result.items().size()));
+    }
+
+    @Test
+    @DisplayName("저장 단계가 느리면 저장하지 않은 페이지는 동시 요청 수까지만 미리 수집한다.")
+    void limitPagesAheadOfWriter() {
+        AtomicInteger written = new AtomicInteger();
+        AtomicInteger maxPagesAhead = new AtomicInteger();
+
+        tmdbIngestionPipeline.run(8, 20, tmdbService::fetchMovieIds, tmdbService::fetchMovie, result -> {
+            maxPagesAhead.accumulateAndGet(listRequests.get() - written.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertEquals(13, written.get());
+        assertThat(maxPagesAhead.get()).isLessThanOrEqualTo(CONCURRENCY);
+    }
+
+    // page 쿼리에 따라 page * 100 + 1부터 PAGE_SIZE개의 ID를 돌려주고, 상세 요청에는 간단한 영화 정보를 돌려줍니다.
+    // MISSING_PAGE 목록과 MISSING_TMDB_ID 상세 요청에는 404를 돌려줍니다.
+    private void handle(HttpExchange exchange) throws IOException {
+        int current = inFlightRequests.incrementAndGet();
+        maxInFlightRequests.accumulateAndGet(current, Math::max);
+
+        int status = 200;
+        String body;
+        try {
+            Thread.sleep(20);
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals("/movie/popular")) {
+                listRequests.incrementAndGet();
+                int page = parsePage(exchange.getRequestURI().getQuery());
+                if (page == MISSING_PAGE) {
+                    status = 404;
+                    body = "{}";
+                } else {
+                    body = popularMoviesJson(page);
+                }
+            } else {
+                long tmdbId = Long.parseLong(path.substring("/movie/".length()));
+                if (tmdbId == MISSING_TMDB_ID) {
+                    status = 404;
+                    body = "{}";
+                } else {
+                    body = movieDetailJson(tmdbId);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = 500;
+            body = "{}";
+        } finally {
+            // 응답을 보내기 전에 감소시켜야 클라이언트가 다음 요청을 보내는 시점과 겹치지 않는다.
+            inFlightRequests.decrementAndGet();
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private int parsePage(String query) {
+        for (String param : query.split("&")) {
+            if (param.startsWith("page=")) {
+                return Integer.parseInt(param.substring("page=".length()));
+            }
+        }
+        return 1;
+    }
+
+    private String popularMoviesJson(int page) {
+        String results = LongStream.rangeClosed(1, PAGE_SIZE)
+                .map(i -> page * 100L + i)
+                .mapToObj(tmdbId -> "{\"id\":%d}".formatted(tmdbId))
+                .collect(Collectors.joining(","));
+        return "{\"page\":%d,\"results\":[%s]}".formatted(page, results);
+    }
+
+    private String movieDetailJson(long tmdbId) {
+        return """
+                {"id":%d,"title":"영화 %d","overview":"줄거리","release_date":"2024-01-01","status":"Released",
+                "poster_path":null,"runtime":100,"production_countries":[],"production_companies":[],
+                "genres":[],"credits":{"cast":[],"crew":[]}}
+                """.formatted(tmdbId, tmdbId);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.Flicktionary.domain.tmdb.service;
+
+import com.example.Flicktionary.domain.actor.entity.Actor;
+import com.example.Flicktionary.domain.actor.repository.ActorRepository;
+import com.example.Flicktionary.domain.director.repository.DirectorRepository;
+import com.example.Flicktionary.domain.genre.entity.Genre;
+import com.example.Flicktionary.domain.genre.repository.GenreRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("TMDB 참조 데이터 일괄 처리 테스트")
+@ExtendWith(MockitoExtension.class)
+class TmdbReferenceDataResolverTest {
+
+    @Mock
+    private GenreRepository genreRepository;
+
+    @Mock
+    private ActorRepository actorRepository;
+
+    @Mock
+    private DirectorRepository directorRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TmdbReferenceDataResolver tmdbReferenceDataResolver;
+
+    @Test
+    @DisplayName("DB에 없는 장르와 배우만 한번의 배치 INSERT로 저장한다.")
+    void insertOnlyMissingReferences() {
+        TmdbReferenceDataResolver.Batch batch = new TmdbReferenceDataResolver.Batch();
+        batch.addGenre(1L, "액션");
+        batch.addGenre(2L, "드라마");
+        batch.addActor(10L, "배우1", null);
+        batch.addActor(10L, "배우1", null);
+        given(genreRepository.findAllById(Set.of(1L, 2L))).willReturn(List.of(new Genre(1L, "액션")));
+        given(actorRepository.findAllById(Set.of(10L))).willReturn(List.of());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> genreRows = ArgumentCaptor.forClass(List.class);
+
+        tmdbReferenceDataResolver.resolve(batch);
+
+        then(jdbcTemplate).should().batchUpdate(eq("INSERT IGNORE INTO genre (id, name) VALUES (?, ?)"), genreRows.capture());
+        assertThat(genreRows.getValue()).hasSize(1);
+        assertThat(genreRows.getValue().getFirst()).containsExactly(2L, "드라마");
+        then(jdbcTemplate).should().batchUpdate(eq("INSERT IGNORE INTO actor (id, name, profile_path) VALUES (?, ?, ?)"), anyList());
+        then(directorRepository).should(never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("한번 확인한 ID는 다음 배치에서 다시 조회하지 않는다.")
+    void skipKnownReferences() {
+        TmdbReferenceDataResolver.Batch batch = new TmdbReferenceDataResolver.Batch();
+        batch.addActor(10L, "배우1", null);
+        given(actorRepository.findAllById(Set.of(10L))).willReturn(List.of(new Actor(10L, "배우1", null)));
+
+        tmdbReferenceDataResolver.resolve(batch);
+        tmdbReferenceDataResolver.resolve(batch);
+
+        then(actorRepository).should(times(1)).findAllById(any());
+        then(jdbcTemplate).should(never()).batchUpdate(anyString(), anyList());
+    }
+}
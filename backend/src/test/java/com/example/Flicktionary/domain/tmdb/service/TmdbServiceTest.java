@@ -0,0 +1,150 @@
+package com.example.Flicktionary.domain.tmdb.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TMDB 서비스 테스트")
+class TmdbServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private HttpServer stubServer;
+
+    private TmdbService tmdbService;
+
+    /**
+     * 스텁 서버가 요청 순서대로 돌려줄 응답 코드. 목록을 다 쓰면 200을 돌려준다.
+     */
+    private volatile List<Integer> statusSequence = List.of();
+
+    @BeforeEach
+    void startStubServer() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stubServer.createContext("/movie/popular", exchange -> {
+            int index = requestCount.getAndIncrement();
+            int status = index < statusSequence.size() ? statusSequence.get(index) : 200;
+            byte[] body = (status == 200 ? "{\"results\":[{\"id\":1},{\"id\":2}]}" : "{}").getBytes(StandardCharsets.UTF_8);
+            if (status == 429) {
+                exchange.getResponseHeaders().set("Retry-After", "0");
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        stubServer.start();
+
+        tmdbService = new TmdbService(
+                RestClient.builder(),
+                "http://localhost:%d".formatted(stubServer.getAddress().getPort()),
+                new TmdbRateLimiter(1000, 1000),
+                meterRegistry);
+        ReflectionTestUtils.setField(tmdbService, "accessToken", "Bearer testToken");
+        ReflectionTestUtils.setField(tmdbService, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(tmdbService, "baseDelayMillis", 1L);
+        ReflectionTestUtils.setField(tmdbService, "maxDelayMillis", 4L);
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("429 응답을 받으면 Retry-After만큼 기다린 뒤 다시 요청한다.")
+    void retryAfterTooManyRequests() {
+        statusSequence = List.of(429, 429);
+
+        List<Long> ids = tmdbService.fetchMovieIds(1);
+
+        assertThat(ids).containsExactly(1L, 2L);
+        assertEquals(3, requestCount.get());
+        assertEquals(2.0, meterRegistry.get("tmdb.requests.throttled").tag("source", "server").counter().count());
+        assertEquals(2.0, meterRegistry.get("tmdb.requests.retried").counter().count());
+        assertEquals(0.0, meterRegistry.get("tmdb.requests.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("일시적인 서버 오류가 계속되면 최대 시도 횟수까지만 요청한다.")
+    void giveUpAfterMaxAttempts() {
+        statusSequence = List.of(503, 503, 503, 503);
+
+        Throwable thrown = catchThrowable(() -> tmdbService.fetchMovieIds(1));
+
+        assertThat(thrown)
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageStartingWith("TMDB API 요청 실패");
+        assertEquals(MAX_ATTEMPTS, requestCount.get());
+        assertEquals(MAX_ATTEMPTS - 1.0, meterRegistry.get("tmdb.requests.retried").counter().count());
+        assertEquals(1.0, meterRegistry.get("tmdb.requests.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("다시 시도해도 소용없는 응답은 바로 실패한다.")
+    void failImmediatelyOnClientError() {
+        statusSequence = List.of(404);
+
+        Throwable thrown = catchThrowable(() -> tmdbService.fetchMovieIds(1));
+
+        assertThat(thrown).isInstanceOf(RuntimeException.class);
+        assertEquals(1, requestCount.get());
+        assertEquals(0.0, meterRegistry.get("tmdb.requests.retried").counter().count());
+        assertEquals(1.0, meterRegistry.get("tmdb.requests.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("토큰 버킷이 비면 요청 제한기가 기다린다.")
+    void rateLimiterWaitsWhenBucketIsEmpty() throws InterruptedException {
+        TmdbRateLimiter rateLimiter = new TmdbRateLimiter(10, 2);
+
+        assertFalse(rateLimiter.acquire());
+        assertFalse(rateLimiter.acquire());
+        assertTrue(rateLimiter.acquire());
+    }
+
+    @Test
+    @DisplayName("여러 요청이 동시에 요청 제한을 알려와도 멈추는 시간은 더해지지 않는다.")
+    void rateLimiterPausesDoNotAddUp() throws InterruptedException {
+        TmdbRateLimiter rateLimiter = new TmdbRateLimiter(1000, 1000);
+
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.pause(Duration.ofMillis(200));
+        }
+        long startedAt = System.nanoTime();
+        assertTrue(rateLimiter.acquire());
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(waitedMillis).isBetween(100L, 600L);
+        // 멈춘 시간이 끝나면 남은 토큰으로 바로 요청할 수 있다.
+        assertFalse(rateLimiter.acquire());
+    }
+}
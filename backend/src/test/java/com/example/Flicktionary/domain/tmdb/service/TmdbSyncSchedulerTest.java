@@ -0,0 +1,57 @@
+package com.example.Flicktionary.domain.tmdb.service;
+
+import com.example.Flicktionary.domain.movie.service.MovieService;
+import com.example.Flicktionary.domain.series.service.SeriesService;
+import com.example.Flicktionary.domain.tmdb.entity.TmdbSyncState;
+import com.example.Flicktionary.domain.tmdb.repository.TmdbSyncStateRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@DisplayName("TMDB 변경 내역 동기화 스케줄러 테스트")
+@ExtendWith(MockitoExtension.class)
+class TmdbSyncSchedulerTest {
+
+    @Mock
+    private MovieService movieService;
+
+    @Mock
+    private SeriesService seriesService;
+
+    @Mock
+    private TmdbSyncStateRepository tmdbSyncStateRepository;
+
+    @InjectMocks
+    private TmdbSyncScheduler tmdbSyncScheduler;
+
+    @Test
+    @DisplayName("변경 내역 동기화 - 실패한 페이지가 있는 대상은 마지막 동기화 시각을 갱신하지 않는다")
+    void syncChanges() {
+        LocalDateTime lastSyncedAt = LocalDateTime.now().minusHours(1);
+        given(tmdbSyncStateRepository.findById(TmdbSyncState.MOVIE))
+                .willReturn(Optional.of(new TmdbSyncState(TmdbSyncState.MOVIE, lastSyncedAt)));
+        given(tmdbSyncStateRepository.findById(TmdbSyncState.SERIES))
+                .willReturn(Optional.of(new TmdbSyncState(TmdbSyncState.SERIES, lastSyncedAt)));
+        given(movieService.syncChangedMovies(any(), any()))
+                .willThrow(new RuntimeException("영화 변경 내역 중 1건의 요청이 실패했습니다."));
+        given(seriesService.syncChangedSeries(any(), any())).willReturn(3);
+        ArgumentCaptor<TmdbSyncState> captor = ArgumentCaptor.forClass(TmdbSyncState.class);
+
+        tmdbSyncScheduler.syncChanges();
+
+        then(tmdbSyncStateRepository).should().save(captor.capture());
+        assertEquals(TmdbSyncState.SERIES, captor.getValue().getTarget());
+    }
+}
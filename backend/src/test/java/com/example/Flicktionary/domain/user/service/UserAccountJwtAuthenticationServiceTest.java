@@ -4,6 +4,8 @@ import com.example.Flicktionary.domain.user.entity.UserAccount;
 import com.example.Flicktionary.domain.user.entity.UserAccountType;
 import com.example.Flicktionary.domain.user.repository.UserAccountRepository;
 import com.example.Flicktionary.global.exception.ServiceException;
+import com.example.Flicktionary.global.security.CustomUserDetails;
+import com.example.Flicktionary.global.security.JwtCodec;
 import com.example.Flicktionary.global.utils.JwtUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -51,15 +54,14 @@ class UserAccountJwtAuthenticationServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Spy
+    private JwtCodec jwtCodec = new JwtCodec(testSecret);
+
     @InjectMocks
     private UserAccountJwtAuthenticationService userAccountJwtAuthenticationService;
 
     @BeforeEach
     void injectAutowiredValues() {
-        ReflectionTestUtils.setField(
-                userAccountJwtAuthenticationService,
-                "secret",
-                testSecret);
         ReflectionTestUtils.setField(
                 userAccountJwtAuthenticationService,
                 "accessExpireSeconds",
@@ -79,15 +81,64 @@ class UserAccountJwtAuthenticationServiceTest {
         String token = userAccountJwtAuthenticationService.createNewAccessTokenForUser(
                 userAccount.getUsername(),
                 userAccount.getPassword());
-        Map<String, Object> claims = JwtUtils.getTokenPayload(testSecret, token);
+        Map<String, Object> claims = jwtCodec.decode(token);
 
         assertTrue(claims.containsKey("username"));
         assertTrue(claims.containsKey("nickname"));
         assertEquals(userAccount.getUsername(), claims.get("username"));
         assertEquals(userAccount.getNickname(), claims.get("nickname"));
+        assertEquals(userAccount.getId(), ((Number) claims.get("id")).longValue());
+        assertEquals(userAccount.getRole().toString(), claims.get("role"));
+        then(userAccountRepository).should().findByUsername(userAccount.getUsername());
+    }
+
+    @DisplayName("접근 토큰의 클레임만으로 회원 정보를 만들고 회원을 조회하지 않는다.")
+    @Test
+    void givenAccessTokenWhenRetrievingPrincipalThenDoNotQueryUser() {
+        String token = jwtCodec.encode(Map.of(
+                "id", userAccount.getId(),
+                "username", userAccount.getUsername(),
+                "nickname", userAccount.getNickname(),
+                "role", userAccount.getRole().toString()), testAccessExpireSeconds);
+
+        CustomUserDetails principal = userAccountJwtAuthenticationService.retrievePrincipalFromAccessToken(token);
+
+        assertEquals(userAccount.getId(), principal.getId());
+        assertEquals(userAccount.getUsername(), principal.getUsername());
+        assertThat(principal.getAuthorities()).extracting(Object::toString).containsExactly("ADMIN");
+        then(userAccountRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("고유 ID와 계정 분류가 없는 이전 형식의 접근 토큰이라면 유저 ID로 회원을 조회한다.")
+    @Test
+    void givenLegacyAccessTokenWhenRetrievingPrincipalThenQueryUser() {
+        given(userAccountRepository.findByUsername(userAccount.getUsername())).willReturn(Optional.of(userAccount));
+        String token = jwtCodec.encode(Map.of(
+                "username", userAccount.getUsername(),
+                "nickname", userAccount.getNickname()), testAccessExpireSeconds);
+
+        CustomUserDetails principal = userAccountJwtAuthenticationService.retrievePrincipalFromAccessToken(token);
+
+        assertEquals(userAccount.getId(), principal.getId());
         then(userAccountRepository).should().findByUsername(userAccount.getUsername());
     }
 
+    @DisplayName("다른 비밀키로 서명된 접근 토큰이 주어졌을때 예외를 던진다.")
+    @Test
+    void givenForgedAccessTokenWhenRetrievingPrincipalThenThrowException() {
+        String token = new JwtCodec(testSecret.replace('a', 'b')).encode(Map.of(
+                "id", userAccount.getId(),
+                "username", userAccount.getUsername(),
+                "role", UserAccountType.ADMIN.toString()), testAccessExpireSeconds);
+
+        Throwable thrown = catchThrowable(() -> userAccountJwtAuthenticationService.retrievePrincipalFromAccessToken(token));
+
+        assertThat(thrown)
+                .isInstanceOf(ServiceException.class)
+                .hasMessage("접근 토큰이 유효하지 않습니다.");
+        then(userAccountRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("올바르지 않은 인증 정보가 주어졌을때 예외를 던진다.")
     @Test
     void givenIncorrectUserCredentialsWhenCreatingTokenThenThrowException() {
@@ -0,0 +1,60 @@
+package com.example.Flicktionary.global.cache;
+
+import com.example.Flicktionary.domain.director.event.DirectorFilmographyEvent;
+import com.example.Flicktionary.domain.search.dto.SearchDocument;
+import com.example.Flicktionary.domain.search.dto.SearchType;
+import com.example.Flicktionary.domain.search.event.SearchIndexEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("상세 정보 캐시 제거 테스트")
+public class DetailCacheEvictorTest {
+
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager(CacheNames.MOVIE_DETAIL, CacheNames.SERIES_DETAIL,
+            CacheNames.DIRECTOR_MOVIES, CacheNames.DIRECTOR_SERIES);
+
+    private final DetailCacheEvictor detailCacheEvictor = new DetailCacheEvictor(cacheManager);
+
+    @DisplayName("수정된 영화와 시리즈의 상세 정보만 캐시에서 제거한다.")
+    @Test
+    void evictChangedDocuments() {
+        cacheManager.getCache(CacheNames.MOVIE_DETAIL).put(1L, "영화 1");
+        cacheManager.getCache(CacheNames.MOVIE_DETAIL).put(2L, "영화 2");
+        cacheManager.getCache(CacheNames.SERIES_DETAIL).put(1L, "시리즈 1");
+
+        detailCacheEvictor.onDocumentsChanged(new SearchIndexEvent(List.of(
+                document(SearchType.MOVIE, 1L),
+                document(SearchType.SERIES, 1L),
+                document(SearchType.ACTOR, 2L))));
+
+        assertNull(cacheManager.getCache(CacheNames.MOVIE_DETAIL).get(1L));
+        assertNotNull(cacheManager.getCache(CacheNames.MOVIE_DETAIL).get(2L));
+        assertNull(cacheManager.getCache(CacheNames.SERIES_DETAIL).get(1L));
+    }
+
+    @DisplayName("출연작이 바뀐 감독의 영화, 시리즈 목록만 캐시에서 제거한다.")
+    @Test
+    void evictChangedFilmography() {
+        cacheManager.getCache(CacheNames.DIRECTOR_MOVIES).put(1L, List.of("영화 1"));
+        cacheManager.getCache(CacheNames.DIRECTOR_MOVIES).put(2L, List.of("영화 2"));
+        cacheManager.getCache(CacheNames.DIRECTOR_SERIES).put(1L, List.of("시리즈 1"));
+
+        detailCacheEvictor.onFilmographyChanged(new DirectorFilmographyEvent(Set.of(1L)));
+
+        assertNull(cacheManager.getCache(CacheNames.DIRECTOR_MOVIES).get(1L));
+        assertNotNull(cacheManager.getCache(CacheNames.DIRECTOR_MOVIES).get(2L));
+        assertNull(cacheManager.getCache(CacheNames.DIRECTOR_SERIES).get(1L));
+    }
+
+    private SearchDocument document(SearchType type, Long id) {
+        return new SearchDocument(type, id, "이름", null, 0, 0);
+    }
+}
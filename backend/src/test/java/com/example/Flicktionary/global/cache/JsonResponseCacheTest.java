@@ -0,0 +1,57 @@
+package com.example.Flicktionary.global.cache;
+
+import com.example.Flicktionary.global.dto.ResponseDto;
+import com.example.Flicktionary.global.exception.ServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JSON 응답 캐시 테스트")
+public class JsonResponseCacheTest {
+
+    private final JsonResponseCache jsonResponseCache = new JsonResponseCache(
+            new ConcurrentMapCacheManager(CacheNames.MOVIE_DETAIL), new ObjectMapper());
+
+    @DisplayName("처음 한번만 직렬화하고, 이후에는 같은 바이트와 ETag로 응답한다.")
+    @Test
+    void getCachedResponse() {
+        AtomicInteger loads = new AtomicInteger();
+
+        ResponseEntity<byte[]> first = jsonResponseCache.get(CacheNames.MOVIE_DETAIL, 1L, () -> {
+            loads.incrementAndGet();
+            return ResponseDto.ok("영화");
+        });
+        ResponseEntity<byte[]> second = jsonResponseCache.get(CacheNames.MOVIE_DETAIL, 1L, () -> {
+            loads.incrementAndGet();
+            return ResponseDto.ok("영화");
+        });
+
+        assertEquals(1, loads.get());
+        assertSame(first.getBody(), second.getBody());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        assertEquals(MediaType.APPLICATION_JSON, first.getHeaders().getContentType());
+        assertTrue(new String(first.getBody(), StandardCharsets.UTF_8).contains("\"data\":\"영화\""));
+    }
+
+    @DisplayName("응답 본문을 만들다 발생한 예외는 그대로 던지고 캐시하지 않는다.")
+    @Test
+    void getFailedResponse() {
+        ServiceException thrown = assertThrows(ServiceException.class, () ->
+                jsonResponseCache.get(CacheNames.MOVIE_DETAIL, 2L, () -> {
+                    throw new ServiceException(HttpStatus.NOT_FOUND.value(), "2번 영화를 찾을 수 없습니다.");
+                }));
+        ResponseEntity<byte[]> response = jsonResponseCache.get(CacheNames.MOVIE_DETAIL, 2L, () -> ResponseDto.ok("영화"));
+
+        assertEquals("2번 영화를 찾을 수 없습니다.", thrown.getMessage());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+}
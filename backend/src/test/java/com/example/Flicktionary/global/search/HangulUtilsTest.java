@@ -0,0 +1,42 @@
+package com.example.Flicktionary.global.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("한글 자모 분해 테스트")
+public class HangulUtilsTest {
+
+    @DisplayName("음절을 초성, 중성, 종성으로 나누고 겹모음과 겹받침도 나눈다.")
+    @Test
+    void decompose() {
+        assertEquals("ㅎㅐㄹㅣ", HangulUtils.decompose("해리"));
+        assertEquals("ㅇㅗㅏㅆㄷㅏ", HangulUtils.decompose("왔다"));
+        assertEquals("ㄷㅏㄹㄱ", HangulUtils.decompose("닭"));
+        assertEquals("ㄷㅏㄹㄱ", HangulUtils.decompose("다ㄺ"));
+        assertEquals("abc 1", HangulUtils.decompose("abc 1"));
+    }
+
+    @DisplayName("입력중인 음절은 완성된 단어를 분해한 결과에 포함된다.")
+    @Test
+    void decomposeTypingSyllable() {
+        assertTrue(HangulUtils.decompose("해리포터").contains(HangulUtils.decompose("해리퐅")));
+    }
+
+    @DisplayName("음절을 초성으로 바꾸고 한글이 아닌 문자는 그대로 둔다.")
+    @Test
+    void chosung() {
+        assertEquals("ㅎㄹ ㅍㅌ", HangulUtils.chosung("해리 포터"));
+        assertEquals("ㄷㄲ2", HangulUtils.chosung("도깨2"));
+    }
+
+    @DisplayName("자음으로만 된 문자열인지 확인한다.")
+    @Test
+    void isChosung() {
+        assertTrue(HangulUtils.isChosung("ㅎㄹㅍㅌ"));
+        assertFalse(HangulUtils.isChosung("ㅎㄹ포터"));
+        assertFalse(HangulUtils.isChosung("ㅏ"));
+        assertFalse(HangulUtils.isChosung(""));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.Flicktionary.global.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("접두사 트라이 테스트")
+public class PrefixTrieTest {
+
+    // 숫자가 클수록 순위가 높다.
+    private final PrefixTrie<Integer> trie = new PrefixTrie<>(2, Comparator.reverseOrder());
+
+    @DisplayName("접두사로 시작하는 키의 값을 순위순으로 k개까지 돌려준다.")
+    @Test
+    void top() {
+        trie.add("harry", 1);
+        trie.add("harmony", 3);
+        trie.add("hermione", 2);
+        trie.add("ron", 4);
+
+        assertEquals(List.of(3, 2), trie.top("h", 2));
+        assertEquals(List.of(3, 1), trie.top("har", 2));
+        assertEquals(List.of(3), trie.top("har", 1));
+        assertEquals(List.of(4), trie.top("ron", 2));
+        assertEquals(List.of(), trie.top("hat", 2));
+        assertEquals(List.of(), trie.top("", 2));
+    }
+
+    @DisplayName("접두사가 합쳐진 노드의 라벨 중간에서 끝나거나 키보다 길어도 찾는다.")
+    @Test
+    void topInsideLabel() {
+        trie.add("harry", 1);
+
+        assertEquals(List.of(1), trie.top("harr", 2));
+        assertEquals(List.of(1), trie.top("harry", 2));
+        assertEquals(List.of(), trie.top("harryp", 2));
+        assertEquals(List.of(), trie.top("hb", 2));
+    }
+
+    @DisplayName("값을 제거하면 상위 목록에 없던 값이 다시 올라온다.")
+    @Test
+    void remove() {
+        trie.add("harry", 1);
+        trie.add("harmony", 3);
+        trie.add("hermione", 2);
+
+        assertTrue(trie.remove("harmony", 3));
+        assertFalse(trie.remove("harmony", 3));
+        assertFalse(trie.remove("harm", 1));
+
+        assertEquals(List.of(2, 1), trie.top("h", 2));
+        assertEquals(List.of(1), trie.top("har", 2));
+        assertEquals(List.of(), trie.top("harm", 2));
+    }
+
+    @DisplayName("여러 키로 추가한 값은 상위 목록에 한번만 담긴다.")
+    @Test
+    void addSameValue() {
+        trie.add("harry", 1);
+        trie.add("hp", 1);
+        trie.add("hermione", 2);
+
+        assertEquals(List.of(2, 1), trie.top("h", 2));
+
+        trie.remove("harry", 1);
+        assertEquals(List.of(2, 1), trie.top("h", 2));
+        assertEquals(List.of(1), trie.top("hp", 2));
+    }
+}
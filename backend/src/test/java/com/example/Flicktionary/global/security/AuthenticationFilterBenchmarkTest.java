@@ -0,0 +1,94 @@
+package com.example.Flicktionary.global.security;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증 필터가 접근 토큰을 검증하기 전까지 요청마다 쓰는 시간을 측정한다.
+ * 제외 경로 확인(shouldNotFilter)과 접근 토큰 쿠키 조회를 합친 시간이다.
+ * 이전 방식(AntPathMatcher를 스트림으로 순회, 쿠키를 스트림으로 검색)과 현재 필터를 비교한다.
+ * 일반 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("인증 필터 성능 측정")
+class AuthenticationFilterBenchmarkTest {
+
+    private static final String[] EXCLUDED_URLS = {
+            "/api/users/login",
+            "/api/users/register",
+            "/api/users/status",
+            "/api/users/refresh",
+            "/h2-console/**"
+    };
+
+    private static final int WARMUP = 200_000;
+
+    private static final int ITERATIONS = 1_000_000;
+
+    private final CustomAuthenticationFilter filter = new CustomAuthenticationFilter(null);
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    // 익명 사용자가 가장 많이 호출하는 목록 요청. 분석 도구 쿠키 몇 개가 함께 온다.
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/movies");
+
+    private final Cookie[] cookies = Stream.of("_ga", "_gid", "theme", "accessToken")
+            .map(name -> new Cookie(name, name + "Value"))
+            .toArray(Cookie[]::new);
+
+    // JIT 최적화가 결과를 버리지 않도록 결과를 누적합니다.
+    private long sink;
+
+    @Test
+    @DisplayName("미리 나눠둔 경로와 반복문을 사용하면 요청마다 쓰는 시간이 줄어든다.")
+    void filterOverheadPerRequest() {
+        measure(this::before, WARMUP);
+        measure(this::after, WARMUP);
+
+        long beforeNanos = measure(this::before, ITERATIONS);
+        long afterNanos = measure(this::after, ITERATIONS);
+
+        System.out.printf("[인증 필터 성능] %d회%n", ITERATIONS);
+        System.out.printf("  이전 방식: 요청당 %,.1fns%n", (double) beforeNanos / ITERATIONS);
+        System.out.printf("  현재 필터: 요청당 %,.1fns%n", (double) afterNanos / ITERATIONS);
+        System.out.printf("  현재 필터: 초당 %,.0f회%n", ITERATIONS / (afterNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+
+        assertThat(sink).isPositive();
+        assertThat(afterNanos).isLessThan(beforeNanos);
+    }
+
+    private void before() {
+        String url = request.getRequestURI();
+        if (Stream.of(EXCLUDED_URLS).anyMatch(path -> pathMatcher.match(path, url))) {
+            return;
+        }
+        Cookie cookie = Arrays.stream(cookies).filter(c -> c.getName().equals("accessToken")).findFirst().orElse(null);
+        sink += cookie.getValue().length();
+    }
+
+    private void after() {
+        if (filter.shouldNotFilter(request)) {
+            return;
+        }
+        Cookie cookie = CustomAuthenticationFilter.findCookie(cookies, "accessToken");
+        sink += cookie.getValue().length();
+    }
+
+    private long measure(Runnable run, int iterations) {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            run.run();
+        }
+        return System.nanoTime() - startedAt;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.Flicktionary.global.security;
+
+import com.example.Flicktionary.domain.user.service.UserAccountJwtAuthenticationService;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("커스텀 인증 필터 테스트")
+class CustomAuthenticationFilterTest {
+
+    private final UserAccountJwtAuthenticationService userAccountJwtAuthenticationService = mock(UserAccountJwtAuthenticationService.class);
+
+    private final CustomAuthenticationFilter filter = new CustomAuthenticationFilter(userAccountJwtAuthenticationService);
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("인증에서 제외할 경로는 AntPathMatcher와 같은 결과로 판단한다.")
+    @Test
+    void shouldNotFilterMatchesAntPathMatcher() {
+        AntPathMatcher pathMatcher = new AntPathMatcher();
+        List<String> patterns = List.of("/api/users/login", "/api/users/register", "/api/users/status", "/api/users/refresh", "/h2-console/**");
+        List<String> urls = List.of(
+                "/api/users/login",
+                "/api/users/login/",
+                "/api/users/loginx",
+                "/api/users/refresh",
+                "/api/users",
+                "/api/movies",
+                "/h2-console",
+                "/h2-console/",
+                "/h2-console/login.do",
+                "/h2-consolex",
+                "/");
+
+        for (String url : urls) {
+            boolean expected = patterns.stream().anyMatch(pattern -> pathMatcher.match(pattern, url));
+            assertThat(filter.shouldNotFilter(new MockHttpServletRequest("GET", url)))
+                    .as(url)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @DisplayName("쿠키 배열에서 이름이 일치하는 첫 쿠키를 찾는다.")
+    @Test
+    void findCookie() {
+        Cookie[] cookies = Stream.of("JSESSIONID", "accessToken", "refreshToken")
+                .map(name -> new Cookie(name, name + "Value"))
+                .toArray(Cookie[]::new);
+
+        assertThat(CustomAuthenticationFilter.findCookie(cookies, "accessToken").getValue()).isEqualTo("accessTokenValue");
+        assertThat(CustomAuthenticationFilter.findCookie(cookies, "missing")).isNull();
+        assertThat(CustomAuthenticationFilter.findCookie(new Cookie[0], "accessToken")).isNull();
+    }
+
+    @DisplayName("접근 토큰이 유효하지 않으면 재발급 경로로 보낸다.")
+    @Test
+    void redirectInvalidAccessToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/movies");
+        request.setCookies(new Cookie("accessToken", "invalid"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        given(userAccountJwtAuthenticationService.retrievePrincipalFromAccessToken("invalid"))
+                .willThrow(new RuntimeException("접근 토큰이 유효하지 않습니다."));
+
+        filter.doFilter(request, response, (req, res) -> {
+            throw new AssertionError("다음 필터가 실행되면 안 된다.");
+        });
+
+        assertThat(response.getStatus()).isEqualTo(307);
+        assertThat(response.getHeader("Location")).isEqualTo("/api/users/refresh");
+    }
+
+    @DisplayName("토큰을 확인한 뒤 다음 필터에서 난 예외는 재발급 응답으로 바꾸지 않는다.")
+    @Test
+    void propagateDownstreamException() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/movies");
+        request.setCookies(new Cookie("accessToken", "valid"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        given(userAccountJwtAuthenticationService.retrievePrincipalFromAccessToken("valid"))
+                .willReturn(new CustomUserDetails(1L, "testUserAccount", "USER"));
+
+        Throwable thrown = catchThrowable(() -> filter.doFilter(request, response, (req, res) -> {
+            res.getWriter().write("일부 응답");
+            throw new ServletException("컨트롤러 오류");
+        }));
+
+        assertThat(thrown).isInstanceOf(ServletException.class).hasMessage("컨트롤러 오류");
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Location")).isNull();
+    }
+}
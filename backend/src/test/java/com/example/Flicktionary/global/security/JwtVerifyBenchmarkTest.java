@@ -0,0 +1,85 @@
+package com.example.Flicktionary.global.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청마다 접근 토큰을 검증하는 처리량을 측정한다.
+ * 매번 비밀키와 파서를 만들어 두번 검증하던 이전 방식(JwtUtils.isTokenValid + getTokenPayload)과
+ * 비밀키와 파서를 재사용해 한번만 검증하는 {@link JwtCodec}을 비교한다.
+ * 일반 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("JWT 검증 성능 측정")
+class JwtVerifyBenchmarkTest {
+
+    private static final String SECRET = "abcdefghijklmnopqrstuvwxyz1234567890abcdefghijklmnopqrstuvwxyz1234567890";
+
+    private static final int WARMUP = 20_000;
+
+    private static final int ITERATIONS = 100_000;
+
+    private final JwtCodec jwtCodec = new JwtCodec(SECRET);
+
+    private final String token = jwtCodec.encode(Map.of(
+            "id", 1L,
+            "username", "testUserAccount",
+            "nickname", "testNickname",
+            "role", "USER"), 300);
+
+    // JIT 최적화가 결과를 버리지 않도록 검증 결과를 누적합니다.
+    private long sink;
+
+    @Test
+    @DisplayName("비밀키와 파서를 재사용하면 초당 더 많은 토큰을 검증한다.")
+    void verifyThroughput() {
+        measure(this::verifyPerCall, WARMUP);
+        measure(this::verifyWithCodec, WARMUP);
+
+        long beforeNanos = measure(this::verifyPerCall, ITERATIONS);
+        long afterNanos = measure(this::verifyWithCodec, ITERATIONS);
+
+        System.out.printf("[JWT 검증 성능] %d회%n", ITERATIONS);
+        System.out.printf("  이전 방식 (매번 키와 파서 생성, 두번 검증): %,.0f개/초%n", throughput(beforeNanos));
+        System.out.printf("  JwtCodec (재사용, 한번 검증): %,.0f개/초%n", throughput(afterNanos));
+
+        assertThat(sink).isPositive();
+        assertThat(afterNanos).isLessThan(beforeNanos);
+    }
+
+    // 이전 방식: 검증할 때마다 비밀키와 파서를 만들고, 유효성 확인과 클레임 조회에서 두번 파싱합니다.
+    private void verifyPerCall() {
+        for (int i = 0; i < 2; i++) {
+            sink += Jwts.parser()
+                    .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload()
+                    .size();
+        }
+    }
+
+    private void verifyWithCodec() {
+        sink += jwtCodec.decode(token).size();
+    }
+
+    private long measure(Runnable verify, int iterations) {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            verify.run();
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private double throughput(long nanos) {
+        return ITERATIONS / (nanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+}
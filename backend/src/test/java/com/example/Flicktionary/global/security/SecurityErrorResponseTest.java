@@ -0,0 +1,79 @@
+package com.example.Flicktionary.global.security;
+
+import com.example.Flicktionary.global.dto.ResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("보안 오류 응답 테스트")
+class SecurityErrorResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("미리 직렬화한 본문은 요청마다 직렬화하던 응답과 같다.")
+    @Test
+    void writeSameResponseAsBefore() throws Exception {
+        assertResponse(SecurityErrorResponse.INVALID_ACCESS_TOKEN, 307, "접근 토큰이 유효하지 않습니다.");
+        assertResponse(SecurityErrorResponse.LOGIN_REQUIRED, 403, "로그인이 필요합니다.");
+        assertResponse(SecurityErrorResponse.ACCESS_DENIED, 401, "접근 권한이 없습니다.");
+    }
+
+    @DisplayName("같은 응답을 여러번 써도 본문이 바뀌지 않는다.")
+    @Test
+    void writeSameBodyEveryTime() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        SecurityErrorResponse.LOGIN_REQUIRED.write(first);
+        SecurityErrorResponse.LOGIN_REQUIRED.write(second);
+
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+    }
+
+    @DisplayName("앞에서 Writer를 사용한 응답에는 Writer로 쓴다.")
+    @Test
+    void writeWithWriterAfterGetWriter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServletResponseWrapper writerUsed = new HttpServletResponseWrapper(response) {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                throw new IllegalStateException("getWriter() has already been called");
+            }
+        };
+
+        SecurityErrorResponse.ACCESS_DENIED.write(writerUsed);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentAsString())
+                .isEqualTo(objectMapper.writeValueAsString(ResponseDto.of("401", "접근 권한이 없습니다.")));
+    }
+
+    @DisplayName("이미 커밋된 응답에는 쓰지 않는다.")
+    @Test
+    void skipCommittedResponse() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCommitted(true);
+
+        SecurityErrorResponse.LOGIN_REQUIRED.write(response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private void assertResponse(SecurityErrorResponse errorResponse, int status, String message) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        errorResponse.write(response);
+
+        assertThat(response.getStatus()).isEqualTo(status);
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(response.getContentAsString())
+                .isEqualTo(objectMapper.writeValueAsString(ResponseDto.of(status + "", message)));
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.Flicktionary.global.security;
+
+import com.example.Flicktionary.global.dto.ResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 접근 토큰이 한꺼번에 만료되어 모든 클라이언트가 307 응답을 받는 상황을 재현하고,
+ * 오류 응답을 쓰는 데 드는 CPU 시간, 할당량, GC 횟수를 측정한다.
+ * 이전 방식(요청마다 ObjectMapper를 만들어 직렬화)과 미리 직렬화한 {@link SecurityErrorResponse}를 비교한다.
+ * 일반 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("토큰 만료 폭주 성능 측정")
+class TokenExpiryStormBenchmarkTest {
+
+    private static final int THREADS = 8;
+
+    private static final int REQUESTS_PER_THREAD = 50_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("미리 직렬화한 본문을 쓰면 CPU 시간과 할당량이 줄어든다.")
+    void tokenExpiryStorm() throws Exception {
+        storm(this::writeWithNewObjectMapper);
+        storm(this::writePreEncoded);
+
+        Result before = storm(this::writeWithNewObjectMapper);
+        Result after = storm(this::writePreEncoded);
+
+        int requests = THREADS * REQUESTS_PER_THREAD;
+        System.out.printf("[토큰 만료 폭주] 스레드 %d개, 요청 %d개%n", THREADS, requests);
+        System.out.printf("  이전 방식: 요청당 CPU %,.0fns, 할당 %,d바이트, GC %d회%n",
+                (double) before.cpuNanos / requests, before.allocatedBytes / requests, before.gcCount);
+        System.out.printf("  미리 직렬화: 요청당 CPU %,.0fns, 할당 %,d바이트, GC %d회%n",
+                (double) after.cpuNanos / requests, after.allocatedBytes / requests, after.gcCount);
+
+        assertThat(after.cpuNanos).isLessThan(before.cpuNanos);
+        assertThat(after.allocatedBytes).isLessThan(before.allocatedBytes);
+    }
+
+    // 변경 전 CustomAuthenticationFilter가 응답을 쓰던 방식
+    private void writeWithNewObjectMapper(MockHttpServletResponse response) throws Exception {
+        response.setContentType("application/json;charset=UTF-8");
+        response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+        response.setHeader("Location", "/api/users/refresh");
+        response.getWriter().write(
+                new ObjectMapper().writeValueAsString(ResponseDto.of(
+                        HttpStatus.TEMPORARY_REDIRECT.value() + "",
+                        "접근 토큰이 유효하지 않습니다."
+                )));
+    }
+
+    private void writePreEncoded(MockHttpServletResponse response) throws Exception {
+        response.setHeader("Location", "/api/users/refresh");
+        SecurityErrorResponse.INVALID_ACCESS_TOKEN.write(response);
+    }
+
+    private Result storm(ResponseWriter writer) throws Exception {
+        long gcCountBefore = gcCount();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<long[]>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    long cpuBefore = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+                    long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+                    for (int j = 0; j < REQUESTS_PER_THREAD; j++) {
+                        writer.write(new MockHttpServletResponse());
+                    }
+                    return new long[]{
+                            THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuBefore,
+                            THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore};
+                }));
+            }
+            long cpuNanos = 0;
+            long allocatedBytes = 0;
+            for (Future<long[]> future : futures) {
+                long[] measured = future.get();
+                cpuNanos += measured[0];
+                allocatedBytes += measured[1];
+            }
+            return new Result(cpuNanos, allocatedBytes, gcCount() - gcCountBefore);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(gc.getCollectionCount(), 0);
+        }
+        return count;
+    }
+
+    @FunctionalInterface
+    private interface ResponseWriter {
+        void write(MockHttpServletResponse response) throws Exception;
+    }
+
+    private record Result(long cpuNanos, long allocatedBytes, long gcCount) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.Flicktionary.global.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("전체 개수 서비스 테스트")
+public class PageCountServiceTest {
+
+    @DisplayName("유효기간 안에는 처음 센 개수를 다시 사용한다.")
+    @Test
+    void approximateCountIsCached() {
+        PageCountService pageCountService = new PageCountService(60);
+        AtomicLong queries = new AtomicLong();
+
+        long first = pageCountService.approximateCount("posts", () -> queries.incrementAndGet() * 10);
+        long second = pageCountService.approximateCount("posts", () -> queries.incrementAndGet() * 10);
+
+        assertEquals(10L, first);
+        assertEquals(10L, second);
+        assertEquals(1L, queries.get());
+    }
+
+    @DisplayName("유효기간이 지나면 다시 센다.")
+    @Test
+    void approximateCountIsRefreshed() {
+        PageCountService pageCountService = new PageCountService(0);
+        AtomicLong queries = new AtomicLong();
+
+        pageCountService.approximateCount("posts", queries::incrementAndGet);
+        long refreshed = pageCountService.approximateCount("posts", queries::incrementAndGet);
+
+        assertEquals(2L, refreshed);
+    }
+
+    @DisplayName("다시 세다가 실패하면 다음 요청에서 다시 센다.")
+    @Test
+    void approximateCountRetriesAfterFailure() {
+        PageCountService pageCountService = new PageCountService(0);
+        pageCountService.approximateCount("posts", () -> 1L);
+
+        assertThrows(IllegalStateException.class, () -> pageCountService.approximateCount("posts", () -> {
+            throw new IllegalStateException();
+        }));
+        long refreshed = pageCountService.approximateCount("posts", () -> 3L);
+
+        assertEquals(3L, refreshed);
+    }
+}
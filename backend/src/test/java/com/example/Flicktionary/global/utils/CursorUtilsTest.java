@@ -0,0 +1,48 @@
+package com.example.Flicktionary.global.utils;
+
+import com.example.Flicktionary.global.exception.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("커서 유틸리티 클래스 테스트")
+public class CursorUtilsTest {
+
+    @DisplayName("인코딩한 정렬 키를 그대로 다시 읽을 수 있다.")
+    @Test
+    void encodeAndDecode() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30, 0, 123456000);
+        String cursor = CursorUtils.encode(createdAt, 42L);
+
+        assertFalse(cursor.contains("="));
+        assertEquals(createdAt, CursorUtils.decode(cursor, 2, keys -> LocalDateTime.parse(keys[0])));
+        long id = CursorUtils.decode(cursor, 2, keys -> Long.parseLong(keys[1]));
+        double averageRating = CursorUtils.decode(CursorUtils.encode(4.25, 1L), 2, keys -> Double.parseDouble(keys[0]));
+
+        assertEquals(42L, id);
+        assertEquals(4.25, averageRating);
+    }
+
+    @DisplayName("형식이 잘못된 커서는 400 예외가 발생한다.")
+    @Test
+    void decodeInvalidCursor() {
+        String cursor = CursorUtils.encode(42L);
+
+        assertThrows(ServiceException.class, () -> CursorUtils.decode("!!!", 1, keys -> Long.parseLong(keys[0])));
+        assertThrows(ServiceException.class, () -> CursorUtils.decode(cursor, 2, keys -> Long.parseLong(keys[0])));
+        assertThrows(ServiceException.class, () -> CursorUtils.decode(CursorUtils.encode("abc"), 1, keys -> Long.parseLong(keys[0])));
+        assertThrows(ServiceException.class, () -> CursorUtils.decode(CursorUtils.encode("abc", 1L), 2, keys -> LocalDateTime.parse(keys[0])));
+    }
+
+    @DisplayName("페이지 크기는 1 이상 100 이하만 허용한다.")
+    @Test
+    void checkPageSize() {
+        assertDoesNotThrow(() -> CursorUtils.checkPageSize(1));
+        assertDoesNotThrow(() -> CursorUtils.checkPageSize(100));
+        assertThrows(ServiceException.class, () -> CursorUtils.checkPageSize(0));
+        assertThrows(ServiceException.class, () -> CursorUtils.checkPageSize(101));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.Flicktionary.global.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("long 해시 집합 테스트")
+public class LongHashSetTest {
+
+    @DisplayName("이미 있는 값을 추가하면 false를 반환하고 크기가 변하지 않는다.")
+    @Test
+    void addReturnsFalseForDuplicate() {
+        LongHashSet set = new LongHashSet();
+
+        assertTrue(set.add(10L));
+        assertFalse(set.add(10L));
+        assertEquals(1, set.size());
+        assertTrue(set.contains(10L));
+        assertFalse(set.contains(11L));
+    }
+
+    @DisplayName("0과 음수도 다른 값과 구분해서 저장한다.")
+    @Test
+    void storesZeroAndNegativeValues() {
+        LongHashSet set = new LongHashSet();
+
+        assertFalse(set.contains(0L));
+        assertTrue(set.add(0L));
+        assertFalse(set.add(0L));
+        assertTrue(set.add(-1L));
+
+        assertTrue(set.contains(0L));
+        assertTrue(set.contains(-1L));
+        assertEquals(2, set.size());
+    }
+
+    @DisplayName("초기 크기를 넘도록 값을 추가해도 모든 값을 찾을 수 있다.")
+    @Test
+    void containsAllValuesAfterGrowing() {
+        LongHashSet set = new LongHashSet(4);
+
+        for (long value = 1; value <= 10_000; value++) {
+            assertTrue(set.add(value * 31));
+        }
+
+        assertEquals(10_000, set.size());
+        for (long value = 1; value <= 10_000; value++) {
+            assertTrue(set.contains(value * 31));
+            assertFalse(set.contains(value * 31 + 1));
+        }
+    }
+
+    @DisplayName("컬렉션으로 생성하면 null을 제외한 값이 모두 담긴다.")
+    @Test
+    void createFromCollection() {
+        List<Long> values = Arrays.asList(1L, 2L, null, 2L);
+
+        LongHashSet set = LongHashSet.of(values);
+
+        assertEquals(2, set.size());
+        assertTrue(set.contains(1L));
+        assertTrue(set.contains(2L));
+    }
+}
@@ -1,7 +1,11 @@
 "use client";
 
+import { useState } from "react";
 import { useRouter } from "next/navigation";
 import { Button } from "@/components/ui/button";
+import client from "@/lib/backend/client";
+
+const PAGE_SIZE = 20;
 
 interface Movie {
   id: number;
@@ -23,7 +27,9 @@ interface Director {
   name: string;
   profilePath: string;
   movies: Movie[];
+  movieCount: number;
   series: Series[];
+  seriesCount: number;
 }
 
 export default function DirectorDetailPage({
@@ -32,6 +38,39 @@ export default function DirectorDetailPage({
   director: Director;
 }) {
   const router = useRouter();
+  // 상세 응답에는 첫 페이지만 담겨 있으므로 나머지는 페이지 단위로 이어서 불러온다.
+  const [movies, setMovies] = useState<Movie[]>(director.movies);
+  const [series, setSeries] = useState<Series[]>(director.series);
+  const [moviePage, setMoviePage] = useState(1);
+  const [seriesPage, setSeriesPage] = useState(1);
+
+  const loadMoreMovies = async () => {
+    const nextPage = moviePage + 1;
+    const response = await client.GET("/api/directors/{id}/movies", {
+      params: {
+        path: { id: director.id },
+        query: { page: nextPage, pageSize: PAGE_SIZE },
+      },
+    });
+    if (!response.data) return;
+
+    setMovies((prev) => [...prev, ...response.data.data.items]);
+    setMoviePage(nextPage);
+  };
+
+  const loadMoreSeries = async () => {
+    const nextPage = seriesPage + 1;
+    const response = await client.GET("/api/directors/{id}/series", {
+      params: {
+        path: { id: director.id },
+        query: { page: nextPage, pageSize: PAGE_SIZE },
+      },
+    });
+    if (!response.data) return;
+
+    setSeries((prev) => [...prev, ...response.data.data.items]);
+    setSeriesPage(nextPage);
+  };
 
   return (
     <div className="max-w-4xl mx-auto px-4 py-10">
@@ -53,8 +92,8 @@ export default function DirectorDetailPage({
       <div className="mt-8">
         <h2 className="text-xl font-semibold mb-4">🎬 연출한 영화</h2>
         <div className="grid grid-cols-2 md:grid-cols-4 gap-4">
-          {director.movies.length > 0 ? (
-            director.movies.map((movie) => (
+          {movies.length > 0 ? (
+            movies.map((movie) => (
               <div
                 key={movie.id}
                 className="bg-white shadow-md p-4 rounded-lg cursor-pointer hover:bg-gray-50 transition"
@@ -75,30 +114,37 @@ export default function DirectorDetailPage({
             <p className="text-gray-500">연출한 영화가 없습니다.</p>
           )}
         </div>
+        {movies.length < director.movieCount && (
+          <div className="flex justify-center mt-4">
+            <Button variant="outline" onClick={loadMoreMovies}>
+              더 보기 ({movies.length}/{director.movieCount})
+            </Button>
+          </div>
+        )}
       </div>
 
       {/* 출연한 시리즈 리스트 */}
       <div className="mt-8">
         <h2 className="text-xl font-semibold mb-4">📺 연출한 시리즈</h2>
         <div className="grid grid-cols-2 md:grid-cols-4 gap-4">
-          {director.series.length > 0 ? (
-            director.series.map((series) => (
+          {series.length > 0 ? (
+            series.map((item) => (
               <div
-                key={series.id}
+                key={item.id}
                 className="bg-white shadow-md p-4 rounded-lg cursor-pointer hover:bg-gray-50 transition"
-                onClick={() => router.push(`/series/${series.id}`)}
+                onClick={() => router.push(`/series/${item.id}`)}
               >
                 <img
-                  src={series.posterPath || "/default-series.png"}
-                  alt={series.title}
+                  src={item.posterPath || "/default-series.png"}
+                  alt={item.title}
                   width={200}
                   height={300}
                   className="rounded-md"
                 />
-                <h3 className="text-lg font-medium mt-2">{series.title}</h3>
+                <h3 className="text-lg font-medium mt-2">{item.title}</h3>
                 <p className="text-gray-500">
-                  {series.releaseStartDate} ~{" "}
-                  {series.releaseEndDate || "방영 중"}
+                  {item.releaseStartDate} ~{" "}
+                  {item.releaseEndDate || "방영 중"}
                 </p>
               </div>
             ))
@@ -106,6 +152,13 @@ export default function DirectorDetailPage({
             <p className="text-gray-500">연출한 시리즈가 없습니다.</p>
           )}
         </div>
+        {series.length < director.seriesCount && (
+          <div className="flex justify-center mt-4">
+            <Button variant="outline" onClick={loadMoreSeries}>
+              더 보기 ({series.length}/{director.seriesCount})
+            </Button>
+          </div>
+        )}
       </div>
 
       {/* 돌아가기 버튼 */}